@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.network.profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+
+import static org.apache.skywalking.apm.network.profile.ThreadStackEncoder.REFERENCE_PREFIX;
+import static org.apache.skywalking.apm.network.profile.ThreadStackEncoder.REPEAT_SEPARATOR;
+
+/**
+ * Decode the stacks of one snapshot stream encoded by {@link ThreadStackEncoder}. The stack without any reference is
+ * decoded as it is, so the stream of the sender without the encoding is decoded too. Not thread safe, one decoder per
+ * stream.
+ */
+public class ThreadStackDecoder {
+    private final List<String> codeSignatures = new ArrayList<>();
+
+    /**
+     * @return the code signatures of the stack.
+     * @throws IllegalArgumentException if the stack refers to an unknown id of the stream dictionary.
+     */
+    public List<String> decode(ThreadStack stack) {
+        final List<String> result = new ArrayList<>(stack.getCodeSignaturesCount());
+        int previousId = -1;
+        for (String element : stack.getCodeSignaturesList()) {
+            if (element.isEmpty() || element.charAt(0) != REFERENCE_PREFIX) {
+                previousId = codeSignatures.size();
+                codeSignatures.add(element);
+                result.add(element);
+                continue;
+            }
+
+            final int separator = element.indexOf(REPEAT_SEPARATOR);
+            final int delta;
+            final int repeat;
+            try {
+                if (separator < 0) {
+                    delta = Integer.parseInt(element.substring(1));
+                    repeat = 1;
+                } else {
+                    delta = Integer.parseInt(element.substring(1, separator));
+                    repeat = Integer.parseInt(element.substring(separator + 1));
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Illegal code signature reference: " + element, e);
+            }
+            if (repeat < 1) {
+                throw new IllegalArgumentException("Illegal code signature reference: " + element);
+            }
+            for (int i = 0; i < repeat; i++) {
+                previousId += delta;
+                if (previousId < 0 || previousId >= codeSignatures.size()) {
+                    throw new IllegalArgumentException("Unknown code signature reference: " + element);
+                }
+                result.add(codeSignatures.get(previousId));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.network.profile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+
+/**
+ * Encode the code signatures of the thread snapshots sent in one snapshot stream. The first occurrence of a code
+ * signature in the stream is sent as it is, and gets the next id of the stream dictionary. The following occurrences
+ * are sent as a reference, which is the delta to the id of the previous frame of the same stack, and the consecutive
+ * frames with the same delta are collapsed into one reference with a repeat count, such as {@code ;1*120}.
+ *
+ * A reference starts with {@link #REFERENCE_PREFIX}, which never appears in a JVM class or method name, so a reference
+ * never conflicts with a code signature. The encoder is not thread safe, and is used by one stream only. The receiver
+ * decodes the stream by {@link ThreadStackDecoder}.
+ */
+public class ThreadStackEncoder {
+    /**
+     * The name of this encoding, declared by the profile task command when the backend supports it.
+     */
+    public static final String NAME = "StreamDictionary";
+
+    public static final char REFERENCE_PREFIX = ';';
+    public static final char REPEAT_SEPARATOR = '*';
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private int nextId = 0;
+
+    /**
+     * Encode the stack by the dictionary of the stream.
+     */
+    public ThreadStack encode(List<String> codeSignatures) {
+        final ThreadStack.Builder builder = ThreadStack.newBuilder();
+        int previousId = -1;
+        int delta = 0;
+        int repeat = 0;
+        for (String codeSignature : codeSignatures) {
+            Integer id = ids.get(codeSignature);
+            if (id == null) {
+                addReference(builder, delta, repeat);
+                repeat = 0;
+                id = register(codeSignature);
+                builder.addCodeSignatures(codeSignature);
+            } else if (repeat > 0 && id - previousId == delta) {
+                repeat++;
+            } else {
+                addReference(builder, delta, repeat);
+                delta = id - previousId;
+                repeat = 1;
+            }
+            previousId = id;
+        }
+        addReference(builder, delta, repeat);
+        return builder.build();
+    }
+
+    /**
+     * Send the stack without the encoding, all the code signatures still join the dictionary of the stream, as the
+     * decoder treats them as the first occurrences.
+     */
+    public ThreadStack plain(List<String> codeSignatures) {
+        final ThreadStack.Builder builder = ThreadStack.newBuilder();
+        for (String codeSignature : codeSignatures) {
+            register(codeSignature);
+            builder.addCodeSignatures(codeSignature);
+        }
+        return builder.build();
+    }
+
+    private int register(String codeSignature) {
+        final int id = nextId++;
+        ids.put(codeSignature, id);
+        return id;
+    }
+
+    private static void addReference(ThreadStack.Builder builder, int delta, int repeat) {
+        if (repeat == 0) {
+            return;
+        }
+        if (repeat == 1) {
+            builder.addCodeSignatures(REFERENCE_PREFIX + String.valueOf(delta));
+        } else {
+            builder.addCodeSignatures(REFERENCE_PREFIX + String.valueOf(delta) + REPEAT_SEPARATOR + repeat);
+        }
+    }
+}
@@ -24,7 +24,7 @@ import org.apache.skywalking.apm.network.common.v3.KeyStringValuePair;
 import java.util.List;
 
 public class ProfileTaskCommand extends BaseCommand implements Serializable, Deserializable<ProfileTaskCommand> {
-    public static final Deserializable<ProfileTaskCommand> DESERIALIZER = new ProfileTaskCommand("", "", "", 0, 0, 0, 0, 0, 0);
+    public static final Deserializable<ProfileTaskCommand> DESERIALIZER = new ProfileTaskCommand("", "", "", 0, 0, 0, 0, 0, 0, "");
     public static final String NAME = "ProfileTaskQuery";
 
     // profile task data
@@ -36,9 +36,12 @@ public class ProfileTaskCommand extends BaseCommand implements Serializable, Des
     private int maxSamplingCount;
     private long startTime;
     private long createTime;
+    // the encoding of the code signatures the backend could decode, empty means the plain code signatures
+    private String codeSignatureEncoding;
 
     public ProfileTaskCommand(String serialNumber, String taskId, String endpointName, int duration,
-        int minDurationThreshold, int dumpPeriod, int maxSamplingCount, long startTime, long createTime) {
+        int minDurationThreshold, int dumpPeriod, int maxSamplingCount, long startTime, long createTime,
+        String codeSignatureEncoding) {
         super(NAME, serialNumber);
         this.taskId = taskId;
         this.endpointName = endpointName;
@@ -48,6 +51,7 @@ public class ProfileTaskCommand extends BaseCommand implements Serializable, Des
         this.maxSamplingCount = maxSamplingCount;
         this.startTime = startTime;
         this.createTime = createTime;
+        this.codeSignatureEncoding = codeSignatureEncoding;
     }
 
     @Override
@@ -62,6 +66,7 @@ public class ProfileTaskCommand extends BaseCommand implements Serializable, Des
         int maxSamplingCount = 0;
         long startTime = 0;
         long createTime = 0;
+        String codeSignatureEncoding = "";
 
         for (final KeyStringValuePair pair : argsList) {
             if ("SerialNumber".equals(pair.getKey())) {
@@ -82,10 +87,12 @@ public class ProfileTaskCommand extends BaseCommand implements Serializable, Des
                 startTime = Long.parseLong(pair.getValue());
             } else if ("CreateTime".equals(pair.getKey())) {
                 createTime = Long.parseLong(pair.getValue());
+            } else if ("CodeSignatureEncoding".equals(pair.getKey())) {
+                codeSignatureEncoding = pair.getValue();
             }
         }
 
-        return new ProfileTaskCommand(serialNumber, taskId, endpointName, duration, minDurationThreshold, dumpPeriod, maxSamplingCount, startTime, createTime);
+        return new ProfileTaskCommand(serialNumber, taskId, endpointName, duration, minDurationThreshold, dumpPeriod, maxSamplingCount, startTime, createTime, codeSignatureEncoding);
     }
 
     @Override
@@ -102,7 +109,10 @@ public class ProfileTaskCommand extends BaseCommand implements Serializable, Des
                                           .setKey("MaxSamplingCount")
                                           .setValue(String.valueOf(maxSamplingCount)))
                .addArgs(KeyStringValuePair.newBuilder().setKey("StartTime").setValue(String.valueOf(startTime)))
-               .addArgs(KeyStringValuePair.newBuilder().setKey("CreateTime").setValue(String.valueOf(createTime)));
+               .addArgs(KeyStringValuePair.newBuilder().setKey("CreateTime").setValue(String.valueOf(createTime)))
+               .addArgs(KeyStringValuePair.newBuilder()
+                                          .setKey("CodeSignatureEncoding")
+                                          .setValue(codeSignatureEncoding));
         return builder;
     }
 
@@ -137,4 +147,8 @@ public class ProfileTaskCommand extends BaseCommand implements Serializable, Des
     public String getTaskId() {
         return taskId;
     }
+
+    public String getCodeSignatureEncoding() {
+        return codeSignatureEncoding;
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.apm.network.trace.component.command;
+
+import org.apache.skywalking.apm.network.common.v3.Command;
+import org.apache.skywalking.apm.network.common.v3.KeyStringValuePair;
+
+/**
+ * ReporterBackoffCommand is sent by the overloaded OAP server, and asks the agent to stop reporting the low priority
+ * data for the given duration.
+ */
+public class ReporterBackoffCommand extends BaseCommand implements Serializable, Deserializable<ReporterBackoffCommand> {
+    public static final Deserializable<ReporterBackoffCommand> DESERIALIZER = new ReporterBackoffCommand("", 0);
+    public static final String NAME = "ReporterBackoffCommand";
+
+    public static final String SERIAL_NUMBER_CONST_NAME = "SerialNumber";
+    public static final String DURATION_CONST_NAME = "Duration";
+
+    /**
+     * Backoff duration in seconds.
+     */
+    private int duration;
+
+    public ReporterBackoffCommand(String serialNumber, int duration) {
+        super(NAME, serialNumber);
+        this.duration = duration;
+    }
+
+    @Override
+    public ReporterBackoffCommand deserialize(Command command) {
+        String serialNumber = null;
+        int duration = 0;
+
+        for (final KeyStringValuePair pair : command.getArgsList()) {
+            if (SERIAL_NUMBER_CONST_NAME.equals(pair.getKey())) {
+                serialNumber = pair.getValue();
+            } else if (DURATION_CONST_NAME.equals(pair.getKey())) {
+                duration = Integer.parseInt(pair.getValue());
+            }
+        }
+        return new ReporterBackoffCommand(serialNumber, duration);
+    }
+
+    @Override
+    public Command.Builder serialize() {
+        final Command.Builder builder = commandBuilder();
+        builder.addArgs(KeyStringValuePair.newBuilder().setKey(DURATION_CONST_NAME).setValue(String.valueOf(duration)));
+        return builder;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "ReporterBackoffCommand{" +
+            "duration=" + duration +
+            '}';
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.network.profile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ThreadStackCodecTest {
+
+    @Test
+    public void testRepeatedStacksAreReferenced() {
+        final ThreadStackEncoder encoder = new ThreadStackEncoder();
+        final ThreadStackDecoder decoder = new ThreadStackDecoder();
+
+        final List<String> stack = deepStack(100);
+        final ThreadStack first = encoder.encode(stack);
+        Assert.assertEquals(stack, first.getCodeSignaturesList());
+        Assert.assertEquals(stack, decoder.decode(first));
+
+        final ThreadStack second = encoder.encode(stack);
+        Assert.assertEquals(Arrays.asList(";1*100"), second.getCodeSignaturesList());
+        Assert.assertEquals(stack, decoder.decode(second));
+
+        final List<String> deeper = new ArrayList<>(stack.subList(0, 60));
+        deeper.add("org.apache.skywalking.Worker.sleep:12");
+        deeper.add(stack.get(10));
+        final ThreadStack third = encoder.encode(deeper);
+        Assert.assertEquals(
+            Arrays.asList(";1*60", "org.apache.skywalking.Worker.sleep:12", ";-90"), third.getCodeSignaturesList());
+        Assert.assertEquals(deeper, decoder.decode(third));
+    }
+
+    @Test
+    public void testRecursiveFrames() {
+        final ThreadStackEncoder encoder = new ThreadStackEncoder();
+        final ThreadStackDecoder decoder = new ThreadStackDecoder();
+
+        final List<String> stack = Arrays.asList("A.run:1", "A.loop:2", "A.loop:2", "A.loop:2", "A.exit:3");
+        final ThreadStack encoded = encoder.encode(stack);
+        Assert.assertEquals(
+            Arrays.asList("A.run:1", "A.loop:2", ";0*2", "A.exit:3"), encoded.getCodeSignaturesList());
+        Assert.assertEquals(stack, decoder.decode(encoded));
+    }
+
+    @Test
+    public void testPlainStacksKeepTheDictionaryInSync() {
+        final ThreadStackEncoder encoder = new ThreadStackEncoder();
+        final ThreadStackDecoder decoder = new ThreadStackDecoder();
+
+        final List<String> stack = Arrays.asList("A.run:1", "A.call:2");
+        Assert.assertEquals(stack, decoder.decode(encoder.encode(stack)));
+        // the sender without the encoding for this task, the signatures are registered again
+        Assert.assertEquals(stack, decoder.decode(encoder.plain(stack)));
+
+        final List<String> next = Arrays.asList("A.run:1", "A.call:2", "A.wait:3");
+        final ThreadStack encoded = encoder.encode(next);
+        Assert.assertEquals(Arrays.asList(";3", ";1", "A.wait:3"), encoded.getCodeSignaturesList());
+        Assert.assertEquals(next, decoder.decode(encoded));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownReference() {
+        new ThreadStackDecoder().decode(ThreadStack.newBuilder().addCodeSignatures(";1").build());
+    }
+
+    private static List<String> deepStack(int depth) {
+        final List<String> stack = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            stack.add("org.springframework.Frame" + i + ".invoke:" + i);
+        }
+        return stack;
+    }
+}
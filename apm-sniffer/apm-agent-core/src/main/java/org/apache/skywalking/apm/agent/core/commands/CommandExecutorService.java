@@ -24,9 +24,11 @@ import org.apache.skywalking.apm.agent.core.boot.DefaultImplementor;
 import org.apache.skywalking.apm.agent.core.commands.executor.ConfigurationDiscoveryCommandExecutor;
 import org.apache.skywalking.apm.agent.core.commands.executor.NoopCommandExecutor;
 import org.apache.skywalking.apm.agent.core.commands.executor.ProfileTaskCommandExecutor;
+import org.apache.skywalking.apm.agent.core.commands.executor.ReporterBackoffCommandExecutor;
 import org.apache.skywalking.apm.network.trace.component.command.BaseCommand;
 import org.apache.skywalking.apm.network.trace.component.command.ConfigurationDiscoveryCommand;
 import org.apache.skywalking.apm.network.trace.component.command.ProfileTaskCommand;
+import org.apache.skywalking.apm.network.trace.component.command.ReporterBackoffCommand;
 
 /**
  * Command executor service, acts like a routing executor that controls all commands' execution, is responsible for
@@ -48,6 +50,9 @@ public class CommandExecutorService implements BootService, CommandExecutor {
 
         //Get ConfigurationDiscoveryCommand executor.
         commandExecutorMap.put(ConfigurationDiscoveryCommand.NAME, new ConfigurationDiscoveryCommandExecutor());
+
+        // Reporter backoff executor
+        commandExecutorMap.put(ReporterBackoffCommand.NAME, new ReporterBackoffCommandExecutor());
     }
 
     @Override
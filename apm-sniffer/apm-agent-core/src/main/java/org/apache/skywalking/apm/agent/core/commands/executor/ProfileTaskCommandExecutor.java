@@ -45,6 +45,7 @@ public class ProfileTaskCommandExecutor implements CommandExecutor {
         profileTask.setMaxSamplingCount(profileTaskCommand.getMaxSamplingCount());
         profileTask.setStartTime(profileTaskCommand.getStartTime());
         profileTask.setCreateTime(profileTaskCommand.getCreateTime());
+        profileTask.setCodeSignatureEncoding(profileTaskCommand.getCodeSignatureEncoding());
 
         // send to executor
         ServiceManager.INSTANCE.findService(ProfileTaskExecutionService.class).addProfileTask(profileTask);
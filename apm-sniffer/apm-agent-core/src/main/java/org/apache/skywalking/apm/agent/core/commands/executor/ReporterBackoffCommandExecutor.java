@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.skywalking.apm.agent.core.commands.executor;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.agent.core.boot.ServiceManager;
+import org.apache.skywalking.apm.agent.core.commands.CommandExecutionException;
+import org.apache.skywalking.apm.agent.core.commands.CommandExecutor;
+import org.apache.skywalking.apm.agent.core.logging.api.ILog;
+import org.apache.skywalking.apm.agent.core.logging.api.LogManager;
+import org.apache.skywalking.apm.agent.core.remote.TraceSegmentServiceClient;
+import org.apache.skywalking.apm.network.trace.component.command.BaseCommand;
+import org.apache.skywalking.apm.network.trace.component.command.ReporterBackoffCommand;
+
+/**
+ * Pause the segment reporting, as the collector asks for a backoff under overload.
+ */
+public class ReporterBackoffCommandExecutor implements CommandExecutor {
+    private static final ILog LOGGER = LogManager.getLogger(ReporterBackoffCommandExecutor.class);
+
+    @Override
+    public void execute(BaseCommand command) throws CommandExecutionException {
+        final ReporterBackoffCommand backoffCommand = (ReporterBackoffCommand) command;
+        LOGGER.warn("The collector is overloaded, stop reporting trace segments in {} seconds.",
+                    backoffCommand.getDuration()
+        );
+        ServiceManager.INSTANCE.findService(TraceSegmentServiceClient.class)
+                               .backoff(TimeUnit.SECONDS.toMillis(backoffCommand.getDuration()));
+    }
+}
@@ -60,6 +60,24 @@ public class Config {
          */
         public static int SAMPLE_N_PER_3_SECS = -1;
 
+        /**
+         * Negative or zero means off, by default. Only works when {@code #SAMPLE_N_PER_3_SECS} is on, sampling N {@link
+         * TraceSegment} of every first operation name in 3 seconds tops, to keep one hot endpoint from consuming the
+         * whole sampling budget.
+         */
+        public static int SAMPLE_N_PER_3_SECS_PER_ENDPOINT = -1;
+
+        /**
+         * The max number of endpoints having their own sampling budget in 3 seconds, the others share one budget.
+         */
+        public static int SAMPLE_MAX_ENDPOINTS = 1000;
+
+        /**
+         * If true, the sampling rate is halved when the reporter abandons segments, and gradually recovers to {@code
+         * #SAMPLE_N_PER_3_SECS} when segments are sent again.
+         */
+        public static boolean SAMPLE_ADAPTIVE = false;
+
         /**
          * If the operation name of the first span is included in this set, this segment should be ignored.
          * Multiple values should be separated by `,`.
@@ -201,6 +219,11 @@ public class Config {
          */
         public static int DUMP_MAX_STACK_DEPTH = 500;
 
+        /**
+         * Max number of the cached stack element code signatures in one profile task
+         */
+        public static int MAX_CACHED_CODE_SIGNATURES = 10000;
+
         /**
          * Snapshot transport to backend buffer size
          */
@@ -222,6 +245,17 @@ public class Config {
          * Max size of the meter count, using {@link org.apache.skywalking.apm.agent.core.meter.MeterId} as identity
          */
         public static Integer MAX_METER_SIZE = 500;
+
+        /**
+         * If true, the agent aggregates the calls, errors and latency of the entry endpoints into meters, including the
+         * not sampled traces.
+         */
+        public static boolean ENDPOINT_METRICS_ACTIVE = false;
+
+        /**
+         * Max number of the endpoints having meters, every endpoint takes 3 meters of {@link #MAX_METER_SIZE}.
+         */
+        public static int ENDPOINT_METRICS_MAX_SIZE = 100;
     }
 
     public static class Jvm {
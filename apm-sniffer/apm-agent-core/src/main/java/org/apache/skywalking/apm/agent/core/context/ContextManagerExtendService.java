@@ -90,7 +90,8 @@ public class ContextManagerExtendService implements BootService, GRPCChannelList
             if (forceSampling || samplingService.trySampling(operationName)) {
                 context = new TracingContext(operationName, spanLimitWatcher);
             } else {
-                context = new IgnoredTracerContext();
+                context = new IgnoredTracerContext(
+                    Config.Meter.ENDPOINT_METRICS_ACTIVE && !samplingService.isIgnoredOperation(operationName));
             }
         }
 
@@ -20,6 +20,9 @@ package org.apache.skywalking.apm.agent.core.context;
 
 import java.util.LinkedList;
 import java.util.List;
+import org.apache.skywalking.apm.agent.core.boot.ServiceManager;
+import org.apache.skywalking.apm.agent.core.conf.Config;
+import org.apache.skywalking.apm.agent.core.context.status.StatusCheckService;
 import org.apache.skywalking.apm.agent.core.context.trace.AbstractSpan;
 import org.apache.skywalking.apm.agent.core.context.trace.NoopSpan;
 
@@ -28,6 +31,10 @@ import org.apache.skywalking.apm.agent.core.context.trace.NoopSpan;
  * integer depth field.
  * <p>
  * All operations through this will be ignored, and keep the memory and gc cost as low as possible.
+ * <p>
+ * If the context is created for a not sampled trace, and {@link Config.Meter#ENDPOINT_METRICS_ACTIVE} is true, the
+ * operation name, start time and error status of the first entry span are kept, for the endpoint meters. The traces
+ * excluded by configuration, such as the ignored suffixes, are not counted.
  */
 public class IgnoredTracerContext implements AbstractTracerContext {
     private static final NoopSpan NOOP_SPAN = new NoopSpan();
@@ -38,7 +45,19 @@ public class IgnoredTracerContext implements AbstractTracerContext {
 
     private int stackDepth;
 
+    private final boolean keepEntrySpan;
+
+    private EntryNoopSpan entrySpan;
+
     public IgnoredTracerContext() {
+        this(false);
+    }
+
+    /**
+     * @param keepEntrySpan true if the first entry span should be kept for the endpoint meters.
+     */
+    public IgnoredTracerContext(boolean keepEntrySpan) {
+        this.keepEntrySpan = keepEntrySpan;
         this.stackDepth = 0;
         this.correlationContext = new CorrelationContext();
         this.extensionContext = new ExtensionContext();
@@ -81,7 +100,10 @@ public class IgnoredTracerContext implements AbstractTracerContext {
 
     @Override
     public AbstractSpan createEntrySpan(String operationName) {
-        stackDepth++;
+        if (stackDepth++ == 0 && keepEntrySpan) {
+            entrySpan = new EntryNoopSpan(operationName, System.currentTimeMillis());
+            return entrySpan;
+        }
         return NOOP_SPAN;
     }
 
@@ -99,6 +121,9 @@ public class IgnoredTracerContext implements AbstractTracerContext {
 
     @Override
     public AbstractSpan activeSpan() {
+        if (stackDepth == 1 && entrySpan != null) {
+            return entrySpan;
+        }
         return NOOP_SPAN;
     }
 
@@ -126,6 +151,50 @@ public class IgnoredTracerContext implements AbstractTracerContext {
         return this.correlationContext;
     }
 
+    /**
+     * @return the operation name of the first entry span, null if the first span isn't an entry span or the endpoint
+     * meters are not active.
+     */
+    public String getEntryOperationName() {
+        return entrySpan == null ? null : entrySpan.operationName;
+    }
+
+    public long getEntryStartTime() {
+        return entrySpan == null ? 0 : entrySpan.startTime;
+    }
+
+    public boolean isEntryErrorOccurred() {
+        return entrySpan != null && entrySpan.errorOccurred;
+    }
+
+    /**
+     * The first entry span of the ignored context, only keeps the data of the endpoint meters.
+     */
+    private static class EntryNoopSpan extends NoopSpan {
+        private final String operationName;
+        private final long startTime;
+        private boolean errorOccurred;
+
+        private EntryNoopSpan(String operationName, long startTime) {
+            this.operationName = operationName;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public AbstractSpan errorOccurred() {
+            errorOccurred = true;
+            return this;
+        }
+
+        @Override
+        public AbstractSpan log(Throwable t) {
+            if (!errorOccurred && ServiceManager.INSTANCE.findService(StatusCheckService.class).isError(t)) {
+                errorOccurred = true;
+            }
+            return this;
+        }
+    }
+
     public static class ListenerManager {
         private static List<IgnoreTracerContextListener> LISTENERS = new LinkedList<>();
 
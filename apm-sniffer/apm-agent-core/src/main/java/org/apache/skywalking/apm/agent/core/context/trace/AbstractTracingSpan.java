@@ -222,6 +222,18 @@ public abstract class AbstractTracingSpan implements AbstractSpan {
         return this;
     }
 
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public boolean isErrorOccurred() {
+        return errorOccurred;
+    }
+
     @Override
     public int getSpanId() {
         return spanId;
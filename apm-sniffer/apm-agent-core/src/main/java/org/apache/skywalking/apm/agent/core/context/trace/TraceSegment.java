@@ -115,6 +115,13 @@ public class TraceSegment {
         return traceSegmentId;
     }
 
+    /**
+     * @return the finished spans, in the order of finishing.
+     */
+    public List<AbstractTracingSpan> getSpans() {
+        return spans;
+    }
+
     /**
      * Get the first parent segment reference.
      */
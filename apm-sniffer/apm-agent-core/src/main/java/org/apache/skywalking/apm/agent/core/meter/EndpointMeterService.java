@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.meter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.agent.core.boot.BootService;
+import org.apache.skywalking.apm.agent.core.boot.DefaultImplementor;
+import org.apache.skywalking.apm.agent.core.conf.Config;
+import org.apache.skywalking.apm.agent.core.context.IgnoreTracerContextListener;
+import org.apache.skywalking.apm.agent.core.context.IgnoredTracerContext;
+import org.apache.skywalking.apm.agent.core.context.TracingContext;
+import org.apache.skywalking.apm.agent.core.context.TracingContextListener;
+import org.apache.skywalking.apm.agent.core.context.trace.AbstractTracingSpan;
+import org.apache.skywalking.apm.agent.core.context.trace.TraceSegment;
+import org.apache.skywalking.apm.agent.core.logging.api.ILog;
+import org.apache.skywalking.apm.agent.core.logging.api.LogManager;
+
+/**
+ * Aggregate the calls, errors and latency of the entry endpoints into meters, including the sampled and not sampled
+ * traces, and report them through the {@link MeterService}. The backend could analyze the endpoint metrics from the
+ * meters, even the traces are sampled aggressively.
+ * <p>
+ * The number of the endpoints is limited by {@link Config.Meter#ENDPOINT_METRICS_MAX_SIZE}.
+ */
+@DefaultImplementor
+public class EndpointMeterService implements BootService, TracingContextListener, IgnoreTracerContextListener {
+    private static final ILog LOGGER = LogManager.getLogger(EndpointMeterService.class);
+
+    private static final List<Double> LATENCY_STEPS = Arrays.asList(
+        10d, 25d, 50d, 100d, 250d, 500d, 1000d, 2500d, 5000d, 10000d);
+
+    private final ConcurrentHashMap<String, EndpointMeters> endpointMeters = new ConcurrentHashMap<>();
+
+    private volatile boolean active = false;
+
+    @Override
+    public void prepare() {
+    }
+
+    @Override
+    public void boot() {
+        active = Config.Meter.ACTIVE && Config.Meter.ENDPOINT_METRICS_ACTIVE;
+    }
+
+    @Override
+    public void onComplete() {
+        if (active) {
+            TracingContext.ListenerManager.add(this);
+            IgnoredTracerContext.ListenerManager.add(this);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (active) {
+            TracingContext.ListenerManager.remove(this);
+            IgnoredTracerContext.ListenerManager.remove(this);
+        }
+    }
+
+    @Override
+    public void afterFinished(TraceSegment traceSegment) {
+        final List<AbstractTracingSpan> spans = traceSegment.getSpans();
+        if (spans.isEmpty()) {
+            return;
+        }
+        // the first span finishes at last
+        final AbstractTracingSpan firstSpan = spans.get(spans.size() - 1);
+        if (firstSpan.getSpanId() != 0 || !firstSpan.isEntry()) {
+            return;
+        }
+        record(
+            firstSpan.getOperationName(), firstSpan.getEndTime() - firstSpan.getStartTime(),
+            firstSpan.isErrorOccurred()
+        );
+    }
+
+    @Override
+    public void afterFinished(IgnoredTracerContext ignoredTracerContext) {
+        if (ignoredTracerContext.getEntryOperationName() == null) {
+            return;
+        }
+        record(
+            ignoredTracerContext.getEntryOperationName(),
+            System.currentTimeMillis() - ignoredTracerContext.getEntryStartTime(),
+            ignoredTracerContext.isEntryErrorOccurred()
+        );
+    }
+
+    void record(String endpoint, long latency, boolean isError) {
+        EndpointMeters meters = endpointMeters.get(endpoint);
+        if (meters == null) {
+            if (endpointMeters.size() >= Config.Meter.ENDPOINT_METRICS_MAX_SIZE) {
+                if (LOGGER.isDebugEnable()) {
+                    LOGGER.debug("Out of the endpoint metrics max size, ignore the endpoint: {}", endpoint);
+                }
+                return;
+            }
+            meters = endpointMeters.computeIfAbsent(endpoint, EndpointMeters::new);
+        }
+
+        meters.calls.increment(1);
+        if (isError) {
+            meters.errors.increment(1);
+        }
+        meters.latency.addValue(latency);
+    }
+
+    /**
+     * The meters of one endpoint, the counters are cumulative, the backend calculates the increase.
+     */
+    private static class EndpointMeters {
+        private final Counter calls;
+        private final Counter errors;
+        private final Histogram latency;
+
+        private EndpointMeters(String endpoint) {
+            calls = MeterFactory.counter("endpoint_calls").tag("endpoint", endpoint).build();
+            errors = MeterFactory.counter("endpoint_errors").tag("endpoint", endpoint).build();
+            latency = MeterFactory.histogram("endpoint_latency")
+                                  .tag("endpoint", endpoint)
+                                  .steps(LATENCY_STEPS)
+                                  .build();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.profile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache the code signatures of the dumped stack elements in one profile task, the same frame in the following dumps
+ * reuses the code signature instead of building it again. It is only accessed by the {@link ProfileThread} of the
+ * task, and the max size keeps the memory cost estimated.
+ */
+public class CodeSignatureDictionary {
+    private final int maxSize;
+    private final Map<StackTraceElement, String> codeSignatures;
+
+    public CodeSignatureDictionary(int maxSize) {
+        this.maxSize = maxSize;
+        this.codeSignatures = new HashMap<>();
+    }
+
+    /**
+     * @return code sign: className.methodName:lineNumber
+     */
+    public String codeSignatureOf(StackTraceElement element) {
+        String codeSignature = codeSignatures.get(element);
+        if (codeSignature == null) {
+            codeSignature = element.getClassName() + "." + element.getMethodName() + ":" + element.getLineNumber();
+            if (codeSignatures.size() < maxSize) {
+                codeSignatures.put(element, codeSignature);
+            }
+        }
+        return codeSignature;
+    }
+
+    int size() {
+        return codeSignatures.size();
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.skywalking.apm.agent.core.remote.GRPCStreamServiceStatus;
 import org.apache.skywalking.apm.network.common.v3.Commands;
 import org.apache.skywalking.apm.network.language.profile.v3.ProfileTaskGrpc;
 import org.apache.skywalking.apm.network.language.profile.v3.ThreadSnapshot;
+import org.apache.skywalking.apm.network.profile.ThreadStackEncoder;
 
 import static org.apache.skywalking.apm.agent.core.conf.Config.Collector.GRPC_UPSTREAM_TIMEOUT;
 
@@ -101,8 +102,10 @@ public class ProfileSnapshotSender implements BootService, GRPCChannelListener {
                         }
                     }
                 );
+                // the code signatures are encoded by the dictionary of this stream
+                final ThreadStackEncoder encoder = new ThreadStackEncoder();
                 for (TracingThreadSnapshot snapshot : buffer) {
-                    final ThreadSnapshot transformSnapshot = snapshot.transform();
+                    final ThreadSnapshot transformSnapshot = snapshot.transform(encoder);
                     snapshotStreamObserver.onNext(transformSnapshot);
                 }
 
@@ -49,6 +49,9 @@ public class ProfileTask {
     // task create time
     private long createTime;
 
+    // the encoding of the code signatures supported by the backend, empty means the plain code signatures
+    private String codeSignatureEncoding;
+
     public String getFirstSpanOPName() {
         return firstSpanOPName;
     }
@@ -113,6 +116,14 @@ public class ProfileTask {
         this.taskId = taskId;
     }
 
+    public String getCodeSignatureEncoding() {
+        return codeSignatureEncoding;
+    }
+
+    public void setCodeSignatureEncoding(String codeSignatureEncoding) {
+        this.codeSignatureEncoding = codeSignatureEncoding;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
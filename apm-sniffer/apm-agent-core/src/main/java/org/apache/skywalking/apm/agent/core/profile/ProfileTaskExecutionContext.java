@@ -46,9 +46,13 @@ public class ProfileTaskExecutionContext {
     // total started profiling tracing context count
     private final AtomicInteger totalStartedProfilingCount = new AtomicInteger(0);
 
+    // code signatures of the dumped stack elements in this task
+    private final CodeSignatureDictionary codeSignatureDictionary;
+
     public ProfileTaskExecutionContext(ProfileTask task) {
         this.task = task;
         profilingSegmentSlots = new AtomicReferenceArray<>(Config.Profile.MAX_PARALLEL);
+        codeSignatureDictionary = new CodeSignatureDictionary(Config.Profile.MAX_CACHED_CODE_SIGNATURES);
     }
 
     /**
@@ -144,6 +148,10 @@ public class ProfileTaskExecutionContext {
         return task;
     }
 
+    public CodeSignatureDictionary getCodeSignatureDictionary() {
+        return codeSignatureDictionary;
+    }
+
     public AtomicReferenceArray<ThreadProfiler> threadProfilerSlots() {
         return profilingSegmentSlots;
     }
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.apm.agent.core.profile;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -34,6 +35,10 @@ import org.apache.skywalking.apm.agent.core.context.TracingContext;
 import org.apache.skywalking.apm.agent.core.context.TracingThreadListener;
 import org.apache.skywalking.apm.agent.core.logging.api.ILog;
 import org.apache.skywalking.apm.agent.core.logging.api.LogManager;
+import org.apache.skywalking.apm.agent.core.meter.Counter;
+import org.apache.skywalking.apm.agent.core.meter.CounterMode;
+import org.apache.skywalking.apm.agent.core.meter.Histogram;
+import org.apache.skywalking.apm.agent.core.meter.MeterFactory;
 import org.apache.skywalking.apm.network.constants.ProfileConstants;
 import org.apache.skywalking.apm.util.StringUtil;
 
@@ -62,6 +67,10 @@ public class ProfileTaskExecutionService implements BootService, TracingThreadLi
     // profile task list, include running and waiting running tasks
     private final List<ProfileTask> profileTaskList = Collections.synchronizedList(new LinkedList<>());
 
+    // profiling overhead, the dumped threads and the cost(ms) of every batch dump, registered once the first task starts
+    private volatile Counter dumpedThreadCounter;
+    private volatile Histogram dumpCostHistogram;
+
     /**
      * add profile task from OAP
      */
@@ -122,6 +131,9 @@ public class ProfileTaskExecutionService implements BootService, TracingThreadLi
         // make sure prev profile task already stopped
         stopCurrentProfileTask(taskExecutionContext.get());
 
+        // the meters take the slots of the meter service, only the agent running profile task needs them
+        registerProfilingMetersIfNeed();
+
         // make stop task schedule and task context
         final ProfileTaskExecutionContext currentStartedTaskContext = new ProfileTaskExecutionContext(task);
         taskExecutionContext.set(currentStartedTaskContext);
@@ -161,6 +173,37 @@ public class ProfileTaskExecutionService implements BootService, TracingThreadLi
     public void boot() {
     }
 
+    /**
+     * register the profiling overhead meters when the first profile task starts
+     */
+    private void registerProfilingMetersIfNeed() {
+        if (dumpedThreadCounter == null) {
+            dumpedThreadCounter = MeterFactory.counter("profile_dumped_thread_count")
+                                              .mode(CounterMode.RATE)
+                                              .build();
+        }
+        if (dumpCostHistogram == null) {
+            dumpCostHistogram = MeterFactory.histogram("profile_thread_dump_cost")
+                                            .steps(Arrays.asList(1d, 5d, 10d, 50d, 100d, 500d))
+                                            .build();
+        }
+    }
+
+    /**
+     * record the overhead of one batch thread dump
+     *
+     * @param threadCount  the number of dumped threads
+     * @param costInNanos the cost of the dump
+     */
+    void recordThreadDump(int threadCount, long costInNanos) {
+        if (dumpedThreadCounter != null) {
+            dumpedThreadCounter.increment(threadCount);
+        }
+        if (dumpCostHistogram != null) {
+            dumpCostHistogram.addValue((double) costInNanos / TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
     @Override
     public void onComplete() {
         // add trace finish notification
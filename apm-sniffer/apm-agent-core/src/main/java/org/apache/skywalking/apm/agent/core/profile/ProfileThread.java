@@ -18,14 +18,20 @@
 
 package org.apache.skywalking.apm.agent.core.profile;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.skywalking.apm.agent.core.boot.ServiceManager;
+import org.apache.skywalking.apm.agent.core.conf.Config;
 import org.apache.skywalking.apm.agent.core.logging.api.ILog;
 import org.apache.skywalking.apm.agent.core.logging.api.LogManager;
 
-import java.util.concurrent.atomic.AtomicReferenceArray;
-
 /**
  * Profile task process thread, dump the executing thread stack.
+ * <p>
+ * The stacks of all profiling slots are dumped by one {@link ThreadMXBean#getThreadInfo(long[], int)} call per period,
+ * which takes one safepoint for all threads, rather than one {@link Thread#getStackTrace()} safepoint per thread.
  */
 public class ProfileThread implements Runnable {
 
@@ -37,10 +43,26 @@ public class ProfileThread implements Runnable {
     private final ProfileTaskExecutionService profileTaskExecutionService;
     private final ProfileTaskChannelService profileTaskChannelService;
 
+    private final ThreadMXBean threadMXBean;
+
+    // reusable buffers of the profilers and thread ids to dump, indexed by the number of dumping threads
+    private final ThreadProfiler[] dumpingProfilers;
+    private final long[][] threadIdsBuffers;
+    // reusable buffer of the dumped stacks, grows only if more threads are dumped than its length
+    private StackTraceElement[][] stackTracesBuffer;
+
     public ProfileThread(ProfileTaskExecutionContext taskExecutionContext) {
         this.taskExecutionContext = taskExecutionContext;
         profileTaskExecutionService = ServiceManager.INSTANCE.findService(ProfileTaskExecutionService.class);
         profileTaskChannelService = ServiceManager.INSTANCE.findService(ProfileTaskChannelService.class);
+        threadMXBean = ManagementFactory.getThreadMXBean();
+        final int slotCount = taskExecutionContext.threadProfilerSlots().length();
+        dumpingProfilers = new ThreadProfiler[slotCount];
+        threadIdsBuffers = new long[slotCount + 1][];
+        for (int count = 0; count <= slotCount; count++) {
+            threadIdsBuffers[count] = new long[count];
+        }
+        stackTracesBuffer = new StackTraceElement[slotCount][];
     }
 
     @Override
@@ -75,6 +97,7 @@ public class ProfileThread implements Runnable {
             // each all slot
             AtomicReferenceArray<ThreadProfiler> profilers = executionContext.threadProfilerSlots();
             int profilerCount = profilers.length();
+            int dumpingCount = 0;
             for (int slot = 0; slot < profilerCount; slot++) {
                 ThreadProfiler currentProfiler = profilers.get(slot);
                 if (currentProfiler == null) {
@@ -89,19 +112,17 @@ public class ProfileThread implements Runnable {
                         break;
 
                     case PROFILING:
-                        // dump stack
-                        TracingThreadSnapshot snapshot = currentProfiler.buildSnapshot();
-                        if (snapshot != null) {
-                            profileTaskChannelService.addProfilingSnapshot(snapshot);
-                        } else {
-                            // tell execution context current tracing thread dump failed, stop it
-                            executionContext.stopTracingProfile(currentProfiler.tracingContext());
-                        }
+                        // collect the profiler, dump stacks of all profiling threads together
+                        dumpingProfilers[dumpingCount++] = currentProfiler;
                         break;
 
                 }
             }
 
+            if (dumpingCount > 0) {
+                dumpAndBuildSnapshots(executionContext, dumpingCount);
+            }
+
             // sleep to next period
             // if out of period, sleep one period
             long needToSleep = (currentLoopStartTime + maxSleepPeriod) - System.currentTimeMillis();
@@ -110,4 +131,62 @@ public class ProfileThread implements Runnable {
         }
     }
 
+    /**
+     * dump the stacks of the collected profilers in one batch, and build the snapshots
+     */
+    private void dumpAndBuildSnapshots(ProfileTaskExecutionContext executionContext, int dumpingCount) {
+        final long dumpStartTime = System.nanoTime();
+        final StackTraceElement[][] stackTraces = dumpStackTraces(dumpingCount);
+        profileTaskExecutionService.recordThreadDump(dumpingCount, System.nanoTime() - dumpStartTime);
+
+        for (int i = 0; i < dumpingCount; i++) {
+            ThreadProfiler currentProfiler = dumpingProfilers[i];
+            dumpingProfilers[i] = null;
+
+            TracingThreadSnapshot snapshot = currentProfiler.buildSnapshot(stackTraces[i]);
+            stackTraces[i] = null;
+            if (snapshot != null) {
+                profileTaskChannelService.addProfilingSnapshot(snapshot);
+            } else {
+                // tell execution context current tracing thread dump failed, stop it
+                executionContext.stopTracingProfile(currentProfiler.tracingContext());
+            }
+        }
+    }
+
+    /**
+     * @return the reusable buffer holding the stacks of the collected profilers in the same order, from index 0 to
+     * dumpingCount - 1, the element is null if the thread is finished
+     */
+    private StackTraceElement[][] dumpStackTraces(int dumpingCount) {
+        if (stackTracesBuffer.length < dumpingCount) {
+            stackTracesBuffer = new StackTraceElement[dumpingCount][];
+        }
+        final StackTraceElement[][] stackTraces = stackTracesBuffer;
+        final long[] threadIds = threadIdsBuffers[dumpingCount];
+        for (int i = 0; i < dumpingCount; i++) {
+            threadIds[i] = dumpingProfilers[i].profilingThread().getId();
+        }
+
+        try {
+            final ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(
+                threadIds, Config.Profile.DUMP_MAX_STACK_DEPTH);
+            for (int i = 0; i < dumpingCount; i++) {
+                stackTraces[i] = threadInfos[i] == null ? null : threadInfos[i].getStackTrace();
+            }
+        } catch (Exception e) {
+            // dump by thread if the thread MXBean is not available
+            LOGGER.debug("Dump threads by thread MXBean fail, dump by thread. {}", e.getMessage());
+            for (int i = 0; i < dumpingCount; i++) {
+                try {
+                    stackTraces[i] = dumpingProfilers[i].profilingThread().getStackTrace();
+                } catch (Exception ignore) {
+                    // dump error ignore and make this profiler stop
+                    stackTraces[i] = null;
+                }
+            }
+        }
+        return stackTraces;
+    }
+
 }
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
 import org.apache.skywalking.apm.agent.core.conf.Config;
 import org.apache.skywalking.apm.agent.core.context.TracingContext;
+import org.apache.skywalking.apm.network.profile.ThreadStackEncoder;
 
 public class ThreadProfiler {
 
@@ -78,27 +79,19 @@ public class ThreadProfiler {
     }
 
     /**
-     * dump tracing thread and build thread snapshot
+     * build thread snapshot from the dumped stack of the tracing thread
      *
+     * @param stackTrace the dumped stack of {@link #profilingThread}, null or empty means dump error or thread finished
      * @return snapshot, if null means dump snapshot error, should stop it
      */
-    public TracingThreadSnapshot buildSnapshot() {
+    public TracingThreadSnapshot buildSnapshot(StackTraceElement[] stackTrace) {
         if (!isProfilingContinuable()) {
             return null;
         }
 
         long currentTime = System.currentTimeMillis();
-        // dump thread
-        StackTraceElement[] stackTrace;
-        try {
-            stackTrace = profilingThread.getStackTrace();
-
-            // stack depth is zero, means thread is already run finished
-            if (stackTrace.length == 0) {
-                return null;
-            }
-        } catch (Exception e) {
-            // dump error ignore and make this profiler stop
+        // stack depth is zero, means thread is already run finished
+        if (stackTrace == null || stackTrace.length == 0) {
             return null;
         }
 
@@ -110,22 +103,16 @@ public class ThreadProfiler {
         int dumpElementCount = Math.min(stackTrace.length, Config.Profile.DUMP_MAX_STACK_DEPTH);
 
         // use inverted order, because thread dump is start with bottom
+        final CodeSignatureDictionary codeSignatureDictionary = executionContext.getCodeSignatureDictionary();
         final ArrayList<String> stackList = new ArrayList<>(dumpElementCount);
         for (int i = dumpElementCount - 1; i >= 0; i--) {
-            stackList.add(buildStackElementCodeSignature(stackTrace[i]));
+            stackList.add(codeSignatureDictionary.codeSignatureOf(stackTrace[i]));
         }
 
-        String taskId = executionContext.getTask().getTaskId();
-        return new TracingThreadSnapshot(taskId, traceSegmentId, dumpSequence++, currentTime, stackList);
-    }
-
-    /**
-     * build thread stack element code signature
-     *
-     * @return code sign: className.methodName:lineNumber
-     */
-    private String buildStackElementCodeSignature(StackTraceElement element) {
-        return element.getClassName() + "." + element.getMethodName() + ":" + element.getLineNumber();
+        final ProfileTask task = executionContext.getTask();
+        final boolean encodable = ThreadStackEncoder.NAME.equals(task.getCodeSignatureEncoding());
+        return new TracingThreadSnapshot(
+            task.getTaskId(), traceSegmentId, dumpSequence++, currentTime, stackList, encodable);
     }
 
     /**
@@ -145,6 +132,10 @@ public class ThreadProfiler {
         return System.currentTimeMillis() - profilingStartTime < profilingMaxTimeMills;
     }
 
+    public Thread profilingThread() {
+        return profilingThread;
+    }
+
     public TracingContext tracingContext() {
         return tracingContext;
     }
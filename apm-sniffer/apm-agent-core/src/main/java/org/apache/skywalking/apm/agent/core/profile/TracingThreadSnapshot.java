@@ -21,6 +21,7 @@ package org.apache.skywalking.apm.agent.core.profile;
 import java.util.List;
 import org.apache.skywalking.apm.network.language.profile.v3.ThreadSnapshot;
 import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+import org.apache.skywalking.apm.network.profile.ThreadStackEncoder;
 
 public class TracingThreadSnapshot {
 
@@ -32,23 +33,42 @@ public class TracingThreadSnapshot {
     private final int sequence;
     private final long time;
     private final List<String> stackList;
+    // the backend of the task could decode the stack encoded by ThreadStackEncoder
+    private final boolean encodable;
 
     public TracingThreadSnapshot(String taskId,
                                  String traceSegmentId,
                                  int sequence,
                                  long time,
-                                 List<String> stackList) {
+                                 List<String> stackList,
+                                 boolean encodable) {
         this.taskId = taskId;
         this.traceSegmentId = traceSegmentId;
         this.sequence = sequence;
         this.time = time;
         this.stackList = stackList;
+        this.encodable = encodable;
     }
 
     /**
      * transform to gRPC data
      */
     public ThreadSnapshot transform() {
+        final ThreadStack.Builder stackBuilder = ThreadStack.newBuilder();
+        for (String codeSign : stackList) {
+            stackBuilder.addCodeSignatures(codeSign);
+        }
+        return transform(stackBuilder.build());
+    }
+
+    /**
+     * transform to gRPC data, the stack is encoded by the dictionary of the stream when the backend supports it.
+     */
+    public ThreadSnapshot transform(ThreadStackEncoder encoder) {
+        return transform(encodable ? encoder.encode(stackList) : encoder.plain(stackList));
+    }
+
+    private ThreadSnapshot transform(ThreadStack stack) {
         final ThreadSnapshot.Builder builder = ThreadSnapshot.newBuilder();
         // task id
         builder.setTaskId(taskId);
@@ -59,11 +79,7 @@ public class TracingThreadSnapshot {
         // snapshot dump sequence
         builder.setSequence(sequence);
         // snapshot stack
-        final ThreadStack.Builder stackBuilder = ThreadStack.newBuilder();
-        for (String codeSign : stackList) {
-            stackBuilder.addCodeSignatures(codeSign);
-        }
-        builder.setStack(stackBuilder);
+        builder.setStack(stack);
 
         return builder.build();
     }
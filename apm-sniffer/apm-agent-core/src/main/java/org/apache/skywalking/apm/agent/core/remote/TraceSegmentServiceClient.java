@@ -32,6 +32,7 @@ import org.apache.skywalking.apm.agent.core.context.TracingContextListener;
 import org.apache.skywalking.apm.agent.core.context.trace.TraceSegment;
 import org.apache.skywalking.apm.agent.core.logging.api.ILog;
 import org.apache.skywalking.apm.agent.core.logging.api.LogManager;
+import org.apache.skywalking.apm.agent.core.sampling.SamplingService;
 import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
 import org.apache.skywalking.apm.commons.datacarrier.buffer.BufferStrategy;
 import org.apache.skywalking.apm.commons.datacarrier.consumer.IConsumer;
@@ -53,6 +54,7 @@ public class TraceSegmentServiceClient implements BootService, IConsumer<TraceSe
     private volatile DataCarrier<TraceSegment> carrier;
     private volatile TraceSegmentReportServiceGrpc.TraceSegmentReportServiceStub serviceStub;
     private volatile GRPCChannelStatus status = GRPCChannelStatus.DISCONNECT;
+    private volatile long backoffDeadline;
 
     @Override
     public void prepare() {
@@ -86,7 +88,7 @@ public class TraceSegmentServiceClient implements BootService, IConsumer<TraceSe
 
     @Override
     public void consume(List<TraceSegment> data) {
-        if (CONNECTED.equals(status)) {
+        if (CONNECTED.equals(status) && System.currentTimeMillis() >= backoffDeadline) {
             final GRPCStreamServiceStatus status = new GRPCStreamServiceStatus(false);
             StreamObserver<SegmentObject> upstreamSegmentStreamObserver = serviceStub.withDeadlineAfter(
                 Config.Collector.GRPC_UPSTREAM_TIMEOUT, TimeUnit.SECONDS
@@ -133,6 +135,7 @@ public class TraceSegmentServiceClient implements BootService, IConsumer<TraceSe
             segmentUplinkedCounter += data.size();
         } else {
             segmentAbandonedCounter += data.size();
+            ServiceManager.INSTANCE.findService(SamplingService.class).reportAbandonedSegments(data.size());
         }
 
         printUplinkStatus();
@@ -148,7 +151,9 @@ public class TraceSegmentServiceClient implements BootService, IConsumer<TraceSe
             }
             if (segmentAbandonedCounter > 0) {
                 LOGGER.debug(
-                    "{} trace segments have been abandoned, cause by no available channel.", segmentAbandonedCounter);
+                    "{} trace segments have been abandoned, cause by no available channel or the collector backoff.",
+                    segmentAbandonedCounter
+                );
                 segmentAbandonedCounter = 0;
             }
         }
@@ -170,12 +175,23 @@ public class TraceSegmentServiceClient implements BootService, IConsumer<TraceSe
             return;
         }
         if (!carrier.produce(traceSegment)) {
+            ServiceManager.INSTANCE.findService(SamplingService.class).reportAbandonedSegments(1);
             if (LOGGER.isDebugEnable()) {
                 LOGGER.debug("One trace segment has been abandoned, cause by buffer is full.");
             }
         }
     }
 
+    /**
+     * Stop reporting segments for the given duration, as the collector is overloaded. The segments finished in this
+     * duration are abandoned, and reported to the {@link SamplingService}.
+     *
+     * @param duration in milliseconds
+     */
+    public void backoff(long duration) {
+        backoffDeadline = System.currentTimeMillis() + duration;
+    }
+
     @Override
     public void statusChanged(GRPCChannelStatus status) {
         if (CONNECTED.equals(status)) {
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.sampling;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The <code>EndpointSamplingBudget</code> holds the sampling factor of every first operation name in the current 3
+ * seconds window, so that one hot endpoint can't consume the whole {@code agent.sample_n_per_3_secs} budget.
+ * <p>
+ * The budget is reset with the window, which keeps only recently active endpoints in memory. The number of tracked
+ * endpoints is bounded by {@code maxEndpoints}, the endpoints beyond it share one overflow factor.
+ */
+public class EndpointSamplingBudget {
+    private final int maxEndpoints;
+    private final ConcurrentHashMap<String, AtomicInteger> factors;
+    private final AtomicInteger overflowFactor;
+    /**
+     * The number of reserved slots in {@link #factors}, reserved before the put, so racing new endpoints can't
+     * overshoot {@link #maxEndpoints}.
+     */
+    private final AtomicInteger trackedEndpoints;
+
+    public EndpointSamplingBudget(int maxEndpoints) {
+        this.maxEndpoints = maxEndpoints;
+        this.factors = new ConcurrentHashMap<>();
+        this.overflowFactor = new AtomicInteger(0);
+        this.trackedEndpoints = new AtomicInteger(0);
+    }
+
+    /**
+     * @param operationName the first operation name of the new tracing context.
+     * @param limit         the max sampled traces of one endpoint in the current window.
+     * @return true if the endpoint still has budget, and the factor has been increased successfully.
+     */
+    public boolean tryAcquire(String operationName, int limit) {
+        AtomicInteger factor = factorOf(operationName);
+        int current = factor.get();
+        while (current < limit) {
+            if (factor.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = factor.get();
+        }
+        return false;
+    }
+
+    private AtomicInteger factorOf(String operationName) {
+        AtomicInteger factor = factors.get(operationName);
+        if (factor != null) {
+            return factor;
+        }
+        if (trackedEndpoints.incrementAndGet() > maxEndpoints) {
+            trackedEndpoints.decrementAndGet();
+            return overflowFactor;
+        }
+        AtomicInteger created = new AtomicInteger(0);
+        factor = factors.putIfAbsent(operationName, created);
+        if (factor != null) {
+            trackedEndpoints.decrementAndGet();
+            return factor;
+        }
+        return created;
+    }
+
+    int size() {
+        return factors.size();
+    }
+}
@@ -41,6 +41,10 @@ import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
  * send all of them to collector, if SAMPLING is on.
  * <p>
  * By default, SAMPLING is on, and  {@link Config.Agent#SAMPLE_N_PER_3_SECS }
+ * <p>
+ * Optionally, {@link Config.Agent#SAMPLE_N_PER_3_SECS_PER_ENDPOINT} limits the sampled traces of every first operation
+ * name, to leave the budget for rare endpoints, and {@link Config.Agent#SAMPLE_ADAPTIVE} lowers the budget while the
+ * reporter abandons segments, and recovers it gradually once the segments are sent again.
  */
 @DefaultImplementor
 public class SamplingService implements BootService {
@@ -48,6 +52,9 @@ public class SamplingService implements BootService {
 
     private volatile boolean on = false;
     private volatile AtomicInteger samplingFactorHolder;
+    private volatile EndpointSamplingBudget endpointSamplingBudget;
+    private volatile int adaptiveSamplingRate;
+    private final AtomicInteger abandonedSegmentCounter = new AtomicInteger(0);
     private volatile ScheduledFuture<?> scheduledFuture;
 
     private SamplingRateWatcher samplingRateWatcher;
@@ -83,16 +90,41 @@ public class SamplingService implements BootService {
      */
     public boolean trySampling(String operationName) {
         if (on) {
-            int factor = samplingFactorHolder.get();
-            if (factor < samplingRateWatcher.getSamplingRate()) {
-                return samplingFactorHolder.compareAndSet(factor, factor + 1);
-            } else {
+            final int samplingRate = getEffectiveSamplingRate();
+            final AtomicInteger factorHolder = samplingFactorHolder;
+            if (!tryAcquire(factorHolder, samplingRate)) {
+                return false;
+            }
+            if (Config.Agent.SAMPLE_N_PER_3_SECS_PER_ENDPOINT > 0 && !endpointSamplingBudget.tryAcquire(
+                operationName, Config.Agent.SAMPLE_N_PER_3_SECS_PER_ENDPOINT)) {
+                // Give the global slot back, the trace of another endpoint could take it.
+                factorHolder.decrementAndGet();
                 return false;
             }
+            return true;
         }
         return true;
     }
 
+    private static boolean tryAcquire(AtomicInteger factorHolder, int samplingRate) {
+        int factor = factorHolder.get();
+        while (factor < samplingRate) {
+            if (factorHolder.compareAndSet(factor, factor + 1)) {
+                return true;
+            }
+            factor = factorHolder.get();
+        }
+        return false;
+    }
+
+    /**
+     * @param operationName The first operation name of the new tracing context.
+     * @return true, if the trace of the operation is excluded by configuration, rather than not sampled.
+     */
+    public boolean isIgnoredOperation(String operationName) {
+        return false;
+    }
+
     /**
      * Increase the sampling factor by force, to avoid sampling too many traces. If many distributed traces require
      * sampled, the trace beginning at local, has less chance to be sampled.
@@ -103,8 +135,54 @@ public class SamplingService implements BootService {
         }
     }
 
+    /**
+     * Notify the sampling mechanism that some sampled segments could not be sent to the backend, which is the signal
+     * to lower the adaptive sampling rate.
+     *
+     * @param count the number of abandoned segments.
+     */
+    public void reportAbandonedSegments(int count) {
+        if (on && Config.Agent.SAMPLE_ADAPTIVE) {
+            abandonedSegmentCounter.addAndGet(count);
+        }
+    }
+
+    private int getEffectiveSamplingRate() {
+        int samplingRate = samplingRateWatcher.getSamplingRate();
+        if (Config.Agent.SAMPLE_ADAPTIVE) {
+            return Math.min(samplingRate, adaptiveSamplingRate);
+        }
+        return samplingRate;
+    }
+
+    /**
+     * Halve the adaptive sampling rate if any segment has been abandoned in the last window, otherwise increase it by
+     * 10% of the configured rate, until it reaches the configured rate again.
+     */
+    private void adjustAdaptiveSamplingRate() {
+        int samplingRate = samplingRateWatcher.getSamplingRate();
+        int abandoned = abandonedSegmentCounter.getAndSet(0);
+        if (abandoned > 0) {
+            adaptiveSamplingRate = Math.max(1, Math.min(adaptiveSamplingRate, samplingRate) / 2);
+            if (LOGGER.isDebugEnable()) {
+                LOGGER.debug(
+                    "{} segments abandoned, decrease the adaptive sampling rate to {}.", abandoned,
+                    adaptiveSamplingRate
+                );
+            }
+        } else {
+            adaptiveSamplingRate = Math.min(samplingRate, adaptiveSamplingRate + Math.max(1, samplingRate / 10));
+        }
+    }
+
     private void resetSamplingFactor() {
+        if (Config.Agent.SAMPLE_ADAPTIVE) {
+            adjustAdaptiveSamplingRate();
+        }
         samplingFactorHolder = new AtomicInteger(0);
+        if (Config.Agent.SAMPLE_N_PER_3_SECS_PER_ENDPOINT > 0) {
+            endpointSamplingBudget = new EndpointSamplingBudget(Config.Agent.SAMPLE_MAX_ENDPOINTS);
+        }
     }
 
     /**
@@ -113,8 +191,10 @@ public class SamplingService implements BootService {
     public void handleSamplingRateChanged() {
         if (samplingRateWatcher.getSamplingRate() > 0) {
             if (!on) {
-                on = true;
+                adaptiveSamplingRate = samplingRateWatcher.getSamplingRate();
+                abandonedSegmentCounter.set(0);
                 this.resetSamplingFactor();
+                on = true;
                 ScheduledExecutorService service = Executors.newSingleThreadScheduledExecutor(
                     new DefaultNamedThreadFactory("SamplingService"));
                 scheduledFuture = service.scheduleAtFixedRate(new RunnableWithExceptionProtection(
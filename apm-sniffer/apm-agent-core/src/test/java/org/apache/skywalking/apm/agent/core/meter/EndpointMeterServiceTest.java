@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.meter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.skywalking.apm.agent.core.boot.ServiceManager;
+import org.apache.skywalking.apm.agent.core.conf.Config;
+import org.apache.skywalking.apm.agent.core.context.IgnoredTracerContext;
+import org.apache.skywalking.apm.agent.core.test.tools.AgentServiceRule;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+public class EndpointMeterServiceTest {
+    @Rule
+    public AgentServiceRule agentServiceRule = new AgentServiceRule();
+
+    @AfterClass
+    public static void afterClass() {
+        ServiceManager.INSTANCE.shutdown();
+    }
+
+    @After
+    public void after() {
+        final MeterService meterService = ServiceManager.INSTANCE.findService(MeterService.class);
+        ((ConcurrentHashMap<MeterId, BaseMeter>) Whitebox.getInternalState(meterService, "meterMap")).clear();
+    }
+
+    @Test
+    public void testRecord() {
+        final EndpointMeterService service = new EndpointMeterService();
+        service.record("/test", 30, false);
+        service.record("/test", 600, true);
+
+        final Map<String, Object> endpointMeters = Whitebox.getInternalState(service, "endpointMeters");
+        Assert.assertEquals(1, endpointMeters.size());
+        final Object meters = endpointMeters.get("/test");
+        Assert.assertEquals(2d, ((Counter) Whitebox.getInternalState(meters, "calls")).get(), 0d);
+        Assert.assertEquals(1d, ((Counter) Whitebox.getInternalState(meters, "errors")).get(), 0d);
+    }
+
+    @Test
+    public void testIgnoredContext() {
+        final EndpointMeterService service = new EndpointMeterService();
+
+        final IgnoredTracerContext notSampledContext = new IgnoredTracerContext(true);
+        notSampledContext.stopSpan(notSampledContext.createEntrySpan("/not-sampled"));
+        service.afterFinished(notSampledContext);
+
+        final IgnoredTracerContext excludedContext = new IgnoredTracerContext();
+        excludedContext.stopSpan(excludedContext.createEntrySpan("/excluded.jpg"));
+        service.afterFinished(excludedContext);
+
+        final Map<String, Object> endpointMeters = Whitebox.getInternalState(service, "endpointMeters");
+        Assert.assertEquals(1, endpointMeters.size());
+        Assert.assertTrue(endpointMeters.containsKey("/not-sampled"));
+    }
+
+    @Test
+    public void testEndpointLimit() {
+        final int maxSize = Config.Meter.ENDPOINT_METRICS_MAX_SIZE;
+        Config.Meter.ENDPOINT_METRICS_MAX_SIZE = 1;
+        try {
+            final EndpointMeterService service = new EndpointMeterService();
+            service.record("/a", 1, false);
+            service.record("/b", 1, false);
+
+            final Map<String, Object> endpointMeters = Whitebox.getInternalState(service, "endpointMeters");
+            Assert.assertEquals(1, endpointMeters.size());
+        } finally {
+            Config.Meter.ENDPOINT_METRICS_MAX_SIZE = maxSize;
+        }
+    }
+}
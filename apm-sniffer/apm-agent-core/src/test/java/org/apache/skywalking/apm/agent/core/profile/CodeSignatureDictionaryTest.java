@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.profile;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodeSignatureDictionaryTest {
+
+    @Test
+    public void testCodeSignatureReused() {
+        CodeSignatureDictionary dictionary = new CodeSignatureDictionary(1);
+        StackTraceElement element = new StackTraceElement("a.B", "c", "B.java", 10);
+        String codeSignature = dictionary.codeSignatureOf(element);
+        Assert.assertEquals("a.B.c:10", codeSignature);
+        Assert.assertSame(codeSignature, dictionary.codeSignatureOf(new StackTraceElement("a.B", "c", "B.java", 10)));
+
+        Assert.assertEquals("a.B.d:11", dictionary.codeSignatureOf(new StackTraceElement("a.B", "d", "B.java", 11)));
+        Assert.assertEquals(1, dictionary.size());
+    }
+}
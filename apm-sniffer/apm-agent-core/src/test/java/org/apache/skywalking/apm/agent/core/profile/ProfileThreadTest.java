@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.profile;
+
+import java.util.concurrent.CountDownLatch;
+import org.apache.skywalking.apm.agent.core.context.TracingContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.reflect.Whitebox;
+
+public class ProfileThreadTest {
+
+    @Test
+    public void testDumpStackTracesInOneBatch() throws Exception {
+        final ProfileTaskExecutionContext executionContext = new ProfileTaskExecutionContext(new ProfileTask());
+        final ProfileThread profileThread = new ProfileThread(executionContext);
+
+        final CountDownLatch finish = new CountDownLatch(1);
+        final Thread waitingThread = new Thread(() -> {
+            try {
+                finish.await();
+            } catch (InterruptedException ignore) {
+            }
+        });
+        waitingThread.start();
+        final Thread finishedThread = new Thread(() -> {
+        });
+        finishedThread.start();
+        finishedThread.join();
+
+        try {
+            final ThreadProfiler[] dumpingProfilers = Whitebox.getInternalState(profileThread, "dumpingProfilers");
+            dumpingProfilers[0] = newProfiler(waitingThread, executionContext);
+            dumpingProfilers[1] = newProfiler(Thread.currentThread(), executionContext);
+            dumpingProfilers[2] = newProfiler(finishedThread, executionContext);
+
+            final StackTraceElement[][] stackTraces = Whitebox.invokeMethod(profileThread, "dumpStackTraces", 3);
+            Assert.assertTrue(stackTraces[0].length > 0);
+            Assert.assertTrue(containsMethod(stackTraces[1], "testDumpStackTracesInOneBatch"));
+            Assert.assertNull(stackTraces[2]);
+
+            // the buffer is reused by the next period
+            final StackTraceElement[][] nextStackTraces = Whitebox.invokeMethod(profileThread, "dumpStackTraces", 2);
+            Assert.assertSame(stackTraces, nextStackTraces);
+            Assert.assertTrue(containsMethod(nextStackTraces[1], "testDumpStackTracesInOneBatch"));
+        } finally {
+            finish.countDown();
+            waitingThread.join();
+        }
+    }
+
+    private static ThreadProfiler newProfiler(Thread thread, ProfileTaskExecutionContext executionContext) {
+        return new ThreadProfiler(Mockito.mock(TracingContext.class), "segmentId", thread, executionContext);
+    }
+
+    private static boolean containsMethod(StackTraceElement[] stackTrace, String methodName) {
+        for (StackTraceElement element : stackTrace) {
+            if (methodName.equals(element.getMethodName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.sampling;
+
+import java.util.concurrent.CountDownLatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EndpointSamplingBudgetTest {
+
+    @Test
+    public void testHotEndpointDoesNotConsumeOthersBudget() {
+        EndpointSamplingBudget budget = new EndpointSamplingBudget(10);
+        Assert.assertTrue(budget.tryAcquire("/hot", 2));
+        Assert.assertTrue(budget.tryAcquire("/hot", 2));
+        Assert.assertFalse(budget.tryAcquire("/hot", 2));
+
+        Assert.assertTrue(budget.tryAcquire("/rare", 2));
+    }
+
+    @Test
+    public void testEndpointsBeyondMaxShareOverflowBudget() {
+        EndpointSamplingBudget budget = new EndpointSamplingBudget(1);
+        Assert.assertTrue(budget.tryAcquire("/a", 1));
+        Assert.assertTrue(budget.tryAcquire("/b", 1));
+        Assert.assertFalse(budget.tryAcquire("/c", 1));
+        Assert.assertEquals(1, budget.size());
+    }
+
+    @Test
+    public void testConcurrentNewEndpointsDoNotOvershootMax() throws Exception {
+        final EndpointSamplingBudget budget = new EndpointSamplingBudget(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[16];
+        for (int i = 0; i < threads.length; i++) {
+            final String operationName = "/endpoint-" + i;
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                budget.tryAcquire(operationName, 1);
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(8, budget.size());
+    }
+}
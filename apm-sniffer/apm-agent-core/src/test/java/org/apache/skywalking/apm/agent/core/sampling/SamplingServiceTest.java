@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.apm.agent.core.sampling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.skywalking.apm.agent.core.conf.Config;
+import org.apache.skywalking.apm.agent.core.conf.dynamic.watcher.SamplingRateWatcher;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+public class SamplingServiceTest {
+
+    @After
+    public void tearDown() {
+        Config.Agent.SAMPLE_N_PER_3_SECS = -1;
+        Config.Agent.SAMPLE_N_PER_3_SECS_PER_ENDPOINT = -1;
+        Config.Agent.SAMPLE_MAX_ENDPOINTS = 1000;
+        Config.Agent.SAMPLE_ADAPTIVE = false;
+    }
+
+    @Test
+    public void testTrySamplingWithEndpointBudget() throws Exception {
+        SamplingService samplingService = newSamplingService(3, 1, false);
+
+        Assert.assertTrue(samplingService.trySampling("/a"));
+        Assert.assertFalse(samplingService.trySampling("/a"));
+        Assert.assertTrue(samplingService.trySampling("/b"));
+        Assert.assertTrue(samplingService.trySampling("/c"));
+        Assert.assertFalse(samplingService.trySampling("/d"));
+    }
+
+    @Test
+    public void testRejectedEndpointReleasesGlobalSlot() throws Exception {
+        SamplingService samplingService = newSamplingService(2, 1, false);
+
+        Assert.assertTrue(samplingService.trySampling("/a"));
+        Assert.assertFalse(samplingService.trySampling("/a"));
+        Assert.assertFalse(samplingService.trySampling("/a"));
+        Assert.assertTrue(samplingService.trySampling("/b"));
+        AtomicInteger factorHolder = Whitebox.getInternalState(samplingService, "samplingFactorHolder");
+        Assert.assertEquals(2, factorHolder.get());
+    }
+
+    @Test
+    public void testGlobalRejectionKeepsEndpointBudget() throws Exception {
+        SamplingService samplingService = newSamplingService(1, 1, false);
+
+        Assert.assertTrue(samplingService.trySampling("/a"));
+        Assert.assertFalse(samplingService.trySampling("/b"));
+
+        // A new global window only, the endpoint budget of "/b" must not have been consumed by the rejection.
+        Whitebox.setInternalState(samplingService, "samplingFactorHolder", new AtomicInteger(0));
+        Assert.assertTrue(samplingService.trySampling("/b"));
+    }
+
+    @Test
+    public void testAdaptiveSamplingRate() throws Exception {
+        SamplingService samplingService = newSamplingService(100, -1, true);
+
+        samplingService.reportAbandonedSegments(5);
+        Whitebox.invokeMethod(samplingService, "resetSamplingFactor");
+        Assert.assertEquals(50, (int) Whitebox.getInternalState(samplingService, "adaptiveSamplingRate"));
+
+        Whitebox.invokeMethod(samplingService, "resetSamplingFactor");
+        Assert.assertEquals(60, (int) Whitebox.getInternalState(samplingService, "adaptiveSamplingRate"));
+
+        for (int i = 0; i < 60; i++) {
+            Assert.assertTrue(samplingService.trySampling("/a"));
+        }
+        Assert.assertFalse(samplingService.trySampling("/a"));
+
+        for (int i = 0; i < 10; i++) {
+            Whitebox.invokeMethod(samplingService, "resetSamplingFactor");
+        }
+        Assert.assertEquals(100, (int) Whitebox.getInternalState(samplingService, "adaptiveSamplingRate"));
+    }
+
+    /**
+     * Build the service without booting it, so the window is reset by the test only, instead of the scheduler.
+     */
+    private SamplingService newSamplingService(int samplingRate, int perEndpoint, boolean adaptive) throws Exception {
+        Config.Agent.SAMPLE_N_PER_3_SECS = samplingRate;
+        Config.Agent.SAMPLE_N_PER_3_SECS_PER_ENDPOINT = perEndpoint;
+        Config.Agent.SAMPLE_ADAPTIVE = adaptive;
+
+        SamplingService samplingService = new SamplingService();
+        Whitebox.setInternalState(
+            samplingService, "samplingRateWatcher",
+            new SamplingRateWatcher("agent.sample_n_per_3_secs", samplingService)
+        );
+        Whitebox.setInternalState(samplingService, "adaptiveSamplingRate", samplingRate);
+        Whitebox.invokeMethod(samplingService, "resetSamplingFactor");
+        Whitebox.setInternalState(samplingService, "on", true);
+        return samplingService;
+    }
+}
@@ -70,15 +70,23 @@ public class TraceIgnoreExtendService extends SamplingService {
 
     @Override
     public boolean trySampling(final String operationName) {
+        if (isIgnoredOperation(operationName)) {
+            LOGGER.debug("operationName : " + operationName + " Ignore tracking");
+            return false;
+        }
+        return super.trySampling(operationName);
+    }
+
+    @Override
+    public boolean isIgnoredOperation(final String operationName) {
         if (patterns.length > 0) {
             for (String pattern : patterns) {
                 if (pathMatcher.match(pattern, operationName)) {
-                    LOGGER.debug("operationName : " + operationName + " Ignore tracking");
-                    return false;
+                    return true;
                 }
             }
         }
-        return super.trySampling(operationName);
+        return false;
     }
 
     @Override
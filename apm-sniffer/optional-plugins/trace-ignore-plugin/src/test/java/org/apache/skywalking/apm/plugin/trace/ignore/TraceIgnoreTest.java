@@ -59,6 +59,8 @@ public class TraceIgnoreTest {
 
         Assert.assertFalse(service.trySampling("/eureka/apps"));
         Assert.assertTrue(service.trySampling("/consul/apps"));
+        Assert.assertTrue(service.isIgnoredOperation("/eureka/apps"));
+        Assert.assertFalse(service.isIgnoredOperation("/consul/apps"));
     }
 
     @Test
@@ -26,9 +26,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.DBLatencyThresholdsAndWatcher;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceLatencyThresholdsAndWatcher;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceSampleRateWatcher;
+import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceTailSampler;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.UninstrumentedGatewaysConfig;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.strategy.SegmentStatusStrategy;
 import org.apache.skywalking.oap.server.core.Const;
+import org.apache.skywalking.oap.server.core.analysis.manual.segment.SegmentCodec;
 import org.apache.skywalking.oap.server.library.module.ModuleConfig;
 
 import java.util.ArrayList;
@@ -76,6 +78,31 @@ public class AnalyzerModuleConfig extends ModuleConfig {
     @Setter
     @Getter
     private TraceLatencyThresholdsAndWatcher traceLatencyThresholdsAndWatcher;
+    /**
+     * The window of the trace tail sampling, the not sampled segments are buffered by trace id in the window, and saved
+     * once any segment of the trace is error, slow or tagged by {@link #tailSamplingForceSampledTags}. The default
+     * value is `-1`, which means the tail sampling is off. Unit, second.
+     */
+    @Setter
+    @Getter
+    private int tailSamplingWindow = -1;
+    /**
+     * The max number of the segments in the trace tail sampling buffer, and the traces in the window including the
+     * decided ones, to keep the memory cost estimated.
+     */
+    @Setter
+    @Getter
+    private int tailSamplingMaxBufferedSegments = 100000;
+    /**
+     * The traces including any searchable tag in this list are saved by the tail sampling, multiple tags should be
+     * separated by `,`, such as `http.status_code=500,status_code=503`.
+     */
+    @Setter
+    @Getter
+    private String tailSamplingForceSampledTags = Const.EMPTY_STRING;
+    @Setter
+    @Getter
+    private TraceTailSampler traceTailSampler;
     /**
      * Analysis trace status.
      * <p>
@@ -121,6 +148,15 @@ public class AnalyzerModuleConfig extends ModuleConfig {
     @Getter
     private String segmentStatusAnalysisStrategy = FROM_SPAN_STATUS.name();
 
+    /**
+     * The codec of the stored segment data binary. Available values are `NONE` and `DEFLATE`.
+     *
+     * @see SegmentCodec
+     */
+    @Setter
+    @Getter
+    private String segmentCodec = SegmentCodec.NONE.name();
+
     private List<Integer> virtualPeers;
 
     /**
@@ -28,6 +28,7 @@ import org.apache.skywalking.oap.server.analyzer.provider.meter.process.MeterPro
 import org.apache.skywalking.oap.server.analyzer.provider.trace.DBLatencyThresholdsAndWatcher;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceLatencyThresholdsAndWatcher;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceSampleRateWatcher;
+import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceTailSampler;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.UninstrumentedGatewaysConfig;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.ISegmentParserService;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.SegmentParserListenerManager;
@@ -40,6 +41,7 @@ import org.apache.skywalking.oap.server.configuration.api.DynamicConfigurationSe
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.oal.rt.CoreOALDefine;
 import org.apache.skywalking.oap.server.core.oal.rt.OALEngineLoaderService;
+import org.apache.skywalking.oap.server.core.source.SourceReceiver;
 import org.apache.skywalking.oap.server.library.module.ModuleConfig;
 import org.apache.skywalking.oap.server.library.module.ModuleDefine;
 import org.apache.skywalking.oap.server.library.module.ModuleProvider;
@@ -123,6 +125,17 @@ public class AnalyzerModuleProvider extends ModuleProvider {
         dynamicConfigurationService.registerConfigChangeWatcher(uninstrumentedGatewaysConfig);
         dynamicConfigurationService.registerConfigChangeWatcher(traceSampleRateWatcher);
 
+        if (moduleConfig.getTailSamplingWindow() > 0) {
+            TraceTailSampler traceTailSampler = new TraceTailSampler(
+                getManager().find(CoreModule.NAME).provider().getService(SourceReceiver.class),
+                moduleConfig.getTailSamplingWindow(),
+                moduleConfig.getTailSamplingMaxBufferedSegments(),
+                moduleConfig.getTailSamplingForceSampledTags()
+            );
+            traceTailSampler.start();
+            moduleConfig.setTraceTailSampler(traceTailSampler);
+        }
+
         segmentParserService.setListenerManager(listenerManager());
 
         processService.start(meterConfigs);
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.analyzer.provider.trace;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.apache.skywalking.oap.server.core.analysis.manual.searchtag.Tag;
+import org.apache.skywalking.oap.server.core.source.Segment;
+import org.apache.skywalking.oap.server.core.source.SourceReceiver;
+import org.apache.skywalking.oap.server.library.server.pool.CustomThreadFactory;
+
+/**
+ * The tail sampler buffers the segments of the not-yet sampled traces by trace id, and makes one decision per trace.
+ * Once any segment of a trace is forced sampled (error, slow or matching the force sampled tags), all buffered and
+ * following segments of the trace in the window are saved. The segments of the traces without decision are dropped
+ * when the window expires.
+ * <p>
+ * The buffer is bounded by the max buffered segments, once it is full, the segments are decided by themselves, the
+ * same as the tail sampling is off. The traces in the window, including the decided ones, are bounded by the same
+ * number, the segments of the new traces beyond it are decided by themselves too.
+ */
+@Slf4j
+public class TraceTailSampler {
+    private final SourceReceiver sourceReceiver;
+    private final long windowInMillis;
+    private final int maxBufferedSegments;
+    private final List<Tag> forceSampledTags;
+    private final Map<String, BufferedTrace> traces;
+    private final AtomicInteger bufferedSegments;
+
+    public TraceTailSampler(SourceReceiver sourceReceiver, int windowInSeconds, int maxBufferedSegments,
+                            String forceSampledTags) {
+        this.sourceReceiver = sourceReceiver;
+        this.windowInMillis = TimeUnit.SECONDS.toMillis(windowInSeconds);
+        this.maxBufferedSegments = maxBufferedSegments;
+        this.forceSampledTags = parseTags(forceSampledTags);
+        this.traces = new ConcurrentHashMap<>();
+        this.bufferedSegments = new AtomicInteger(0);
+    }
+
+    public void start() {
+        Executors.newSingleThreadScheduledExecutor(new CustomThreadFactory("traceTailSampler"))
+                 .scheduleWithFixedDelay(
+                     new RunnableWithExceptionProtection(
+                         () -> expire(System.currentTimeMillis()),
+                         t -> log.error("Trace tail sampler expiring failure.", t)
+                     ), 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param segment      the segment waiting for the decision of its trace.
+     * @param forceSampled true if the segment itself should be sampled, such as error or slow segment.
+     */
+    public void offer(Segment segment, boolean forceSampled) {
+        final boolean sampled = forceSampled || matchForceSampledTags(segment);
+        BufferedTrace trace = traces.get(segment.getTraceId());
+        if (trace == null) {
+            if (traces.size() >= maxBufferedSegments) {
+                if (sampled) {
+                    sourceReceiver.receive(segment);
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Tail sampling traces are full, segment {} is ignored.", segment.getSegmentId());
+                }
+                return;
+            }
+            trace = traces.computeIfAbsent(
+                segment.getTraceId(), traceId -> new BufferedTrace(System.currentTimeMillis()));
+        }
+
+        final List<Segment> toReceive;
+        synchronized (trace) {
+            if (trace.sampled) {
+                toReceive = null;
+            } else if (sampled) {
+                trace.sampled = true;
+                toReceive = trace.segments;
+                trace.segments = null;
+                if (toReceive != null) {
+                    bufferedSegments.addAndGet(-toReceive.size());
+                }
+            } else if (trace.expired) {
+                // The trace has been dropped by the expiring in the meantime.
+                return;
+            } else if (bufferedSegments.incrementAndGet() <= maxBufferedSegments) {
+                trace.segments.add(segment);
+                return;
+            } else {
+                bufferedSegments.decrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Tail sampling buffer is full, segment {} is ignored.", segment.getSegmentId());
+                }
+                return;
+            }
+        }
+
+        if (toReceive != null) {
+            toReceive.forEach(sourceReceiver::receive);
+        }
+        sourceReceiver.receive(segment);
+    }
+
+    void expire(long now) {
+        final Iterator<Map.Entry<String, BufferedTrace>> iterator = traces.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final BufferedTrace trace = iterator.next().getValue();
+            if (now - trace.createTime < windowInMillis) {
+                continue;
+            }
+            iterator.remove();
+            synchronized (trace) {
+                trace.expired = true;
+                if (trace.segments != null) {
+                    bufferedSegments.addAndGet(-trace.segments.size());
+                    trace.segments = null;
+                }
+            }
+        }
+    }
+
+    int getBufferedSegments() {
+        return bufferedSegments.get();
+    }
+
+    int getBufferedTraces() {
+        return traces.size();
+    }
+
+    private boolean matchForceSampledTags(Segment segment) {
+        if (forceSampledTags.isEmpty()) {
+            return false;
+        }
+        for (final Tag tag : segment.getTags()) {
+            if (forceSampledTags.contains(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Tag> parseTags(String tags) {
+        final List<Tag> result = new ArrayList<>();
+        if (tags == null) {
+            return result;
+        }
+        for (final String tag : tags.split(",")) {
+            final int index = tag.indexOf('=');
+            if (index > 0) {
+                result.add(new Tag(tag.substring(0, index).trim(), tag.substring(index + 1).trim()));
+            } else if (!tag.trim().isEmpty()) {
+                log.warn("Illegal force sampled tag {}, it should be in the key=value format.", tag);
+            }
+        }
+        return result;
+    }
+
+    private static class BufferedTrace {
+        private final long createTime;
+        private boolean sampled;
+        private boolean expired;
+        private List<Segment> segments = new ArrayList<>();
+
+        private BufferedTrace(long createTime) {
+            this.createTime = createTime;
+        }
+    }
+}
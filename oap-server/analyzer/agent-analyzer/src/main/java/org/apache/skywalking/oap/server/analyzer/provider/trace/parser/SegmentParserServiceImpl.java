@@ -33,10 +33,14 @@ public class SegmentParserServiceImpl implements ISegmentParserService {
     private final AnalyzerModuleConfig config;
     @Setter
     private SegmentParserListenerManager listenerManager;
+    /**
+     * The analyzer and its listeners are reused by the segments received in the same thread.
+     */
+    private final ThreadLocal<TraceAnalyzer> traceAnalyzers = ThreadLocal.withInitial(
+        () -> new TraceAnalyzer(moduleManager, listenerManager, config));
 
     @Override
     public void send(SegmentObject segment) {
-        final TraceAnalyzer traceAnalyzer = new TraceAnalyzer(moduleManager, listenerManager, config);
-        traceAnalyzer.doAnalysis(segment);
+        traceAnalyzers.get().doAnalysis(segment);
     }
 }
@@ -20,13 +20,12 @@ package org.apache.skywalking.oap.server.analyzer.provider.trace.parser;
 
 import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.network.language.agent.v3.SegmentObject;
 import org.apache.skywalking.apm.network.language.agent.v3.SpanObject;
-import org.apache.skywalking.apm.network.language.agent.v3.SpanType;
 import org.apache.skywalking.oap.server.analyzer.provider.AnalyzerModuleConfig;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.AnalysisListener;
+import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.AnalysisListenerFactory;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.EntryAnalysisListener;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.ExitAnalysisListener;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.FirstAnalysisListener;
@@ -34,91 +33,134 @@ import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.SegmentListener;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 
+/**
+ * TraceAnalyzer notifies the listeners while traversing the spans of the segment. The analyzer is confined to one
+ * thread, the listeners are created once and reset after every segment, unless {@link AnalysisListener#reset()} says
+ * they are not reusable.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class TraceAnalyzer {
     private final ModuleManager moduleManager;
-    private final SegmentParserListenerManager listenerManager;
     private final AnalyzerModuleConfig config;
-    private List<AnalysisListener> analysisListeners = new ArrayList<>();
+    private final List<AnalysisListenerFactory> factories;
+    private final AnalysisListener[] analysisListeners;
+
+    private SegmentListener[] segmentListeners;
+    private FirstAnalysisListener[] firstListeners;
+    private EntryAnalysisListener[] entryListeners;
+    private ExitAnalysisListener[] exitListeners;
+    private LocalAnalysisListener[] localListeners;
+
+    public TraceAnalyzer(final ModuleManager moduleManager,
+                         final SegmentParserListenerManager listenerManager,
+                         final AnalyzerModuleConfig config) {
+        this.moduleManager = moduleManager;
+        this.config = config;
+        this.factories = new ArrayList<>(listenerManager.getSpanListenerFactories());
+        this.analysisListeners = new AnalysisListener[factories.size()];
+    }
 
     public void doAnalysis(SegmentObject segmentObject) {
-        if (segmentObject.getSpansList().size() == 0) {
+        final List<SpanObject> spans = segmentObject.getSpansList();
+        if (spans.size() == 0) {
             return;
         }
 
         createSpanListeners();
 
-        notifySegmentListener(segmentObject);
-
-        segmentObject.getSpansList().forEach(spanObject -> {
-            if (spanObject.getSpanId() == 0) {
-                notifyFirstListener(spanObject, segmentObject);
+        try {
+            for (final SegmentListener listener : segmentListeners) {
+                listener.parseSegment(segmentObject);
             }
 
-            if (SpanType.Exit.equals(spanObject.getSpanType())) {
-                notifyExitListener(spanObject, segmentObject);
-            } else if (SpanType.Entry.equals(spanObject.getSpanType())) {
-                notifyEntryListener(spanObject, segmentObject);
-            } else if (SpanType.Local.equals(spanObject.getSpanType())) {
-                notifyLocalListener(spanObject, segmentObject);
-            } else {
-                log.error("span type value was unexpected, span type name: {}", spanObject.getSpanType()
-                                                                                          .name());
+            for (int i = 0; i < spans.size(); i++) {
+                final SpanObject spanObject = spans.get(i);
+                if (spanObject.getSpanId() == 0) {
+                    for (final FirstAnalysisListener listener : firstListeners) {
+                        listener.parseFirst(spanObject, segmentObject);
+                    }
+                }
+
+                switch (spanObject.getSpanType()) {
+                    case Exit:
+                        for (final ExitAnalysisListener listener : exitListeners) {
+                            listener.parseExit(spanObject, segmentObject);
+                        }
+                        break;
+                    case Entry:
+                        for (final EntryAnalysisListener listener : entryListeners) {
+                            listener.parseEntry(spanObject, segmentObject);
+                        }
+                        break;
+                    case Local:
+                        for (final LocalAnalysisListener listener : localListeners) {
+                            listener.parseLocal(spanObject, segmentObject);
+                        }
+                        break;
+                    default:
+                        log.error("span type value was unexpected, span type name: {}", spanObject.getSpanType()
+                                                                                                  .name());
+                }
             }
-        });
-
-        notifyListenerToBuild();
-    }
-
-    private void notifyListenerToBuild() {
-        analysisListeners.forEach(AnalysisListener::build);
-    }
 
-    private void notifyExitListener(SpanObject span, SegmentObject segmentObject) {
-        analysisListeners.forEach(listener -> {
-            if (listener.containsPoint(AnalysisListener.Point.Exit)) {
-                ((ExitAnalysisListener) listener).parseExit(span, segmentObject);
+            for (final AnalysisListener listener : analysisListeners) {
+                listener.build();
             }
-        });
+        } finally {
+            resetSpanListeners();
+        }
     }
 
-    private void notifyEntryListener(SpanObject span, SegmentObject segmentObject) {
-        analysisListeners.forEach(listener -> {
-            if (listener.containsPoint(AnalysisListener.Point.Entry)) {
-                ((EntryAnalysisListener) listener).parseEntry(span, segmentObject);
+    /**
+     * Create the listeners which don't exist or are not reusable, and rebuild the listener arrays of every point when
+     * any listener is replaced.
+     */
+    private void createSpanListeners() {
+        boolean created = false;
+        for (int i = 0; i < analysisListeners.length; i++) {
+            if (analysisListeners[i] == null) {
+                analysisListeners[i] = factories.get(i).create(moduleManager, config);
+                created = true;
             }
-        });
-    }
+        }
+        if (!created) {
+            return;
+        }
 
-    private void notifyLocalListener(SpanObject span, SegmentObject segmentObject) {
-        analysisListeners.forEach(listener -> {
-            if (listener.containsPoint(AnalysisListener.Point.Local)) {
-                ((LocalAnalysisListener) listener).parseLocal(span, segmentObject);
+        final List<SegmentListener> segment = new ArrayList<>();
+        final List<FirstAnalysisListener> first = new ArrayList<>();
+        final List<EntryAnalysisListener> entry = new ArrayList<>();
+        final List<ExitAnalysisListener> exit = new ArrayList<>();
+        final List<LocalAnalysisListener> local = new ArrayList<>();
+        for (final AnalysisListener listener : analysisListeners) {
+            if (listener.containsPoint(AnalysisListener.Point.Segment)) {
+                segment.add((SegmentListener) listener);
             }
-        });
-    }
-
-    private void notifyFirstListener(SpanObject span, SegmentObject segmentObject) {
-        analysisListeners.forEach(listener -> {
             if (listener.containsPoint(AnalysisListener.Point.First)) {
-                ((FirstAnalysisListener) listener).parseFirst(span, segmentObject);
+                first.add((FirstAnalysisListener) listener);
             }
-        });
-    }
-
-    private void notifySegmentListener(SegmentObject segmentObject) {
-        analysisListeners.forEach(listener -> {
-            if (listener.containsPoint(AnalysisListener.Point.Segment)) {
-                ((SegmentListener) listener).parseSegment(segmentObject);
+            if (listener.containsPoint(AnalysisListener.Point.Entry)) {
+                entry.add((EntryAnalysisListener) listener);
             }
-        });
+            if (listener.containsPoint(AnalysisListener.Point.Exit)) {
+                exit.add((ExitAnalysisListener) listener);
+            }
+            if (listener.containsPoint(AnalysisListener.Point.Local)) {
+                local.add((LocalAnalysisListener) listener);
+            }
+        }
+        segmentListeners = segment.toArray(new SegmentListener[0]);
+        firstListeners = first.toArray(new FirstAnalysisListener[0]);
+        entryListeners = entry.toArray(new EntryAnalysisListener[0]);
+        exitListeners = exit.toArray(new ExitAnalysisListener[0]);
+        localListeners = local.toArray(new LocalAnalysisListener[0]);
     }
 
-    private void createSpanListeners() {
-        listenerManager.getSpanListenerFactories()
-                       .forEach(
-                           spanListenerFactory -> analysisListeners.add(
-                               spanListenerFactory.create(moduleManager, config)));
+    private void resetSpanListeners() {
+        for (int i = 0; i < analysisListeners.length; i++) {
+            if (!analysisListeners[i].reset()) {
+                analysisListeners[i] = null;
+            }
+        }
     }
 }
@@ -33,6 +33,16 @@ public interface AnalysisListener {
      */
     boolean containsPoint(Point point);
 
+    /**
+     * Clear the states of the last analyzed segment, so that the listener could be reused by the next segment analyzed
+     * in the same thread, rather than being created by the factory again.
+     *
+     * @return true, if the listener has been reset and is reusable.
+     */
+    default boolean reset() {
+        return false;
+    }
+
     /**
      * Analysis point when the analysis core traverses the segment
      */
@@ -46,6 +46,7 @@ import org.apache.skywalking.oap.server.core.source.DetectPoint;
 import org.apache.skywalking.oap.server.core.source.EndpointRelation;
 import org.apache.skywalking.oap.server.core.source.RequestType;
 import org.apache.skywalking.oap.server.core.source.ServiceInstanceRelation;
+import org.apache.skywalking.oap.server.core.source.Source;
 import org.apache.skywalking.oap.server.core.source.SourceReceiver;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 
@@ -63,6 +64,7 @@ public class MultiScopesAnalysisListener implements EntryAnalysisListener, ExitA
     private final List<SourceBuilder> exitSourceBuilders = new ArrayList<>(10);
     private final List<DatabaseSlowStatementBuilder> dbSlowStatementBuilders = new ArrayList<>(10);
     private final List<SourceBuilder> logicEndpointBuilders = new ArrayList<>(10);
+    private final List<Source> sources = new ArrayList<>(32);
     private final Gson gson = new Gson();
     private final SourceReceiver sourceReceiver;
     private final AnalyzerModuleConfig config;
@@ -274,12 +276,12 @@ public class MultiScopesAnalysisListener implements EntryAnalysisListener, ExitA
     public void build() {
         entrySourceBuilders.forEach(entrySourceBuilder -> {
             entrySourceBuilder.prepare();
-            sourceReceiver.receive(entrySourceBuilder.toAll());
-            sourceReceiver.receive(entrySourceBuilder.toService());
-            sourceReceiver.receive(entrySourceBuilder.toServiceInstance());
-            sourceReceiver.receive(entrySourceBuilder.toEndpoint());
-            sourceReceiver.receive(entrySourceBuilder.toServiceRelation());
-            sourceReceiver.receive(entrySourceBuilder.toServiceInstanceRelation());
+            sources.add(entrySourceBuilder.toAll());
+            sources.add(entrySourceBuilder.toService());
+            sources.add(entrySourceBuilder.toServiceInstance());
+            sources.add(entrySourceBuilder.toEndpoint());
+            sources.add(entrySourceBuilder.toServiceRelation());
+            sources.add(entrySourceBuilder.toServiceInstanceRelation());
             EndpointRelation endpointRelation = entrySourceBuilder.toEndpointRelation();
             /*
              * Parent endpoint could be none, because in SkyWalking Cross Process Propagation Headers Protocol v2,
@@ -290,36 +292,48 @@ public class MultiScopesAnalysisListener implements EntryAnalysisListener, ExitA
              * rather than, normally begin as an entry span, like a RPC server side.
              */
             if (endpointRelation != null) {
-                sourceReceiver.receive(endpointRelation);
+                sources.add(endpointRelation);
             }
         });
 
         exitSourceBuilders.forEach(exitSourceBuilder -> {
             exitSourceBuilder.prepare();
-            sourceReceiver.receive(exitSourceBuilder.toServiceRelation());
+            sources.add(exitSourceBuilder.toServiceRelation());
 
             /*
              * Some of the agent can not have the upstream real network address, such as https://github.com/apache/skywalking-nginx-lua.
              */
             final ServiceInstanceRelation serviceInstanceRelation = exitSourceBuilder.toServiceInstanceRelation();
             if (serviceInstanceRelation != null) {
-                sourceReceiver.receive(serviceInstanceRelation);
+                sources.add(serviceInstanceRelation);
             }
             if (RequestType.DATABASE.equals(exitSourceBuilder.getType())) {
-                sourceReceiver.receive(exitSourceBuilder.toServiceMeta());
-                sourceReceiver.receive(exitSourceBuilder.toDatabaseAccess());
+                sources.add(exitSourceBuilder.toServiceMeta());
+                sources.add(exitSourceBuilder.toDatabaseAccess());
             }
         });
 
         dbSlowStatementBuilders.forEach(dbSlowStatBuilder -> {
             dbSlowStatBuilder.prepare();
-            sourceReceiver.receive(dbSlowStatBuilder.toDatabaseSlowStatement());
+            sources.add(dbSlowStatBuilder.toDatabaseSlowStatement());
         });
 
         logicEndpointBuilders.forEach(logicEndpointBuilder -> {
             logicEndpointBuilder.prepare();
-            sourceReceiver.receive(logicEndpointBuilder.toEndpoint());
+            sources.add(logicEndpointBuilder.toEndpoint());
         });
+
+        sourceReceiver.receive(sources);
+    }
+
+    @Override
+    public boolean reset() {
+        entrySourceBuilders.clear();
+        exitSourceBuilders.clear();
+        dbSlowStatementBuilders.clear();
+        logicEndpointBuilders.clear();
+        sources.clear();
+        return true;
     }
 
     /**
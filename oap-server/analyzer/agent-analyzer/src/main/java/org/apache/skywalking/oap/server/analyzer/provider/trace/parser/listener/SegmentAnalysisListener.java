@@ -28,6 +28,7 @@ import org.apache.skywalking.apm.network.language.agent.v3.SpanObject;
 import org.apache.skywalking.apm.util.StringUtil;
 import org.apache.skywalking.oap.server.analyzer.provider.AnalyzerModuleConfig;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceLatencyThresholdsAndWatcher;
+import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceTailSampler;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.strategy.SegmentStatusAnalyzer;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.strategy.SegmentStatusStrategy;
 import org.apache.skywalking.oap.server.core.Const;
@@ -36,8 +37,11 @@ import org.apache.skywalking.oap.server.core.analysis.IDManager;
 import org.apache.skywalking.oap.server.core.analysis.NodeType;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
 import org.apache.skywalking.oap.server.core.analysis.manual.searchtag.Tag;
+import org.apache.skywalking.oap.server.core.analysis.manual.segment.SegmentCodec;
 import org.apache.skywalking.oap.server.core.config.ConfigService;
 import org.apache.skywalking.oap.server.core.config.NamingControl;
+import org.apache.skywalking.oap.server.core.server.AdmissionControlService;
+import org.apache.skywalking.oap.server.core.server.DataPriority;
 import org.apache.skywalking.oap.server.core.source.Segment;
 import org.apache.skywalking.oap.server.core.source.SourceReceiver;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
@@ -56,8 +60,18 @@ public class SegmentAnalysisListener implements FirstAnalysisListener, EntryAnal
     private final List<String> searchableTagKeys;
     private final SegmentStatusAnalyzer segmentStatusAnalyzer;
     private final TraceLatencyThresholdsAndWatcher traceLatencyThresholdsAndWatcher;
+    /**
+     * Nullable, only exists when the tail sampling is activated.
+     */
+    private final TraceTailSampler tailSampler;
+    private final SegmentCodec segmentCodec;
+    /**
+     * Only the persistence of the segment is shed under overload, the metrics and topology of the segment are still
+     * analyzed by the other listeners.
+     */
+    private final AdmissionControlService admissionControlService;
 
-    private final Segment segment = new Segment();
+    private Segment segment = new Segment();
     private SAMPLE_STATUS sampleStatus = SAMPLE_STATUS.UNKNOWN;
     private String serviceName = Const.EMPTY_STRING;
     private String serviceId = Const.EMPTY_STRING;
@@ -75,7 +89,7 @@ public class SegmentAnalysisListener implements FirstAnalysisListener, EntryAnal
 
     @Override
     public void parseFirst(SpanObject span, SegmentObject segmentObject) {
-        if (sampleStatus.equals(SAMPLE_STATUS.IGNORE)) {
+        if (sampleStatus.equals(SAMPLE_STATUS.IGNORE) && tailSampler == null) {
             return;
         }
 
@@ -145,9 +159,9 @@ public class SegmentAnalysisListener implements FirstAnalysisListener, EntryAnal
             if (sampler.shouldSample(segmentObject.getTraceId())) {
                 sampleStatus = SAMPLE_STATUS.SAMPLED;
             } else if (isError && forceSampleErrorSegment) {
-                sampleStatus = SAMPLE_STATUS.SAMPLED;
+                sampleStatus = SAMPLE_STATUS.FORCE_SAMPLED;
             } else if (traceLatencyThresholdsAndWatcher.shouldSample(duration)) {
-                sampleStatus = SAMPLE_STATUS.SAMPLED;
+                sampleStatus = SAMPLE_STATUS.FORCE_SAMPLED;
             } else {
                 sampleStatus = SAMPLE_STATUS.IGNORE;
             }
@@ -174,18 +188,47 @@ public class SegmentAnalysisListener implements FirstAnalysisListener, EntryAnal
             log.debug("segment listener build, segment id: {}", segment.getSegmentId());
         }
 
-        if (sampleStatus.equals(SAMPLE_STATUS.IGNORE)) {
+        if (sampleStatus.equals(SAMPLE_STATUS.IGNORE) && tailSampler == null) {
+            return;
+        }
+        if (!admissionControlService.admit(DataPriority.MEDIUM)) {
             return;
         }
 
         segment.setEndpointId(endpointId);
         segment.setEndpointName(endpointName);
+        segment.setDataBinary(segmentCodec.encode(segment.getDataBinary()));
+
+        if (tailSampler != null && !sampleStatus.equals(SAMPLE_STATUS.SAMPLED)) {
+            // The segments not sampled by the trace id wait for the decision of the whole trace.
+            tailSampler.offer(segment, sampleStatus.equals(SAMPLE_STATUS.FORCE_SAMPLED));
+            return;
+        }
 
         sourceReceiver.receive(segment);
     }
 
+    /**
+     * The segment has been forwarded to the source receiver or the tail sampler, so a new one is required rather than
+     * clearing it.
+     */
+    @Override
+    public boolean reset() {
+        segment = new Segment();
+        sampleStatus = SAMPLE_STATUS.UNKNOWN;
+        serviceName = Const.EMPTY_STRING;
+        serviceId = Const.EMPTY_STRING;
+        endpointId = Const.EMPTY_STRING;
+        endpointName = Const.EMPTY_STRING;
+        startTimestamp = 0;
+        endTimestamp = 0;
+        duration = 0;
+        isError = false;
+        return true;
+    }
+
     private enum SAMPLE_STATUS {
-        UNKNOWN, SAMPLED, IGNORE
+        UNKNOWN, SAMPLED, FORCE_SAMPLED, IGNORE
     }
 
     public static class Factory implements AnalysisListenerFactory {
@@ -196,6 +239,9 @@ public class SegmentAnalysisListener implements FirstAnalysisListener, EntryAnal
         private final List<String> searchTagKeys;
         private final SegmentStatusAnalyzer segmentStatusAnalyzer;
         private final TraceLatencyThresholdsAndWatcher traceLatencyThresholdsAndWatcher;
+        private final TraceTailSampler tailSampler;
+        private final SegmentCodec segmentCodec;
+        private final AdmissionControlService admissionControlService;
 
         public Factory(ModuleManager moduleManager, AnalyzerModuleConfig config) {
             this.sourceReceiver = moduleManager.find(CoreModule.NAME).provider().getService(SourceReceiver.class);
@@ -211,6 +257,11 @@ public class SegmentAnalysisListener implements FirstAnalysisListener, EntryAnal
             this.segmentStatusAnalyzer = SegmentStatusStrategy.findByName(config.getSegmentStatusAnalysisStrategy())
                                                               .getExceptionAnalyzer();
             this.traceLatencyThresholdsAndWatcher = config.getTraceLatencyThresholdsAndWatcher();
+            this.tailSampler = config.getTraceTailSampler();
+            this.segmentCodec = SegmentCodec.findByName(config.getSegmentCodec());
+            this.admissionControlService = moduleManager.find(CoreModule.NAME)
+                                                        .provider()
+                                                        .getService(AdmissionControlService.class);
         }
 
         @Override
@@ -222,7 +273,10 @@ public class SegmentAnalysisListener implements FirstAnalysisListener, EntryAnal
                 namingControl,
                 searchTagKeys,
                 segmentStatusAnalyzer,
-                traceLatencyThresholdsAndWatcher
+                traceLatencyThresholdsAndWatcher,
+                tailSampler,
+                segmentCodec,
+                admissionControlService
             );
         }
     }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.analyzer.provider.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.skywalking.oap.server.core.analysis.DispatcherDetectorListener;
+import org.apache.skywalking.oap.server.core.analysis.manual.searchtag.Tag;
+import org.apache.skywalking.oap.server.core.source.Segment;
+import org.apache.skywalking.oap.server.core.source.Source;
+import org.apache.skywalking.oap.server.core.source.SourceReceiver;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TraceTailSamplerTest {
+    private List<Source> received;
+    private SourceReceiver receiver;
+
+    @Before
+    public void init() {
+        received = new ArrayList<>();
+        receiver = new SourceReceiver() {
+            @Override
+            public void receive(final Source source) {
+                received.add(source);
+            }
+
+            @Override
+            public DispatcherDetectorListener getDispatcherDetectorListener() {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void testForceSampledSegmentKeepsWholeTrace() {
+        TraceTailSampler sampler = new TraceTailSampler(receiver, 10, 100, "");
+        sampler.offer(segment("trace-1", "seg-1"), false);
+        sampler.offer(segment("trace-1", "seg-2"), false);
+        Assert.assertEquals(0, received.size());
+        Assert.assertEquals(2, sampler.getBufferedSegments());
+
+        sampler.offer(segment("trace-1", "seg-3"), true);
+        Assert.assertEquals(3, received.size());
+        Assert.assertEquals(0, sampler.getBufferedSegments());
+
+        sampler.offer(segment("trace-1", "seg-4"), false);
+        Assert.assertEquals(4, received.size());
+    }
+
+    @Test
+    public void testExpiredTraceDropped() {
+        TraceTailSampler sampler = new TraceTailSampler(receiver, 10, 100, "");
+        sampler.offer(segment("trace-1", "seg-1"), false);
+        sampler.expire(System.currentTimeMillis() + 20000);
+        Assert.assertEquals(0, sampler.getBufferedSegments());
+
+        sampler.offer(segment("trace-1", "seg-2"), true);
+        Assert.assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testForceSampledTags() {
+        TraceTailSampler sampler = new TraceTailSampler(receiver, 10, 100, "http.status_code=500");
+        Segment tagged = segment("trace-1", "seg-1");
+        tagged.getTags().add(new Tag("http.status_code", "500"));
+        sampler.offer(tagged, false);
+        Assert.assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testBufferFull() {
+        TraceTailSampler sampler = new TraceTailSampler(receiver, 10, 1, "");
+        sampler.offer(segment("trace-1", "seg-1"), false);
+        sampler.offer(segment("trace-2", "seg-2"), false);
+        Assert.assertEquals(1, sampler.getBufferedSegments());
+        Assert.assertEquals(0, received.size());
+    }
+
+    @Test
+    public void testDecidedTracesBounded() {
+        TraceTailSampler sampler = new TraceTailSampler(receiver, 10, 2, "");
+        sampler.offer(segment("trace-1", "seg-1"), true);
+        sampler.offer(segment("trace-2", "seg-2"), true);
+        Assert.assertEquals(2, sampler.getBufferedTraces());
+
+        // The new traces beyond the bound are decided by the segments themselves, without entries.
+        sampler.offer(segment("trace-3", "seg-3"), false);
+        sampler.offer(segment("trace-4", "seg-4"), true);
+        Assert.assertEquals(2, sampler.getBufferedTraces());
+        Assert.assertEquals(3, received.size());
+
+        sampler.expire(System.currentTimeMillis() + 20000);
+        Assert.assertEquals(0, sampler.getBufferedTraces());
+    }
+
+    private Segment segment(String traceId, String segmentId) {
+        Segment segment = new Segment();
+        segment.setTraceId(traceId);
+        segment.setSegmentId(segmentId);
+        return segment;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.skywalking.apm.network.language.agent.v3.SegmentObject;
+import org.apache.skywalking.apm.network.language.agent.v3.SpanLayer;
+import org.apache.skywalking.apm.network.language.agent.v3.SpanObject;
+import org.apache.skywalking.apm.network.language.agent.v3.SpanType;
+import org.apache.skywalking.oap.server.analyzer.provider.AnalyzerModuleConfig;
+import org.apache.skywalking.oap.server.core.config.NamingControl;
+import org.apache.skywalking.oap.server.core.config.group.EndpointNameGrouping;
+import org.apache.skywalking.oap.server.core.source.Service;
+import org.apache.skywalking.oap.server.core.source.Source;
+import org.apache.skywalking.oap.server.core.source.SourceReceiver;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class MultiScopesAnalysisListenerTest {
+
+    @Test
+    public void testResetBetweenSegments() {
+        final List<List<Source>> received = new ArrayList<>();
+        final SourceReceiver sourceReceiver = mock(SourceReceiver.class);
+        // The listener reuses its source list, keep a copy of every batch.
+        doAnswer(invocation -> {
+            final List<Source> sources = invocation.getArgument(0);
+            received.add(new ArrayList<>(sources));
+            return null;
+        }).when(sourceReceiver).receive(anyList());
+
+        final MultiScopesAnalysisListener listener = new MultiScopesAnalysisListener(
+            sourceReceiver, new AnalyzerModuleConfig(), null,
+            new NamingControl(512, 512, 512, new EndpointNameGrouping())
+        );
+
+        analyze(listener, segment("service-a"));
+        analyze(listener, segment("service-b"));
+        // An empty segment after the reset doesn't emit the sources of the previous ones.
+        listener.build();
+
+        assertEquals(3, received.size());
+        assertEquals(received.get(0).size(), received.get(1).size());
+        assertEquals(listOf("service-a"), serviceNames(received.get(0)));
+        assertEquals(listOf("service-b"), serviceNames(received.get(1)));
+        assertTrue(received.get(2).isEmpty());
+    }
+
+    private static void analyze(final MultiScopesAnalysisListener listener, final SegmentObject segmentObject) {
+        listener.parseEntry(segmentObject.getSpans(0), segmentObject);
+        listener.build();
+        assertTrue(listener.reset());
+    }
+
+    private static List<String> serviceNames(final List<Source> sources) {
+        return sources.stream()
+                      .filter(source -> source instanceof Service)
+                      .map(source -> ((Service) source).getName())
+                      .collect(Collectors.toList());
+    }
+
+    private static List<String> listOf(final String name) {
+        final List<String> names = new ArrayList<>();
+        names.add(name);
+        return names;
+    }
+
+    private static SegmentObject segment(final String service) {
+        final long startTime = System.currentTimeMillis();
+        return SegmentObject.newBuilder()
+                            .setTraceId(service + ".trace")
+                            .setTraceSegmentId(service + ".segment")
+                            .setService(service)
+                            .setServiceInstance(service + "-instance")
+                            .addSpans(SpanObject.newBuilder()
+                                                .setSpanId(0)
+                                                .setSpanType(SpanType.Entry)
+                                                .setSpanLayer(SpanLayer.Http)
+                                                .setOperationName("/" + service)
+                                                .setStartTime(startTime)
+                                                .setEndTime(startTime + 10))
+                            .build();
+    }
+}
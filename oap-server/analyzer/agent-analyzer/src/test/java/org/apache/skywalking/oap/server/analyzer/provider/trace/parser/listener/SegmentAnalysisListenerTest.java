@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener;
+
+import java.util.Collections;
+import java.util.List;
+import org.apache.skywalking.apm.network.common.v3.KeyStringValuePair;
+import org.apache.skywalking.apm.network.language.agent.v3.SegmentObject;
+import org.apache.skywalking.apm.network.language.agent.v3.SpanObject;
+import org.apache.skywalking.apm.network.language.agent.v3.SpanType;
+import org.apache.skywalking.oap.server.analyzer.provider.trace.TraceLatencyThresholdsAndWatcher;
+import org.apache.skywalking.oap.server.core.analysis.IDManager;
+import org.apache.skywalking.oap.server.core.analysis.NodeType;
+import org.apache.skywalking.oap.server.core.analysis.manual.searchtag.Tag;
+import org.apache.skywalking.oap.server.core.analysis.manual.segment.SegmentCodec;
+import org.apache.skywalking.oap.server.core.config.NamingControl;
+import org.apache.skywalking.oap.server.core.config.group.EndpointNameGrouping;
+import org.apache.skywalking.oap.server.core.server.AdmissionControlService;
+import org.apache.skywalking.oap.server.core.server.DataPriority;
+import org.apache.skywalking.oap.server.core.source.Segment;
+import org.apache.skywalking.oap.server.core.source.SourceReceiver;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.apache.skywalking.oap.server.analyzer.provider.trace.parser.listener.strategy.SegmentStatusStrategy.FROM_SPAN_STATUS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SegmentAnalysisListenerTest {
+    private SourceReceiver sourceReceiver;
+    private AdmissionControlService admissionControlService;
+    private SegmentAnalysisListener listener;
+
+    @Before
+    public void setUp() {
+        sourceReceiver = mock(SourceReceiver.class);
+        admissionControlService = mock(AdmissionControlService.class);
+        when(admissionControlService.admit(DataPriority.MEDIUM)).thenReturn(true);
+        final TraceSegmentSampler sampler = mock(TraceSegmentSampler.class);
+        when(sampler.shouldSample(anyString())).thenReturn(true);
+        listener = new SegmentAnalysisListener(
+            sourceReceiver, sampler, false, new NamingControl(512, 512, 512, new EndpointNameGrouping()),
+            Collections.singletonList("http.method"), FROM_SPAN_STATUS.getExceptionAnalyzer(),
+            mock(TraceLatencyThresholdsAndWatcher.class), null, SegmentCodec.NONE, admissionControlService
+        );
+    }
+
+    @Test
+    public void testShedSegmentPersistenceUnderOverload() {
+        when(admissionControlService.admit(DataPriority.MEDIUM)).thenReturn(false);
+        analyze(segment("service-a", "trace-a", 1000, true, "GET"));
+        verify(sourceReceiver, never()).receive(any());
+
+        when(admissionControlService.admit(DataPriority.MEDIUM)).thenReturn(true);
+        analyze(segment("service-b", "trace-b", 2000, false, null));
+        verify(sourceReceiver, times(1)).receive(any());
+    }
+
+    @Test
+    public void testResetBetweenSegments() {
+        analyze(segment("service-a", "trace-a", 1000, true, "GET"));
+        analyze(segment("service-b", "trace-b", 2000, false, null));
+
+        final ArgumentCaptor<Segment> captor = ArgumentCaptor.forClass(Segment.class);
+        verify(sourceReceiver, times(2)).receive(captor.capture());
+        final List<Segment> segments = captor.getAllValues();
+        assertNotSame(segments.get(0), segments.get(1));
+
+        final Segment first = segments.get(0);
+        assertEquals(IDManager.ServiceID.buildId("service-a", NodeType.Normal), first.getServiceId());
+        assertEquals(1, first.getIsError());
+        assertEquals(Collections.singletonList(new Tag("http.method", "GET")), first.getTags());
+
+        final Segment second = segments.get(1);
+        assertEquals("trace-b", second.getTraceId());
+        assertEquals(IDManager.ServiceID.buildId("service-b", NodeType.Normal), second.getServiceId());
+        assertEquals("/service-b", second.getEndpointName());
+        assertEquals(2000, second.getStartTime());
+        assertEquals(10, second.getLatency());
+        assertEquals(0, second.getIsError());
+        assertTrue(second.getTags().isEmpty());
+    }
+
+    /**
+     * Drive the listener in the order of {@link org.apache.skywalking.oap.server.analyzer.provider.trace.parser.TraceAnalyzer}.
+     */
+    private void analyze(final SegmentObject segmentObject) {
+        listener.parseSegment(segmentObject);
+        final SpanObject span = segmentObject.getSpans(0);
+        listener.parseFirst(span, segmentObject);
+        listener.parseEntry(span, segmentObject);
+        listener.build();
+        assertTrue(listener.reset());
+    }
+
+    private static SegmentObject segment(final String service, final String traceId, final long startTime,
+                                         final boolean isError, final String httpMethod) {
+        final SpanObject.Builder span = SpanObject.newBuilder()
+                                                  .setSpanId(0)
+                                                  .setSpanType(SpanType.Entry)
+                                                  .setOperationName("/" + service)
+                                                  .setStartTime(startTime)
+                                                  .setEndTime(startTime + 10)
+                                                  .setIsError(isError);
+        if (httpMethod != null) {
+            span.addTags(KeyStringValuePair.newBuilder().setKey("http.method").setValue(httpMethod));
+        }
+        return SegmentObject.newBuilder()
+                            .setTraceId(traceId)
+                            .setTraceSegmentId(traceId + ".0")
+                            .setService(service)
+                            .setServiceInstance(service + "-instance")
+                            .addSpans(span)
+                            .build();
+    }
+}
@@ -18,7 +18,10 @@
 
 package org.apache.skywalking.oap.log.analyzer.dsl;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import lombok.Getter;
 import org.apache.skywalking.apm.network.logging.v3.LogData;
@@ -36,6 +39,8 @@ public class Binding extends groovy.lang.Binding {
 
     public static final String KEY_ABORT = "abort";
 
+    private Map<String, Map<String, Object>> parsedBodies = new HashMap<>();
+
     public Binding() {
         setProperty(KEY_PARSED, new Parsed());
     }
@@ -69,6 +74,28 @@ public class Binding extends groovy.lang.Binding {
         return (Parsed) getProperty(KEY_PARSED);
     }
 
+    /**
+     * Share the parsed bodies between the bindings of the same log, so that the rules parsing the body in the same
+     * format only parse it once. The shared bodies are read-only, so that a rule can't change the body parsed for the
+     * other rules.
+     */
+    public Binding parsedBodies(final Map<String, Map<String, Object>> parsedBodies) {
+        this.parsedBodies = parsedBodies;
+        return this;
+    }
+
+    /**
+     * @param format the format of the body, such as {@code json} and {@code yaml}.
+     * @param parser parses the body if it's not parsed by the previous rules yet.
+     * @return the unmodifiable view of the parsed body.
+     */
+    public Map<String, Object> parsedBody(final String format, final Supplier<Map<String, Object>> parser) {
+        return parsedBodies.computeIfAbsent(format, ignored -> {
+            final Map<String, Object> parsed = parser.get();
+            return parsed == null ? null : Collections.unmodifiableMap(parsed);
+        });
+    }
+
     public Binding save() {
         setProperty(KEY_SAVE, true);
         return this;
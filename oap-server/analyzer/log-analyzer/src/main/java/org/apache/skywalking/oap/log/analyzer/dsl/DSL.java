@@ -27,13 +27,20 @@ import org.apache.skywalking.oap.log.analyzer.provider.LogAnalyzerModuleConfig;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 import org.apache.skywalking.oap.server.library.module.ModuleStartException;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
+/**
+ * DSL is the compiled LAL rule. The rule is compiled once, and every analysis thread runs its own instance of the
+ * compiled script, which delegates to the shared {@link FilterSpec}.
+ */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class DSL {
-    private final DelegatingScript script;
+    private final Class<?> scriptClass;
 
     private final FilterSpec filterSpec;
 
+    private final ThreadLocal<DelegatingScript> scripts = ThreadLocal.withInitial(this::newScript);
+
     public static DSL of(final ModuleManager moduleManager,
                          final LogAnalyzerModuleConfig config,
                          final String dsl) throws ModuleStartException {
@@ -41,11 +48,10 @@ public class DSL {
         cc.setScriptBaseClass(DelegatingScript.class.getName());
 
         final GroovyShell sh = new GroovyShell(cc);
-        final DelegatingScript script = (DelegatingScript) sh.parse(dsl);
+        final Class<?> scriptClass = sh.parse(dsl).getClass();
         final FilterSpec filterSpec = new FilterSpec(moduleManager, config);
-        script.setDelegate(filterSpec);
 
-        return new DSL(script, filterSpec);
+        return new DSL(scriptClass, filterSpec);
     }
 
     public void bind(final Binding binding) {
@@ -53,6 +59,13 @@ public class DSL {
     }
 
     public void evaluate() {
-        script.run();
+        scripts.get().run();
+    }
+
+    private DelegatingScript newScript() {
+        final DelegatingScript script = (DelegatingScript) InvokerHelper.createScript(
+            scriptClass, new groovy.lang.Binding());
+        script.setDelegate(filterSpec);
+        return script;
     }
 }
@@ -99,9 +99,9 @@ public class FilterSpec extends AbstractSpec {
 
         final LogData.Builder logData = BINDING.get().log();
         try {
-            final Map<String, Object> parsed = jsonParser.create().fromJson(
+            final Map<String, Object> parsed = BINDING.get().parsedBody("json", () -> jsonParser.create().fromJson(
                 logData.getBody().getJson().getJson(), parsedType
-            );
+            ));
 
             BINDING.get().parsed(parsed);
         } catch (final Exception e) {
@@ -121,9 +121,9 @@ public class FilterSpec extends AbstractSpec {
 
         final LogData.Builder logData = BINDING.get().log();
         try {
-            final Map<String, Object> parsed = (Map<String, Object>) yamlParser.create().load(
+            final Map<String, Object> parsed = BINDING.get().parsedBody("yaml", () -> (Map<String, Object>) yamlParser.create().load(
                 logData.getBody().getYaml().getYaml()
-            );
+            ));
 
             BINDING.get().parsed(parsed);
         } catch (final Exception e) {
@@ -18,26 +18,31 @@
 
 package org.apache.skywalking.oap.log.analyzer.dsl.spec.parser;
 
-import lombok.Getter;
-import lombok.Setter;
-import lombok.experimental.Accessors;
 import org.apache.skywalking.oap.log.analyzer.dsl.spec.AbstractSpec;
 import org.apache.skywalking.oap.log.analyzer.provider.LogAnalyzerModuleConfig;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 
-@Accessors(fluent = true)
 public class AbstractParserSpec extends AbstractSpec {
     /**
      * Whether the filter chain should abort when parsing the logs failed.
      *
      * Failing to parse the logs means either parsing throws exceptions or the logs not matching the desired patterns.
+     *
+     * The spec is shared by the analysis threads, so the option set by the running rule is kept per thread.
      */
-    @Getter
-    @Setter
-    private boolean abortOnFailure = true;
+    private final ThreadLocal<Boolean> abortOnFailure = ThreadLocal.withInitial(() -> true);
 
     public AbstractParserSpec(final ModuleManager moduleManager,
                               final LogAnalyzerModuleConfig moduleConfig) {
         super(moduleManager, moduleConfig);
     }
+
+    public boolean abortOnFailure() {
+        return abortOnFailure.get();
+    }
+
+    public AbstractParserSpec abortOnFailure(final boolean abortOnFailure) {
+        this.abortOnFailure.set(abortOnFailure);
+        return this;
+    }
 }
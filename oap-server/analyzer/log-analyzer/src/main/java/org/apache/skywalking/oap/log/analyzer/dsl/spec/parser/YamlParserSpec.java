@@ -29,14 +29,21 @@ import org.yaml.snakeyaml.representer.Representer;
 public class YamlParserSpec extends AbstractParserSpec {
     private final LoaderOptions loaderOptions;
 
+    /**
+     * {@link Yaml} isn't thread-safe, every analysis thread reuses its own instance.
+     */
+    private final ThreadLocal<Yaml> yaml;
+
     public YamlParserSpec(final ModuleManager moduleManager,
                           final LogAnalyzerModuleConfig moduleConfig) {
         super(moduleManager, moduleConfig);
 
         loaderOptions = new LoaderOptions();
+        yaml = ThreadLocal.withInitial(
+            () -> new Yaml(new SafeConstructor(), new Representer(), new DumperOptions(), loaderOptions));
     }
 
     public Yaml create() {
-        return new Yaml(new SafeConstructor(), new Representer(), new DumperOptions(), loaderOptions);
+        return yaml.get();
     }
 }
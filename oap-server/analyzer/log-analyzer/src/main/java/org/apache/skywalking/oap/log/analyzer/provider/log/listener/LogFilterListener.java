@@ -19,7 +19,9 @@
 package org.apache.skywalking.oap.log.analyzer.provider.log.listener;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,10 +38,14 @@ import org.apache.skywalking.oap.server.library.module.ModuleManager;
 public class LogFilterListener implements LogAnalysisListener {
     private final List<DSL> dsls;
 
+    private LogData logData;
+
     @Override
     public void build() {
+        final Map<String, Map<String, Object>> parsedBodies = new HashMap<>();
         dsls.forEach(dsl -> {
             try {
+                dsl.bind(new Binding().log(logData).parsedBodies(parsedBodies));
                 dsl.evaluate();
             } catch (final Exception e) {
                 log.warn("Failed to evaluate dsl: {}", dsl, e);
@@ -49,7 +55,7 @@ public class LogFilterListener implements LogAnalysisListener {
 
     @Override
     public LogAnalysisListener parse(final LogData.Builder logData) {
-        dsls.forEach(dsl -> dsl.bind(new Binding().log(logData.build())));
+        this.logData = logData.build();
         return this;
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.log.analyzer.dsl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class BindingTest {
+
+    @Test
+    public void testParsedBodySharedByTheRulesOfOneLog() {
+        final AtomicInteger parsedTimes = new AtomicInteger();
+        final Supplier<Map<String, Object>> parser = () -> {
+            parsedTimes.incrementAndGet();
+            return Collections.singletonMap("level", "ERROR");
+        };
+
+        final Map<String, Map<String, Object>> parsedBodies = new HashMap<>();
+        final Map<String, Object> first = new Binding().parsedBodies(parsedBodies).parsedBody("json", parser);
+        final Map<String, Object> second = new Binding().parsedBodies(parsedBodies).parsedBody("json", parser);
+
+        assertSame(first, second);
+        assertEquals(1, parsedTimes.get());
+
+        // Another format, or the rules of another log, parse the body again.
+        new Binding().parsedBodies(parsedBodies).parsedBody("yaml", parser);
+        new Binding().parsedBody("json", parser);
+        assertEquals(3, parsedTimes.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testParsedBodyReadOnly() {
+        final Map<String, Object> parsed = new Binding().parsedBody("json", () -> new HashMap<>(
+            Collections.singletonMap("level", "ERROR")));
+        parsed.put("level", "INFO");
+    }
+}
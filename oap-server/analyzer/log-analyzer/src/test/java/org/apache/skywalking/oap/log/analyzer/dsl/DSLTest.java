@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.log.analyzer.dsl;
+
+import groovy.lang.GroovyShell;
+import groovy.util.DelegatingScript;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.skywalking.oap.log.analyzer.dsl.spec.filter.FilterSpec;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DSLTest {
+
+    @Test
+    public void testScriptInstancePerThread() throws Exception {
+        final FilterSpec filterSpec = mock(FilterSpec.class);
+        final DSL dsl = Whitebox.invokeConstructor(
+            DSL.class, new Class<?>[] {Class.class, FilterSpec.class}, new Object[] {compile("text { }"), filterSpec});
+
+        dsl.evaluate();
+        final DelegatingScript script = scriptOf(dsl);
+        dsl.evaluate();
+        assertSame(script, scriptOf(dsl));
+
+        final AtomicReference<DelegatingScript> otherScript = new AtomicReference<>();
+        final Thread otherThread = new Thread(() -> {
+            dsl.evaluate();
+            otherScript.set(scriptOf(dsl));
+        });
+        otherThread.start();
+        otherThread.join();
+
+        assertNotNull(otherScript.get());
+        assertNotSame(script, otherScript.get());
+        // All the script instances delegate to the same compiled filter spec.
+        verify(filterSpec, times(3)).text(any());
+    }
+
+    private static Class<?> compile(final String dsl) {
+        final CompilerConfiguration cc = new CompilerConfiguration();
+        cc.setScriptBaseClass(DelegatingScript.class.getName());
+        return new GroovyShell(cc).parse(dsl).getClass();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DelegatingScript scriptOf(final DSL dsl) {
+        return ((ThreadLocal<DelegatingScript>) Whitebox.getInternalState(dsl, "scripts")).get();
+    }
+}
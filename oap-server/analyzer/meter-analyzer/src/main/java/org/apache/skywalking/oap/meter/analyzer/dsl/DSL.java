@@ -19,6 +19,7 @@
 package org.apache.skywalking.oap.meter.analyzer.dsl;
 
 import groovy.lang.Binding;
+import groovy.lang.Closure;
 import groovy.lang.GroovyShell;
 import groovy.util.DelegatingScript;
 import org.apache.skywalking.oap.meter.analyzer.dsl.tagOpt.K8sRetagType;
@@ -37,13 +38,39 @@ public final class DSL {
      * @return Expression object could be executed.
      */
     public static Expression parse(final String expression) {
+        return ExpressionCompiler.compile(expression).orElseGet(() -> parseByGroovy(expression));
+    }
+
+    /**
+     * Parse string literal to Expression object executed by groovy, the expressions out of the grammar of {@link
+     * ExpressionCompiler} are parsed in this way.
+     *
+     * @param expression string literal represents the DSL expression.
+     * @return Expression object could be executed.
+     */
+    static Expression parseByGroovy(final String expression) {
+        DelegatingScript script = (DelegatingScript) shell().parse(expression);
+        return new Expression(expression, script);
+    }
+
+    /**
+     * Parse the closure literal used as the argument of a compiled expression.
+     *
+     * @param closure string literal represents the closure, such as {@code {tags -> tags.remove('a')}}.
+     * @return Closure object could be called.
+     */
+    static Closure<?> parseClosure(final String closure) {
+        DelegatingScript script = (DelegatingScript) shell().parse("return " + closure);
+        script.setDelegate(new Object());
+        return (Closure<?>) script.run();
+    }
+
+    private static GroovyShell shell() {
         CompilerConfiguration cc = new CompilerConfiguration();
         cc.setScriptBaseClass(DelegatingScript.class.getName());
         ImportCustomizer icz = new ImportCustomizer();
         icz.addImport("K8sRetagType", K8sRetagType.class.getName());
         cc.addCompilationCustomizers(icz);
-        GroovyShell sh = new GroovyShell(new Binding(), cc);
-        DelegatingScript script = (DelegatingScript) sh.parse(expression);
-        return new Expression(expression, script);
+        return new GroovyShell(new Binding(), cc);
     }
 }
@@ -36,14 +36,29 @@ public class Expression {
 
     private final String literal;
 
-    private final DelegatingScript expression;
+    private final Operation operation;
 
     private final ThreadLocal<ImmutableMap<String, SampleFamily>> propertyRepository = new ThreadLocal<>();
 
+    private final ExpressionDelegate delegate;
+
     public Expression(final String literal, final DelegatingScript expression) {
         this.literal = literal;
-        this.expression = expression;
-        this.empower();
+        this.delegate = new ExpressionDelegate(literal, propertyRepository);
+        this.operation = ignored -> expression.run();
+        this.empower(expression);
+    }
+
+    /**
+     * Create an expression executed by a compiled operation instead of a groovy script.
+     *
+     * @param literal   string literal represents the DSL expression.
+     * @param operation the compiled operation, see {@link ExpressionCompiler}.
+     */
+    Expression(final String literal, final Operation operation) {
+        this.literal = literal;
+        this.delegate = new ExpressionDelegate(literal, propertyRepository);
+        this.operation = operation;
     }
 
     /**
@@ -74,7 +89,7 @@ public class Expression {
     public Result run(final ImmutableMap<String, SampleFamily> sampleFamilies) {
         propertyRepository.set(sampleFamilies);
         try {
-            SampleFamily sf = (SampleFamily) expression.run();
+            SampleFamily sf = (SampleFamily) operation.run(delegate);
             if (sf == SampleFamily.EMPTY) {
                 if (!ExpressionParsingContext.get().isPresent()) {
                     if (log.isDebugEnabled()) {
@@ -92,8 +107,8 @@ public class Expression {
         }
     }
 
-    private void empower() {
-        expression.setDelegate(new ExpressionDelegate(literal, propertyRepository));
+    private void empower(final DelegatingScript expression) {
+        expression.setDelegate(delegate);
         extendNumber(Number.class);
     }
 
@@ -140,4 +155,12 @@ public class Expression {
         }
 
     }
+
+    /**
+     * Operation executes the DSL expression against the delegate holding the input sample families.
+     */
+    @FunctionalInterface
+    interface Operation {
+        Object run(ExpressionDelegate delegate);
+    }
 }
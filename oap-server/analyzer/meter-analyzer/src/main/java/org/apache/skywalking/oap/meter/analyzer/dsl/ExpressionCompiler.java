@@ -0,0 +1,594 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.meter.analyzer.dsl;
+
+import com.google.common.collect.ImmutableList;
+import groovy.lang.Closure;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.oap.meter.analyzer.dsl.Expression.ExpressionDelegate;
+import org.apache.skywalking.oap.meter.analyzer.dsl.Expression.Operation;
+import org.apache.skywalking.oap.meter.analyzer.dsl.tagOpt.K8sRetagType;
+
+/**
+ * ExpressionCompiler compiles the common DSL expressions, which are built by metric references, number literals,
+ * arithmetic operators and the {@link SampleFamily} functions with literal arguments, into a chain of typed
+ * operations. A compiled expression skips the groovy dynamic dispatching in every execution, only the closure
+ * arguments, such as the one of {@link SampleFamily#tag(Closure)}, are still compiled and executed by groovy.
+ *
+ * The expressions out of the grammar aren't compiled, and should be executed by groovy as a whole.
+ */
+@Slf4j
+final class ExpressionCompiler {
+
+    private final String literal;
+
+    private int pos;
+
+    private ExpressionCompiler(final String literal) {
+        this.literal = literal;
+    }
+
+    /**
+     * Compile the expression literal.
+     *
+     * @param literal string literal represents the DSL expression.
+     * @return the compiled expression, or empty if the expression should be executed by groovy.
+     */
+    static Optional<Expression> compile(final String literal) {
+        try {
+            ExpressionCompiler compiler = new ExpressionCompiler(literal);
+            Operand operand = compiler.expression();
+            compiler.skipWhitespace();
+            if (compiler.pos < literal.length() || operand.number != null) {
+                throw new UnsupportedSyntaxException("unexpected end");
+            }
+            return Optional.of(new Expression(literal, operand.sampleFamily::run));
+        } catch (UnsupportedSyntaxException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("\"{}\" isn't compiled, falls back to groovy: {}", literal, e.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+
+    // expression := term (('+' | '-') term)*
+    private Operand expression() {
+        Operand left = term();
+        while (true) {
+            if (accept('+')) {
+                left = binary(left, term(), '+');
+            } else if (accept('-')) {
+                left = binary(left, term(), '-');
+            } else {
+                return left;
+            }
+        }
+    }
+
+    // term := chain (('*' | '/') chain)*
+    private Operand term() {
+        Operand left = chain();
+        while (true) {
+            if (accept('*')) {
+                left = binary(left, chain(), '*');
+            } else if (accept('/')) {
+                left = binary(left, chain(), '/');
+            } else {
+                return left;
+            }
+        }
+    }
+
+    // chain := primary ('.' identifier '(' arguments ')')*
+    private Operand chain() {
+        Operand operand = primary();
+        while (accept('.')) {
+            if (operand.sampleFamily == null) {
+                throw new UnsupportedSyntaxException("method call on number");
+            }
+            String method = identifier();
+            expect('(');
+            List<Object> args = arguments();
+            operand = Operand.ofSampleFamily(function(operand.sampleFamily, method, args));
+        }
+        return operand;
+    }
+
+    // primary := number | 'time()' | metric | '(' expression ')'
+    private Operand primary() {
+        skipWhitespace();
+        if (accept('(')) {
+            Operand operand = expression();
+            expect(')');
+            return operand;
+        }
+        if (pos < literal.length() && Character.isDigit(literal.charAt(pos))) {
+            final Number n = number();
+            return Operand.ofNumber(delegate -> n);
+        }
+        String name = identifier();
+        if (accept('(')) {
+            if ("time".equals(name) && accept(')')) {
+                return Operand.ofNumber(ExpressionDelegate::time);
+            }
+            throw new UnsupportedSyntaxException("function " + name);
+        }
+        switch (name) {
+            case "AVG":
+            case "SUM":
+            case "LATEST":
+            case "K8sRetagType":
+            case "time":
+            case "this":
+            case "true":
+            case "false":
+            case "null":
+                throw new UnsupportedSyntaxException("reserved name " + name);
+            default:
+                return Operand.ofSampleFamily(delegate -> delegate.propertyMissing(name));
+        }
+    }
+
+    // arguments := (argument (',' argument)*)? ')'
+    private List<Object> arguments() {
+        List<Object> args = new ArrayList<>();
+        if (accept(')')) {
+            return args;
+        }
+        do {
+            args.add(argument());
+        }
+        while (accept(','));
+        expect(')');
+        return args;
+    }
+
+    // argument := string | number | closure | '[' literal (',' literal)* ']' | identifier ('.' identifier)?
+    private Object argument() {
+        skipWhitespace();
+        if (pos < literal.length() && literal.charAt(pos) == '{') {
+            return closure();
+        }
+        if (accept('[')) {
+            List<Object> list = new ArrayList<>();
+            do {
+                Object element = argument();
+                if (element instanceof List || element instanceof Enum || element instanceof Closure) {
+                    throw new UnsupportedSyntaxException("nested list");
+                }
+                list.add(element);
+            }
+            while (accept(','));
+            expect(']');
+            return list;
+        }
+        if (pos < literal.length() && Character.isDigit(literal.charAt(pos))) {
+            return number();
+        }
+        if (pos < literal.length() && (literal.charAt(pos) == '\'' || literal.charAt(pos) == '"')) {
+            return string();
+        }
+        String name = identifier();
+        try {
+            if ("K8sRetagType".equals(name)) {
+                expect('.');
+                return K8sRetagType.valueOf(identifier());
+            }
+            return DownsamplingType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedSyntaxException("argument " + name);
+        }
+    }
+
+    private SampleFamilyOperation function(final SampleFamilyOperation sf, final String method, final List<Object> args) {
+        switch (method) {
+            case "tagEqual":
+            case "tagNotEqual":
+            case "tagMatch":
+            case "tagNotMatch": {
+                final String[] labels = strings(args).toArray(new String[0]);
+                if (labels.length % 2 != 0) {
+                    throw new UnsupportedSyntaxException("odd labels of " + method);
+                }
+                switch (method) {
+                    case "tagEqual":
+                        return delegate -> sf.run(delegate).tagEqual(labels);
+                    case "tagNotEqual":
+                        return delegate -> sf.run(delegate).tagNotEqual(labels);
+                    case "tagMatch":
+                        return delegate -> sf.run(delegate).tagMatch(labels);
+                    default:
+                        return delegate -> sf.run(delegate).tagNotMatch(labels);
+                }
+            }
+            case "valueEqual":
+            case "valueNotEqual":
+            case "valueGreater":
+            case "valueGreaterEqual":
+            case "valueLess":
+            case "valueLessEqual":
+            case "plus":
+            case "minus":
+            case "multiply":
+            case "div": {
+                final double n = numberArgument(args);
+                switch (method) {
+                    case "valueEqual":
+                        return delegate -> sf.run(delegate).valueEqual(n);
+                    case "valueNotEqual":
+                        return delegate -> sf.run(delegate).valueNotEqual(n);
+                    case "valueGreater":
+                        return delegate -> sf.run(delegate).valueGreater(n);
+                    case "valueGreaterEqual":
+                        return delegate -> sf.run(delegate).valueGreaterEqual(n);
+                    case "valueLess":
+                        return delegate -> sf.run(delegate).valueLess(n);
+                    case "valueLessEqual":
+                        return delegate -> sf.run(delegate).valueLessEqual(n);
+                    case "plus":
+                        return delegate -> sf.run(delegate).plus(n);
+                    case "minus":
+                        return delegate -> sf.run(delegate).minus(n);
+                    case "multiply":
+                        return delegate -> sf.run(delegate).multiply(n);
+                    default:
+                        return delegate -> sf.run(delegate).div(n);
+                }
+            }
+            case "negative":
+                arity(args, 0);
+                return delegate -> sf.run(delegate).negative();
+            case "irate":
+                arity(args, 0);
+                return delegate -> sf.run(delegate).irate();
+            case "sum":
+            case "max":
+            case "min":
+            case "avg": {
+                arity(args, 1);
+                final List<String> by = strings(args.get(0));
+                switch (method) {
+                    case "sum":
+                        return delegate -> sf.run(delegate).sum(by);
+                    case "max":
+                        return delegate -> sf.run(delegate).max(by);
+                    case "min":
+                        return delegate -> sf.run(delegate).min(by);
+                    default:
+                        return delegate -> sf.run(delegate).avg(by);
+                }
+            }
+            case "increase":
+            case "rate": {
+                arity(args, 1);
+                final String range = string(args.get(0));
+                if ("increase".equals(method)) {
+                    return delegate -> sf.run(delegate).increase(range);
+                }
+                return delegate -> sf.run(delegate).rate(range);
+            }
+            case "histogram": {
+                if (args.isEmpty()) {
+                    return delegate -> sf.run(delegate).histogram();
+                }
+                arity(args, 1);
+                final String le = string(args.get(0));
+                return delegate -> sf.run(delegate).histogram(le);
+            }
+            case "histogram_percentile": {
+                arity(args, 1);
+                final List<Integer> percentiles = integers(args.get(0));
+                return delegate -> sf.run(delegate).histogram_percentile(percentiles);
+            }
+            case "service": {
+                arity(args, 1);
+                final List<String> labelKeys = strings(args.get(0));
+                return delegate -> sf.run(delegate).service(labelKeys);
+            }
+            case "instance":
+            case "endpoint": {
+                arity(args, 2);
+                final List<String> serviceKeys = strings(args.get(0));
+                final List<String> keys = strings(args.get(1));
+                if ("instance".equals(method)) {
+                    return delegate -> sf.run(delegate).instance(serviceKeys, keys);
+                }
+                return delegate -> sf.run(delegate).endpoint(serviceKeys, keys);
+            }
+            case "tag": {
+                arity(args, 1);
+                if (!(args.get(0) instanceof Closure)) {
+                    throw new UnsupportedSyntaxException("tag argument");
+                }
+                final Closure<?> cl = (Closure<?>) args.get(0);
+                return delegate -> sf.run(delegate).tag(cl);
+            }
+            case "retagByK8sMeta": {
+                arity(args, 4);
+                if (!(args.get(1) instanceof K8sRetagType)) {
+                    throw new UnsupportedSyntaxException("retag type");
+                }
+                final String newLabelName = string(args.get(0));
+                final K8sRetagType type = (K8sRetagType) args.get(1);
+                final String existingLabelName = string(args.get(2));
+                final String namespaceLabelName = string(args.get(3));
+                return delegate -> sf.run(delegate)
+                                     .retagByK8sMeta(newLabelName, type, existingLabelName, namespaceLabelName);
+            }
+            case "downsampling": {
+                arity(args, 1);
+                if (!(args.get(0) instanceof DownsamplingType)) {
+                    throw new UnsupportedSyntaxException("downsampling type");
+                }
+                final DownsamplingType type = (DownsamplingType) args.get(0);
+                return delegate -> sf.run(delegate).downsampling(type);
+            }
+            default:
+                throw new UnsupportedSyntaxException("function " + method);
+        }
+    }
+
+    /**
+     * Binary operators follow the groovy overloading of {@link SampleFamily} and the {@link NumberClosure}s of
+     * {@link Expression}.
+     */
+    private static Operand binary(final Operand left, final Operand right, final char op) {
+        final SampleFamilyOperation l = left.sampleFamily;
+        final SampleFamilyOperation r = right.sampleFamily;
+        if (l != null && r != null) {
+            switch (op) {
+                case '+':
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).plus(r.run(delegate)));
+                case '-':
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).minus(r.run(delegate)));
+                case '*':
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).multiply(r.run(delegate)));
+                default:
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).div(r.run(delegate)));
+            }
+        }
+        if (l != null) {
+            final NumberOperation n = right.number;
+            switch (op) {
+                case '+':
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).plus(n.run(delegate)));
+                case '-':
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).minus(n.run(delegate)));
+                case '*':
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).multiply(n.run(delegate)));
+                default:
+                    return Operand.ofSampleFamily(delegate -> l.run(delegate).div(n.run(delegate)));
+            }
+        }
+        if (r != null) {
+            final NumberOperation n = left.number;
+            switch (op) {
+                case '+':
+                    return Operand.ofSampleFamily(delegate -> {
+                        Number v = n.run(delegate);
+                        return r.run(delegate).plus(v);
+                    });
+                case '-':
+                    return Operand.ofSampleFamily(delegate -> {
+                        Number v = n.run(delegate);
+                        return r.run(delegate).minus(v).negative();
+                    });
+                case '*':
+                    return Operand.ofSampleFamily(delegate -> {
+                        Number v = n.run(delegate);
+                        return r.run(delegate).multiply(v);
+                    });
+                default:
+                    return Operand.ofSampleFamily(delegate -> {
+                        double v = n.run(delegate).doubleValue();
+                        return r.run(delegate).newValue(s -> v / s);
+                    });
+            }
+        }
+        throw new UnsupportedSyntaxException("arithmetic of numbers");
+    }
+
+    private static void arity(final List<Object> args, final int expected) {
+        if (args.size() != expected) {
+            throw new UnsupportedSyntaxException("arguments " + args);
+        }
+    }
+
+    private static double numberArgument(final List<Object> args) {
+        arity(args, 1);
+        if (!(args.get(0) instanceof Number)) {
+            throw new UnsupportedSyntaxException("argument " + args.get(0));
+        }
+        return ((Number) args.get(0)).doubleValue();
+    }
+
+    private static String string(final Object arg) {
+        if (!(arg instanceof String)) {
+            throw new UnsupportedSyntaxException("argument " + arg);
+        }
+        return (String) arg;
+    }
+
+    private static List<String> strings(final Object arg) {
+        if (!(arg instanceof List)) {
+            throw new UnsupportedSyntaxException("argument " + arg);
+        }
+        ImmutableList.Builder<String> result = ImmutableList.builder();
+        for (final Object each : (List<?>) arg) {
+            result.add(string(each));
+        }
+        return result.build();
+    }
+
+    private static List<Integer> integers(final Object arg) {
+        if (!(arg instanceof List)) {
+            throw new UnsupportedSyntaxException("argument " + arg);
+        }
+        ImmutableList.Builder<Integer> result = ImmutableList.builder();
+        for (final Object each : (List<?>) arg) {
+            if (!(each instanceof Integer)) {
+                throw new UnsupportedSyntaxException("argument " + each);
+            }
+            result.add((Integer) each);
+        }
+        return result.build();
+    }
+
+    private Number number() {
+        int start = pos;
+        while (pos < literal.length() && Character.isDigit(literal.charAt(pos))) {
+            pos++;
+        }
+        boolean decimal = false;
+        if (pos + 1 < literal.length() && literal.charAt(pos) == '.' && Character.isDigit(literal.charAt(pos + 1))) {
+            decimal = true;
+            pos++;
+            while (pos < literal.length() && Character.isDigit(literal.charAt(pos))) {
+                pos++;
+            }
+        }
+        if (pos < literal.length() && Character.isLetter(literal.charAt(pos))) {
+            throw new UnsupportedSyntaxException("number suffix");
+        }
+        String n = literal.substring(start, pos);
+        try {
+            return decimal ? (Number) Double.parseDouble(n) : (Number) Integer.parseInt(n);
+        } catch (NumberFormatException e) {
+            throw new UnsupportedSyntaxException("number " + n);
+        }
+    }
+
+    private String string() {
+        char quote = literal.charAt(pos++);
+        StringBuilder result = new StringBuilder();
+        while (pos < literal.length()) {
+            char c = literal.charAt(pos++);
+            if (c == quote) {
+                return result.toString();
+            }
+            if (c == '\\' || c == '\n' || (quote == '"' && c == '$')) {
+                // Escapes and GStrings are left to groovy.
+                throw new UnsupportedSyntaxException("string " + literal.substring(0, pos));
+            }
+            result.append(c);
+        }
+        throw new UnsupportedSyntaxException("unterminated string");
+    }
+
+    private Closure<?> closure() {
+        int start = pos;
+        int depth = 0;
+        while (pos < literal.length()) {
+            char c = literal.charAt(pos++);
+            if (c == '\'' || c == '"') {
+                skipString(c);
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return DSL.parseClosure(literal.substring(start, pos));
+            }
+        }
+        throw new UnsupportedSyntaxException("unterminated closure");
+    }
+
+    private void skipString(final char quote) {
+        while (pos < literal.length()) {
+            char c = literal.charAt(pos++);
+            if (c == '\\') {
+                pos++;
+            } else if (c == quote) {
+                return;
+            }
+        }
+        throw new UnsupportedSyntaxException("unterminated string");
+    }
+
+    private String identifier() {
+        skipWhitespace();
+        int start = pos;
+        if (pos < literal.length() && Character.isJavaIdentifierStart(literal.charAt(pos))) {
+            pos++;
+            while (pos < literal.length() && Character.isJavaIdentifierPart(literal.charAt(pos))) {
+                pos++;
+            }
+        }
+        if (start == pos || literal.charAt(start) == '$') {
+            throw new UnsupportedSyntaxException("identifier at " + start);
+        }
+        return literal.substring(start, pos);
+    }
+
+    private boolean accept(final char c) {
+        skipWhitespace();
+        if (pos < literal.length() && literal.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (!accept(c)) {
+            throw new UnsupportedSyntaxException("expect '" + c + "' at " + pos);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < literal.length() && Character.isWhitespace(literal.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    @FunctionalInterface
+    interface SampleFamilyOperation {
+        SampleFamily run(ExpressionDelegate delegate);
+    }
+
+    @FunctionalInterface
+    interface NumberOperation {
+        Number run(ExpressionDelegate delegate);
+    }
+
+    /**
+     * Operand is the compiled result of a sub-expression, which is either a sample family or a number.
+     */
+    @RequiredArgsConstructor
+    private static class Operand {
+        private final SampleFamilyOperation sampleFamily;
+        private final NumberOperation number;
+
+        static Operand ofSampleFamily(SampleFamilyOperation sampleFamily) {
+            return new Operand(sampleFamily, null);
+        }
+
+        static Operand ofNumber(NumberOperation number) {
+            return new Operand(null, number);
+        }
+    }
+
+    private static class UnsupportedSyntaxException extends RuntimeException {
+        UnsupportedSyntaxException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
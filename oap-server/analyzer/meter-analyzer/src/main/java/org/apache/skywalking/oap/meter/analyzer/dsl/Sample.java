@@ -19,9 +19,6 @@
 package org.apache.skywalking.oap.meter.analyzer.dsl;
 
 import com.google.common.collect.ImmutableMap;
-import io.vavr.Function2;
-import io.vavr.Tuple2;
-import java.time.Duration;
 import java.util.function.Function;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -46,9 +43,8 @@ public class Sample {
         return toBuilder().value(transform.apply(value)).build();
     }
 
-    Sample increase(String range, Function2<Double, Long, Double> transform) {
-        Tuple2<Long, Double> i = CounterWindow.INSTANCE.increase(name, labels, value, Duration.parse(range).toMillis(), timestamp);
-        double nv = transform.apply(i._2, i._1);
-        return newValue(ignored -> nv);
+    Sample increase(long windowSize, CounterWindow.IncreaseFunction transform) {
+        double nv = CounterWindow.INSTANCE.increase(name, labels, value, windowSize, timestamp, transform);
+        return toBuilder().value(nv).build();
     }
 }
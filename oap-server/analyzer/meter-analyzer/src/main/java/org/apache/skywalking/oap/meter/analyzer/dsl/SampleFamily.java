@@ -43,6 +43,7 @@ import org.apache.skywalking.oap.server.core.UnexpectedException;
 import org.apache.skywalking.oap.server.core.analysis.meter.MeterEntity;
 import org.apache.skywalking.oap.server.core.analysis.meter.ScopeType;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -57,7 +58,6 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static java.util.function.UnaryOperator.identity;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
@@ -235,21 +235,25 @@ public class SampleFamily {
             return EMPTY;
         }
         if (by == null) {
-            double result = Arrays.stream(samples).mapToDouble(s -> s.value).reduce(aggregator).orElse(0.0D);
+            double result = samples[0].value;
+            for (int i = 1; i < samples.length; i++) {
+                result = aggregator.applyAsDouble(result, samples[i].value);
+            }
             return SampleFamily.build(this.context, InternalOps.newSample(ImmutableMap.of(), samples[0].timestamp, result));
         }
-        return SampleFamily.build(
-            this.context,
-            Arrays.stream(samples)
-                  .collect(groupingBy(it -> InternalOps.getLabels(by, it), mapping(identity(), toList())))
-                  .entrySet().stream()
-                  .map(entry -> InternalOps.newSample(
-                      entry.getKey(),
-                      entry.getValue().get(0).getTimestamp(),
-                      entry.getValue().stream().mapToDouble(Sample::getValue).reduce(aggregator).orElse(0.0D)
-                  ))
-                  .toArray(Sample[]::new)
-        );
+        // Aggregate in one pass, the groups keep the timestamp of their first sample.
+        Map<ImmutableMap<String, String>, Sample> groups = new HashMap<>();
+        for (final Sample sample : samples) {
+            ImmutableMap<String, String> labels = InternalOps.getLabels(by, sample);
+            Sample group = groups.get(labels);
+            if (group == null) {
+                groups.put(labels, InternalOps.newSample(labels, sample.timestamp, sample.value));
+            } else {
+                groups.put(labels, InternalOps.newSample(
+                    labels, group.timestamp, aggregator.applyAsDouble(group.value, sample.value)));
+            }
+        }
+        return SampleFamily.build(this.context, groups.values().toArray(new Sample[0]));
     }
 
     /* Function */
@@ -258,10 +262,11 @@ public class SampleFamily {
         if (this == EMPTY) {
             return EMPTY;
         }
+        long windowSize = Duration.parse(range).toMillis();
         return SampleFamily.build(
             this.context,
             Arrays.stream(samples)
-                  .map(sample -> sample.increase(range, (lowerBoundValue, unused) -> sample.value - lowerBoundValue))
+                  .map(sample -> sample.increase(windowSize, (lowerBoundValue, unused) -> sample.value - lowerBoundValue))
                   .toArray(Sample[]::new)
         );
     }
@@ -271,11 +276,12 @@ public class SampleFamily {
         if (this == EMPTY) {
             return EMPTY;
         }
+        long windowSize = Duration.parse(range).toMillis();
         return SampleFamily.build(
             this.context,
             Arrays.stream(samples)
                   .map(sample -> sample.increase(
-                      range,
+                      windowSize,
                       (lowerBoundValue, lowerBoundTime) -> {
                           final long timeDiff = (sample.timestamp - lowerBoundTime) / 1000;
                           return timeDiff < 1L ? 0.0 : (sample.value - lowerBoundValue) / timeDiff;
@@ -578,11 +584,11 @@ public class SampleFamily {
         }
 
         private static ImmutableMap<String, String> getLabels(final List<String> labelKeys, final Sample sample) {
-            return labelKeys.stream()
-                            .collect(toImmutableMap(
-                                Function.identity(),
-                                labelKey -> sample.labels.getOrDefault(labelKey, "")
-                            ));
+            ImmutableMap.Builder<String, String> labels = ImmutableMap.builderWithExpectedSize(labelKeys.size());
+            for (final String labelKey : labelKeys) {
+                labels.put(labelKey, sample.labels.getOrDefault(labelKey, ""));
+            }
+            return labels.build();
         }
     }
 
@@ -19,46 +19,200 @@
 package org.apache.skywalking.oap.meter.analyzer.dsl.counter;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
-import io.vavr.Tuple;
-import io.vavr.Tuple2;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
-import lombok.ToString;
+import org.apache.skywalking.oap.server.telemetry.api.CounterMetrics;
+import org.apache.skywalking.oap.server.telemetry.api.GaugeMetrics;
+import org.apache.skywalking.oap.server.telemetry.api.MetricsCreator;
+import org.apache.skywalking.oap.server.telemetry.api.MetricsTag;
 
 /**
  * CounterWindow stores a series of counter samples in order to calculate the increase
  * or instant rate of increase.
  *
+ * The samples of every series are kept in a bounded ring buffer of primitives, which is guarded by the series itself,
+ * so the window could be shared by the fetcher and receiver threads. A sample is kept only if it is at least 1/{@link
+ * #SERIES_RESOLUTION} of the window later than the previous kept one, so a window holds at most {@link
+ * #SERIES_RESOLUTION} samples whatever the sample interval is, and the lower bound is at most that much later than the
+ * window start. A series is expired once it doesn't receive samples in {@link #SERIES_EXPIRY} and its window size,
+ * such as the series of a deleted pod.
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-@ToString
-@EqualsAndHashCode
 public class CounterWindow {
 
     public static final CounterWindow INSTANCE = new CounterWindow();
 
-    private final Map<ID, Queue<Tuple2<Long, Double>>> windows = Maps.newHashMap();
+    static final long SERIES_EXPIRY = TimeUnit.MINUTES.toMillis(10);
 
-    public Tuple2<Long, Double> increase(String name, ImmutableMap<String, String> labels, Double value, long windowSize, long now) {
-        ID id = new ID(name, labels);
-        if (!windows.containsKey(id)) {
-            windows.put(id, new LinkedList<>());
+    static final int SERIES_RESOLUTION = 512;
+
+    /**
+     * The samples beyond the resolution come only from the out-of-order samples or a changed window size, the oldest
+     * sample is dropped then, which is reported through the telemetry.
+     */
+    static final int SERIES_CAPACITY = SERIES_RESOLUTION * 2;
+
+    private static final long EXPIRY_CHECK_PERIOD = TimeUnit.MINUTES.toMillis(1);
+
+    private final Map<ID, Series> windows = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastExpiryCheck = new AtomicLong(System.currentTimeMillis());
+
+    private volatile GaugeMetrics seriesCount;
+
+    private volatile GaugeMetrics sampleCount;
+
+    private volatile CounterMetrics droppedSampleCount;
+
+    /**
+     * Put the sample into the window of its series, and calculate the increase.
+     *
+     * @param windowSize the window size in milliseconds.
+     * @param now        the timestamp of the sample.
+     * @param transform  calculates the result by the lower bound sample of the window.
+     * @return the result of the transform.
+     */
+    public double increase(String name, ImmutableMap<String, String> labels, double value, long windowSize, long now,
+                           IncreaseFunction transform) {
+        long current = System.currentTimeMillis();
+        Series series = windows.computeIfAbsent(new ID(name, labels), id -> new Series());
+        double result;
+        synchronized (series) {
+            result = series.increase(value, windowSize, now, current, transform);
         }
-        Queue<Tuple2<Long, Double>> window = windows.get(id);
-        window.offer(Tuple.of(now, value));
-        Tuple2<Long, Double> ps = window.element();
-        if ((now - ps._1) >= windowSize) {
-            window.remove();
+        if (current - lastExpiryCheck.get() >= EXPIRY_CHECK_PERIOD) {
+            long last = lastExpiryCheck.get();
+            if (current - last >= EXPIRY_CHECK_PERIOD && lastExpiryCheck.compareAndSet(last, current)) {
+                expire(current);
+            }
         }
-        return ps;
+        return result;
+    }
+
+    /**
+     * Report the series and sample number of the window through the telemetry. Only the first creator takes effect.
+     */
+    public synchronized void enableTelemetry(MetricsCreator metricsCreator) {
+        if (seriesCount != null) {
+            return;
+        }
+        sampleCount = metricsCreator.createGauge(
+            "meter_counter_window_sample_count", "The number of samples kept to calculate the increase of counters",
+            MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE
+        );
+        droppedSampleCount = metricsCreator.createCounter(
+            "meter_counter_window_dropped_sample_count",
+            "The number of samples dropped because the series is full, which shortens the window",
+            MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE
+        );
+        seriesCount = metricsCreator.createGauge(
+            "meter_counter_window_series_count", "The number of series kept to calculate the increase of counters",
+            MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE
+        );
+    }
+
+    void expire(long current) {
+        long series = 0;
+        long samples = 0;
+        Iterator<Series> iterator = windows.values().iterator();
+        while (iterator.hasNext()) {
+            Series each = iterator.next();
+            if (each.isExpired(current)) {
+                iterator.remove();
+            } else {
+                series++;
+                samples += each.size;
+            }
+        }
+        if (seriesCount != null) {
+            seriesCount.setValue(series);
+            sampleCount.setValue(samples);
+        }
+    }
+
+    int size() {
+        return windows.size();
     }
 
     public void reset() {
         windows.clear();
     }
+
+    /**
+     * IncreaseFunction calculates the result by the lower bound sample of the window.
+     */
+    @FunctionalInterface
+    public interface IncreaseFunction {
+        double apply(double lowerBoundValue, long lowerBoundTime);
+    }
+
+    private class Series {
+        private long[] timestamps = new long[4];
+        private double[] values = new double[4];
+        private int head;
+        private volatile int size;
+        private volatile long lastUpdate;
+        private volatile long windowSize;
+
+        double increase(double value, long windowSize, long now, long current, IncreaseFunction transform) {
+            this.lastUpdate = current;
+            this.windowSize = windowSize;
+            if (size == 0 || now - lastTimestamp() >= windowSize / SERIES_RESOLUTION) {
+                offer(now, value);
+            }
+            long lowerBoundTime = timestamps[head];
+            double lowerBoundValue = values[head];
+            if (now - lowerBoundTime >= windowSize) {
+                poll();
+            }
+            return transform.apply(lowerBoundValue, lowerBoundTime);
+        }
+
+        boolean isExpired(long current) {
+            return current - lastUpdate > Math.max(SERIES_EXPIRY, windowSize);
+        }
+
+        private void offer(long timestamp, double value) {
+            if (size == timestamps.length) {
+                if (size < SERIES_CAPACITY) {
+                    grow();
+                } else {
+                    poll();
+                    if (droppedSampleCount != null) {
+                        droppedSampleCount.inc();
+                    }
+                }
+            }
+            int tail = (head + size) % timestamps.length;
+            timestamps[tail] = timestamp;
+            values[tail] = value;
+            size++;
+        }
+
+        private long lastTimestamp() {
+            return timestamps[(head + size - 1) % timestamps.length];
+        }
+
+        private void poll() {
+            head = (head + 1) % timestamps.length;
+            size--;
+        }
+
+        private void grow() {
+            long[] newTimestamps = new long[timestamps.length * 2];
+            double[] newValues = new double[values.length * 2];
+            for (int i = 0; i < size; i++) {
+                newTimestamps[i] = timestamps[(head + i) % timestamps.length];
+                newValues[i] = values[(head + i) % values.length];
+            }
+            timestamps = newTimestamps;
+            values = newValues;
+            head = 0;
+        }
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.meter.analyzer.dsl;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static com.google.common.collect.ImmutableMap.of;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class ExpressionCompilerTest {
+
+    @Parameterized.Parameter
+    public String name;
+
+    @Parameterized.Parameter(1)
+    public String expression;
+
+    @Parameterized.Parameter(2)
+    public boolean compiled;
+
+    @Parameterized.Parameters(name = "{index}: {0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][] {
+            {"metric", "http_success_request", true},
+            {"tag-filter", "http_success_request.tagEqual('idc', 't1').tagNotMatch('region', \"us-.*\")", true},
+            {"value-filter", "http_success_request.valueGreaterEqual(60).valueLess(100.5)", true},
+            {"aggregation", "http_success_request.sum(['region']).max(['region']).avg(['region'])", true},
+            {"arithmetic", "100 - (http_success_request * 100).sum(['idc']) / http_request.sum(['idc']) + 1", true},
+            {"number-divide", "100 / http_success_request.tagEqual('idc', 't2')", true},
+            {"scalar-function", "http_success_request.multiply(1000).div(8)", true},
+            {"closure", "http_success_request.tag({tags -> tags.region = 'r::' + tags.region}).sum(['region'])", true},
+            {"numbers", "1 + 1", false},
+            {"unary-minus", "-http_success_request", false},
+            {"gstring", "http_success_request.tagEqual('idc', \"${1}\")", false},
+            {"unknown-function", "http_success_request.foo()", false},
+        });
+    }
+
+    @Test
+    public void test() {
+        Optional<Expression> e = ExpressionCompiler.compile(expression);
+        assertThat(e.isPresent(), is(compiled));
+        if (!compiled) {
+            return;
+        }
+        assertThat(e.get().run(input()), is(DSL.parseByGroovy(expression).run(input())));
+    }
+
+    private static ImmutableMap<String, SampleFamily> input() {
+        return of(
+            "http_success_request", SampleFamilyBuilder.newBuilder(
+                Sample.builder().labels(of("idc", "t1", "region", "us-1")).value(50).build(),
+                Sample.builder().labels(of("idc", "t2", "region", "us-1")).value(60).build(),
+                Sample.builder().labels(of("idc", "t3", "region", "cn-1")).value(70).build()
+            ).build(),
+            "http_request", SampleFamilyBuilder.newBuilder(
+                Sample.builder().labels(of("idc", "t1")).value(100).build(),
+                Sample.builder().labels(of("idc", "t2")).value(200).build(),
+                Sample.builder().labels(of("idc", "t3")).value(300).build()
+            ).build()
+        );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.meter.analyzer.dsl;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.yaml.snakeyaml.Yaml;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Every MAL rule shipped in server-bootstrap should be compiled by {@link ExpressionCompiler}, rather than falling back
+ * to groovy.
+ */
+@RunWith(Parameterized.class)
+public class ShippedRulesCompilerTest {
+
+    private static final String RESOURCES = "../../server-bootstrap/src/main/resources";
+
+    private static final String[] RULE_DIRECTORIES = {
+        "fetcher-prom-rules",
+        "otel-oc-rules",
+        "envoy-metrics-rules",
+        "meter-analyzer-config",
+        "zabbix-rules",
+        "log-mal-rules"
+    };
+
+    @Parameterized.Parameter
+    public String name;
+
+    @Parameterized.Parameter(1)
+    public String expression;
+
+    @Parameterized.Parameters(name = "{index}: {0}")
+    public static Collection<Object[]> data() throws IOException {
+        final List<Object[]> data = new ArrayList<>();
+        for (final String directory : RULE_DIRECTORIES) {
+            final File[] files = new File(RESOURCES, directory).listFiles();
+            if (files == null) {
+                continue;
+            }
+            for (final File file : files) {
+                if (!file.getName().endsWith(".yaml") && !file.getName().endsWith(".yml")) {
+                    continue;
+                }
+                data.addAll(expressionsOf(directory + "/" + file.getName(), file));
+            }
+        }
+        assertTrue("No rule is found in " + new File(RESOURCES).getAbsolutePath(), !data.isEmpty());
+        return data;
+    }
+
+    /**
+     * Compose the expressions in the same way as MetricConvert, the expSuffix is appended to every rule.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object[]> expressionsOf(final String fileName, final File file) throws IOException {
+        final List<Object[]> expressions = new ArrayList<>();
+        try (Reader reader = new FileReader(file)) {
+            final Map<String, Object> config = new Yaml().loadAs(reader, Map.class);
+            if (config == null) {
+                return expressions;
+            }
+            final String expSuffix = (String) config.get("expSuffix");
+            Object rules = config.get("metricsRules");
+            if (rules == null) {
+                rules = config.get("metrics");
+            }
+            if (rules == null) {
+                return expressions;
+            }
+            for (final Map<String, Object> rule : (List<Map<String, Object>>) rules) {
+                final String exp = (String) rule.get("exp");
+                expressions.add(new Object[] {
+                    fileName + "#" + rule.get("name"),
+                    expSuffix == null || expSuffix.isEmpty() ? exp : String.format("(%s).%s", exp, expSuffix)
+                });
+            }
+        }
+        return expressions;
+    }
+
+    @Test
+    public void test() {
+        assertTrue(expression + " falls back to groovy", ExpressionCompiler.compile(expression).isPresent());
+    }
+}
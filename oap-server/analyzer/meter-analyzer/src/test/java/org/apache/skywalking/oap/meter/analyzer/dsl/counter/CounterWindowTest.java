@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.meter.analyzer.dsl.counter;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CounterWindowTest {
+
+    private static final CounterWindow.IncreaseFunction LOWER_BOUND_VALUE = (lowerBoundValue, unused) -> lowerBoundValue;
+
+    private static final CounterWindow.IncreaseFunction LOWER_BOUND_TIME = (unused, lowerBoundTime) -> lowerBoundTime;
+
+    private final CounterWindow window = CounterWindow.INSTANCE;
+
+    @Before
+    public void setUp() {
+        window.reset();
+    }
+
+    @Test
+    public void testIncrease() {
+        ImmutableMap<String, String> labels = ImmutableMap.of("svc", "catalog");
+        assertEquals(1, window.increase("http_request", labels, 1, 3000, 1000, LOWER_BOUND_VALUE), 0);
+        assertEquals(1, window.increase("http_request", labels, 2, 3000, 2000, LOWER_BOUND_VALUE), 0);
+        assertEquals(1, window.increase("http_request", labels, 3, 3000, 3000, LOWER_BOUND_VALUE), 0);
+        // The lower bound is out of the window once the window is full.
+        assertEquals(1, window.increase("http_request", labels, 4, 3000, 4000, LOWER_BOUND_VALUE), 0);
+        assertEquals(2, window.increase("http_request", labels, 5, 3000, 5000, LOWER_BOUND_VALUE), 0);
+        assertEquals(3000, window.increase("http_request", labels, 6, 3000, 6000, LOWER_BOUND_TIME), 0);
+
+        assertEquals(10, window.increase("http_request", ImmutableMap.of("svc", "cart"), 10, 3000, 6000, LOWER_BOUND_VALUE), 0);
+        assertEquals(2, window.size());
+    }
+
+    @Test
+    public void testBoundedSeries() {
+        ImmutableMap<String, String> labels = ImmutableMap.of("svc", "catalog");
+        // The samples at the same time are all kept in a window shorter than the resolution.
+        for (int i = 0; i < CounterWindow.SERIES_CAPACITY; i++) {
+            assertEquals(0, window.increase("http_request", labels, i, 100, 0, LOWER_BOUND_VALUE), 0);
+        }
+        assertEquals(1, window.increase("http_request", labels, 0, 100, 0, LOWER_BOUND_VALUE), 0);
+    }
+
+    @Test
+    public void testWindowCoveredByFrequentSamples() {
+        ImmutableMap<String, String> labels = ImmutableMap.of("svc", "catalog");
+        long windowSize = CounterWindow.SERIES_CAPACITY * 64;
+        long interval = windowSize / CounterWindow.SERIES_RESOLUTION;
+        double lowerBoundTime = 0;
+        long now = 0;
+        for (; now < windowSize * 3; now++) {
+            lowerBoundTime = window.increase("http_request", labels, now, windowSize, now, LOWER_BOUND_TIME);
+        }
+        // The window isn't shortened by the capacity, the lower bound is at most an interval later than its start.
+        assertEquals(now - 1 - windowSize, lowerBoundTime, interval);
+    }
+
+    @Test
+    public void testExpire() {
+        window.increase("http_request", ImmutableMap.of("pod", "a"), 1, 60_000, 1000, LOWER_BOUND_VALUE);
+        window.expire(System.currentTimeMillis());
+        assertEquals(1, window.size());
+
+        window.expire(System.currentTimeMillis() + CounterWindow.SERIES_EXPIRY + 1000);
+        assertEquals(0, window.size());
+    }
+}
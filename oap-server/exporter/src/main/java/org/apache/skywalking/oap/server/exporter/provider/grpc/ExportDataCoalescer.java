@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.exporter.provider.grpc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.exporter.ExportData;
+import org.apache.skywalking.oap.server.core.exporter.ExportEvent;
+
+/**
+ * ExportDataCoalescer keeps one {@link ExportData} per metrics, entity, time bucket and event type between two flushes.
+ * The {@link ExportEvent.EventType#INCREMENT} ones are combined into a copy of the first one, as the metrics in the
+ * events should not be changed, and the {@link ExportEvent.EventType#TOTAL} ones are replaced by a copy of the latest
+ * one, as the metrics in the events are still being aggregated by the OAP, until the coalesced ones are flushed.
+ *
+ * When {@link #closedBucketOnly} is true, the increments are dropped, and the totals are held until their time buckets
+ * close. The totals of a time bucket keep arriving after its end, until the late data are aggregated and persisted, so
+ * a time bucket is considered closed only after the {@link #closeDelay} since its end.
+ */
+@RequiredArgsConstructor
+public class ExportDataCoalescer {
+    private final boolean closedBucketOnly;
+    /**
+     * The delay in milliseconds after the end of a time bucket, before it is considered closed.
+     */
+    private final long closeDelay;
+    private Map<Key, Entry> buffer = new HashMap<>();
+
+    public synchronized void add(ExportData data) {
+        final Key key = new Key(
+            data.getMeta().getMetricsName(), data.getMeta().getId(), data.getMetrics().getTimeBucket(),
+            data.getEventType()
+        );
+        if (ExportEvent.EventType.TOTAL.equals(data.getEventType())) {
+            final Entry entry = new Entry(new ExportData(data.getMeta(), copy(data.getMetrics()), data.getEventType()));
+            entry.copied = true;
+            buffer.put(key, entry);
+            return;
+        }
+        if (closedBucketOnly) {
+            return;
+        }
+        final Entry entry = buffer.get(key);
+        if (entry == null) {
+            buffer.put(key, new Entry(data));
+            return;
+        }
+        if (!entry.copied) {
+            entry.data = new ExportData(
+                entry.data.getMeta(), copy(entry.data.getMetrics()), entry.data.getEventType());
+            entry.copied = true;
+        }
+        entry.data.getMetrics().combine(data.getMetrics());
+        entry.data.getMetrics().calculate();
+    }
+
+    /**
+     * @param now the current timestamp in milliseconds, to decide whether a time bucket has closed.
+     * @return the coalesced data to export, which are removed from the buffer.
+     */
+    public synchronized List<ExportData> flush(long now) {
+        final List<ExportData> result = new ArrayList<>(buffer.size());
+        if (!closedBucketOnly) {
+            buffer.values().forEach(entry -> result.add(entry.data));
+            buffer = new HashMap<>();
+            return result;
+        }
+        final Iterator<Map.Entry<Key, Entry>> iterator = buffer.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final ExportData data = iterator.next().getValue().data;
+            if (isClosed(data.getMetrics().getTimeBucket(), now, closeDelay)) {
+                result.add(data);
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+
+    static boolean isClosed(long timeBucket, long now, long closeDelay) {
+        final long length;
+        if (TimeBucket.isSecondBucket(timeBucket)) {
+            length = TimeUnit.SECONDS.toMillis(1);
+        } else if (TimeBucket.isMinuteBucket(timeBucket)) {
+            length = TimeUnit.MINUTES.toMillis(1);
+        } else if (TimeBucket.isHourBucket(timeBucket)) {
+            length = TimeUnit.HOURS.toMillis(1);
+        } else {
+            length = TimeUnit.DAYS.toMillis(1);
+        }
+        return TimeBucket.getTimestamp(timeBucket) + length + closeDelay <= now;
+    }
+
+    /**
+     * Copy the metrics through the serialization of the inter-OAP communication, which covers all the fields to
+     * combine.
+     */
+    private static Metrics copy(Metrics metrics) {
+        try {
+            final Metrics copy = metrics.getClass().newInstance();
+            copy.deserialize(metrics.serialize().build());
+            return copy;
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to copy the metrics " + metrics.getClass().getName(), e);
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final String metricsName;
+        private final String entityId;
+        private final long timeBucket;
+        private final ExportEvent.EventType eventType;
+    }
+
+    private static class Entry {
+        private ExportData data;
+        private boolean copied;
+
+        private Entry(ExportData data) {
+            this.data = data;
+        }
+    }
+}
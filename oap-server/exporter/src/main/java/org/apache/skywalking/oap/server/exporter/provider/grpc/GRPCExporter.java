@@ -19,15 +19,19 @@
 package org.apache.skywalking.oap.server.exporter.provider.grpc;
 
 import io.grpc.ManagedChannel;
+import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.commons.datacarrier.DataCarrier;
 import org.apache.skywalking.apm.commons.datacarrier.consumer.IConsumer;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
 import org.apache.skywalking.oap.server.core.analysis.metrics.DoubleValueHolder;
 import org.apache.skywalking.oap.server.core.analysis.metrics.IntValueHolder;
 import org.apache.skywalking.oap.server.core.analysis.metrics.LongValueHolder;
@@ -48,6 +52,7 @@ import org.apache.skywalking.oap.server.exporter.grpc.SubscriptionsResp;
 import org.apache.skywalking.oap.server.exporter.grpc.ValueType;
 import org.apache.skywalking.oap.server.exporter.provider.MetricFormatter;
 import org.apache.skywalking.oap.server.library.client.grpc.GRPCClient;
+import org.apache.skywalking.oap.server.library.server.pool.CustomThreadFactory;
 import org.apache.skywalking.oap.server.library.util.GRPCStreamStatus;
 
 @Slf4j
@@ -56,6 +61,11 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
      * The period of subscription list fetching is hardcoded as 30s.
      */
     private static final long FETCH_SUBSCRIPTION_PERIOD = 30_000;
+    /**
+     * The min deadline of the stream of one flush, which is extended to the flush interval, as the next flush starts
+     * after the current one ends.
+     */
+    private static final long MIN_FLUSH_DEADLINE = 10_000;
     private final GRPCExporterSetting setting;
     private final MetricExportServiceGrpc.MetricExportServiceStub exportServiceFutureStub;
     private final MetricExportServiceGrpc.MetricExportServiceBlockingStub blockingStub;
@@ -63,6 +73,19 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
     private final ReentrantLock fetchListLock;
     private volatile List<SubscriptionMetric> subscriptionList;
     private volatile long lastFetchTimestamp = 0;
+    /**
+     * Coalesces the data between two flushes, when the {@link GRPCExporterSetting#getFlushInterval()} is positive.
+     * Null means every consumed batch is sent through a new stream.
+     */
+    private final ExportDataCoalescer coalescer;
+    /**
+     * Flushes the {@link #coalescer} periodically, null when there is no coalescer.
+     */
+    private final ScheduledExecutorService flushExecutor;
+    /**
+     * The event type exported when there is no subscription.
+     */
+    private final ExportEvent.EventType defaultEventType;
 
     public GRPCExporter(GRPCExporterSetting setting) {
         this.setting = setting;
@@ -75,6 +98,20 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
         exportBuffer.consume(this, 1, 200);
         subscriptionList = new ArrayList<>();
         fetchListLock = new ReentrantLock();
+        if (setting.getFlushInterval() > 0) {
+            coalescer = new ExportDataCoalescer(setting.isClosedBucketOnly(), setting.getClosedBucketDelay());
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(new CustomThreadFactory("grpcExporterFlush"));
+            flushExecutor.scheduleWithFixedDelay(
+                new RunnableWithExceptionProtection(
+                    this::flush, t -> log.error("Flushing the export data fails.", t)),
+                setting.getFlushInterval(), setting.getFlushInterval(), TimeUnit.MILLISECONDS
+            );
+        } else {
+            coalescer = null;
+            flushExecutor = null;
+        }
+        defaultEventType = coalescer != null && setting.isClosedBucketOnly()
+            ? ExportEvent.EventType.TOTAL : ExportEvent.EventType.INCREMENT;
     }
 
     @Override
@@ -82,7 +119,7 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
         Metrics metrics = event.getMetrics();
         if (metrics instanceof WithMetadata) {
             MetricsMetaInfo meta = ((WithMetadata) metrics).getMeta();
-            if (subscriptionList.size() == 0 && ExportEvent.EventType.INCREMENT.equals(event.getType())) {
+            if (subscriptionList.size() == 0 && defaultEventType.equals(event.getType())) {
                 exportBuffer.produce(new ExportData(meta, metrics, event.getType()));
             } else {
                 subscriptionList.forEach(subscriptionMetric -> {
@@ -127,6 +164,10 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
 
     @Override
     public void consume(List<ExportData> data) {
+        if (coalescer != null) {
+            data.forEach(coalescer::add);
+            return;
+        }
         GRPCStreamStatus status = new GRPCStreamStatus();
         StreamObserver<ExportMetricValue> streamObserver =
             exportServiceFutureStub.withDeadlineAfter(10, TimeUnit.SECONDS)
@@ -151,45 +192,12 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
                                        });
         AtomicInteger exportNum = new AtomicInteger();
         data.forEach(row -> {
-            ExportMetricValue.Builder builder = ExportMetricValue.newBuilder();
-
-            Metrics metrics = row.getMetrics();
-            if (metrics instanceof LongValueHolder) {
-                long value = ((LongValueHolder) metrics).getValue();
-                builder.setLongValue(value);
-                builder.setType(ValueType.LONG);
-            } else if (metrics instanceof IntValueHolder) {
-                long value = ((IntValueHolder) metrics).getValue();
-                builder.setLongValue(value);
-                builder.setType(ValueType.LONG);
-            } else if (metrics instanceof DoubleValueHolder) {
-                double value = ((DoubleValueHolder) metrics).getValue();
-                builder.setDoubleValue(value);
-                builder.setType(ValueType.DOUBLE);
-            } else if (metrics instanceof MultiIntValuesHolder) {
-                int[] values = ((MultiIntValuesHolder) metrics).getValues();
-                for (int value : values) {
-                    builder.addLongValues(value);
-                }
-                builder.setType(ValueType.MULTI_LONG);
-            } else {
-                return;
-            }
-
-            MetricsMetaInfo meta = row.getMeta();
-            builder.setMetricName(meta.getMetricsName());
-            builder.setEventType(
-                EventType.INCREMENT.equals(row.getEventType()) ? EventType.INCREMENT : EventType.TOTAL);
-            String entityName = getEntityName(meta);
-            if (entityName == null) {
+            ExportMetricValue value = toExportMetricValue(row);
+            if (value == null) {
                 return;
             }
-            builder.setEntityName(entityName);
-            builder.setEntityId(meta.getId());
 
-            builder.setTimeBucket(metrics.getTimeBucket());
-
-            streamObserver.onNext(builder.build());
+            streamObserver.onNext(value);
             exportNum.getAndIncrement();
         });
 
@@ -223,6 +231,130 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
         fetchSubscriptionList();
     }
 
+    /**
+     * Send the coalesced data through one stream per flush, which is completed once the data are sent, and bounded by
+     * the deadline. The sending waits while the stream isn't ready, rather than buffering the data in the gRPC client
+     * without limit, and the flush waits for the peer confirmation, as the {@link #consume(List)} does.
+     */
+    private void flush() {
+        List<ExportData> data = coalescer.flush(System.currentTimeMillis());
+        if (data.isEmpty()) {
+            return;
+        }
+        GRPCStreamStatus status = new GRPCStreamStatus();
+        ClientCallStreamObserver<ExportMetricValue> stream = (ClientCallStreamObserver<ExportMetricValue>)
+            exportServiceFutureStub.withDeadlineAfter(
+                Math.max(MIN_FLUSH_DEADLINE, setting.getFlushInterval()), TimeUnit.MILLISECONDS)
+                                   .export(new StreamObserver<ExportResponse>() {
+                                       @Override
+                                       public void onNext(ExportResponse response) {
+
+                                       }
+
+                                       @Override
+                                       public void onError(Throwable throwable) {
+                                           log.error(
+                                               "Export stream to {}:{} fails.", setting.getTargetHost(),
+                                               setting.getTargetPort(), throwable
+                                           );
+                                           status.done();
+                                       }
+
+                                       @Override
+                                       public void onCompleted() {
+                                           status.done();
+                                       }
+                                   });
+        int exportNum = 0;
+        for (ExportData row : data) {
+            ExportMetricValue value = toExportMetricValue(row);
+            if (value == null) {
+                continue;
+            }
+            long waitTime = 0;
+            while (!stream.isReady() && !status.isDone()) {
+                try {
+                    Thread.sleep(10L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    stream.cancel("The exporter is shutting down.", e);
+                    return;
+                }
+                waitTime += 10L;
+                if (waitTime % 2000L == 0) {
+                    log.warn(
+                        "Export stream to {}:{} isn't ready, wait {} milliseconds.", setting.getTargetHost(),
+                        setting.getTargetPort(), waitTime
+                    );
+                }
+            }
+            if (status.isDone()) {
+                log.warn(
+                    "Export stream to {}:{} closed, {} metrics are abandoned.", setting.getTargetHost(),
+                    setting.getTargetPort(), data.size() - exportNum
+                );
+                return;
+            }
+            stream.onNext(value);
+            exportNum++;
+        }
+        stream.onCompleted();
+
+        // The deadline ends the stream with an error, if the peer doesn't confirm.
+        while (!status.isDone()) {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stream.cancel("The exporter is shutting down.", e);
+                return;
+            }
+        }
+
+        log.debug("Exported {} metrics to {}:{}.", exportNum, setting.getTargetHost(), setting.getTargetPort());
+    }
+
+    private ExportMetricValue toExportMetricValue(ExportData row) {
+        ExportMetricValue.Builder builder = ExportMetricValue.newBuilder();
+
+        Metrics metrics = row.getMetrics();
+        if (metrics instanceof LongValueHolder) {
+            long value = ((LongValueHolder) metrics).getValue();
+            builder.setLongValue(value);
+            builder.setType(ValueType.LONG);
+        } else if (metrics instanceof IntValueHolder) {
+            long value = ((IntValueHolder) metrics).getValue();
+            builder.setLongValue(value);
+            builder.setType(ValueType.LONG);
+        } else if (metrics instanceof DoubleValueHolder) {
+            double value = ((DoubleValueHolder) metrics).getValue();
+            builder.setDoubleValue(value);
+            builder.setType(ValueType.DOUBLE);
+        } else if (metrics instanceof MultiIntValuesHolder) {
+            int[] values = ((MultiIntValuesHolder) metrics).getValues();
+            for (int value : values) {
+                builder.addLongValues(value);
+            }
+            builder.setType(ValueType.MULTI_LONG);
+        } else {
+            return null;
+        }
+
+        MetricsMetaInfo meta = row.getMeta();
+        builder.setMetricName(meta.getMetricsName());
+        builder.setEventType(
+            EventType.INCREMENT.equals(row.getEventType()) ? EventType.INCREMENT : EventType.TOTAL);
+        String entityName = getEntityName(meta);
+        if (entityName == null) {
+            return null;
+        }
+        builder.setEntityName(entityName);
+        builder.setEntityId(meta.getId());
+
+        builder.setTimeBucket(metrics.getTimeBucket());
+        return builder.build();
+    }
+
     @Override
     public void onError(List<ExportData> data, Throwable t) {
         log.error(t.getMessage(), t);
@@ -230,7 +362,9 @@ public class GRPCExporter extends MetricFormatter implements MetricValuesExportS
 
     @Override
     public void onExit() {
-
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
     }
 
     private boolean eventTypeMatch(ExportEvent.EventType eventType,
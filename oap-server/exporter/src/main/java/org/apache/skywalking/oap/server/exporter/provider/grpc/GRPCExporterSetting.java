@@ -29,4 +29,18 @@ public class GRPCExporterSetting extends ModuleConfig {
     private int targetPort;
     private int bufferChannelSize = 20000;
     private int bufferChannelNum = 2;
+    /**
+     * The interval in milliseconds of sending the coalesced metrics, through one stream per flush. 0 means every
+     * consumed batch is sent through a new stream without coalescing.
+     */
+    private long flushInterval = 0;
+    /**
+     * Only export the total values of the closed time buckets, works when the {@link #flushInterval} is positive.
+     */
+    private boolean closedBucketOnly = false;
+    /**
+     * The delay in milliseconds after the end of a time bucket, before it is considered closed. It should be no less
+     * than the persistent period of the core module, as the totals keep changing until the late data are persisted.
+     */
+    private long closedBucketDelay = 30_000;
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.exporter.provider.grpc;
+
+import java.util.List;
+import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
+import org.apache.skywalking.oap.server.core.analysis.metrics.LongValueHolder;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.analysis.metrics.MetricsMetaInfo;
+import org.apache.skywalking.oap.server.core.exporter.ExportData;
+import org.apache.skywalking.oap.server.core.remote.grpc.proto.RemoteData;
+import org.apache.skywalking.oap.server.core.source.DefaultScopeDefine;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.apache.skywalking.oap.server.core.exporter.ExportEvent.EventType.INCREMENT;
+import static org.apache.skywalking.oap.server.core.exporter.ExportEvent.EventType.TOTAL;
+
+public class ExportDataCoalescerTest {
+    private static final long TIME_BUCKET = 202104011200L;
+
+    private final MetricsMetaInfo metaInfo = new MetricsMetaInfo("mock-metrics", DefaultScopeDefine.ALL, "entity");
+
+    @Test
+    public void testCoalesce() {
+        ExportDataCoalescer coalescer = new ExportDataCoalescer(false, 0);
+        CountMetrics first = new CountMetrics(1);
+        coalescer.add(new ExportData(metaInfo, first, INCREMENT));
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(2), INCREMENT));
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(3), TOTAL));
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(5), TOTAL));
+
+        List<ExportData> result = coalescer.flush(System.currentTimeMillis());
+        Assert.assertEquals(2, result.size());
+        for (ExportData data : result) {
+            long value = ((CountMetrics) data.getMetrics()).getValue();
+            Assert.assertEquals(INCREMENT.equals(data.getEventType()) ? 3 : 5, value);
+        }
+        // The metrics in the events are not changed.
+        Assert.assertEquals(1, first.getValue());
+
+        Assert.assertEquals(0, coalescer.flush(System.currentTimeMillis()).size());
+    }
+
+    @Test
+    public void testTotalCopied() {
+        ExportDataCoalescer coalescer = new ExportDataCoalescer(false, 0);
+        CountMetrics total = new CountMetrics(3);
+        coalescer.add(new ExportData(metaInfo, total, TOTAL));
+        // The metrics in the event keep being aggregated before the flush.
+        total.combine(new CountMetrics(4));
+
+        List<ExportData> result = coalescer.flush(System.currentTimeMillis());
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(3, ((CountMetrics) result.get(0).getMetrics()).getValue());
+
+        Assert.assertEquals(0, coalescer.flush(System.currentTimeMillis()).size());
+    }
+
+    @Test
+    public void testClosedBucketOnly() {
+        ExportDataCoalescer coalescer = new ExportDataCoalescer(true, 0);
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(1), INCREMENT));
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(3), TOTAL));
+
+        long bucketStart = TimeBucket.getTimestamp(TIME_BUCKET);
+        Assert.assertEquals(0, coalescer.flush(bucketStart + 30_000).size());
+
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(4), TOTAL));
+        List<ExportData> result = coalescer.flush(bucketStart + 60_000);
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(TOTAL, result.get(0).getEventType());
+        Assert.assertEquals(4, ((CountMetrics) result.get(0).getMetrics()).getValue());
+    }
+
+    @Test
+    public void testLateTotalWithinCloseDelay() {
+        ExportDataCoalescer coalescer = new ExportDataCoalescer(true, 30_000);
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(3), TOTAL));
+
+        long bucketEnd = TimeBucket.getTimestamp(TIME_BUCKET) + 60_000;
+        Assert.assertEquals(0, coalescer.flush(bucketEnd).size());
+
+        // The late data of the ended time bucket are persisted, and the total changes within the delay.
+        coalescer.add(new ExportData(metaInfo, new CountMetrics(6), TOTAL));
+        Assert.assertEquals(0, coalescer.flush(bucketEnd + 29_999).size());
+
+        List<ExportData> result = coalescer.flush(bucketEnd + 30_000);
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(6, ((CountMetrics) result.get(0).getMetrics()).getValue());
+        Assert.assertEquals(0, coalescer.flush(bucketEnd + 60_000).size());
+    }
+
+    @Test
+    public void testIsClosed() {
+        long bucketEnd = TimeBucket.getTimestamp(TIME_BUCKET) + 60_000;
+        Assert.assertFalse(ExportDataCoalescer.isClosed(TIME_BUCKET, bucketEnd - 1, 0));
+        Assert.assertTrue(ExportDataCoalescer.isClosed(TIME_BUCKET, bucketEnd, 0));
+        Assert.assertFalse(ExportDataCoalescer.isClosed(TIME_BUCKET, bucketEnd + 2_999, 3_000));
+        Assert.assertTrue(ExportDataCoalescer.isClosed(TIME_BUCKET, bucketEnd + 3_000, 3_000));
+    }
+
+    public static class CountMetrics extends MockMetrics implements LongValueHolder {
+        private long value;
+
+        public CountMetrics() {
+        }
+
+        public CountMetrics(long value) {
+            this.value = value;
+            setTimeBucket(TIME_BUCKET);
+        }
+
+        @Override
+        public long getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean combine(Metrics metrics) {
+            value += ((CountMetrics) metrics).value;
+            return true;
+        }
+
+        @Override
+        public void deserialize(RemoteData remoteData) {
+            value = remoteData.getDataLongs(0);
+            setTimeBucket(remoteData.getDataLongs(1));
+        }
+
+        @Override
+        public RemoteData.Builder serialize() {
+            return RemoteData.newBuilder().addDataLongs(value).addDataLongs(getTimeBucket());
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.skywalking.oal.rt;
 
 import freemarker.template.Configuration;
 import freemarker.template.Version;
+import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -49,6 +50,7 @@ import javassist.bytecode.annotation.IntegerMemberValue;
 import javassist.bytecode.annotation.StringMemberValue;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.skywalking.apm.util.StringUtil;
 import org.apache.skywalking.oal.rt.output.AllDispatcherContext;
 import org.apache.skywalking.oal.rt.output.DispatcherContext;
@@ -59,6 +61,7 @@ import org.apache.skywalking.oal.rt.parser.SourceColumn;
 import org.apache.skywalking.oap.server.core.WorkPath;
 import org.apache.skywalking.oap.server.core.analysis.DisableRegister;
 import org.apache.skywalking.oap.server.core.analysis.DispatcherDetectorListener;
+import org.apache.skywalking.oap.server.core.analysis.GeneratedClassCache;
 import org.apache.skywalking.oap.server.core.analysis.SourceDispatcher;
 import org.apache.skywalking.oap.server.core.analysis.Stream;
 import org.apache.skywalking.oap.server.core.analysis.StreamAnnotationListener;
@@ -108,6 +111,8 @@ public class OALRuntime implements OALEngine {
     private StreamAnnotationListener streamAnnotationListener;
     private DispatcherDetectorListener dispatcherDetectorListener;
     private StorageBuilderFactory storageBuilderFactory;
+    private String classCachePath;
+    private GeneratedClassCache classCache;
     private final List<Class> metricsClasses;
     private final List<Class> dispatcherClasses;
     private final boolean openEngineDebug;
@@ -139,6 +144,11 @@ public class OALRuntime implements OALEngine {
         storageBuilderFactory = factory;
     }
 
+    @Override
+    public void setClassCachePath(final String path) {
+        classCachePath = path;
+    }
+
     @Override
     public void start(ClassLoader currentClassLoader) throws ModuleStartException, OALCompileException {
         if (!IS_RT_TEMP_FOLDER_INIT_COMPLETED) {
@@ -147,17 +157,30 @@ public class OALRuntime implements OALEngine {
         }
 
         this.currentClassLoader = currentClassLoader;
-        Reader read;
+        String script;
 
-        try {
-            read = ResourceUtils.read(oalDefine.getConfigFile());
+        try (Reader read = ResourceUtils.read(oalDefine.getConfigFile())) {
+            script = IOUtils.toString(read);
         } catch (FileNotFoundException e) {
             throw new ModuleStartException("Can't locate " + oalDefine.getConfigFile(), e);
+        } catch (IOException e) {
+            throw new ModuleStartException("Can't read " + oalDefine.getConfigFile(), e);
         }
 
+        /*
+         * The generated classes depend on the script, the define, the storage builder template, and the jars of the
+         * code templates and the parent classes.
+         */
+        classCache = GeneratedClassCache.create(
+            classCachePath, oalDefine.getConfigFile(),
+            script + oalDefine + storageBuilderFactory.builderTemplate().getSuperClass()
+                + storageBuilderFactory.builderTemplate().getTemplatePath(),
+            OALRuntime.class, Stream.class, storageBuilderFactory.getClass()
+        );
+
         OALScripts oalScripts;
         try {
-            ScriptParser scriptParser = ScriptParser.createFromFile(read, oalDefine.getSourcePackage());
+            ScriptParser scriptParser = ScriptParser.createFromScriptText(script, oalDefine.getSourcePackage());
             oalScripts = scriptParser.parse();
         } catch (IOException e) {
             throw new ModuleStartException("OAL script parse analysis failure.", e);
@@ -203,9 +226,34 @@ public class OALRuntime implements OALEngine {
     }
 
     /**
-     * Generate metrics class, and inject it to classloader
+     * Generate metrics class, or load it from the class cache, and inject it to classloader
      */
     private Class generateMetricsClass(AnalysisResult metricsStmt) throws OALCompileException {
+        String className = metricsClassName(metricsStmt, false);
+        CtClass metricsClass = loadCachedClass(metricsClassName(metricsStmt, true));
+        final boolean cached = metricsClass != null;
+        if (!cached) {
+            metricsClass = makeMetricsClass(metricsStmt);
+        }
+
+        Class targetClass;
+        try {
+            targetClass = metricsClass.toClass(currentClassLoader, null);
+        } catch (CannotCompileException e) {
+            log.error("Can't compile/load " + className + ".", e);
+            throw new OALCompileException(e.getMessage(), e);
+        }
+
+        log.debug("Generate metrics class, " + metricsClass.getName());
+        if (!cached) {
+            cacheGeneratedClass(metricsClass);
+        }
+        writeGeneratedFile(metricsClass, metricsClass.getSimpleName(), "metrics");
+
+        return targetClass;
+    }
+
+    private CtClass makeMetricsClass(AnalysisResult metricsStmt) throws OALCompileException {
         String className = metricsClassName(metricsStmt, false);
         CtClass parentMetricsClass = null;
         try {
@@ -303,24 +351,34 @@ public class OALRuntime implements OALEngine {
         annotationsAttribute.addAnnotation(streamAnnotation);
         metricsClassClassFile.addAttribute(annotationsAttribute);
 
-        Class targetClass;
+        return metricsClass;
+    }
+
+    /**
+     * Generate metrics class builder, or load it from the class cache, and inject it to classloader
+     */
+    private void generateMetricsBuilderClass(AnalysisResult metricsStmt) throws OALCompileException {
+        String className = metricsBuilderClassName(metricsStmt, false);
+        CtClass metricsBuilderClass = loadCachedClass(metricsBuilderClassName(metricsStmt, true));
+        final boolean cached = metricsBuilderClass != null;
+        if (!cached) {
+            metricsBuilderClass = makeMetricsBuilderClass(metricsStmt);
+        }
+
         try {
-            targetClass = metricsClass.toClass(currentClassLoader, null);
+            metricsBuilderClass.toClass(currentClassLoader, null);
         } catch (CannotCompileException e) {
             log.error("Can't compile/load " + className + ".", e);
             throw new OALCompileException(e.getMessage(), e);
         }
 
-        log.debug("Generate metrics class, " + metricsClass.getName());
-        writeGeneratedFile(metricsClass, metricsClass.getSimpleName(), "metrics");
-
-        return targetClass;
+        if (!cached) {
+            cacheGeneratedClass(metricsBuilderClass);
+        }
+        writeGeneratedFile(metricsBuilderClass, className, "metrics/builder");
     }
 
-    /**
-     * Generate metrics class builder and inject it to classloader
-     */
-    private void generateMetricsBuilderClass(AnalysisResult metricsStmt) throws OALCompileException {
+    private CtClass makeMetricsBuilderClass(AnalysisResult metricsStmt) throws OALCompileException {
         String className = metricsBuilderClassName(metricsStmt, false);
         CtClass metricsBuilderClass = classPool.makeClass(metricsBuilderClassName(metricsStmt, true));
         try {
@@ -358,21 +416,38 @@ public class OALRuntime implements OALEngine {
             }
         }
 
+        return metricsBuilderClass;
+    }
+
+    /**
+     * Generate SourceDispatcher class, or load it from the class cache, and inject it to classloader
+     */
+    private Class generateDispatcherClass(String scopeName,
+                                          DispatcherContext dispatcherContext) throws OALCompileException {
+        String className = dispatcherClassName(scopeName, false);
+        CtClass dispatcherClass = loadCachedClass(dispatcherClassName(scopeName, true));
+        final boolean cached = dispatcherClass != null;
+        if (!cached) {
+            dispatcherClass = makeDispatcherClass(scopeName, dispatcherContext);
+        }
+
+        Class targetClass;
         try {
-            metricsBuilderClass.toClass(currentClassLoader, null);
+            targetClass = dispatcherClass.toClass(currentClassLoader, null);
         } catch (CannotCompileException e) {
             log.error("Can't compile/load " + className + ".", e);
             throw new OALCompileException(e.getMessage(), e);
         }
 
-        writeGeneratedFile(metricsBuilderClass, className, "metrics/builder");
+        if (!cached) {
+            cacheGeneratedClass(dispatcherClass);
+        }
+        writeGeneratedFile(dispatcherClass, className, "dispatcher");
+        return targetClass;
     }
 
-    /**
-     * Generate SourceDispatcher class and inject it to classloader
-     */
-    private Class generateDispatcherClass(String scopeName,
-                                          DispatcherContext dispatcherContext) throws OALCompileException {
+    private CtClass makeDispatcherClass(String scopeName,
+                                        DispatcherContext dispatcherContext) throws OALCompileException {
 
         String className = dispatcherClassName(scopeName, false);
         CtClass dispatcherClass = classPool.makeClass(dispatcherClassName(scopeName, true));
@@ -435,16 +510,31 @@ public class OALRuntime implements OALEngine {
             throw new OALCompileException(e.getMessage(), e);
         }
 
-        Class targetClass;
+        return dispatcherClass;
+    }
+
+    /**
+     * @return the class loaded from the bytecode in the class cache, or null if it is absent or broken.
+     */
+    private CtClass loadCachedClass(String className) {
+        final byte[] bytecode = classCache.load(className);
+        if (bytecode == null) {
+            return null;
+        }
         try {
-            targetClass = dispatcherClass.toClass(currentClassLoader, null);
-        } catch (CannotCompileException e) {
-            log.error("Can't compile/load " + className + ".", e);
-            throw new OALCompileException(e.getMessage(), e);
+            return classPool.makeClass(new ByteArrayInputStream(bytecode));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Can't load the cached class " + className + ", generate it again.", e);
+            return null;
         }
+    }
 
-        writeGeneratedFile(dispatcherClass, className, "dispatcher");
-        return targetClass;
+    private void cacheGeneratedClass(CtClass generatedClass) {
+        try {
+            classCache.save(generatedClass.getName(), generatedClass.toBytecode());
+        } catch (IOException | CannotCompileException e) {
+            log.warn("Can't cache the generated class " + generatedClass.getName() + ", ignore.", e);
+        }
     }
 
     private String metricsClassName(AnalysisResult metricsStmt, boolean fullName) {
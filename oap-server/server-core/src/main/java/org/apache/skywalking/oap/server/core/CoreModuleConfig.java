@@ -77,6 +77,11 @@ public class CoreModuleConfig extends ModuleConfig {
      */
 
     private int remoteTimeout = 20;
+    /**
+     * The period, in seconds, during which the metrics keep being routed to their previous OAP node after the cluster
+     * membership changed, to avoid splitting the same time bucket across OAP nodes. 0 means no handoff.
+     */
+    private int remoteHandoffPeriod = 60;
     /**
      * The size of network address alias.
      */
@@ -85,6 +90,13 @@ public class CoreModuleConfig extends ModuleConfig {
      * Following are cache setting for none stream(s)
      */
     private long maxSizeOfProfileTask = 10_000L;
+    /**
+     * The max number of the service relation calls kept in the topology snapshots of the closed time buckets. 0 means
+     * the topology is always queried from the storage.
+     *
+     * @since 8.6.0
+     */
+    private long maxSizeOfTopologySnapshot = 200_000L;
     /**
      * Analyze profile snapshots paging size.
      */
@@ -151,6 +163,63 @@ public class CoreModuleConfig extends ModuleConfig {
     @Setter
     private int maxSyncOperationNum = 50000;
 
+    /**
+     * The max number of the bulk requests waiting for the confirmation of the storage at the same time. The sync
+     * threads are released once the bulk is sent if the storage supports non-blocking flush, so this could be greater
+     * than the {@link #syncThreads}. Non-positive means bounded by the {@link #syncThreads}.
+     *
+     * @since 8.6.0
+     */
+    @Getter
+    @Setter
+    private int maxInFlightFlushes = 8;
+
+    /**
+     * Shed the low priority received data, and ask the agents to backoff, once the OAP server is overloaded.
+     *
+     * @since 8.6.0
+     */
+    private boolean admissionControlActive = false;
+
+    /**
+     * Once the pressure reaches this watermark, the logs are shed and the agents are asked to backoff. The pressure is
+     * the max of the gRPC thread pool queue usage and the persistence lag against twice the persistent period.
+     *
+     * @since 8.6.0
+     */
+    private double admissionControlHighWatermark = 0.7;
+
+    /**
+     * Once the pressure reaches this watermark, the trace segments are shed too.
+     *
+     * @since 8.6.0
+     */
+    private double admissionControlCriticalWatermark = 0.9;
+
+    /**
+     * The duration in seconds, which the agents are asked to stop reporting segments once the OAP server is overloaded.
+     *
+     * @since 8.6.0
+     */
+    private int admissionControlBackoffDuration = 30;
+
+    /**
+     * The root path of the cache of the OAL and MAL generated classes. The cached classes are loaded in the next boot,
+     * unless the scripts or the OAP jars change. Empty means the classes are always generated.
+     *
+     * @since 8.6.0
+     */
+    private String classCachePath = "";
+
+    /**
+     * The period, in seconds, of reloading the network address alias and the profile task caches from the storage.
+     * The changes made by any OAP node are pushed to all the others instantly, so the reloading only reconciles the
+     * missed changes.
+     *
+     * @since 8.6.0
+     */
+    private int cacheUpdatePeriod = 60;
+
     public CoreModuleConfig() {
         this.downsampling = new ArrayList<>();
     }
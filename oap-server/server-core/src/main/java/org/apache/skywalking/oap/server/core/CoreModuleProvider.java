@@ -21,6 +21,7 @@ package org.apache.skywalking.oap.server.core;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
 import java.io.IOException;
 import org.apache.skywalking.oap.server.configuration.api.ConfigurationModule;
 import org.apache.skywalking.oap.server.configuration.api.DynamicConfigurationService;
@@ -33,6 +34,7 @@ import org.apache.skywalking.oap.server.core.analysis.worker.ManagementStreamPro
 import org.apache.skywalking.oap.server.core.analysis.worker.MetricsStreamProcessor;
 import org.apache.skywalking.oap.server.core.analysis.worker.TopNStreamProcessor;
 import org.apache.skywalking.oap.server.core.annotation.AnnotationScan;
+import org.apache.skywalking.oap.server.core.cache.CacheUpdateBroadcaster;
 import org.apache.skywalking.oap.server.core.cache.CacheUpdateTimer;
 import org.apache.skywalking.oap.server.core.cache.NetworkAddressAliasCache;
 import org.apache.skywalking.oap.server.core.cache.ProfileTaskCache;
@@ -70,6 +72,7 @@ import org.apache.skywalking.oap.server.core.remote.RemoteServiceHandler;
 import org.apache.skywalking.oap.server.core.remote.client.Address;
 import org.apache.skywalking.oap.server.core.remote.client.RemoteClientManager;
 import org.apache.skywalking.oap.server.core.remote.health.HealthCheckServiceHandler;
+import org.apache.skywalking.oap.server.core.server.AdmissionControlService;
 import org.apache.skywalking.oap.server.core.server.GRPCHandlerRegister;
 import org.apache.skywalking.oap.server.core.server.GRPCHandlerRegisterImpl;
 import org.apache.skywalking.oap.server.core.server.JettyHandlerRegister;
@@ -112,6 +115,7 @@ public class CoreModuleProvider extends ModuleProvider {
 
     private final CoreModuleConfig moduleConfig;
     private GRPCServer grpcServer;
+    private AdmissionControlService admissionControlService;
     private JettyServer jettyServer;
     private RemoteClientManager remoteClientManager;
     private final AnnotationScan annotationScan;
@@ -171,7 +175,8 @@ public class CoreModuleProvider extends ModuleProvider {
             throw new ModuleStartException(e.getMessage(), e);
         }
 
-        this.registerServiceImplementation(MeterSystem.class, new MeterSystem(getManager()));
+        this.registerServiceImplementation(
+            MeterSystem.class, new MeterSystem(getManager(), moduleConfig.getClassCachePath()));
 
         AnnotationScan oalDisable = new AnnotationScan();
         oalDisable.registerListener(DisableRegister.INSTANCE);
@@ -224,6 +229,15 @@ public class CoreModuleProvider extends ModuleProvider {
             DownSamplingConfigService.class, new DownSamplingConfigService(moduleConfig.getDownsampling()));
 
         this.registerServiceImplementation(GRPCHandlerRegister.class, new GRPCHandlerRegisterImpl(grpcServer));
+        admissionControlService = new AdmissionControlService(
+            moduleConfig.isAdmissionControlActive(), moduleConfig.getAdmissionControlHighWatermark(),
+            moduleConfig.getAdmissionControlCriticalWatermark(), moduleConfig.getAdmissionControlBackoffDuration()
+        );
+        admissionControlService.addPressureSource(grpcServer::getThreadPoolQueueUsage);
+        final long persistentPeriod = TimeUnit.SECONDS.toMillis(moduleConfig.getPersistentPeriod());
+        admissionControlService.addPressureSource(
+            () -> (double) PersistenceTimer.INSTANCE.getPersistenceLag() / (2 * persistentPeriod));
+        this.registerServiceImplementation(AdmissionControlService.class, admissionControlService);
         this.registerServiceImplementation(JettyHandlerRegister.class, new JettyHandlerRegisterImpl(jettyServer));
 
         this.registerServiceImplementation(IComponentLibraryCatalogService.class, new ComponentLibraryCatalogService());
@@ -234,7 +248,8 @@ public class CoreModuleProvider extends ModuleProvider {
         this.registerServiceImplementation(IWorkerInstanceGetter.class, instancesService);
         this.registerServiceImplementation(IWorkerInstanceSetter.class, instancesService);
 
-        this.registerServiceImplementation(RemoteSenderService.class, new RemoteSenderService(getManager()));
+        this.registerServiceImplementation(RemoteSenderService.class, new RemoteSenderService(
+            getManager(), TimeUnit.SECONDS.toMillis(moduleConfig.getRemoteHandoffPeriod())));
         this.registerServiceImplementation(ModelCreator.class, storageModels);
         this.registerServiceImplementation(IModelManager.class, storageModels);
         this.registerServiceImplementation(ModelManipulator.class, storageModels);
@@ -242,7 +257,7 @@ public class CoreModuleProvider extends ModuleProvider {
         this.registerServiceImplementation(
             NetworkAddressAliasCache.class, new NetworkAddressAliasCache(moduleConfig));
 
-        this.registerServiceImplementation(TopologyQueryService.class, new TopologyQueryService(getManager()));
+        this.registerServiceImplementation(TopologyQueryService.class, new TopologyQueryService(getManager(), moduleConfig));
         this.registerServiceImplementation(MetricsMetadataQueryService.class, new MetricsMetadataQueryService());
         this.registerServiceImplementation(MetricsQueryService.class, new MetricsQueryService(getManager()));
         this.registerServiceImplementation(TraceQueryService.class, new TraceQueryService(getManager()));
@@ -264,7 +279,7 @@ public class CoreModuleProvider extends ModuleProvider {
         this.registerServiceImplementation(CommandService.class, new CommandService(getManager()));
 
         // add oal engine loader service implementations
-        oalEngineLoaderService = new OALEngineLoaderService(getManager());
+        oalEngineLoaderService = new OALEngineLoaderService(getManager(), moduleConfig.getClassCachePath());
         this.registerServiceImplementation(OALEngineLoaderService.class, oalEngineLoaderService);
 
         annotationScan.registerListener(new StreamAnnotationListener(getManager()));
@@ -293,6 +308,7 @@ public class CoreModuleProvider extends ModuleProvider {
         grpcServer.addHandler(new RemoteServiceHandler(getManager()));
         grpcServer.addHandler(new HealthCheckServiceHandler());
         remoteClientManager.start();
+        CacheUpdateBroadcaster.INSTANCE.start(getManager());
 
         // Disable OAL script has higher priority
         oalEngineLoaderService.load(DisableOALDefine.INSTANCE);
@@ -340,12 +356,13 @@ public class CoreModuleProvider extends ModuleProvider {
         }
 
         PersistenceTimer.INSTANCE.start(getManager(), moduleConfig);
+        admissionControlService.start(getManager());
 
         if (moduleConfig.isEnableDataKeeperExecutor()) {
             DataTTLKeeperTimer.INSTANCE.start(getManager(), moduleConfig);
         }
 
-        CacheUpdateTimer.INSTANCE.start(getManager(), moduleConfig.getMetricsDataTTL());
+        CacheUpdateTimer.INSTANCE.start(getManager(), moduleConfig);
 
         try {
             final File[] templateFiles = ResourceUtils.getPathFiles("ui-initialized-templates");
@@ -25,9 +25,8 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import org.apache.skywalking.oap.server.core.UnexpectedException;
 import org.apache.skywalking.oap.server.core.source.Source;
 import org.slf4j.Logger;
@@ -37,10 +36,16 @@ public class DispatcherManager implements DispatcherDetectorListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DispatcherManager.class);
 
-    private Map<Integer, List<SourceDispatcher>> dispatcherMap;
+    private static final SourceDispatcher[] NO_DISPATCHER = new SourceDispatcher[0];
+
+    /**
+     * The dispatchers indexed by the scope id. It is replaced as a whole when a new dispatcher is added, so the
+     * forwarding threads don't require any lock.
+     */
+    private volatile SourceDispatcher[][] dispatchers;
 
     public DispatcherManager() {
-        this.dispatcherMap = new HashMap<>();
+        this.dispatchers = new SourceDispatcher[0][];
     }
 
     public void forward(Source source) {
@@ -48,14 +53,14 @@ public class DispatcherManager implements DispatcherDetectorListener {
             return;
         }
 
-        List<SourceDispatcher> dispatchers = dispatcherMap.get(source.scope());
+        SourceDispatcher[] dispatchers = dispatchersOf(this.dispatchers, source.scope());
 
         /**
          * Dispatcher is only generated by oal script analysis result.
          * So these will/could be possible, the given source doesn't have the dispatcher,
          * when the receiver is open, and oal script doesn't ask for analysis.
          */
-        if (dispatchers != null) {
+        if (dispatchers.length > 0) {
             source.prepare();
             for (SourceDispatcher dispatcher : dispatchers) {
                 dispatcher.dispatch(source);
@@ -63,6 +68,46 @@ public class DispatcherManager implements DispatcherDetectorListener {
         }
     }
 
+    /**
+     * Group the sources by the scope, and dispatch every group to the dispatchers of the scope in one call.
+     */
+    @SuppressWarnings("unchecked")
+    public void forward(List<? extends Source> sources) {
+        final SourceDispatcher[][] dispatchers = this.dispatchers;
+        final List<Source>[] batches = new List[dispatchers.length];
+        for (int i = 0; i < sources.size(); i++) {
+            final Source source = sources.get(i);
+            if (source == null) {
+                continue;
+            }
+            final int scope = source.scope();
+            if (dispatchersOf(dispatchers, scope).length == 0) {
+                continue;
+            }
+            source.prepare();
+            if (batches[scope] == null) {
+                batches[scope] = new ArrayList<>();
+            }
+            batches[scope].add(source);
+        }
+
+        for (int scope = 0; scope < batches.length; scope++) {
+            if (batches[scope] == null) {
+                continue;
+            }
+            for (SourceDispatcher dispatcher : dispatchers[scope]) {
+                dispatcher.dispatch(batches[scope]);
+            }
+        }
+    }
+
+    private static SourceDispatcher[] dispatchersOf(SourceDispatcher[][] dispatchers, int scope) {
+        if (scope < 0 || scope >= dispatchers.length || dispatchers[scope] == null) {
+            return NO_DISPATCHER;
+        }
+        return dispatchers[scope];
+    }
+
     /**
      * Scan all classes under `org.apache.skywalking` package,
      * <p>
@@ -106,13 +151,7 @@ public class DispatcherManager implements DispatcherDetectorListener {
 
                     int scopeId = dispatcherSource.scope();
 
-                    List<SourceDispatcher> dispatchers = this.dispatcherMap.get(scopeId);
-                    if (dispatchers == null) {
-                        dispatchers = new ArrayList<>();
-                        this.dispatcherMap.put(scopeId, dispatchers);
-                    }
-
-                    dispatchers.add(dispatcher);
+                    addDispatcher(scopeId, dispatcher);
 
                     LOGGER.info("Dispatcher {} is added into DefaultScopeDefine {}.", dispatcher.getClass()
                                                                                                 .getName(), scopeId);
@@ -120,4 +159,16 @@ public class DispatcherManager implements DispatcherDetectorListener {
             }
         }
     }
+
+    private synchronized void addDispatcher(int scopeId, SourceDispatcher dispatcher) {
+        if (scopeId < 0) {
+            throw new UnexpectedException("unexpected scope id " + scopeId + " of " + dispatcher.getClass().getName());
+        }
+        final SourceDispatcher[][] table = Arrays.copyOf(dispatchers, Math.max(dispatchers.length, scopeId + 1));
+        final SourceDispatcher[] existing = dispatchersOf(table, scopeId);
+        final SourceDispatcher[] added = Arrays.copyOf(existing, existing.length + 1);
+        added[existing.length] = dispatcher;
+        table[scopeId] = added;
+        dispatchers = table;
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.apm.util.StringUtil;
+
+/**
+ * GeneratedClassCache keeps the bytecode of the classes generated at runtime, such as the OAL and MAL metrics classes,
+ * on the disk, so the next boot could load them rather than generating and compiling them again.
+ *
+ * The cached classes are located by the fingerprint of the generation inputs, including the scripts and the jars of
+ * the generators, so any change of the scripts or an upgrade of OAP leads to a new cache folder.
+ */
+@Slf4j
+public class GeneratedClassCache {
+    private static final GeneratedClassCache DISABLED = new GeneratedClassCache(null);
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * Nullable, the cache is disabled if absent.
+     */
+    private final File folder;
+
+    private GeneratedClassCache(final File folder) {
+        this.folder = folder;
+    }
+
+    /**
+     * @param path       the root path of the cache, empty means the cache is disabled.
+     * @param name       the name of the generated classes group, such as the OAL script file.
+     * @param content    the content used in the class generation, such as the script text.
+     * @param generators the classes generating or being inherited by the generated classes, whose jars are included in
+     *                   the fingerprint.
+     * @return the cache of the given generation inputs.
+     */
+    public static GeneratedClassCache create(String path, String name, String content, Class<?>... generators) {
+        if (StringUtil.isEmpty(path)) {
+            return DISABLED;
+        }
+        final String fingerprint;
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content.getBytes(StandardCharsets.UTF_8));
+            for (final Class<?> generator : generators) {
+                digest.update(fingerprintOf(generator).getBytes(StandardCharsets.UTF_8));
+            }
+            fingerprint = toHex(digest.digest());
+        } catch (NoSuchAlgorithmException | URISyntaxException | RuntimeException e) {
+            log.warn("Can't fingerprint the generated classes of {}, the class cache is disabled.", name, e);
+            return DISABLED;
+        }
+
+        final File group = new File(path, name.replaceAll("[^a-zA-Z0-9_.-]", "_"));
+        removeStaleFolders(group, fingerprint);
+        return new GeneratedClassCache(new File(group, fingerprint));
+    }
+
+    /**
+     * @return the cached bytecode of the given entry, or null if absent.
+     */
+    public byte[] load(String entry) {
+        if (folder == null) {
+            return null;
+        }
+        final File file = new File(folder, entry + CLASS_FILE_SUFFIX);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            log.warn("Can't read the cached class {}, ignore.", file.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Save the bytecode of the given entry. The file is moved into the cache folder after being completely written, so
+     * a partial file is never loaded even if the cache folder is shared.
+     */
+    public void save(String entry, byte[] bytecode) {
+        if (folder == null) {
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(folder.toPath());
+            temp = Files.createTempFile(folder.toPath(), entry, ".tmp");
+            Files.write(temp, bytecode);
+            Files.move(
+                temp, new File(folder, entry + CLASS_FILE_SUFFIX).toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+            );
+            temp = null;
+        } catch (IOException e) {
+            log.warn("Can't cache the generated class {}, ignore.", entry, e);
+        } finally {
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * @return the path, size and modified time of the jar(or class file in the IDE) including the given class.
+     */
+    private static String fingerprintOf(Class<?> generator) throws URISyntaxException {
+        final CodeSource codeSource = generator.getProtectionDomain().getCodeSource();
+        File file = new File(codeSource.getLocation().toURI());
+        if (file.isDirectory()) {
+            file = new File(file, generator.getName().replace('.', '/') + CLASS_FILE_SUFFIX);
+        }
+        return generator.getName() + ":" + file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified();
+    }
+
+    /**
+     * Remove the cache folders of the previous fingerprints, which would never be used again.
+     */
+    private static void removeStaleFolders(File group, String fingerprint) {
+        final File[] folders = group.listFiles();
+        if (folders == null) {
+            return;
+        }
+        for (final File stale : folders) {
+            if (!stale.getName().equals(fingerprint) && !delete(stale)) {
+                log.warn("Can't delete the stale class cache {}, ignore.", stale.getAbsolutePath());
+            }
+        }
+    }
+
+    private static boolean delete(File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (final File child : children) {
+                delete(child);
+            }
+        }
+        return file.delete();
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (final byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.oap.server.core.analysis;
 
+import java.util.List;
 import org.apache.skywalking.oap.server.core.source.Source;
 
 /**
@@ -31,4 +32,14 @@ import org.apache.skywalking.oap.server.core.source.Source;
  */
 public interface SourceDispatcher<SOURCE extends Source> {
     void dispatch(SOURCE source);
+
+    /**
+     * Dispatch the sources of the same scope in one call. The implementation could override it to process the batch
+     * more efficiently.
+     */
+    default void dispatch(List<SOURCE> sources) {
+        for (int i = 0; i < sources.size(); i++) {
+            dispatch(sources.get(i));
+        }
+    }
 }
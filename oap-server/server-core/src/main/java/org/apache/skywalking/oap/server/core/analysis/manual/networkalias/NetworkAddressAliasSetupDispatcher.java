@@ -20,6 +20,7 @@ package org.apache.skywalking.oap.server.core.analysis.manual.networkalias;
 
 import org.apache.skywalking.oap.server.core.analysis.SourceDispatcher;
 import org.apache.skywalking.oap.server.core.analysis.worker.MetricsStreamProcessor;
+import org.apache.skywalking.oap.server.core.cache.CacheUpdateBroadcaster;
 import org.apache.skywalking.oap.server.core.source.NetworkAddressAliasSetup;
 
 public class NetworkAddressAliasSetupDispatcher implements SourceDispatcher<NetworkAddressAliasSetup> {
@@ -31,6 +32,7 @@ public class NetworkAddressAliasSetupDispatcher implements SourceDispatcher<Netw
         networkAddressAlias.setRepresentServiceId(source.getRepresentServiceId());
         networkAddressAlias.setRepresentServiceInstanceId(source.getRepresentServiceInstanceId());
         networkAddressAlias.setLastUpdateTimeBucket(source.getTimeBucket());
+        CacheUpdateBroadcaster.INSTANCE.broadcast(networkAddressAlias);
         MetricsStreamProcessor.getInstance().in(networkAddressAlias);
     }
 }
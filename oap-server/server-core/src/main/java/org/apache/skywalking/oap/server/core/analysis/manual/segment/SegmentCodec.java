@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.analysis.manual.segment;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.skywalking.oap.server.core.UnexpectedException;
+
+/**
+ * SegmentCodec encodes the serialized segment before it is stored as {@link SegmentRecord#getDataBinary()}.
+ * <p>
+ * The encoded data starts with a 0x00 byte, which never starts a serialized protobuf message as the field number 0 is
+ * illegal, followed by the codec id. So {@link #decode(byte[])} detects the codec from the data itself, and the data
+ * stored without encoding is still readable.
+ */
+public enum SegmentCodec {
+    /**
+     * Store the serialized segment as it is.
+     */
+    NONE((byte) 0) {
+        @Override
+        public byte[] encode(final byte[] data) {
+            return data;
+        }
+
+        @Override
+        byte[] doDecode(final byte[] data) {
+            return data;
+        }
+    },
+    /**
+     * Compress the serialized segment by JDK {@link Deflater}.
+     */
+    DEFLATE((byte) 1) {
+        @Override
+        public byte[] encode(final byte[] data) {
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(data);
+                deflater.finish();
+                final ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2 + HEADER_LENGTH);
+                output.write(MAGIC);
+                output.write(id);
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                while (!deflater.finished()) {
+                    output.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return output.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] doDecode(final byte[] data) {
+            final Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+                final ByteArrayOutputStream output = new ByteArrayOutputStream(data.length * 4);
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                while (!inflater.finished()) {
+                    final int length = inflater.inflate(buffer);
+                    if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new UnexpectedException("Segment data binary is truncated.");
+                    }
+                    output.write(buffer, 0, length);
+                }
+                return output.toByteArray();
+            } catch (DataFormatException e) {
+                throw new UnexpectedException("Segment data binary can't be decoded.", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    private static final byte MAGIC = 0;
+    private static final int HEADER_LENGTH = 2;
+    private static final int BUFFER_SIZE = 4096;
+
+    final byte id;
+
+    SegmentCodec(final byte id) {
+        this.id = id;
+    }
+
+    /**
+     * @param data the serialized segment
+     * @return the encoded data to be stored
+     */
+    public abstract byte[] encode(byte[] data);
+
+    abstract byte[] doDecode(byte[] data);
+
+    /**
+     * @param data the stored data, encoded by any codec or not encoded at all.
+     * @return the serialized segment
+     */
+    public static byte[] decode(final byte[] data) {
+        if (data == null || data.length < HEADER_LENGTH || data[0] != MAGIC) {
+            return data;
+        }
+        for (final SegmentCodec codec : values()) {
+            if (codec.id == data[1] && codec != NONE) {
+                return codec.doDecode(data);
+            }
+        }
+        throw new UnexpectedException("Unknown segment codec id " + data[1]);
+    }
+
+    /**
+     * @param name the codec name, case-insensitive. Empty means {@link #NONE}.
+     * @throws IllegalArgumentException if the name isn't any of the codecs, rather than disabling the compression
+     *                                  silently because of a typo.
+     */
+    public static SegmentCodec findByName(final String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return NONE;
+        }
+        for (final SegmentCodec codec : values()) {
+            if (codec.name().equalsIgnoreCase(name.trim())) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException(
+            "Unknown segment codec " + name + ", available values are " + Arrays.toString(values()));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.skywalking.oap.server.core.analysis.meter;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.reflect.ClassPath;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -37,6 +38,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.oap.server.core.UnexpectedException;
+import org.apache.skywalking.oap.server.core.analysis.GeneratedClassCache;
 import org.apache.skywalking.oap.server.core.analysis.StreamDefinition;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
 import org.apache.skywalking.oap.server.core.analysis.meter.function.AcceptableValue;
@@ -58,6 +60,7 @@ public class MeterSystem implements Service {
     private static final String METER_CLASS_PACKAGE = "org.apache.skywalking.oap.server.core.analysis.meter.dynamic.";
     private ModuleManager manager;
     private ClassPool classPool;
+    private GeneratedClassCache classCache;
     private Map<String, Class<? extends MeterFunction>> functionRegister = new HashMap<>();
     /**
      * Host the dynamic meter prototype classes. These classes could be create dynamically through {@link
@@ -66,8 +69,19 @@ public class MeterSystem implements Service {
     private Map<String, MeterDefinition> meterPrototypes = new HashMap<>();
 
     public MeterSystem(final ModuleManager manager) {
+        this(manager, "");
+    }
+
+    /**
+     * @param classCachePath the root path of the generated class cache, empty means the cache is disabled.
+     */
+    public MeterSystem(final ModuleManager manager, final String classCachePath) {
         this.manager = manager;
         classPool = ClassPool.getDefault();
+        /*
+         * The meter classes only depend on the function classes in the core, so the jar fingerprint is enough.
+         */
+        classCache = GeneratedClassCache.create(classCachePath, "mal", "", MeterSystem.class);
 
         ClassPath classpath = null;
         try {
@@ -199,6 +213,40 @@ public class MeterSystem implements Service {
         } catch (NotFoundException e) {
         }
 
+        /**
+         * The cached class is keyed by the function too, as the same metrics could be recreated by another function.
+         */
+        final String cacheEntry = className + "-" + functionName;
+        CtClass metricsClass = loadCachedClass(cacheEntry);
+        final boolean cached = metricsClass != null;
+        if (!cached) {
+            metricsClass = makeMetricsClass(className, parentClass);
+        }
+
+        Class targetClass;
+        try {
+            targetClass = metricsClass.toClass(MeterSystem.class.getClassLoader(), null);
+            if (!cached) {
+                cacheGeneratedClass(cacheEntry, metricsClass);
+            }
+            AcceptableValue prototype = (AcceptableValue) targetClass.newInstance();
+            meterPrototypes.put(metricsName, new MeterDefinition(type, prototype, dataType));
+
+            log.debug("Generate metrics class, " + metricsClass.getName());
+
+            MetricsStreamProcessor.getInstance().create(
+                manager,
+                new StreamDefinition(
+                    metricsName, type.getScopeId(), prototype.builder(), MetricsStreamProcessor.class),
+                targetClass
+            );
+        } catch (CannotCompileException | IllegalAccessException | InstantiationException | StorageException e) {
+            log.error("Can't compile/load/init " + className + ".", e);
+            throw new UnexpectedException(e.getMessage(), e);
+        }
+    }
+
+    private CtClass makeMetricsClass(String className, CtClass parentClass) {
         CtClass metricsClass = classPool.makeClass(METER_CLASS_PACKAGE + className, parentClass);
 
         /**
@@ -228,23 +276,30 @@ public class MeterSystem implements Service {
             throw new UnexpectedException(e.getMessage(), e);
         }
 
-        Class targetClass;
-        try {
-            targetClass = metricsClass.toClass(MeterSystem.class.getClassLoader(), null);
-            AcceptableValue prototype = (AcceptableValue) targetClass.newInstance();
-            meterPrototypes.put(metricsName, new MeterDefinition(type, prototype, dataType));
+        return metricsClass;
+    }
 
-            log.debug("Generate metrics class, " + metricsClass.getName());
+    /**
+     * @return the class loaded from the bytecode in the class cache, or null if it is absent or broken.
+     */
+    private CtClass loadCachedClass(String cacheEntry) {
+        final byte[] bytecode = classCache.load(cacheEntry);
+        if (bytecode == null) {
+            return null;
+        }
+        try {
+            return classPool.makeClass(new ByteArrayInputStream(bytecode));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Can't load the cached class " + cacheEntry + ", generate it again.", e);
+            return null;
+        }
+    }
 
-            MetricsStreamProcessor.getInstance().create(
-                manager,
-                new StreamDefinition(
-                    metricsName, type.getScopeId(), prototype.builder(), MetricsStreamProcessor.class),
-                targetClass
-            );
-        } catch (CannotCompileException | IllegalAccessException | InstantiationException | StorageException e) {
-            log.error("Can't compile/load/init " + className + ".", e);
-            throw new UnexpectedException(e.getMessage(), e);
+    private void cacheGeneratedClass(String cacheEntry, CtClass generatedClass) {
+        try {
+            classCache.save(cacheEntry, generatedClass.toBytecode());
+        } catch (IOException | CannotCompileException e) {
+            log.warn("Can't cache the generated class " + cacheEntry + ", ignore.", e);
         }
     }
 
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.core.cache;
+
+import java.util.Collections;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.analysis.manual.networkalias.NetworkAddressAlias;
+import org.apache.skywalking.oap.server.core.profile.ProfileTaskRecord;
+import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
+import org.apache.skywalking.oap.server.core.remote.RemoteSenderService;
+import org.apache.skywalking.oap.server.core.worker.AbstractWorker;
+import org.apache.skywalking.oap.server.core.worker.IWorkerInstanceSetter;
+import org.apache.skywalking.oap.server.library.module.ModuleDefineHolder;
+
+/**
+ * CacheUpdateBroadcaster pushes the new network address alias and profile task from the OAP node analyzing or
+ * creating them to all OAP nodes through the inter-OAP gRPC channel, so they are visible in the {@link
+ * NetworkAddressAliasCache} and {@link ProfileTaskCache} without waiting for the {@link CacheUpdateTimer}.
+ */
+@Slf4j
+public enum CacheUpdateBroadcaster {
+    INSTANCE;
+
+    private static final String NETWORK_ADDRESS_ALIAS_WORKER = "network_address_alias_cache_update";
+    private static final String PROFILE_TASK_WORKER = "profile_task_cache_update";
+
+    private volatile RemoteSenderService remoteSender;
+    private NetworkAddressAliasCache networkAddressAliasCache;
+
+    public void start(ModuleDefineHolder moduleDefineHolder) {
+        networkAddressAliasCache = moduleDefineHolder.find(CoreModule.NAME)
+                                                     .provider()
+                                                     .getService(NetworkAddressAliasCache.class);
+        final ProfileTaskCache profileTaskCache = moduleDefineHolder.find(CoreModule.NAME)
+                                                                    .provider()
+                                                                    .getService(ProfileTaskCache.class);
+
+        final IWorkerInstanceSetter workerInstanceSetter = moduleDefineHolder.find(CoreModule.NAME)
+                                                                             .provider()
+                                                                             .getService(IWorkerInstanceSetter.class);
+        workerInstanceSetter.put(
+            NETWORK_ADDRESS_ALIAS_WORKER,
+            new NetworkAddressAliasUpdateWorker(moduleDefineHolder, networkAddressAliasCache),
+            NetworkAddressAlias.class
+        );
+        workerInstanceSetter.put(
+            PROFILE_TASK_WORKER,
+            new ProfileTaskUpdateWorker(moduleDefineHolder, profileTaskCache),
+            ProfileTaskUpdate.class
+        );
+
+        remoteSender = moduleDefineHolder.find(CoreModule.NAME).provider().getService(RemoteSenderService.class);
+    }
+
+    /**
+     * Push the alias to all OAP nodes, unless the same mapping has been cached already.
+     */
+    public void broadcast(NetworkAddressAlias networkAddressAlias) {
+        if (remoteSender == null) {
+            return;
+        }
+        final NetworkAddressAlias cached = networkAddressAliasCache.get(networkAddressAlias.getAddress());
+        if (cached != null
+            && Objects.equals(cached.getRepresentServiceId(), networkAddressAlias.getRepresentServiceId())
+            && Objects.equals(
+            cached.getRepresentServiceInstanceId(), networkAddressAlias.getRepresentServiceInstanceId())) {
+            return;
+        }
+
+        // Send a copy, as the original one is merged by the metrics workers.
+        final NetworkAddressAlias alias = new NetworkAddressAlias();
+        alias.setAddress(networkAddressAlias.getAddress());
+        alias.setRepresentServiceId(networkAddressAlias.getRepresentServiceId());
+        alias.setRepresentServiceInstanceId(networkAddressAlias.getRepresentServiceInstanceId());
+        alias.setLastUpdateTimeBucket(networkAddressAlias.getLastUpdateTimeBucket());
+        alias.setTimeBucket(networkAddressAlias.getTimeBucket());
+        remoteSender.broadcast(NETWORK_ADDRESS_ALIAS_WORKER, alias);
+    }
+
+    /**
+     * Push the new created task to all OAP nodes.
+     */
+    public void broadcast(ProfileTaskRecord record) {
+        if (remoteSender == null) {
+            return;
+        }
+        final ProfileTask task = ProfileTask.builder()
+                                            .id(record.id())
+                                            .serviceId(record.getServiceId())
+                                            .endpointName(record.getEndpointName())
+                                            .startTime(record.getStartTime())
+                                            .createTime(record.getCreateTime())
+                                            .duration(record.getDuration())
+                                            .minDurationThreshold(record.getMinDurationThreshold())
+                                            .dumpPeriod(record.getDumpPeriod())
+                                            .maxSamplingCount(record.getMaxSamplingCount())
+                                            .build();
+        remoteSender.broadcast(PROFILE_TASK_WORKER, new ProfileTaskUpdate(task));
+    }
+
+    private static class NetworkAddressAliasUpdateWorker extends AbstractWorker<NetworkAddressAlias> {
+        private final NetworkAddressAliasCache networkAddressAliasCache;
+
+        private NetworkAddressAliasUpdateWorker(ModuleDefineHolder moduleDefineHolder,
+                                                NetworkAddressAliasCache networkAddressAliasCache) {
+            super(moduleDefineHolder);
+            this.networkAddressAliasCache = networkAddressAliasCache;
+        }
+
+        @Override
+        public void in(NetworkAddressAlias networkAddressAlias) {
+            if (log.isDebugEnabled()) {
+                log.debug("Network address alias received: {}", networkAddressAlias.getAddress());
+            }
+            networkAddressAliasCache.load(Collections.singletonList(networkAddressAlias));
+        }
+    }
+
+    private static class ProfileTaskUpdateWorker extends AbstractWorker<ProfileTaskUpdate> {
+        private final ProfileTaskCache profileTaskCache;
+
+        private ProfileTaskUpdateWorker(ModuleDefineHolder moduleDefineHolder, ProfileTaskCache profileTaskCache) {
+            super(moduleDefineHolder);
+            this.profileTaskCache = profileTaskCache;
+        }
+
+        @Override
+        public void in(ProfileTaskUpdate profileTaskUpdate) {
+            profileTaskCache.addTask(profileTaskUpdate.getTask());
+        }
+    }
+}
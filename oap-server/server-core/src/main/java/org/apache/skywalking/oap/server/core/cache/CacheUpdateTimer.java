@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
 import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.CoreModuleConfig;
 import org.apache.skywalking.oap.server.core.analysis.DisableRegister;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
 import org.apache.skywalking.oap.server.core.analysis.manual.networkalias.NetworkAddressAlias;
@@ -41,18 +42,23 @@ public enum CacheUpdateTimer {
     INSTANCE;
 
     private int ttl = 10;
+    private int timeInterval = 10;
+    /**
+     * The network address alias cache could be filled by the {@link CacheUpdateBroadcaster} before the first update,
+     * so the full load doesn't rely on the cache size.
+     */
+    private boolean networkAddressAliasLoaded = false;
 
-    public void start(ModuleDefineHolder moduleDefineHolder, int ttl) {
+    public void start(ModuleDefineHolder moduleDefineHolder, CoreModuleConfig moduleConfig) {
         log.info("Cache updateServiceInventory timer start");
 
-        final long timeInterval = 10;
+        this.ttl = moduleConfig.getMetricsDataTTL();
+        this.timeInterval = moduleConfig.getCacheUpdatePeriod();
 
         Executors.newSingleThreadScheduledExecutor()
                  .scheduleAtFixedRate(
                      new RunnableWithExceptionProtection(() -> update(moduleDefineHolder), t -> log
                          .error("Cache update failure.", t)), 1, timeInterval, TimeUnit.SECONDS);
-        this.ttl = ttl;
-
     }
 
     private void update(ModuleDefineHolder moduleDefineHolder) {
@@ -64,7 +70,7 @@ public enum CacheUpdateTimer {
     }
 
     /**
-     * Update the cached data updated in last 1 minutes.
+     * Update the cached data updated since the last update. The first update loads all known alias day by day.
      */
     private void updateNetAddressAliasCache(ModuleDefineHolder moduleDefineHolder) {
         INetworkAddressAliasDAO networkAddressAliasDAO = moduleDefineHolder.find(StorageModule.NAME)
@@ -74,15 +80,26 @@ public enum CacheUpdateTimer {
         NetworkAddressAliasCache addressInventoryCache = moduleDefineHolder.find(CoreModule.NAME)
                                                                            .provider()
                                                                            .getService(NetworkAddressAliasCache.class);
-        long loadStartTime;
-        if (addressInventoryCache.currentSize() == 0) {
+        final long now = System.currentTimeMillis();
+        if (!networkAddressAliasLoaded) {
             /**
-             * As a new start process, load all known network alias information.
+             * As a new start process, load all known network alias information, one day per query.
              */
-            loadStartTime = TimeBucket.getMinuteTimeBucket(System.currentTimeMillis() - 60_000L * 60 * 24 * ttl);
-        } else {
-            loadStartTime = TimeBucket.getMinuteTimeBucket(System.currentTimeMillis() - 60_000L * 10);
+            final long oneDay = TimeUnit.DAYS.toMillis(1);
+            long pageStart = now - oneDay * ttl;
+            for (; pageStart < now - oneDay; pageStart += oneDay) {
+                addressInventoryCache.load(networkAddressAliasDAO.loadLastUpdate(
+                    TimeBucket.getMinuteTimeBucket(pageStart), TimeBucket.getMinuteTimeBucket(pageStart + oneDay)));
+            }
+            // The last page is open-ended, to include the alias updated during the loading.
+            addressInventoryCache.load(
+                networkAddressAliasDAO.loadLastUpdate(TimeBucket.getMinuteTimeBucket(pageStart)));
+            networkAddressAliasLoaded = true;
+            return;
         }
+        // Overlap the previous update, in case of the late persistence.
+        final long loadStartTime = TimeBucket.getMinuteTimeBucket(
+            now - TimeUnit.SECONDS.toMillis(timeInterval) - TimeUnit.MINUTES.toMillis(10));
         List<NetworkAddressAlias> addressInventories = networkAddressAliasDAO.loadLastUpdate(loadStartTime);
 
         addressInventoryCache.load(addressInventories);
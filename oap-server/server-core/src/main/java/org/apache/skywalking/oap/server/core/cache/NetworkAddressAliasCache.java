@@ -56,8 +56,4 @@ public class NetworkAddressAliasCache implements Service {
             networkAddressAliasCache.put(networkAddressAlias.getAddress(), networkAddressAlias);
         });
     }
-
-    long currentSize() {
-        return networkAddressAliasCache.size();
-    }
 }
@@ -22,6 +22,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -58,8 +59,10 @@ public class ProfileTaskCache implements Service {
         profileTaskDownstreamCache = CacheBuilder.newBuilder()
                                                  .initialCapacity(initialCapacitySize)
                                                  .maximumSize(moduleConfig.getMaxSizeOfProfileTask())
-                                                 // remove old profile task data
-                                                 .expireAfterWrite(Duration.ofMinutes(1))
+                                                 // remove old profile task data, but keep it longer than the
+                                                 // reloading period to avoid the gap between two reloads
+                                                 .expireAfterWrite(Duration.ofSeconds(
+                                                     Math.max(60, moduleConfig.getCacheUpdatePeriod() * 2L)))
                                                  .build();
 
         profileTaskIdCache = CacheBuilder.newBuilder()
@@ -109,7 +112,7 @@ public class ProfileTaskCache implements Service {
     /**
      * save service task list
      */
-    public void saveTaskList(String serviceId, List<ProfileTask> taskList) {
+    public synchronized void saveTaskList(String serviceId, List<ProfileTask> taskList) {
         if (taskList == null) {
             taskList = Collections.emptyList();
         }
@@ -117,6 +120,27 @@ public class ProfileTaskCache implements Service {
         profileTaskDownstreamCache.put(serviceId, taskList);
     }
 
+    /**
+     * add or replace the task in the task list of its service, and remove the finished tasks at the same time
+     */
+    public synchronized void addTask(ProfileTask task) {
+        final long now = System.currentTimeMillis();
+        final List<ProfileTask> taskList = new ArrayList<>();
+        final List<ProfileTask> existingTasks = profileTaskDownstreamCache.getIfPresent(task.getServiceId());
+        if (existingTasks != null) {
+            for (ProfileTask existingTask : existingTasks) {
+                final long endTime = existingTask.getStartTime() + TimeUnit.MINUTES.toMillis(
+                    existingTask.getDuration());
+                if (!existingTask.getId().equals(task.getId()) && endTime > now) {
+                    taskList.add(existingTask);
+                }
+            }
+        }
+        taskList.add(task);
+
+        profileTaskDownstreamCache.put(task.getServiceId(), taskList);
+    }
+
     /**
      * use for every db query
      */
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.core.cache;
+
+import lombok.Getter;
+import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
+import org.apache.skywalking.oap.server.core.remote.data.StreamData;
+import org.apache.skywalking.oap.server.core.remote.grpc.proto.RemoteData;
+
+/**
+ * ProfileTaskUpdate carries a new created profile task to all OAP nodes, in order to make the task visible in the
+ * {@link ProfileTaskCache} before the next reloading from the storage.
+ */
+public class ProfileTaskUpdate extends StreamData {
+    @Getter
+    private ProfileTask task;
+
+    public ProfileTaskUpdate() {
+    }
+
+    public ProfileTaskUpdate(final ProfileTask task) {
+        this.task = task;
+    }
+
+    @Override
+    public int remoteHashCode() {
+        return task.getId().hashCode();
+    }
+
+    @Override
+    public void deserialize(final RemoteData remoteData) {
+        task = ProfileTask.builder()
+                          .id(remoteData.getDataStrings(0))
+                          .serviceId(remoteData.getDataStrings(1))
+                          .endpointName(remoteData.getDataStrings(2))
+                          .startTime(remoteData.getDataLongs(0))
+                          .createTime(remoteData.getDataLongs(1))
+                          .duration(remoteData.getDataIntegers(0))
+                          .minDurationThreshold(remoteData.getDataIntegers(1))
+                          .dumpPeriod(remoteData.getDataIntegers(2))
+                          .maxSamplingCount(remoteData.getDataIntegers(3))
+                          .build();
+    }
+
+    @Override
+    public RemoteData.Builder serialize() {
+        final RemoteData.Builder builder = RemoteData.newBuilder();
+        builder.addDataStrings(task.getId());
+        builder.addDataStrings(task.getServiceId());
+        builder.addDataStrings(task.getEndpointName());
+
+        builder.addDataLongs(task.getStartTime());
+        builder.addDataLongs(task.getCreateTime());
+
+        builder.addDataIntegers(task.getDuration());
+        builder.addDataIntegers(task.getMinDurationThreshold());
+        builder.addDataIntegers(task.getDumpPeriod());
+        builder.addDataIntegers(task.getMaxSamplingCount());
+        return builder;
+    }
+}
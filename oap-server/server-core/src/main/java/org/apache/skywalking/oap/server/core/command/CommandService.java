@@ -19,7 +19,9 @@
 package org.apache.skywalking.oap.server.core.command;
 
 import java.util.UUID;
+import org.apache.skywalking.apm.network.profile.ThreadStackEncoder;
 import org.apache.skywalking.apm.network.trace.component.command.ProfileTaskCommand;
+import org.apache.skywalking.apm.network.trace.component.command.ReporterBackoffCommand;
 import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 import org.apache.skywalking.oap.server.library.module.Service;
@@ -38,7 +40,14 @@ public class CommandService implements Service {
         final String serialNumber = UUID.randomUUID().toString();
         return new ProfileTaskCommand(
             serialNumber, task.getId(), task.getEndpointName(), task.getDuration(), task.getMinDurationThreshold(), task
-            .getDumpPeriod(), task.getMaxSamplingCount(), task.getStartTime(), task.getCreateTime());
+            .getDumpPeriod(), task.getMaxSamplingCount(), task.getStartTime(), task.getCreateTime(),
+            ThreadStackEncoder.NAME
+        );
+    }
+
+    public ReporterBackoffCommand newReporterBackoffCommand(int duration) {
+        final String serialNumber = UUID.randomUUID().toString();
+        return new ReporterBackoffCommand(serialNumber, duration);
     }
 
     private String generateSerialNumber(final int serviceInstanceId, final long time,
@@ -33,6 +33,11 @@ public interface OALEngine {
 
     void setStorageBuilderFactory(StorageBuilderFactory factory);
 
+    /**
+     * @param path the root path of the generated class cache, empty means the cache is disabled.
+     */
+    void setClassCachePath(String path);
+
     void start(ClassLoader currentClassLoader) throws ModuleStartException, OALCompileException;
 
     void notifyAllListeners() throws ModuleStartException;
@@ -41,6 +41,10 @@ public class OALEngineLoaderService implements Service {
 
     private final Set<OALDefine> oalDefineSet = new HashSet<>();
     private final ModuleManager moduleManager;
+    /**
+     * The root path of the generated class cache, empty means the cache is disabled.
+     */
+    private final String classCachePath;
 
     /**
      * Normally it is invoked in the {@link ModuleProvider#start()} of the receiver-plugin module.
@@ -61,6 +65,7 @@ public class OALEngineLoaderService implements Service {
             engine.setStorageBuilderFactory(moduleManager.find(StorageModule.NAME)
                                                          .provider()
                                                          .getService(StorageBuilderFactory.class));
+            engine.setClassCachePath(classCachePath);
 
             engine.start(OALEngineLoaderService.class.getClassLoader());
             engine.notifyAllListeners();
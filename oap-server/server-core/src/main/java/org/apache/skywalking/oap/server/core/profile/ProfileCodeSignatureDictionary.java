@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.profile;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+import org.apache.skywalking.oap.server.core.Const;
+import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.UnexpectedException;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.analysis.worker.MetricsStreamProcessor;
+import org.apache.skywalking.oap.server.core.cache.ProfileTaskCache;
+import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
+import org.apache.skywalking.oap.server.core.storage.IMetricsDAO;
+import org.apache.skywalking.oap.server.core.storage.StorageDAO;
+import org.apache.skywalking.oap.server.core.storage.StorageModule;
+import org.apache.skywalking.oap.server.core.storage.model.IModelManager;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.module.ModuleManager;
+
+/**
+ * The thread snapshots of a profile task store the ids of the code signatures, and the code signatures are stored once
+ * per task in the {@link ProfileTaskCodeSignature} dictionary. The id is the 64 bits hash of the code signature, so the
+ * OAP nodes receiving the snapshots of the same task build the same ids without any coordination.
+ *
+ * The encoded stack binary is {@link #DICTIONARY_ENCODED} followed by the ids of the frames, 8 bytes per id. The stack
+ * binary stored by the former releases is the serialized {@link ThreadStack}, which never starts with a zero byte, and
+ * is still decoded.
+ */
+public class ProfileCodeSignatureDictionary {
+    public static final byte DICTIONARY_ENCODED = 0;
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    private static final int QUERY_BATCH_SIZE = 500;
+
+    private final ModuleManager moduleManager;
+    /**
+     * The code signatures written by this OAP node, keyed by the dictionary id. A profile task lasts 15 minutes at
+     * most, the expired one could be written again, which is ignored by the storage as the dictionary doesn't update.
+     */
+    private final Cache<String, Boolean> writtenCodeSignatures = CacheBuilder.newBuilder()
+                                                                             .maximumSize(100_000)
+                                                                             .expireAfterAccess(20, TimeUnit.MINUTES)
+                                                                             .build();
+    private ProfileTaskCache profileTaskCache;
+    private IMetricsDAO metricsDAO;
+    private Model model;
+
+    public ProfileCodeSignatureDictionary(ModuleManager moduleManager) {
+        this.moduleManager = moduleManager;
+    }
+
+    /**
+     * Encode the stack of the snapshot, and write the code signatures not in the dictionary of the task yet.
+     *
+     * @return the stack binary of the snapshot.
+     */
+    public byte[] encode(String taskId, List<String> codeSignatures) {
+        final ProfileTask task = getProfileTaskCache().getProfileTaskById(taskId);
+        if (task == null) {
+            // the dictionary belongs to the task, keep the plain stack of the unknown task
+            return ThreadStack.newBuilder().addAllCodeSignatures(codeSignatures).build().toByteArray();
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES * codeSignatures.size());
+        buffer.put(DICTIONARY_ENCODED);
+        for (String codeSignature : codeSignatures) {
+            final long codeSignatureId = codeSignatureIdOf(codeSignature);
+            buffer.putLong(codeSignatureId);
+
+            final String id = ProfileTaskCodeSignature.buildId(taskId, codeSignatureId);
+            if (writtenCodeSignatures.getIfPresent(id) == null) {
+                writtenCodeSignatures.put(id, Boolean.TRUE);
+
+                final ProfileTaskCodeSignature dictionary = new ProfileTaskCodeSignature();
+                dictionary.setTaskId(taskId);
+                dictionary.setCodeSignatureId(codeSignatureId);
+                dictionary.setCodeSignature(codeSignature);
+                dictionary.setTimeBucket(timeBucketOf(task));
+                MetricsStreamProcessor.getInstance().in(dictionary);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Query the code signatures of the encoded snapshots from the dictionaries of their tasks.
+     *
+     * @return the code signatures keyed by the id, the ones missing in the dictionary are absent.
+     */
+    public Map<Long, String> query(List<ProfileThreadSnapshotRecord> records) throws IOException {
+        final Map<String, Set<Long>> idsOfTasks = new HashMap<>();
+        for (ProfileThreadSnapshotRecord record : records) {
+            if (isEncoded(record.getStackBinary())) {
+                final Set<Long> ids = idsOfTasks.computeIfAbsent(record.getTaskId(), k -> new HashSet<>());
+                for (long id : codeSignatureIdsOf(record.getStackBinary())) {
+                    ids.add(id);
+                }
+            }
+        }
+        if (idsOfTasks.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<Long, String> codeSignatures = new HashMap<>();
+        for (Map.Entry<String, Set<Long>> entry : idsOfTasks.entrySet()) {
+            query(entry.getKey(), entry.getValue(), codeSignatures);
+        }
+        return codeSignatures;
+    }
+
+    private void query(String taskId, Collection<Long> ids, Map<Long, String> codeSignatures) throws IOException {
+        final ProfileTask task = getProfileTaskCache().getProfileTaskById(taskId);
+        if (task == null) {
+            return;
+        }
+
+        final List<Metrics> conditions = new ArrayList<>(Math.min(ids.size(), QUERY_BATCH_SIZE));
+        for (Long id : ids) {
+            final ProfileTaskCodeSignature condition = new ProfileTaskCodeSignature();
+            condition.setTaskId(taskId);
+            condition.setCodeSignatureId(id);
+            condition.setTimeBucket(timeBucketOf(task));
+            conditions.add(condition);
+            if (conditions.size() == QUERY_BATCH_SIZE) {
+                queryBatch(conditions, codeSignatures);
+                conditions.clear();
+            }
+        }
+        if (!conditions.isEmpty()) {
+            queryBatch(conditions, codeSignatures);
+        }
+    }
+
+    private void queryBatch(List<Metrics> conditions, Map<Long, String> codeSignatures) throws IOException {
+        for (Metrics metrics : getMetricsDAO().multiGet(getModel(), conditions)) {
+            final ProfileTaskCodeSignature codeSignature = (ProfileTaskCodeSignature) metrics;
+            codeSignatures.put(codeSignature.getCodeSignatureId(), codeSignature.getCodeSignature());
+        }
+    }
+
+    public static boolean isEncoded(byte[] stackBinary) {
+        return stackBinary != null && stackBinary.length > 0 && stackBinary[0] == DICTIONARY_ENCODED;
+    }
+
+    public static long[] codeSignatureIdsOf(byte[] stackBinary) {
+        final ByteBuffer buffer = ByteBuffer.wrap(stackBinary, 1, stackBinary.length - 1);
+        final long[] ids = new long[buffer.remaining() / Long.BYTES];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = buffer.getLong();
+        }
+        return ids;
+    }
+
+    /**
+     * @param codeSignatures the code signatures of the encoded stack binary, see {@link #query(List)}.
+     * @return the code signatures of the encoded stack binary, the missing one is {@link Const#UNKNOWN}.
+     */
+    public static List<String> codeSignaturesOf(byte[] stackBinary, Map<Long, String> codeSignatures) {
+        final long[] ids = codeSignatureIdsOf(stackBinary);
+        final List<String> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(codeSignatures.getOrDefault(id, Const.UNKNOWN));
+        }
+        return result;
+    }
+
+    static long codeSignatureIdOf(String codeSignature) {
+        return HASH_FUNCTION.hashString(codeSignature, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * The dictionary of the task is in the time bucket of the task creation, which is known by the writer and the
+     * reader, and keeps the dictionary until the metrics TTL from the task creation.
+     */
+    private static long timeBucketOf(ProfileTask task) {
+        return TimeBucket.getMinuteTimeBucket(task.getCreateTime());
+    }
+
+    private ProfileTaskCache getProfileTaskCache() {
+        if (profileTaskCache == null) {
+            profileTaskCache = moduleManager.find(CoreModule.NAME).provider().getService(ProfileTaskCache.class);
+        }
+        return profileTaskCache;
+    }
+
+    private IMetricsDAO getMetricsDAO() {
+        if (metricsDAO == null) {
+            metricsDAO = moduleManager.find(StorageModule.NAME)
+                                      .provider()
+                                      .getService(StorageDAO.class)
+                                      .newMetricsDao(new ProfileTaskCodeSignature.Builder());
+        }
+        return metricsDAO;
+    }
+
+    private Model getModel() {
+        if (model == null) {
+            model = moduleManager.find(CoreModule.NAME)
+                                 .provider()
+                                 .getService(IModelManager.class)
+                                 .allModels()
+                                 .stream()
+                                 .filter(m -> ProfileTaskCodeSignature.INDEX_NAME.equals(m.getName()))
+                                 .filter(m -> DownSampling.Minute.equals(m.getDownsampling()))
+                                 .findFirst()
+                                 .orElseThrow(() -> new UnexpectedException(
+                                     "Model of " + ProfileTaskCodeSignature.INDEX_NAME + " is not registered."));
+        }
+        return model;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.profile;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.skywalking.oap.server.core.Const;
+import org.apache.skywalking.oap.server.core.analysis.MetricsExtension;
+import org.apache.skywalking.oap.server.core.analysis.Stream;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.analysis.worker.MetricsStreamProcessor;
+import org.apache.skywalking.oap.server.core.remote.grpc.proto.RemoteData;
+import org.apache.skywalking.oap.server.core.storage.StorageHashMapBuilder;
+import org.apache.skywalking.oap.server.core.storage.annotation.Column;
+
+import static org.apache.skywalking.oap.server.core.source.DefaultScopeDefine.PROFILE_TASK_SEGMENT_SNAPSHOT;
+
+/**
+ * The code signature dictionary of the profile task, the thread snapshots of the task store the ids of the code
+ * signatures only. See {@link ProfileCodeSignatureDictionary}. Written once per code signature of the task, as the
+ * traffic entities.
+ */
+@Stream(name = ProfileTaskCodeSignature.INDEX_NAME, scopeId = PROFILE_TASK_SEGMENT_SNAPSHOT,
+    builder = ProfileTaskCodeSignature.Builder.class, processor = MetricsStreamProcessor.class)
+@MetricsExtension(supportDownSampling = false, supportUpdate = false)
+@EqualsAndHashCode(of = {
+    "taskId",
+    "codeSignatureId"
+})
+public class ProfileTaskCodeSignature extends Metrics {
+
+    public static final String INDEX_NAME = "profile_task_code_signature";
+    public static final String TASK_ID = "task_id";
+    public static final String CODE_SIGNATURE_ID = "code_signature_id";
+    public static final String CODE_SIGNATURE = "code_signature";
+
+    @Setter
+    @Getter
+    @Column(columnName = TASK_ID)
+    private String taskId;
+    @Setter
+    @Getter
+    @Column(columnName = CODE_SIGNATURE_ID)
+    private long codeSignatureId;
+    @Setter
+    @Getter
+    @Column(columnName = CODE_SIGNATURE, storageOnly = true, length = 1000)
+    private String codeSignature = Const.EMPTY_STRING;
+
+    @Override
+    public String id() {
+        return buildId(taskId, codeSignatureId);
+    }
+
+    public static String buildId(String taskId, long codeSignatureId) {
+        return taskId + Const.ID_CONNECTOR + codeSignatureId;
+    }
+
+    @Override
+    public RemoteData.Builder serialize() {
+        RemoteData.Builder remoteBuilder = RemoteData.newBuilder();
+        remoteBuilder.addDataLongs(getTimeBucket());
+        remoteBuilder.addDataLongs(codeSignatureId);
+
+        remoteBuilder.addDataStrings(taskId);
+        remoteBuilder.addDataStrings(codeSignature);
+        return remoteBuilder;
+    }
+
+    @Override
+    public void deserialize(RemoteData remoteData) {
+        setTimeBucket(remoteData.getDataLongs(0));
+        setCodeSignatureId(remoteData.getDataLongs(1));
+
+        setTaskId(remoteData.getDataStrings(0));
+        setCodeSignature(remoteData.getDataStrings(1));
+    }
+
+    @Override
+    public int remoteHashCode() {
+        return hashCode();
+    }
+
+    public static class Builder implements StorageHashMapBuilder<ProfileTaskCodeSignature> {
+
+        @Override
+        public ProfileTaskCodeSignature storage2Entity(Map<String, Object> dbMap) {
+            ProfileTaskCodeSignature codeSignature = new ProfileTaskCodeSignature();
+            codeSignature.setTaskId((String) dbMap.get(TASK_ID));
+            codeSignature.setCodeSignatureId(((Number) dbMap.get(CODE_SIGNATURE_ID)).longValue());
+            codeSignature.setCodeSignature((String) dbMap.get(CODE_SIGNATURE));
+            codeSignature.setTimeBucket(((Number) dbMap.get(TIME_BUCKET)).longValue());
+            return codeSignature;
+        }
+
+        @Override
+        public Map<String, Object> entity2Storage(ProfileTaskCodeSignature storageData) {
+            Map<String, Object> map = new HashMap<>();
+            map.put(TASK_ID, storageData.getTaskId());
+            map.put(CODE_SIGNATURE_ID, storageData.getCodeSignatureId());
+            map.put(CODE_SIGNATURE, storageData.getCodeSignature());
+            map.put(TIME_BUCKET, storageData.getTimeBucket());
+            return map;
+        }
+    }
+
+    @Override
+    public boolean combine(final Metrics metrics) {
+        return true;
+    }
+
+    @Override
+    public void calculate() {
+
+    }
+
+    @Override
+    public Metrics toHour() {
+        return null;
+    }
+
+    @Override
+    public Metrics toDay() {
+        return null;
+    }
+}
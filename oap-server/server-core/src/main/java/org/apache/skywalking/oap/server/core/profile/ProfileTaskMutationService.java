@@ -27,6 +27,7 @@ import org.apache.skywalking.apm.util.StringUtil;
 import org.apache.skywalking.oap.server.core.analysis.DownSampling;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
 import org.apache.skywalking.oap.server.core.analysis.worker.NoneStreamProcessor;
+import org.apache.skywalking.oap.server.core.cache.CacheUpdateBroadcaster;
 import org.apache.skywalking.oap.server.core.query.type.ProfileTaskCreationResult;
 import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
 import org.apache.skywalking.oap.server.core.storage.StorageModule;
@@ -95,6 +96,7 @@ public class ProfileTaskMutationService implements Service {
         task.setMaxSamplingCount(maxSamplingCount);
         task.setTimeBucket(TimeBucket.getRecordTimeBucket(taskEndTime));
         NoneStreamProcessor.getInstance().in(task);
+        CacheUpdateBroadcaster.INSTANCE.broadcast(task);
 
         return ProfileTaskCreationResult.builder().id(task.id()).build();
     }
@@ -26,7 +26,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import org.apache.skywalking.oap.server.core.profile.ProfileCodeSignatureDictionary;
 import org.apache.skywalking.oap.server.core.profile.ProfileThreadSnapshotRecord;
 import org.apache.skywalking.oap.server.core.query.type.ProfileAnalyzation;
 import org.apache.skywalking.oap.server.core.query.type.ProfileAnalyzeTimeRange;
@@ -54,6 +56,7 @@ public class ProfileAnalyzer {
 
     private final ModuleManager moduleManager;
     protected IProfileThreadSnapshotQueryDAO profileThreadSnapshotQueryDAO;
+    private ProfileCodeSignatureDictionary codeSignatureDictionary;
 
     public ProfileAnalyzer(ModuleManager moduleManager, int snapshotAnalyzeBatchSize, int analyzeSnapshotMaxSize) {
         this.moduleManager = moduleManager;
@@ -78,14 +81,22 @@ public class ProfileAnalyzer {
         }
 
         // query snapshots
-        List<ProfileStack> stacks = sequenceSearch.getRanges().parallelStream().map(r -> {
+        List<ProfileThreadSnapshotRecord> records = sequenceSearch.getRanges().parallelStream().map(r -> {
             try {
                 return getProfileThreadSnapshotQueryDAO().queryRecords(segmentId, r.getMinSequence(), r.getMaxSequence());
             } catch (IOException e) {
                 LOGGER.warn(e.getMessage(), e);
                 return Collections.<ProfileThreadSnapshotRecord>emptyList();
             }
-        }).flatMap(Collection::stream).map(ProfileStack::deserialize).distinct().collect(Collectors.toList());
+        }).flatMap(Collection::stream).collect(Collectors.toList());
+
+        // resolve the dictionary ids of the snapshots, code signatures are shared by the snapshots of this analysis
+        final Map<Long, String> codeSignatureIds = getCodeSignatureDictionary().query(records);
+        final Map<String, String> codeSignatureDictionary = new ConcurrentHashMap<>();
+        List<ProfileStack> stacks = records.parallelStream()
+                                           .map(record -> ProfileStack.deserialize(
+                                               record, codeSignatureDictionary, codeSignatureIds))
+                                           .distinct().collect(Collectors.toList());
 
         // analyze
         final List<ProfileStackTree> trees = analyze(stacks);
@@ -151,6 +162,13 @@ public class ProfileAnalyzer {
         return new ArrayList<>(stackTrees.values());
     }
 
+    protected ProfileCodeSignatureDictionary getCodeSignatureDictionary() {
+        if (codeSignatureDictionary == null) {
+            codeSignatureDictionary = new ProfileCodeSignatureDictionary(moduleManager);
+        }
+        return codeSignatureDictionary;
+    }
+
     protected IProfileThreadSnapshotQueryDAO getProfileThreadSnapshotQueryDAO() {
         if (profileThreadSnapshotQueryDAO == null) {
             profileThreadSnapshotQueryDAO = moduleManager.find(StorageModule.NAME)
@@ -20,11 +20,15 @@ package org.apache.skywalking.oap.server.core.profile.analyze;
 
 import com.google.common.primitives.Ints;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import lombok.Data;
 import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+import org.apache.skywalking.oap.server.core.profile.ProfileCodeSignatureDictionary;
 import org.apache.skywalking.oap.server.core.profile.ProfileThreadSnapshotRecord;
 
 /**
@@ -38,22 +42,55 @@ public class ProfileStack implements Comparable<ProfileStack> {
     private List<String> stack;
 
     public static ProfileStack deserialize(ProfileThreadSnapshotRecord record) {
-        ThreadStack threadStack = null;
-        try {
-            threadStack = ThreadStack.parseFrom(record.getStackBinary());
-        } catch (InvalidProtocolBufferException e) {
-            throw new IllegalArgumentException("wrong stack data");
-        }
+        return deserialize(record, null, Collections.emptyMap());
+    }
+
+    /**
+     * Deserialize the record, and replace the code signatures with the same ones in the dictionary, so the snapshots of
+     * one analysis share the code signature instances, and the stack tree building could match them by reference.
+     *
+     * @param codeSignatureDictionary nullable, the code signatures of the analyzed snapshots.
+     * @param codeSignatureIds        the code signatures of the ids in the dictionary encoded snapshots, see {@link
+     *                                ProfileCodeSignatureDictionary#query(List)}.
+     */
+    public static ProfileStack deserialize(ProfileThreadSnapshotRecord record,
+                                           Map<String, String> codeSignatureDictionary,
+                                           Map<Long, String> codeSignatureIds) {
+        final List<String> recordCodeSignatures = codeSignaturesOf(record, codeSignatureIds);
 
         // build data
         ProfileStack stack = new ProfileStack();
         stack.sequence = record.getSequence();
         stack.dumpTime = record.getDumpTime();
-        stack.stack = threadStack.getCodeSignaturesList();
+        if (codeSignatureDictionary == null) {
+            stack.stack = recordCodeSignatures;
+        } else {
+            final List<String> codeSignatures = new ArrayList<>(recordCodeSignatures.size());
+            for (String codeSignature : recordCodeSignatures) {
+                final String existing = codeSignatureDictionary.putIfAbsent(codeSignature, codeSignature);
+                codeSignatures.add(existing == null ? codeSignature : existing);
+            }
+            stack.stack = codeSignatures;
+        }
 
         return stack;
     }
 
+    /**
+     * @return the code signatures of the snapshot, stored by the dictionary ids or the plain {@link ThreadStack}.
+     */
+    public static List<String> codeSignaturesOf(ProfileThreadSnapshotRecord record,
+                                                Map<Long, String> codeSignatureIds) {
+        if (ProfileCodeSignatureDictionary.isEncoded(record.getStackBinary())) {
+            return ProfileCodeSignatureDictionary.codeSignaturesOf(record.getStackBinary(), codeSignatureIds);
+        }
+        try {
+            return ThreadStack.parseFrom(record.getStackBinary()).getCodeSignaturesList();
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("wrong stack data");
+        }
+    }
+
     @Override
     public int compareTo(ProfileStack o) {
         return Ints.compare(sequence, o.sequence);
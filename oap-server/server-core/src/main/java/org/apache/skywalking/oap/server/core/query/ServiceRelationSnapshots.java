@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.core.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.oap.server.core.UnexpectedException;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
+import org.apache.skywalking.oap.server.core.query.enumeration.Step;
+import org.apache.skywalking.oap.server.core.query.type.Call;
+import org.apache.skywalking.oap.server.core.source.DetectPoint;
+import org.apache.skywalking.oap.server.library.server.pool.CustomThreadFactory;
+
+/**
+ * ServiceRelationSnapshots materializes the service relations of every closed time bucket. The relation metrics of a
+ * bucket don't change after the bucket has been closed and persisted, so the snapshot of a bucket is kept until the
+ * bucket is deleted by the TTL or evicted by the size. Once all the closed buckets of a query are materialized, the
+ * query merges their snapshots, and only queries the storage for the recent buckets in one range.
+ *
+ * A query with any cold bucket queries the whole duration in one range, as it did without the snapshots, and the cold
+ * buckets are materialized in the background for the following queries, so the snapshots never cost the query more
+ * storage queries.
+ */
+@Slf4j
+class ServiceRelationSnapshots {
+    /**
+     * The relation metrics of a time bucket are treated as complete after this delay since the end of the bucket,
+     * covering the report period of the agents, the distributed aggregation and the persistence.
+     */
+    private static final long CLOSE_DELAY = TimeUnit.MINUTES.toMillis(3);
+    /**
+     * An empty bucket is more likely not persisted yet than having no call, it's only kept after this delay since the
+     * end of the bucket.
+     */
+    private static final long EMPTY_CLOSE_DELAY = TimeUnit.MINUTES.toMillis(10);
+    /**
+     * The max number of the buckets waiting to be materialized, the others are materialized by the following queries.
+     */
+    private static final int MAX_PENDING_BUCKETS = 1000;
+
+    private final Loader loader;
+    private final long ttl;
+    /**
+     * Nullable, when the snapshots are deactivated.
+     */
+    private final Cache<SnapshotKey, Snapshot> snapshots;
+    private final Executor materializer;
+    private final Set<SnapshotKey> materializing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param maxSize the max number of the relation calls in all snapshots, 0 means deactivated.
+     * @param ttlDays the TTL of the metrics, the snapshots of the deleted buckets are not used.
+     */
+    ServiceRelationSnapshots(final Loader loader, final long maxSize, final int ttlDays) {
+        this(loader, maxSize, ttlDays, maxSize > 0 ? new ThreadPoolExecutor(
+            1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_PENDING_BUCKETS),
+            new CustomThreadFactory("topologySnapshot")
+        ) : null);
+    }
+
+    ServiceRelationSnapshots(final Loader loader, final long maxSize, final int ttlDays, final Executor materializer) {
+        this.loader = loader;
+        this.ttl = TimeUnit.DAYS.toMillis(ttlDays);
+        this.materializer = materializer;
+        this.snapshots = maxSize > 0 ? CacheBuilder.newBuilder()
+                                                   .maximumWeight(maxSize)
+                                                   .weigher((SnapshotKey key, Snapshot snapshot) -> snapshot.weight())
+                                                   .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                                                   .build() : null;
+    }
+
+    /**
+     * @param serviceIds the services of the topology, null for the global topology.
+     * @return the relations of the given services between the given time buckets.
+     */
+    Snapshot load(final long startTB, final long endTB, final List<String> serviceIds) throws IOException {
+        final Step step = stepOf(startTB);
+        if (snapshots == null || step == null) {
+            return loadRange(startTB, endTB, serviceIds);
+        }
+        final List<PointOfTime> points;
+        try {
+            points = DurationUtils.INSTANCE.getDurationPoints(step, startTB, endTB);
+        } catch (UnexpectedException e) {
+            return loadRange(startTB, endTB, serviceIds);
+        }
+
+        final long now = System.currentTimeMillis();
+        final DownSampling downSampling = downSamplingOf(step);
+        final long closedBefore = TimeBucket.getTimeBucket(now - CLOSE_DELAY, downSampling);
+        final long deletedBefore = TimeBucket.getTimeBucket(now - ttl, downSampling);
+        final List<String> sortedServiceIds = sort(serviceIds);
+        final Snapshot[] bucketSnapshots = new Snapshot[points.size()];
+        final List<SnapshotKey> coldBuckets = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            final long timeBucket = points.get(i).getPoint();
+            if (timeBucket >= deletedBefore && timeBucket < closedBefore) {
+                final SnapshotKey key = new SnapshotKey(sortedServiceIds, timeBucket);
+                bucketSnapshots[i] = snapshots.getIfPresent(key);
+                if (bucketSnapshots[i] == null) {
+                    coldBuckets.add(key);
+                }
+            }
+        }
+        if (!coldBuckets.isEmpty()) {
+            materialize(coldBuckets, TimeBucket.getTimeBucket(now - EMPTY_CLOSE_DELAY, downSampling));
+            return loadRange(startTB, endTB, serviceIds);
+        }
+
+        final Merger merger = new Merger();
+        long rangeStart = -1;
+        long rangeEnd = -1;
+        for (int i = 0; i < points.size(); i++) {
+            final long timeBucket = points.get(i).getPoint();
+            final Snapshot snapshot = bucketSnapshots[i];
+            if (snapshot == null) {
+                if (rangeStart < 0) {
+                    rangeStart = timeBucket;
+                }
+                rangeEnd = timeBucket;
+                continue;
+            }
+            if (rangeStart >= 0) {
+                merger.merge(loadRange(rangeStart, rangeEnd, serviceIds));
+                rangeStart = -1;
+            }
+            merger.merge(snapshot);
+        }
+        if (rangeStart >= 0) {
+            merger.merge(loadRange(rangeStart, rangeEnd, serviceIds));
+        }
+        return merger.toSnapshot();
+    }
+
+    /**
+     * Materialize the cold buckets in the background, the latest ones first as they stay in the sliding duration of
+     * the following queries longest.
+     */
+    private void materialize(final List<SnapshotKey> coldBuckets, final long emptyClosedBefore) {
+        for (int i = coldBuckets.size() - 1; i >= 0; i--) {
+            final SnapshotKey key = coldBuckets.get(i);
+            if (!materializing.add(key)) {
+                continue;
+            }
+            try {
+                materializer.execute(() -> {
+                    try {
+                        final Snapshot snapshot = loadRange(key.timeBucket, key.timeBucket, key.serviceIds);
+                        if (!snapshot.isEmpty() || key.timeBucket < emptyClosedBefore) {
+                            snapshots.put(key, snapshot);
+                        }
+                    } catch (Throwable t) {
+                        log.warn("Failed to materialize the service relations of {}", key.timeBucket, t);
+                    } finally {
+                        materializing.remove(key);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                materializing.remove(key);
+                return;
+            }
+        }
+    }
+
+    private Snapshot loadRange(final long startTB, final long endTB, final List<String> serviceIds) throws IOException {
+        return new Snapshot(
+            loader.load(DetectPoint.CLIENT, startTB, endTB, serviceIds),
+            loader.load(DetectPoint.SERVER, startTB, endTB, serviceIds)
+        );
+    }
+
+    /**
+     * @return null for the global topology, which differs from the topology of no service.
+     */
+    private static List<String> sort(final List<String> serviceIds) {
+        if (serviceIds == null) {
+            return null;
+        }
+        final List<String> sorted = new ArrayList<>(serviceIds);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static Step stepOf(final long timeBucket) {
+        if (TimeBucket.isMinuteBucket(timeBucket)) {
+            return Step.MINUTE;
+        } else if (TimeBucket.isHourBucket(timeBucket)) {
+            return Step.HOUR;
+        } else if (TimeBucket.isDayBucket(timeBucket)) {
+            return Step.DAY;
+        }
+        return null;
+    }
+
+    private static DownSampling downSamplingOf(final Step step) {
+        switch (step) {
+            case DAY:
+                return DownSampling.Day;
+            case HOUR:
+                return DownSampling.Hour;
+            default:
+                return DownSampling.Minute;
+        }
+    }
+
+    /**
+     * Load the service relations between the given time buckets from the storage.
+     */
+    interface Loader {
+        /**
+         * @param serviceIds null for the relations of all services.
+         */
+        List<Call.CallDetail> load(DetectPoint detectPoint,
+                                   long startTB,
+                                   long endTB,
+                                   List<String> serviceIds) throws IOException;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class Snapshot {
+        private final List<Call.CallDetail> clientCalls;
+        private final List<Call.CallDetail> serverCalls;
+
+        private boolean isEmpty() {
+            return clientCalls.isEmpty() && serverCalls.isEmpty();
+        }
+
+        private int weight() {
+            return clientCalls.size() + serverCalls.size() + 1;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class SnapshotKey {
+        private final List<String> serviceIds;
+        private final long timeBucket;
+    }
+
+    /**
+     * Merge the calls of the snapshots by the relation id. A relation takes the component reported in most of the
+     * snapshots, and the latest one of them on a tie, same as the storage takes the most frequent one in a range.
+     */
+    private static class Merger {
+        private final Map<String, Map<Integer, Component>> clientCalls = new LinkedHashMap<>();
+        private final Map<String, Map<Integer, Component>> serverCalls = new LinkedHashMap<>();
+        private int merged;
+
+        private void merge(final Snapshot snapshot) {
+            merged++;
+            merge(clientCalls, snapshot.getClientCalls());
+            merge(serverCalls, snapshot.getServerCalls());
+        }
+
+        private void merge(final Map<String, Map<Integer, Component>> calls, final List<Call.CallDetail> snapshot) {
+            snapshot.forEach(call -> {
+                final Component component = calls.computeIfAbsent(call.getId(), id -> new LinkedHashMap<>())
+                                                 .computeIfAbsent(call.getComponentId(), id -> new Component());
+                component.call = call;
+                component.snapshots++;
+                component.lastMerged = merged;
+            });
+        }
+
+        private Snapshot toSnapshot() {
+            return new Snapshot(toCalls(clientCalls), toCalls(serverCalls));
+        }
+
+        private static List<Call.CallDetail> toCalls(final Map<String, Map<Integer, Component>> calls) {
+            final List<Call.CallDetail> result = new ArrayList<>(calls.size());
+            calls.values().forEach(components -> {
+                Component chosen = null;
+                for (final Component component : components.values()) {
+                    if (chosen == null || component.snapshots > chosen.snapshots
+                        || component.snapshots == chosen.snapshots && component.lastMerged > chosen.lastMerged) {
+                        chosen = component;
+                    }
+                }
+                result.add(chosen.call);
+            });
+            return result;
+        }
+    }
+
+    private static class Component {
+        private Call.CallDetail call;
+        private int snapshots;
+        private int lastMerged;
+    }
+}
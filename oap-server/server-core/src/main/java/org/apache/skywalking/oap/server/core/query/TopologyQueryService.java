@@ -27,6 +27,7 @@ import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.oap.server.core.Const;
 import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.CoreModuleConfig;
 import org.apache.skywalking.oap.server.core.analysis.IDManager;
 import org.apache.skywalking.oap.server.core.config.IComponentLibraryCatalogService;
 import org.apache.skywalking.oap.server.core.query.type.Call;
@@ -47,9 +48,12 @@ public class TopologyQueryService implements Service {
     private final ModuleManager moduleManager;
     private ITopologyQueryDAO topologyQueryDAO;
     private IComponentLibraryCatalogService componentLibraryCatalogService;
+    private final ServiceRelationSnapshots serviceRelationSnapshots;
 
-    public TopologyQueryService(ModuleManager moduleManager) {
+    public TopologyQueryService(ModuleManager moduleManager, CoreModuleConfig moduleConfig) {
         this.moduleManager = moduleManager;
+        this.serviceRelationSnapshots = new ServiceRelationSnapshots(
+            this::loadServiceRelations, moduleConfig.getMaxSizeOfTopologySnapshot(), moduleConfig.getMetricsDataTTL());
     }
 
     private ITopologyQueryDAO getTopologyQueryDAO() {
@@ -68,23 +72,33 @@ public class TopologyQueryService implements Service {
         return componentLibraryCatalogService;
     }
 
+    private List<Call.CallDetail> loadServiceRelations(final DetectPoint detectPoint,
+                                                       final long startTB,
+                                                       final long endTB,
+                                                       final List<String> serviceIds) throws IOException {
+        if (DetectPoint.CLIENT.equals(detectPoint)) {
+            return serviceIds == null
+                ? getTopologyQueryDAO().loadServiceRelationDetectedAtClientSide(startTB, endTB)
+                : getTopologyQueryDAO().loadServiceRelationDetectedAtClientSide(startTB, endTB, serviceIds);
+        }
+        return serviceIds == null
+            ? getTopologyQueryDAO().loadServiceRelationsDetectedAtServerSide(startTB, endTB)
+            : getTopologyQueryDAO().loadServiceRelationsDetectedAtServerSide(startTB, endTB, serviceIds);
+    }
+
     public Topology getGlobalTopology(final long startTB,
                                       final long endTB) throws IOException {
-        List<Call.CallDetail> serviceRelationServerCalls = getTopologyQueryDAO().loadServiceRelationsDetectedAtServerSide(
-            startTB, endTB);
-        List<Call.CallDetail> serviceRelationClientCalls = getTopologyQueryDAO().loadServiceRelationDetectedAtClientSide(
-            startTB, endTB);
+        ServiceRelationSnapshots.Snapshot relations = serviceRelationSnapshots.load(startTB, endTB, null);
 
         ServiceTopologyBuilder builder = new ServiceTopologyBuilder(moduleManager);
-        return builder.build(serviceRelationClientCalls, serviceRelationServerCalls);
+        return builder.build(relations.getClientCalls(), relations.getServerCalls());
     }
 
     public Topology getServiceTopology(final long startTB, final long endTB,
                                        final List<String> serviceIds) throws IOException {
-        List<Call.CallDetail> serviceRelationClientCalls = getTopologyQueryDAO().loadServiceRelationDetectedAtClientSide(
-            startTB, endTB, serviceIds);
-        List<Call.CallDetail> serviceRelationServerCalls = getTopologyQueryDAO().loadServiceRelationsDetectedAtServerSide(
-            startTB, endTB, serviceIds);
+        ServiceRelationSnapshots.Snapshot relations = serviceRelationSnapshots.load(startTB, endTB, serviceIds);
+        List<Call.CallDetail> serviceRelationClientCalls = relations.getClientCalls();
+        List<Call.CallDetail> serviceRelationServerCalls = relations.getServerCalls();
 
         ServiceTopologyBuilder builder = new ServiceTopologyBuilder(moduleManager);
         Topology topology = builder.build(serviceRelationClientCalls, serviceRelationServerCalls);
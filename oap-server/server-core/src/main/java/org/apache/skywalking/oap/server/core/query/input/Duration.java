@@ -19,11 +19,13 @@
 package org.apache.skywalking.oap.server.core.query.input;
 
 import java.util.List;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.skywalking.oap.server.core.query.DurationUtils;
 import org.apache.skywalking.oap.server.core.query.PointOfTime;
 import org.apache.skywalking.oap.server.core.query.enumeration.Step;
 
+@EqualsAndHashCode
 @Getter
 public class Duration {
     private String start;
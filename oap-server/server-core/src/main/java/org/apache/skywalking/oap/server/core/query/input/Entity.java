@@ -20,6 +20,7 @@ package org.apache.skywalking.oap.server.core.query.input;
 
 import java.util.Objects;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.skywalking.oap.server.core.analysis.IDManager;
@@ -30,6 +31,7 @@ import org.apache.skywalking.oap.server.core.query.enumeration.Scope;
  *
  * @since 8.0.0
  */
+@EqualsAndHashCode
 @Setter
 @Getter(AccessLevel.PRIVATE)
 public class Entity {
@@ -18,12 +18,14 @@
 
 package org.apache.skywalking.oap.server.core.query.input;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * @since 8.0.0
  */
+@EqualsAndHashCode
 @Getter
 @Setter
 public class MetricsCondition {
@@ -18,8 +18,10 @@
 
 package org.apache.skywalking.oap.server.core.query.input;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 import org.apache.skywalking.oap.server.core.query.enumeration.Order;
 import org.apache.skywalking.oap.server.core.query.enumeration.Scope;
 
@@ -30,6 +32,8 @@ import org.apache.skywalking.oap.server.core.query.enumeration.Scope;
  */
 @Setter
 @Getter
+@EqualsAndHashCode
+@ToString
 public class TopNCondition {
     /**
      * Metrics name
@@ -45,8 +45,16 @@ public class RemoteSenderService implements Service {
     private final RollingSelector rollingSelector;
 
     public RemoteSenderService(ModuleManager moduleManager) {
+        this(moduleManager, 0);
+    }
+
+    /**
+     * @param handoffPeriod in milliseconds, during which the stream data keeps being sent to its previous OAP node of
+     *                      the {@link HashCodeSelector} after the cluster membership changed.
+     */
+    public RemoteSenderService(ModuleManager moduleManager, long handoffPeriod) {
         this.moduleManager = moduleManager;
-        this.hashCodeSelector = new HashCodeSelector();
+        this.hashCodeSelector = new HashCodeSelector(handoffPeriod);
         this.foreverFirstSelector = new ForeverFirstSelector();
         this.rollingSelector = new RollingSelector();
     }
@@ -83,4 +91,22 @@ public class RemoteSenderService implements Service {
         }
         remoteClient.push(nextWorkName, streamData);
     }
+
+    /**
+     * Send data to all OAP nodes, including the current one.
+     *
+     * @param nextWorkName points to the worker to process the data when {@link RemoteServiceHandler} received.
+     * @param streamData   data to be sent
+     */
+    public void broadcast(String nextWorkName, StreamData streamData) {
+        RemoteClientManager clientManager = moduleManager.find(CoreModule.NAME)
+                                                         .provider()
+                                                         .getService(RemoteClientManager.class);
+        List<RemoteClient> clientList = clientManager.getRemoteClient();
+        if (clientList.size() == 0) {
+            LOGGER.debug("There is no available remote server for now, ignore the broadcast data.");
+            return;
+        }
+        clientList.forEach(remoteClient -> remoteClient.push(nextWorkName, streamData));
+    }
 }
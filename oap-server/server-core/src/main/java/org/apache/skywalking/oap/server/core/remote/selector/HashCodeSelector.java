@@ -18,16 +18,189 @@
 
 package org.apache.skywalking.oap.server.core.remote.selector;
 
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.skywalking.oap.server.core.remote.client.Address;
 import org.apache.skywalking.oap.server.core.remote.client.RemoteClient;
 import org.apache.skywalking.oap.server.core.remote.data.StreamData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * HashCodeSelector routes the stream data to the OAP node through a consistent hash ring, which includes {@link
+ * #VIRTUAL_NODES} virtual nodes per OAP node. When one OAP node joins or leaves the cluster, only the data owned by the
+ * changed node is routed to another one, rather than nearly all data being remapped.
+ * <p>
+ * Once the cluster membership changes, the data whose previous owner is still alive keeps being routed to the previous
+ * owner during the handoff period, so the metrics of the same time bucket are not split across OAP nodes while the new
+ * ring takes over. A joining OAP node has no ring yet, it takes the cluster without itself as the previous ring, which
+ * is the ring of the other nodes before it joined, so it routes the data the same way as them during the handoff.
+ */
 public class HashCodeSelector implements RemoteClientSelector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashCodeSelector.class);
+
+    static final int VIRTUAL_NODES = 128;
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+
+    /**
+     * Handoff period in milliseconds, 0 means the new ring takes effect immediately.
+     */
+    private final long handoffPeriod;
+    private volatile Ring ring;
+    private volatile Ring previousRing;
+    private volatile long handoffDeadline;
+
+    public HashCodeSelector() {
+        this(0);
+    }
+
+    public HashCodeSelector(long handoffPeriod) {
+        this.handoffPeriod = handoffPeriod;
+    }
 
     @Override
     public RemoteClient select(List<RemoteClient> clients, StreamData streamData) {
-        int size = clients.size();
-        int selectIndex = Math.abs(streamData.remoteHashCode()) % size;
-        return clients.get(selectIndex);
+        return select(clients, streamData.remoteHashCode(), System.currentTimeMillis());
+    }
+
+    RemoteClient select(List<RemoteClient> clients, int remoteHashCode, long now) {
+        final Ring current = ringOf(clients, now);
+        final int hash = mix(remoteHashCode);
+        final Ring previous = previousRing;
+        if (previous != null && now < handoffDeadline) {
+            final RemoteClient previousOwner = current.clientOf(previous.ownerOf(hash));
+            if (previousOwner != null) {
+                return previousOwner;
+            }
+        }
+        return current.clients.get(current.ownerOf(hash).index);
+    }
+
+    /**
+     * The clients list is replaced by a new immutable list once the cluster membership changes, so the ring is rebuilt
+     * only when a different list is given.
+     */
+    private Ring ringOf(List<RemoteClient> clients, long now) {
+        Ring current = ring;
+        if (current != null && current.clients == clients) {
+            return current;
+        }
+        synchronized (this) {
+            current = ring;
+            if (current != null && current.clients == clients) {
+                return current;
+            }
+            final Ring newRing = new Ring(clients);
+            final Ring handoffRing = current != null ? current : ringBeforeJoined(clients);
+            if (handoffRing != null && handoffPeriod > 0) {
+                previousRing = handoffRing;
+                handoffDeadline = now + handoffPeriod;
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Remote clients changed, handoff to the new hash ring in {} ms.", handoffPeriod);
+                }
+            } else {
+                previousRing = null;
+            }
+            ring = newRing;
+            return newRing;
+        }
+    }
+
+    /**
+     * @return the ring of the clients except this OAP node, or null if this node is the only one or not in the clients.
+     */
+    private static Ring ringBeforeJoined(List<RemoteClient> clients) {
+        final List<RemoteClient> others = clients.stream()
+                                                 .filter(client -> !client.getAddress().isSelf())
+                                                 .collect(Collectors.toList());
+        if (others.isEmpty() || others.size() == clients.size()) {
+            return null;
+        }
+        return new Ring(others);
+    }
+
+    /**
+     * The remote hash codes are usually the hash codes of strings, which are not spread enough to locate on the ring.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static class Ring {
+        private final List<RemoteClient> clients;
+        private final Map<Address, Integer> indexes;
+        private final int[] hashes;
+        private final VirtualNode[] nodes;
+
+        private Ring(List<RemoteClient> clients) {
+            this.clients = clients;
+            this.indexes = new HashMap<>(clients.size());
+            final VirtualNode[] virtualNodes = new VirtualNode[clients.size() * VIRTUAL_NODES];
+            for (int i = 0; i < clients.size(); i++) {
+                final Address address = clients.get(i).getAddress();
+                indexes.put(address, i);
+                for (int v = 0; v < VIRTUAL_NODES; v++) {
+                    final int hash = HASH_FUNCTION.hashString(address.toString() + "#" + v, StandardCharsets.UTF_8)
+                                                  .asInt();
+                    virtualNodes[i * VIRTUAL_NODES + v] = new VirtualNode(hash, i, address);
+                }
+            }
+            Arrays.sort(virtualNodes, (n1, n2) -> {
+                final int compared = Integer.compare(n1.hash, n2.hash);
+                return compared != 0 ? compared : n1.address.compareTo(n2.address);
+            });
+            this.nodes = virtualNodes;
+            this.hashes = new int[virtualNodes.length];
+            for (int i = 0; i < virtualNodes.length; i++) {
+                hashes[i] = virtualNodes[i].hash;
+            }
+        }
+
+        /**
+         * @return the first virtual node clockwise from the given hash on the ring.
+         */
+        private VirtualNode ownerOf(int hash) {
+            int position = Arrays.binarySearch(hashes, hash);
+            if (position < 0) {
+                position = -position - 1;
+            } else {
+                // the same hash may be held by more than one virtual node, always pick the first one.
+                while (position > 0 && hashes[position - 1] == hash) {
+                    position--;
+                }
+            }
+            return nodes[position == nodes.length ? 0 : position];
+        }
+
+        /**
+         * @return the client of the given virtual node in this ring, or null if its node has left the cluster.
+         */
+        private RemoteClient clientOf(VirtualNode node) {
+            final Integer index = indexes.get(node.address);
+            return index == null ? null : clients.get(index);
+        }
+    }
+
+    private static class VirtualNode {
+        private final int hash;
+        private final int index;
+        private final Address address;
+
+        private VirtualNode(int hash, int index, Address address) {
+            this.hash = hash;
+            this.index = index;
+            this.address = address;
+        }
     }
 }
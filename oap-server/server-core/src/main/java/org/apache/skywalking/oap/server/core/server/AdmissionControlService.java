@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.apache.skywalking.oap.server.library.module.ModuleDefineHolder;
+import org.apache.skywalking.oap.server.library.module.Service;
+import org.apache.skywalking.oap.server.library.server.pool.CustomThreadFactory;
+import org.apache.skywalking.oap.server.telemetry.TelemetryModule;
+import org.apache.skywalking.oap.server.telemetry.api.CounterMetrics;
+import org.apache.skywalking.oap.server.telemetry.api.GaugeMetrics;
+import org.apache.skywalking.oap.server.telemetry.api.MetricsCreator;
+import org.apache.skywalking.oap.server.telemetry.api.MetricsTag;
+
+/**
+ * AdmissionControlService watches the pressure of the OAP server, and decides whether the received data should be
+ * admitted. The pressure is the max value of all pressure sources, such as the usage of the gRPC thread pool queue,
+ * which grows once the receivers are blocked by the full L1/L2 queues, and the persistence lag.
+ * <p>
+ * Once the pressure reaches the high watermark, {@link DataPriority#LOW} data is shed, and the reporters are asked to
+ * backoff. Once it reaches the critical watermark, {@link DataPriority#MEDIUM} data is shed too. {@link
+ * DataPriority#HIGH} data is always admitted.
+ */
+@Slf4j
+public class AdmissionControlService implements Service {
+    private final boolean active;
+    private final double highWatermark;
+    private final double criticalWatermark;
+    /**
+     * The duration in seconds, which the reporters are asked to backoff.
+     */
+    @Getter
+    private final int backoffDuration;
+    private final List<DoubleSupplier> pressureSources = new ArrayList<>();
+    private volatile double pressure;
+
+    private GaugeMetrics pressureGauge;
+    private CounterMetrics lowPriorityShedCounter;
+    private CounterMetrics mediumPriorityShedCounter;
+
+    public AdmissionControlService(final boolean active,
+                                   final double highWatermark,
+                                   final double criticalWatermark,
+                                   final int backoffDuration) {
+        this.active = active;
+        this.highWatermark = highWatermark;
+        this.criticalWatermark = criticalWatermark;
+        this.backoffDuration = backoffDuration;
+    }
+
+    /**
+     * @param source provides the pressure, 0 means idle, 1 or higher means fully loaded.
+     */
+    public void addPressureSource(DoubleSupplier source) {
+        pressureSources.add(source);
+    }
+
+    public void start(ModuleDefineHolder moduleDefineHolder) {
+        if (!active) {
+            return;
+        }
+        MetricsCreator metricsCreator = moduleDefineHolder.find(TelemetryModule.NAME)
+                                                          .provider()
+                                                          .getService(MetricsCreator.class);
+        pressureGauge = metricsCreator.createGauge(
+            "admission_pressure", "The pressure of the OAP server for admission control",
+            MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE
+        );
+        lowPriorityShedCounter = metricsCreator.createCounter(
+            "admission_shed_count", "The number of received data shed by admission control",
+            new MetricsTag.Keys("priority"), new MetricsTag.Values("low")
+        );
+        mediumPriorityShedCounter = metricsCreator.createCounter(
+            "admission_shed_count", "The number of received data shed by admission control",
+            new MetricsTag.Keys("priority"), new MetricsTag.Values("medium")
+        );
+        Executors.newSingleThreadScheduledExecutor(new CustomThreadFactory("admissionControl")).scheduleWithFixedDelay(
+            new RunnableWithExceptionProtection(
+                this::refresh, t -> log.error("Refresh the pressure of admission control failure.", t)),
+            1, 1, TimeUnit.SECONDS
+        );
+    }
+
+    void refresh() {
+        double pressure = 0;
+        for (final DoubleSupplier source : pressureSources) {
+            pressure = Math.max(pressure, source.getAsDouble());
+        }
+        if (pressure >= highWatermark && this.pressure < highWatermark) {
+            log.warn("OAP server is overloaded, pressure: {}, start shedding the low priority data.", pressure);
+        }
+        this.pressure = pressure;
+        if (pressureGauge != null) {
+            pressureGauge.setValue(pressure);
+        }
+    }
+
+    /**
+     * @return true if the data of the given priority should be processed, or false if it should be shed.
+     */
+    public boolean admit(DataPriority priority) {
+        if (!active) {
+            return true;
+        }
+        switch (priority) {
+            case LOW:
+                if (pressure >= highWatermark) {
+                    if (lowPriorityShedCounter != null) {
+                        lowPriorityShedCounter.inc();
+                    }
+                    return false;
+                }
+                return true;
+            case MEDIUM:
+                if (pressure >= criticalWatermark) {
+                    if (mediumPriorityShedCounter != null) {
+                        mediumPriorityShedCounter.inc();
+                    }
+                    return false;
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @return true if the reporters should be asked to backoff.
+     */
+    public boolean isOverloaded() {
+        return active && pressure >= highWatermark;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.oap.server.core.source;
 
+import java.util.List;
 import org.apache.skywalking.oap.server.core.analysis.DispatcherDetectorListener;
 import org.apache.skywalking.oap.server.library.module.Service;
 
@@ -28,5 +29,14 @@ import org.apache.skywalking.oap.server.library.module.Service;
 public interface SourceReceiver extends Service {
     void receive(Source source);
 
+    /**
+     * Receive the sources in a batch, the sources of the same scope are dispatched together.
+     */
+    default void receive(List<? extends Source> sources) {
+        for (int i = 0; i < sources.size(); i++) {
+            receive(sources.get(i));
+        }
+    }
+
     DispatcherDetectorListener getDispatcherDetectorListener();
 }
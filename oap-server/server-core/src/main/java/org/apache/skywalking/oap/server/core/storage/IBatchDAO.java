@@ -19,6 +19,7 @@
 package org.apache.skywalking.oap.server.core.storage;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.skywalking.oap.server.library.client.request.InsertRequest;
 import org.apache.skywalking.oap.server.library.client.request.PrepareRequest;
 
@@ -44,4 +45,18 @@ public interface IBatchDAO extends DAO {
      * @param prepareRequests data to insert or update. No delete happens in streaming mode.
      */
     void synchronous(List<PrepareRequest> prepareRequests);
+
+    /**
+     * Make all given PrepareRequest efficient in the sync mode, the same as {@link #synchronous(List)}, but the
+     * returned future is completed when the database confirms the requests. The implementation supporting the
+     * non-blocking request should override this to release the calling thread before the database responds.
+     *
+     * @param prepareRequests data to insert or update. No delete happens in streaming mode.
+     * @return the future completed when all changes are queryable.
+     * @since 8.6.0
+     */
+    default CompletableFuture<Void> flush(List<PrepareRequest> prepareRequests) {
+        synchronous(prepareRequests);
+        return CompletableFuture.completedFuture(null);
+    }
 }
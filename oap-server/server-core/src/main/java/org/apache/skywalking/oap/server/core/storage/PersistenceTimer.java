@@ -21,9 +21,10 @@ package org.apache.skywalking.oap.server.core.storage;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
@@ -49,10 +50,22 @@ public enum PersistenceTimer {
     private HistogramMetrics prepareLatency;
     private HistogramMetrics executeLatency;
     private long lastTime = System.currentTimeMillis();
+    private volatile long roundStartTime;
+    private volatile long lastRoundCost;
     private final List<PrepareRequest> prepareRequests = new ArrayList<>(50000);
     private int syncOperationThreadsNum;
     private int maxSyncoperationNum;
     private ExecutorService executorService;
+    /**
+     * The persistence workers prepare their bulk requests in parallel, as the metrics workers read the existing
+     * metrics from the storage in the prepare stage. A separate pool, so the sync threads are never blocked by it.
+     */
+    private ExecutorService prepareExecutorService;
+    /**
+     * Bounds the flushes waiting for the confirmation of the database by the max in-flight flushes, as the executor
+     * threads are released before the confirmation if the storage supports non-blocking flush.
+     */
+    private Semaphore inFlightFlushes;
 
     PersistenceTimer() {
         this.debug = System.getProperty("debug") != null;
@@ -80,6 +93,9 @@ public enum PersistenceTimer {
         syncOperationThreadsNum = moduleConfig.getSyncThreads();
         maxSyncoperationNum = moduleConfig.getMaxSyncOperationNum();
         executorService = Executors.newFixedThreadPool(syncOperationThreadsNum);
+        prepareExecutorService = Executors.newFixedThreadPool(syncOperationThreadsNum);
+        final int maxInFlightFlushes = moduleConfig.getMaxInFlightFlushes();
+        inFlightFlushes = new Semaphore(maxInFlightFlushes > 0 ? maxInFlightFlushes : syncOperationThreadsNum);
         if (!isStarted) {
             Executors.newSingleThreadScheduledExecutor()
                      .scheduleWithFixedDelay(
@@ -98,6 +114,7 @@ public enum PersistenceTimer {
         }
 
         long startTime = System.currentTimeMillis();
+        roundStartTime = startTime;
 
         try {
             HistogramMetrics.Timer timer = prepareLatency.createTimer();
@@ -107,15 +124,24 @@ public enum PersistenceTimer {
                 persistenceWorkers.addAll(TopNStreamProcessor.getInstance().getPersistentWorkers());
                 persistenceWorkers.addAll(MetricsStreamProcessor.getInstance().getPersistentWorkers());
 
-                persistenceWorkers.forEach(worker -> {
-                    if (log.isDebugEnabled()) {
-                        log.debug("extract {} worker data and save", worker.getClass().getName());
-                    }
+                List<CompletableFuture<List<PrepareRequest>>> prepareFutures = new ArrayList<>(
+                    persistenceWorkers.size());
+                for (final PersistenceWorker worker : persistenceWorkers) {
+                    prepareFutures.add(CompletableFuture.supplyAsync(() -> {
+                        if (log.isDebugEnabled()) {
+                            log.debug("extract {} worker data and save", worker.getClass().getName());
+                        }
 
-                    worker.buildBatchRequests(prepareRequests);
+                        List<PrepareRequest> workerRequests = new ArrayList<>();
+                        worker.buildBatchRequests(workerRequests);
 
-                    worker.endOfRound(System.currentTimeMillis() - lastTime);
-                });
+                        worker.endOfRound(System.currentTimeMillis() - lastTime);
+                        return workerRequests;
+                    }, prepareExecutorService));
+                }
+                for (CompletableFuture<List<PrepareRequest>> prepareFuture : prepareFutures) {
+                    prepareRequests.addAll(prepareFuture.join());
+                }
 
                 if (debug) {
                     log.info("build batch persistence duration: {} ms", System.currentTimeMillis() - startTime);
@@ -127,21 +153,23 @@ public enum PersistenceTimer {
             HistogramMetrics.Timer executeLatencyTimer = executeLatency.createTimer();
             try {
                 List<List<PrepareRequest>> partitions = Lists.partition(prepareRequests, maxSyncoperationNum);
-                CountDownLatch countDownLatch = new CountDownLatch(partitions.size());
+                List<CompletableFuture<Void>> futures = new ArrayList<>(partitions.size());
                 for (final List<PrepareRequest> partition : partitions) {
-                    executorService.submit(() -> {
-                        try {
-                            if (CollectionUtils.isNotEmpty(partition)) {
-                                batchDAO.synchronous(partition);
-                            }
-                        } catch (Throwable e) {
-                            log.error(e.getMessage(), e);
-                        } finally {
-                            countDownLatch.countDown();
-                        }
-                    });
+                    if (CollectionUtils.isEmpty(partition)) {
+                        continue;
+                    }
+                    // The executor thread is released once the requests are sent if the storage supports
+                    // non-blocking flush, the round waits for the confirmation of the database through the future.
+                    inFlightFlushes.acquire();
+                    futures.add(CompletableFuture.supplyAsync(() -> batchDAO.flush(partition), executorService)
+                                                 .thenCompose(future -> future)
+                                                 .whenComplete((v, t) -> inFlightFlushes.release())
+                                                 .exceptionally(e -> {
+                                                     log.error(e.getMessage(), e);
+                                                     return null;
+                                                 }));
                 }
-                countDownLatch.await();
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
             } finally {
                 executeLatencyTimer.finish();
             }
@@ -155,10 +183,22 @@ public enum PersistenceTimer {
 
             prepareRequests.clear();
             lastTime = System.currentTimeMillis();
+            lastRoundCost = lastTime - startTime;
+            roundStartTime = 0;
         }
 
         if (debug) {
             log.info("Batch persistence duration: {} ms", System.currentTimeMillis() - startTime);
         }
     }
+
+    /**
+     * @return the cost of the last persistence round, or the elapsed time of the running round if it is longer, in
+     * milliseconds.
+     */
+    public long getPersistenceLag() {
+        final long startTime = roundStartTime;
+        final long elapsed = startTime > 0 ? System.currentTimeMillis() - startTime : 0;
+        return Math.max(lastRoundCost, elapsed);
+    }
 }
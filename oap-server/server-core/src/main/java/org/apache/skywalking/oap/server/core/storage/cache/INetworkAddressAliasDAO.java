@@ -29,5 +29,16 @@ public interface INetworkAddressAliasDAO extends DAO {
      * @param timeBucket in minute unit
      * @return All new alias updated before the given time bucket.
      */
-    List<NetworkAddressAlias> loadLastUpdate(long timeBucket);
+    default List<NetworkAddressAlias> loadLastUpdate(long timeBucket) {
+        return loadLastUpdate(timeBucket, Long.MAX_VALUE);
+    }
+
+    /**
+     * Load the alias information updated in the given range, which makes the full load could be split into pages.
+     *
+     * @param startTimeBucket in minute unit, inclusive
+     * @param endTimeBucket   in minute unit, exclusive
+     * @return All alias updated in the given time bucket range.
+     */
+    List<NetworkAddressAlias> loadLastUpdate(long startTimeBucket, long endTimeBucket);
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.core.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.skywalking.oap.server.core.source.Source;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DispatcherManagerTest {
+    private static final List<List<Source>> BATCHES = new ArrayList<>();
+    private static final List<Source> DISPATCHED = new ArrayList<>();
+
+    private DispatcherManager dispatcherManager;
+
+    @Before
+    public void setUp() throws Exception {
+        BATCHES.clear();
+        DISPATCHED.clear();
+        dispatcherManager = new DispatcherManager();
+        dispatcherManager.addIfAsSourceDispatcher(ScopeOneDispatcher.class);
+        dispatcherManager.addIfAsSourceDispatcher(ScopeThreeDispatcher.class);
+    }
+
+    @Test
+    public void testForward() {
+        final ScopeOneSource source = new ScopeOneSource();
+        dispatcherManager.forward(source);
+        dispatcherManager.forward(new ScopeTwoSource());
+        dispatcherManager.forward((Source) null);
+
+        Assert.assertEquals(1, DISPATCHED.size());
+        Assert.assertSame(source, DISPATCHED.get(0));
+        Assert.assertEquals(0, BATCHES.size());
+    }
+
+    @Test
+    public void testForwardInBatch() {
+        final ScopeOneSource one1 = new ScopeOneSource();
+        final ScopeThreeSource three = new ScopeThreeSource();
+        final ScopeOneSource one2 = new ScopeOneSource();
+        dispatcherManager.forward(Arrays.asList(one1, new ScopeTwoSource(), three, null, one2));
+
+        Assert.assertEquals(2, BATCHES.size());
+        Assert.assertEquals(Arrays.asList(one1, one2), BATCHES.get(0));
+        Assert.assertEquals(Arrays.asList(three), BATCHES.get(1));
+        Assert.assertEquals(Arrays.asList(one1, one2, three), DISPATCHED);
+    }
+
+    public static class ScopeOneSource extends Source {
+        @Override
+        public int scope() {
+            return 1;
+        }
+
+        @Override
+        public String getEntityId() {
+            return "one";
+        }
+    }
+
+    public static class ScopeTwoSource extends Source {
+        @Override
+        public int scope() {
+            return 2;
+        }
+
+        @Override
+        public String getEntityId() {
+            return "two";
+        }
+    }
+
+    public static class ScopeThreeSource extends Source {
+        @Override
+        public int scope() {
+            return 3;
+        }
+
+        @Override
+        public String getEntityId() {
+            return "three";
+        }
+    }
+
+    public static class ScopeOneDispatcher implements SourceDispatcher<ScopeOneSource> {
+        @Override
+        public void dispatch(final ScopeOneSource source) {
+            DISPATCHED.add(source);
+        }
+
+        @Override
+        public void dispatch(final List<ScopeOneSource> sources) {
+            BATCHES.add(new ArrayList<>(sources));
+            sources.forEach(this::dispatch);
+        }
+    }
+
+    public static class ScopeThreeDispatcher implements SourceDispatcher<ScopeThreeSource> {
+        @Override
+        public void dispatch(final ScopeThreeSource source) {
+            DISPATCHED.add(source);
+        }
+
+        @Override
+        public void dispatch(final List<ScopeThreeSource> sources) {
+            BATCHES.add(new ArrayList<>(sources));
+            sources.forEach(this::dispatch);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.analysis;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class GeneratedClassCacheTest {
+    private File root;
+
+    @Before
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("class-cache").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        delete(root);
+    }
+
+    @Test
+    public void testSaveAndLoad() {
+        final byte[] bytecode = {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE};
+        GeneratedClassCache cache = GeneratedClassCache.create(root.getPath(), "oal/core.oal", "script", GeneratedClassCache.class);
+        assertNull(cache.load("a.b.CMetrics"));
+        cache.save("a.b.CMetrics", bytecode);
+        assertArrayEquals(bytecode, cache.load("a.b.CMetrics"));
+
+        cache = GeneratedClassCache.create(root.getPath(), "oal/core.oal", "script", GeneratedClassCache.class);
+        assertArrayEquals(bytecode, cache.load("a.b.CMetrics"));
+    }
+
+    @Test
+    public void testScriptChanged() {
+        GeneratedClassCache cache = GeneratedClassCache.create(root.getPath(), "oal/core.oal", "script", GeneratedClassCache.class);
+        cache.save("a.b.CMetrics", new byte[] {1});
+
+        cache = GeneratedClassCache.create(root.getPath(), "oal/core.oal", "script changed", GeneratedClassCache.class);
+        assertNull(cache.load("a.b.CMetrics"));
+        cache.save("a.b.CMetrics", new byte[] {2});
+        // The cache of the previous script is removed.
+        assertEquals(1, new File(root, "oal_core.oal").list().length);
+    }
+
+    @Test
+    public void testDisabled() {
+        final GeneratedClassCache cache = GeneratedClassCache.create("", "mal", "", GeneratedClassCache.class);
+        cache.save("a.b.CMetrics", new byte[] {1});
+        assertNull(cache.load("a.b.CMetrics"));
+        assertFalse(new File("mal").exists());
+    }
+
+    private static void delete(File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (final File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.analysis.manual.segment;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SegmentCodecTest {
+    private static final byte[] DATA;
+
+    static {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append("/segment/span/").append(i % 10);
+        }
+        DATA = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDeflate() {
+        final byte[] encoded = SegmentCodec.DEFLATE.encode(DATA);
+        Assert.assertTrue(encoded.length < DATA.length);
+        Assert.assertArrayEquals(DATA, SegmentCodec.decode(encoded));
+    }
+
+    @Test
+    public void testDecodeNotEncoded() {
+        Assert.assertArrayEquals(DATA, SegmentCodec.decode(SegmentCodec.NONE.encode(DATA)));
+        Assert.assertArrayEquals(new byte[0], SegmentCodec.decode(new byte[0]));
+    }
+
+    @Test
+    public void testFindByName() {
+        Assert.assertEquals(SegmentCodec.DEFLATE, SegmentCodec.findByName("deflate"));
+        Assert.assertEquals(SegmentCodec.NONE, SegmentCodec.findByName("NONE"));
+        Assert.assertEquals(SegmentCodec.NONE, SegmentCodec.findByName(""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindByUnknownName() {
+        SegmentCodec.findByName("defalte");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.core.cache;
+
+import java.util.Collections;
+import java.util.List;
+import org.apache.skywalking.oap.server.core.CoreModuleConfig;
+import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProfileTaskCacheTest {
+    private ProfileTaskCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new ProfileTaskCache(null, new CoreModuleConfig());
+    }
+
+    @Test
+    public void testAddTask() {
+        final long now = System.currentTimeMillis();
+        final ProfileTask finished = task("1", now - 3_600_000L, 10);
+        cache.saveTaskList("service", Collections.singletonList(finished));
+
+        final ProfileTask running = task("2", now, 10);
+        cache.addTask(running);
+        cache.addTask(running);
+
+        final List<ProfileTask> tasks = cache.getProfileTaskList("service");
+        Assert.assertEquals(1, tasks.size());
+        Assert.assertSame(running, tasks.get(0));
+    }
+
+    @Test
+    public void testPushedTaskSerialization() {
+        final ProfileTask task = task("3", System.currentTimeMillis(), 5);
+        final ProfileTaskUpdate received = new ProfileTaskUpdate();
+        received.deserialize(new ProfileTaskUpdate(task).serialize().build());
+
+        cache.addTask(received.getTask());
+
+        final ProfileTask cached = cache.getProfileTaskList("service").get(0);
+        Assert.assertEquals(task.getId(), cached.getId());
+        Assert.assertEquals(task.getEndpointName(), cached.getEndpointName());
+        Assert.assertEquals(task.getStartTime(), cached.getStartTime());
+        Assert.assertEquals(task.getCreateTime(), cached.getCreateTime());
+        Assert.assertEquals(task.getDuration(), cached.getDuration());
+        Assert.assertEquals(task.getMaxSamplingCount(), cached.getMaxSamplingCount());
+    }
+
+    private ProfileTask task(String id, long startTime, int duration) {
+        return ProfileTask.builder()
+                          .id(id)
+                          .serviceId("service")
+                          .endpointName("/endpoint")
+                          .startTime(startTime)
+                          .createTime(startTime)
+                          .duration(duration)
+                          .minDurationThreshold(0)
+                          .dumpPeriod(10)
+                          .maxSamplingCount(5)
+                          .build();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.profile;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+import org.apache.skywalking.oap.server.core.Const;
+import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.analysis.worker.MetricsAggregateWorker;
+import org.apache.skywalking.oap.server.core.analysis.worker.MetricsStreamProcessor;
+import org.apache.skywalking.oap.server.core.cache.ProfileTaskCache;
+import org.apache.skywalking.oap.server.core.profile.analyze.ProfileStack;
+import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
+import org.apache.skywalking.oap.server.core.storage.IMetricsDAO;
+import org.apache.skywalking.oap.server.core.storage.StorageDAO;
+import org.apache.skywalking.oap.server.core.storage.StorageModule;
+import org.apache.skywalking.oap.server.core.storage.model.IModelManager;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.module.ModuleManager;
+import org.apache.skywalking.oap.server.library.module.ModuleProviderHolder;
+import org.apache.skywalking.oap.server.library.module.ModuleServiceHolder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.powermock.reflect.Whitebox;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProfileCodeSignatureDictionaryTest {
+    private static final String TASK_ID = "task";
+    private static final long CREATE_TIME = 1616486400000L;
+
+    private ProfileTaskCache profileTaskCache;
+    private IMetricsDAO metricsDAO;
+    private MetricsAggregateWorker worker;
+    private ProfileCodeSignatureDictionary dictionary;
+
+    @Before
+    public void setUp() {
+        profileTaskCache = mock(ProfileTaskCache.class);
+        Model model = mock(Model.class);
+        when(model.getName()).thenReturn(ProfileTaskCodeSignature.INDEX_NAME);
+        when(model.getDownsampling()).thenReturn(DownSampling.Minute);
+        IModelManager modelManager = mock(IModelManager.class);
+        when(modelManager.allModels()).thenReturn(Collections.singletonList(model));
+        metricsDAO = mock(IMetricsDAO.class);
+        StorageDAO storageDAO = mock(StorageDAO.class);
+        when(storageDAO.newMetricsDao(any())).thenReturn(metricsDAO);
+
+        ModuleManager moduleManager = mock(ModuleManager.class);
+        ModuleProviderHolder coreProviderHolder = mock(ModuleProviderHolder.class);
+        ModuleServiceHolder coreServiceHolder = mock(ModuleServiceHolder.class);
+        when(moduleManager.find(CoreModule.NAME)).thenReturn(coreProviderHolder);
+        when(coreProviderHolder.provider()).thenReturn(coreServiceHolder);
+        when(coreServiceHolder.getService(ProfileTaskCache.class)).thenReturn(profileTaskCache);
+        when(coreServiceHolder.getService(IModelManager.class)).thenReturn(modelManager);
+        ModuleProviderHolder storageProviderHolder = mock(ModuleProviderHolder.class);
+        ModuleServiceHolder storageServiceHolder = mock(ModuleServiceHolder.class);
+        when(moduleManager.find(StorageModule.NAME)).thenReturn(storageProviderHolder);
+        when(storageProviderHolder.provider()).thenReturn(storageServiceHolder);
+        when(storageServiceHolder.getService(StorageDAO.class)).thenReturn(storageDAO);
+
+        worker = mock(MetricsAggregateWorker.class);
+        entryWorkers().put(ProfileTaskCodeSignature.class, worker);
+        dictionary = new ProfileCodeSignatureDictionary(moduleManager);
+    }
+
+    @After
+    public void tearDown() {
+        entryWorkers().remove(ProfileTaskCodeSignature.class);
+    }
+
+    @Test
+    public void testEncodeAndQuery() throws Exception {
+        ProfileTask task = new ProfileTask();
+        task.setId(TASK_ID);
+        task.setCreateTime(CREATE_TIME);
+        when(profileTaskCache.getProfileTaskById(TASK_ID)).thenReturn(task);
+
+        List<String> stack = Arrays.asList("A.run:1", "A.loop:2", "A.loop:2");
+        ProfileThreadSnapshotRecord first = record(dictionary.encode(TASK_ID, stack));
+        ProfileThreadSnapshotRecord second = record(dictionary.encode(TASK_ID, stack));
+        Assert.assertTrue(ProfileCodeSignatureDictionary.isEncoded(first.getStackBinary()));
+        Assert.assertEquals(1 + 3 * Long.BYTES, first.getStackBinary().length);
+        Assert.assertArrayEquals(first.getStackBinary(), second.getStackBinary());
+
+        // every code signature of the task is written once
+        ArgumentCaptor<Metrics> written = ArgumentCaptor.forClass(Metrics.class);
+        verify(worker, times(2)).in(written.capture());
+        for (Metrics metrics : written.getAllValues()) {
+            Assert.assertEquals(TimeBucket.getMinuteTimeBucket(CREATE_TIME), metrics.getTimeBucket());
+        }
+
+        when(metricsDAO.multiGet(any(), anyList())).thenReturn(written.getAllValues());
+        Map<Long, String> codeSignatureIds = dictionary.query(Arrays.asList(first, second));
+        Assert.assertEquals(2, codeSignatureIds.size());
+        Assert.assertEquals(stack, ProfileStack.codeSignaturesOf(first, codeSignatureIds));
+        Assert.assertEquals(stack, ProfileStack.deserialize(second, null, codeSignatureIds).getStack());
+
+        // the code signature missing in the dictionary
+        Assert.assertEquals(
+            Arrays.asList(Const.UNKNOWN, Const.UNKNOWN, Const.UNKNOWN),
+            ProfileStack.codeSignaturesOf(first, Collections.emptyMap())
+        );
+    }
+
+    @Test
+    public void testPlainStackOfUnknownTask() throws Exception {
+        List<String> stack = Arrays.asList("A.run:1", "A.call:2");
+        ProfileThreadSnapshotRecord record = record(dictionary.encode(TASK_ID, stack));
+        Assert.assertFalse(ProfileCodeSignatureDictionary.isEncoded(record.getStackBinary()));
+        Assert.assertEquals(stack, ThreadStack.parseFrom(record.getStackBinary()).getCodeSignaturesList());
+
+        Map<Long, String> codeSignatureIds = dictionary.query(Collections.singletonList(record));
+        Assert.assertTrue(codeSignatureIds.isEmpty());
+        Assert.assertEquals(stack, ProfileStack.deserialize(record).getStack());
+    }
+
+    private static ProfileThreadSnapshotRecord record(byte[] stackBinary) {
+        ProfileThreadSnapshotRecord record = new ProfileThreadSnapshotRecord();
+        record.setTaskId(TASK_ID);
+        record.setStackBinary(stackBinary);
+        return record;
+    }
+
+    private static Map<Class<? extends Metrics>, MetricsAggregateWorker> entryWorkers() {
+        return Whitebox.getInternalState(MetricsStreamProcessor.getInstance(), "entryWorkers");
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.analysis.IDManager;
+import org.apache.skywalking.oap.server.core.analysis.NodeType;
+import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
+import org.apache.skywalking.oap.server.core.query.type.Call;
+import org.apache.skywalking.oap.server.core.source.DetectPoint;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ServiceRelationSnapshotsTest {
+    private final List<String> loadedRanges = new ArrayList<>();
+
+    private final List<Runnable> materializing = new ArrayList<>();
+
+    private final Executor materializer = materializing::add;
+
+    private final ServiceRelationSnapshots.Loader loader = (detectPoint, startTB, endTB, serviceIds) -> {
+        loadedRanges.add(detectPoint + ":" + startTB + "-" + endTB + ":" + serviceIds);
+        // Every bucket reports the same relation, and one relation of its own.
+        final List<Call.CallDetail> calls = new ArrayList<>();
+        calls.add(call("a", "b", 0, detectPoint));
+        calls.add(call("a", "service-" + startTB, 0, detectPoint));
+        return calls;
+    };
+
+    @Before
+    public void setUp() {
+        loadedRanges.clear();
+        materializing.clear();
+    }
+
+    @Test
+    public void testMaterializeClosedBuckets() throws Exception {
+        final long startTB = minuteBucket(TimeUnit.HOURS.toMillis(1));
+        final long endTB = minuteBucket(TimeUnit.HOURS.toMillis(1) - TimeUnit.MINUTES.toMillis(4));
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(loader, 1000, 3, materializer);
+
+        // A cold query costs one range on both sides, the same as without the snapshots.
+        ServiceRelationSnapshots.Snapshot relations = snapshots.load(startTB, endTB, null);
+        Assert.assertEquals(2, loadedRanges.size());
+        Assert.assertEquals(DetectPoint.CLIENT + ":" + startTB + "-" + endTB + ":null", loadedRanges.get(0));
+        Assert.assertEquals(2, relations.getClientCalls().size());
+        Assert.assertEquals(5, materializing.size());
+
+        // The buckets being materialized are not scheduled again.
+        snapshots.load(startTB, endTB, null);
+        Assert.assertEquals(5, materializing.size());
+
+        materialize();
+        loadedRanges.clear();
+        relations = snapshots.load(startTB, endTB, null);
+        Assert.assertEquals(0, loadedRanges.size());
+        Assert.assertEquals(0, materializing.size());
+        Assert.assertEquals(6, relations.getClientCalls().size());
+        Assert.assertEquals(6, relations.getServerCalls().size());
+    }
+
+    @Test
+    public void testServiceTopologyNotSharedWithGlobal() throws Exception {
+        final long startTB = minuteBucket(TimeUnit.HOURS.toMillis(1));
+        final long endTB = minuteBucket(TimeUnit.HOURS.toMillis(1) - TimeUnit.MINUTES.toMillis(1));
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(loader, 1000, 3, materializer);
+        snapshots.load(startTB, endTB, null);
+        materialize();
+
+        loadedRanges.clear();
+        snapshots.load(startTB, endTB, Collections.singletonList("a"));
+        Assert.assertEquals(DetectPoint.CLIENT + ":" + startTB + "-" + endTB + ":[a]", loadedRanges.get(0));
+
+        // The topology of no service is not the global one.
+        loadedRanges.clear();
+        snapshots.load(startTB, endTB, Collections.emptyList());
+        Assert.assertEquals(DetectPoint.CLIENT + ":" + startTB + "-" + endTB + ":[]", loadedRanges.get(0));
+    }
+
+    @Test
+    public void testEmptyBucketsKeptOnceLongClosed() throws Exception {
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(
+            (detectPoint, start, end, serviceIds) -> {
+                loadedRanges.add(detectPoint + ":" + start + "-" + end);
+                return Collections.emptyList();
+            }, 1000, 3, materializer);
+
+        final long recentTB = minuteBucket(TimeUnit.MINUTES.toMillis(5));
+        snapshots.load(recentTB, recentTB, null);
+        materialize();
+        loadedRanges.clear();
+        snapshots.load(recentTB, recentTB, null);
+        Assert.assertEquals(2, loadedRanges.size());
+
+        final long oldTB = minuteBucket(TimeUnit.HOURS.toMillis(1));
+        snapshots.load(oldTB, oldTB, null);
+        materialize();
+        loadedRanges.clear();
+        snapshots.load(oldTB, oldTB, null);
+        Assert.assertEquals(0, loadedRanges.size());
+    }
+
+    @Test
+    public void testClosedHourBucketsKept() throws Exception {
+        final long startTB = TimeBucket.getTimeBucket(
+            System.currentTimeMillis() - TimeUnit.HOURS.toMillis(5), DownSampling.Hour);
+        final long endTB = TimeBucket.getTimeBucket(
+            System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2), DownSampling.Hour);
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(loader, 1000, 3, materializer);
+        snapshots.load(startTB, endTB, null);
+        materialize();
+
+        loadedRanges.clear();
+        snapshots.load(startTB, endTB, null);
+        snapshots.load(startTB, endTB, null);
+        Assert.assertEquals(0, loadedRanges.size());
+    }
+
+    @Test
+    public void testQueryOpenBucketsInRange() throws Exception {
+        final long startTB = minuteBucket(TimeUnit.MINUTES.toMillis(10));
+        final long endTB = minuteBucket(0);
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(loader, 100_000, 3, materializer);
+        snapshots.load(startTB, endTB, null);
+        materialize();
+
+        loadedRanges.clear();
+        snapshots.load(startTB, endTB, null);
+
+        // The materialized closed buckets are merged, only the recent buckets are queried in one range.
+        Assert.assertEquals(2, loadedRanges.size());
+        Assert.assertTrue(loadedRanges.get(0).startsWith(DetectPoint.CLIENT + ":"));
+        Assert.assertFalse(loadedRanges.get(0).startsWith(DetectPoint.CLIENT + ":" + startTB + "-"));
+        Assert.assertTrue(loadedRanges.get(0).contains("-" + endTB + ":"));
+    }
+
+    @Test
+    public void testDeletedBucketsNotMaterialized() throws Exception {
+        final long startTB = minuteBucket(TimeUnit.DAYS.toMillis(2));
+        final long endTB = minuteBucket(TimeUnit.DAYS.toMillis(2) - TimeUnit.MINUTES.toMillis(4));
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(loader, 1000, 1, materializer);
+
+        snapshots.load(startTB, endTB, null);
+        Assert.assertEquals(2, loadedRanges.size());
+        Assert.assertEquals(0, materializing.size());
+    }
+
+    @Test
+    public void testComponentOfMostSnapshots() throws Exception {
+        final long startTB = minuteBucket(TimeUnit.HOURS.toMillis(1));
+        final long endTB = minuteBucket(TimeUnit.HOURS.toMillis(1) - TimeUnit.MINUTES.toMillis(2));
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(
+            (detectPoint, start, end, serviceIds) -> Collections.singletonList(
+                // The latest bucket reports another component.
+                call("a", "b", start == endTB ? 2 : 1, detectPoint)), 1000, 3, materializer);
+        snapshots.load(startTB, endTB, null);
+        materialize();
+
+        final ServiceRelationSnapshots.Snapshot relations = snapshots.load(startTB, endTB, null);
+        Assert.assertEquals(1, relations.getClientCalls().size());
+        Assert.assertEquals(1, relations.getClientCalls().get(0).getComponentId().intValue());
+    }
+
+    @Test
+    public void testDeactivated() throws Exception {
+        final long startTB = minuteBucket(TimeUnit.HOURS.toMillis(1));
+        final long endTB = minuteBucket(TimeUnit.HOURS.toMillis(1) - TimeUnit.MINUTES.toMillis(4));
+        final ServiceRelationSnapshots snapshots = new ServiceRelationSnapshots(loader, 0, 3, materializer);
+
+        snapshots.load(startTB, endTB, null);
+        snapshots.load(startTB, endTB, null);
+        Assert.assertEquals(4, loadedRanges.size());
+        Assert.assertEquals(0, materializing.size());
+        Assert.assertEquals(DetectPoint.CLIENT + ":" + startTB + "-" + endTB + ":null", loadedRanges.get(0));
+    }
+
+    private void materialize() {
+        final List<Runnable> tasks = new ArrayList<>(materializing);
+        materializing.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static long minuteBucket(long ago) {
+        return TimeBucket.getTimeBucket(System.currentTimeMillis() - ago, DownSampling.Minute);
+    }
+
+    private static Call.CallDetail call(String source, String dest, int componentId, DetectPoint detectPoint) {
+        final Call.CallDetail call = new Call.CallDetail();
+        call.buildFromServiceRelation(
+            IDManager.ServiceID.buildRelationId(new IDManager.ServiceID.ServiceRelationDefine(
+                IDManager.ServiceID.buildId(source, NodeType.Normal),
+                IDManager.ServiceID.buildId(dest, NodeType.Normal)
+            )),
+            componentId,
+            detectPoint
+        );
+        return call;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.remote.selector;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.apache.skywalking.oap.server.core.remote.client.Address;
+import org.apache.skywalking.oap.server.core.remote.client.RemoteClient;
+import org.apache.skywalking.oap.server.core.remote.data.StreamData;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HashCodeSelectorTest {
+    private static final int KEYS = 10_000;
+
+    @Test
+    public void testNodeJoined() {
+        final List<RemoteClient> oldClients = clients(3);
+        final List<RemoteClient> newClients = clients(4);
+        final HashCodeSelector selector = new HashCodeSelector();
+
+        final Address[] oldOwners = new Address[KEYS];
+        for (int key = 0; key < KEYS; key++) {
+            oldOwners[key] = selector.select(oldClients, key, 0).getAddress();
+        }
+        int moved = 0;
+        for (int key = 0; key < KEYS; key++) {
+            final Address newOwner = selector.select(newClients, key, 0).getAddress();
+            if (!newOwner.equals(oldOwners[key])) {
+                moved++;
+                Assert.assertEquals(newClients.get(3).getAddress(), newOwner);
+            }
+        }
+        // about a quarter of the keys move to the joined node.
+        Assert.assertTrue(moved > KEYS / 8);
+        Assert.assertTrue(moved < KEYS / 2);
+    }
+
+    @Test
+    public void testHandoff() {
+        final List<RemoteClient> oldClients = clients(3);
+        final List<RemoteClient> newClients = clients(4);
+        final HashCodeSelector selector = new HashCodeSelector(1000);
+
+        final Address[] oldOwners = new Address[KEYS];
+        for (int key = 0; key < KEYS; key++) {
+            oldOwners[key] = selector.select(oldClients, key, 0).getAddress();
+        }
+        for (int key = 0; key < KEYS; key++) {
+            final RemoteClient owner = selector.select(newClients, key, 500);
+            Assert.assertEquals(oldOwners[key], owner.getAddress());
+            Assert.assertTrue(newClients.contains(owner));
+        }
+        int moved = 0;
+        for (int key = 0; key < KEYS; key++) {
+            if (!selector.select(newClients, key, 1500).getAddress().equals(oldOwners[key])) {
+                moved++;
+            }
+        }
+        Assert.assertTrue(moved > 0);
+    }
+
+    @Test
+    public void testNodeLeftDuringHandoff() {
+        final List<RemoteClient> oldClients = clients(4);
+        final List<RemoteClient> newClients = clients(3);
+        final HashCodeSelector selector = new HashCodeSelector(1000);
+
+        final Address[] oldOwners = new Address[KEYS];
+        for (int key = 0; key < KEYS; key++) {
+            oldOwners[key] = selector.select(oldClients, key, 0).getAddress();
+        }
+        for (int key = 0; key < KEYS; key++) {
+            final RemoteClient owner = selector.select(newClients, key, 500);
+            Assert.assertTrue(newClients.contains(owner));
+            if (!oldOwners[key].equals(oldClients.get(3).getAddress())) {
+                Assert.assertEquals(oldOwners[key], owner.getAddress());
+            }
+        }
+    }
+
+    @Test
+    public void testJoiningNodeHandoff() {
+        final List<RemoteClient> oldClients = clients(3);
+        final List<RemoteClient> newClients = clients(4);
+        final HashCodeSelector existing = new HashCodeSelector(1000);
+        for (int key = 0; key < KEYS; key++) {
+            existing.select(oldClients, key, 0);
+        }
+
+        // the joined node has no former ring, it sees the whole new cluster at first
+        final List<RemoteClient> joinedClients = clients(4, 3);
+        final HashCodeSelector joined = new HashCodeSelector(1000);
+        for (int key = 0; key < KEYS; key++) {
+            Assert.assertEquals(
+                existing.select(newClients, key, 500).getAddress(),
+                joined.select(joinedClients, key, 500).getAddress()
+            );
+        }
+        for (int key = 0; key < KEYS; key++) {
+            Assert.assertEquals(
+                existing.select(newClients, key, 1500).getAddress(),
+                joined.select(joinedClients, key, 1500).getAddress()
+            );
+        }
+    }
+
+    private static List<RemoteClient> clients(int size) {
+        return clients(size, -1);
+    }
+
+    private static List<RemoteClient> clients(int size, int self) {
+        final ImmutableList.Builder<RemoteClient> clients = ImmutableList.builder();
+        for (int i = 0; i < size; i++) {
+            clients.add(new MockRemoteClient(new Address("10.0.0." + i, 11800, i == self)));
+        }
+        return clients.build();
+    }
+
+    private static class MockRemoteClient implements RemoteClient {
+        private final Address address;
+
+        private MockRemoteClient(Address address) {
+            this.address = address;
+        }
+
+        @Override
+        public Address getAddress() {
+            return address;
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void push(String nextWorkerName, StreamData streamData) {
+        }
+
+        @Override
+        public int compareTo(RemoteClient o) {
+            return address.compareTo(o.getAddress());
+        }
+    }
+}
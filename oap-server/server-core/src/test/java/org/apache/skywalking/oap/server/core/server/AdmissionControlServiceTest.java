@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.server;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdmissionControlServiceTest {
+    private double pressure;
+
+    @Test
+    public void testAdmit() {
+        final AdmissionControlService service = new AdmissionControlService(true, 0.7, 0.9, 30);
+        service.addPressureSource(() -> pressure);
+        service.addPressureSource(() -> 0.1);
+
+        pressure = 0.5;
+        service.refresh();
+        Assert.assertTrue(service.admit(DataPriority.LOW));
+        Assert.assertTrue(service.admit(DataPriority.MEDIUM));
+        Assert.assertFalse(service.isOverloaded());
+
+        pressure = 0.8;
+        service.refresh();
+        Assert.assertFalse(service.admit(DataPriority.LOW));
+        Assert.assertTrue(service.admit(DataPriority.MEDIUM));
+        Assert.assertTrue(service.admit(DataPriority.HIGH));
+        Assert.assertTrue(service.isOverloaded());
+
+        pressure = 1.5;
+        service.refresh();
+        Assert.assertFalse(service.admit(DataPriority.LOW));
+        Assert.assertFalse(service.admit(DataPriority.MEDIUM));
+        Assert.assertTrue(service.admit(DataPriority.HIGH));
+    }
+
+    @Test
+    public void testInactive() {
+        final AdmissionControlService service = new AdmissionControlService(false, 0.7, 0.9, 30);
+        service.addPressureSource(() -> 1.5);
+        service.refresh();
+        Assert.assertTrue(service.admit(DataPriority.LOW));
+        Assert.assertTrue(service.admit(DataPriority.MEDIUM));
+        Assert.assertFalse(service.isOverloaded());
+    }
+}
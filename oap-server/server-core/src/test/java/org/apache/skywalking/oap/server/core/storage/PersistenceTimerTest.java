@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.core.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.skywalking.oap.server.core.analysis.worker.MetricsPersistentWorker;
+import org.apache.skywalking.oap.server.core.analysis.worker.MetricsStreamProcessor;
+import org.apache.skywalking.oap.server.library.client.request.InsertRequest;
+import org.apache.skywalking.oap.server.library.client.request.PrepareRequest;
+import org.apache.skywalking.oap.server.telemetry.api.CounterMetrics;
+import org.apache.skywalking.oap.server.telemetry.api.HistogramMetrics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class PersistenceTimerTest {
+    private ExecutorService executorService;
+    private ExecutorService prepareExecutorService;
+    private CounterMetrics errorCounter;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(2);
+        prepareExecutorService = Executors.newFixedThreadPool(2);
+        errorCounter = mock(CounterMetrics.class);
+        HistogramMetrics latency = new HistogramMetrics() {
+            @Override
+            public void observe(double value) {
+            }
+        };
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "errorCounter", errorCounter);
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "prepareLatency", latency);
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "executeLatency", latency);
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "maxSyncoperationNum", 2);
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "executorService", executorService);
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "prepareExecutorService", prepareExecutorService);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+        prepareExecutorService.shutdownNow();
+        Whitebox.setInternalState(MetricsStreamProcessor.getInstance(), "persistentWorkers", new ArrayList<>());
+    }
+
+    @Test
+    public void testParallelPrepare() throws Exception {
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "inFlightFlushes", new Semaphore(2));
+        // Every worker waits for the other one in the prepare stage, which only passes if they prepare in parallel.
+        final CountDownLatch preparing = new CountDownLatch(2);
+        List<MetricsPersistentWorker> workers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            MetricsPersistentWorker worker = mock(MetricsPersistentWorker.class);
+            doAnswer(invocation -> {
+                preparing.countDown();
+                if (preparing.await(5, TimeUnit.SECONDS)) {
+                    List<PrepareRequest> requests = invocation.getArgument(0);
+                    requests.add(mock(PrepareRequest.class));
+                }
+                return null;
+            }).when(worker).buildBatchRequests(anyList());
+            workers.add(worker);
+        }
+        Whitebox.setInternalState(MetricsStreamProcessor.getInstance(), "persistentWorkers", workers);
+        MockBatchDAO batchDAO = new MockBatchDAO();
+
+        Whitebox.invokeMethod(PersistenceTimer.INSTANCE, "extractDataAndSave", batchDAO);
+
+        // The requests of both workers are flushed in one partition.
+        Assert.assertEquals(1, batchDAO.futures.size());
+        Assert.assertEquals(2, batchDAO.flushedSize);
+        Assert.assertTrue(getPrepareRequests().isEmpty());
+        verify(errorCounter, never()).inc();
+    }
+
+    @Test
+    public void testAsyncFlush() throws Exception {
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "inFlightFlushes", new Semaphore(1));
+        MockBatchDAO batchDAO = new MockBatchDAO();
+        prepareRequests(4);
+
+        Whitebox.invokeMethod(PersistenceTimer.INSTANCE, "extractDataAndSave", batchDAO);
+
+        Assert.assertEquals(2, batchDAO.futures.size());
+        // The second flush waits for the confirmation of the first one, as only one flush is allowed in flight.
+        Assert.assertTrue(batchDAO.doneBeforeNextFlush);
+        for (CompletableFuture<Void> future : batchDAO.futures) {
+            Assert.assertTrue(future.isDone());
+        }
+        Assert.assertTrue(getPrepareRequests().isEmpty());
+        verify(errorCounter, never()).inc();
+    }
+
+    @Test
+    public void testFailedFlush() throws Exception {
+        Whitebox.setInternalState(PersistenceTimer.INSTANCE, "inFlightFlushes", new Semaphore(2));
+        MockBatchDAO batchDAO = new MockBatchDAO();
+        batchDAO.failure = new IllegalStateException("mock bulk failure");
+        prepareRequests(4);
+
+        Whitebox.invokeMethod(PersistenceTimer.INSTANCE, "extractDataAndSave", batchDAO);
+
+        Assert.assertEquals(2, batchDAO.futures.size());
+        Assert.assertTrue(batchDAO.futures.get(0).isCompletedExceptionally());
+        Assert.assertTrue(batchDAO.futures.get(1).isDone());
+        Assert.assertTrue(getPrepareRequests().isEmpty());
+
+        // The permits of the failed flushes are released.
+        Semaphore inFlightFlushes = Whitebox.getInternalState(PersistenceTimer.INSTANCE, "inFlightFlushes");
+        Assert.assertEquals(2, inFlightFlushes.availablePermits());
+    }
+
+    private static void prepareRequests(int size) {
+        for (int i = 0; i < size; i++) {
+            getPrepareRequests().add(mock(PrepareRequest.class));
+        }
+    }
+
+    private static List<PrepareRequest> getPrepareRequests() {
+        return Whitebox.getInternalState(PersistenceTimer.INSTANCE, "prepareRequests");
+    }
+
+    /**
+     * Confirms every flush asynchronously after a while, and fails the first one if the failure is set.
+     */
+    private static class MockBatchDAO implements IBatchDAO {
+        private final List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean doneBeforeNextFlush = true;
+        private volatile Throwable failure;
+        private volatile int flushedSize;
+
+        @Override
+        public void asynchronous(InsertRequest insertRequest) {
+        }
+
+        @Override
+        public void synchronous(List<PrepareRequest> prepareRequests) {
+        }
+
+        @Override
+        public synchronized CompletableFuture<Void> flush(List<PrepareRequest> prepareRequests) {
+            for (CompletableFuture<Void> future : futures) {
+                doneBeforeNextFlush &= future.isDone();
+            }
+            flushedSize += prepareRequests.size();
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            final boolean fail = failure != null && futures.isEmpty();
+            futures.add(future);
+            new Thread(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException ignored) {
+                }
+                if (fail) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(null);
+                }
+            }).start();
+            return future;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.skywalking.apm.network.language.profile.v3.ThreadSnapshot;
 import org.apache.skywalking.oap.server.analyzer.agent.kafka.module.KafkaFetcherConfig;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
 import org.apache.skywalking.oap.server.core.analysis.worker.RecordStreamProcessor;
+import org.apache.skywalking.oap.server.core.profile.ProfileCodeSignatureDictionary;
 import org.apache.skywalking.oap.server.core.profile.ProfileThreadSnapshotRecord;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 
@@ -35,9 +36,11 @@ import org.apache.skywalking.oap.server.library.module.ModuleManager;
 public class ProfileTaskHandler implements KafkaHandler {
 
     private final KafkaFetcherConfig config;
+    private final ProfileCodeSignatureDictionary codeSignatureDictionary;
 
     public ProfileTaskHandler(ModuleManager manager, KafkaFetcherConfig config) {
         this.config = config;
+        this.codeSignatureDictionary = new ProfileCodeSignatureDictionary(manager);
     }
 
     @Override
@@ -57,7 +60,9 @@ public class ProfileTaskHandler implements KafkaHandler {
             snapshotRecord.setSegmentId(snapshot.getTraceSegmentId());
             snapshotRecord.setDumpTime(snapshot.getTime());
             snapshotRecord.setSequence(snapshot.getSequence());
-            snapshotRecord.setStackBinary(snapshot.getStack().toByteArray());
+            // every message is standalone, the agent sends the plain code signatures
+            snapshotRecord.setStackBinary(codeSignatureDictionary.encode(
+                snapshot.getTaskId(), snapshot.getStack().getCodeSignaturesList()));
             snapshotRecord.setTimeBucket(TimeBucket.getRecordTimeBucket(snapshot.getTime()));
 
             RecordStreamProcessor.getInstance().in(snapshotRecord);
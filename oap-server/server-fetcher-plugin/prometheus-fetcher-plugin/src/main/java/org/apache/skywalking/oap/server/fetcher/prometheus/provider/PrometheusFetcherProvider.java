@@ -35,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.Charsets;
 import org.apache.skywalking.oap.meter.analyzer.MetricConvert;
+import org.apache.skywalking.oap.meter.analyzer.dsl.counter.CounterWindow;
 import org.apache.skywalking.oap.meter.analyzer.prometheus.PrometheusMetricConverter;
 import org.apache.skywalking.oap.meter.analyzer.prometheus.rule.Rule;
 import org.apache.skywalking.oap.meter.analyzer.prometheus.rule.Rules;
@@ -108,6 +109,7 @@ public class PrometheusFetcherProvider extends ModuleProvider {
         errorCounter = metricsCreator.createCounter("metrics_fetcher_error_count", "The error number of metrics scraping",
                 MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE
         );
+        CounterWindow.INSTANCE.enableTelemetry(metricsCreator);
     }
 
     @Override
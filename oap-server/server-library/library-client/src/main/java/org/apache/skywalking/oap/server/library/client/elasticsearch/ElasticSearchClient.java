@@ -20,6 +20,8 @@ package org.apache.skywalking.oap.server.library.client.elasticsearch;
 
 import com.google.common.base.Splitter;
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
@@ -37,10 +39,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.net.ssl.SSLContext;
 import lombok.RequiredArgsConstructor;
@@ -69,6 +74,7 @@ import org.apache.skywalking.oap.server.library.client.healthcheck.HealthCheckab
 import org.apache.skywalking.oap.server.library.client.request.InsertRequest;
 import org.apache.skywalking.oap.server.library.client.request.UpdateRequest;
 import org.apache.skywalking.oap.server.library.util.HealthChecker;
+import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.admin.indices.create.CreateIndexRequest;
 import org.elasticsearch.action.admin.indices.create.CreateIndexResponse;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
@@ -370,6 +376,82 @@ public class ElasticSearchClient implements Client, HealthCheckable {
         }
     }
 
+    /**
+     * Get all templates matching the given name pattern in one request.
+     *
+     * @return the templates keyed by the template name, including the namespace.
+     */
+    public Map<String, Object> getTemplates(String pattern) throws IOException {
+        pattern = formatIndexName(pattern);
+        try {
+            Response response = performGet("/_template/" + pattern, Collections.emptyMap());
+            Type type = new TypeToken<HashMap<String, Object>>() {
+            }.getType();
+            return new Gson().<HashMap<String, Object>>fromJson(
+                new InputStreamReader(response.getEntity().getContent()),
+                type
+            );
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                return new HashMap<>();
+            }
+            healthChecker.unHealth(e);
+            throw e;
+        } catch (IOException t) {
+            healthChecker.unHealth(t);
+            throw t;
+        }
+    }
+
+    /**
+     * Get the names of all indices matching the given name pattern in one request.
+     *
+     * @return the index names, including the namespace.
+     */
+    public Set<String> retrievalIndexNames(String pattern) throws IOException {
+        pattern = formatIndexName(pattern);
+        Map<String, String> params = new HashMap<>();
+        params.put("h", "index");
+        params.put("format", "json");
+        try {
+            Response response = performGet("/_cat/indices/" + pattern, params);
+            JsonArray indices = new Gson().fromJson(
+                new InputStreamReader(response.getEntity().getContent()), JsonArray.class);
+            Set<String> indexNames = new HashSet<>();
+            for (JsonElement index : indices) {
+                indexNames.add(index.getAsJsonObject().get("index").getAsString());
+            }
+            return indexNames;
+        } catch (IOException t) {
+            healthChecker.unHealth(t);
+            throw t;
+        }
+    }
+
+    /**
+     * Get the document count and the store size of the primary shards of the given index in one request.
+     */
+    public IndexStats getIndexStats(String indexName) throws IOException {
+        indexName = formatIndexName(indexName);
+        try {
+            Response response = performGet("/" + indexName + "/_stats/docs,store", Collections.emptyMap());
+            JsonObject stats = new Gson().fromJson(
+                new InputStreamReader(response.getEntity().getContent()), JsonObject.class);
+            JsonObject primaries = stats.getAsJsonObject("_all").getAsJsonObject("primaries");
+            return new IndexStats(
+                primaries.getAsJsonObject("docs").get("count").getAsLong(),
+                primaries.getAsJsonObject("store").get("size_in_bytes").getAsLong()
+            );
+        } catch (IOException t) {
+            healthChecker.unHealth(t);
+            throw t;
+        }
+    }
+
+    protected Response performGet(String endpoint, Map<String, String> params) throws IOException {
+        return client.getLowLevelClient().performRequest(HttpGet.METHOD_NAME, endpoint, params);
+    }
+
     public boolean isExistsTemplate(String indexName) throws IOException {
         indexName = formatIndexName(indexName);
 
@@ -550,6 +632,45 @@ public class ElasticSearchClient implements Client, HealthCheckable {
         }
     }
 
+    /**
+     * Execute the bulk request in the same way as {@link #synchronousBulk(BulkRequest)}, but without blocking the
+     * calling thread.
+     *
+     * @return the future completed when the bulk response arrives, or completed exceptionally when the bulk fails.
+     */
+    public CompletableFuture<Void> asyncBulk(BulkRequest request) {
+        request.timeout(TimeValue.timeValueMinutes(2));
+        request.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+        request.waitForActiveShards(ActiveShardCount.ONE);
+        final int size = request.requests().size();
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            doBulkAsync(request, new ActionListener<BulkResponse>() {
+                @Override
+                public void onResponse(final BulkResponse responses) {
+                    log.info(
+                        "Asynchronous bulk took time: {} millis, size: {}", responses.getTook().getMillis(), size);
+                    healthChecker.health();
+                    future.complete(null);
+                }
+
+                @Override
+                public void onFailure(final Exception e) {
+                    healthChecker.unHealth(e);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (Throwable t) {
+            healthChecker.unHealth(t);
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    protected void doBulkAsync(BulkRequest request, ActionListener<BulkResponse> listener) {
+        client.bulkAsync(request, listener);
+    }
+
     public BulkProcessor createBulkProcessor(int bulkActions, int flushInterval, int concurrentRequests) {
         BulkProcessor.Listener listener = createBulkListener();
 
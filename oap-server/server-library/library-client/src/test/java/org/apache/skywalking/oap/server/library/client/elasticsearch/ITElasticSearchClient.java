@@ -97,6 +97,7 @@ public class ITElasticSearchClient {
         String indexName = "test_index_operate";
         client.createIndex(indexName, settings, doc);
         Assert.assertTrue(client.isExistsIndex(indexName));
+        Assert.assertTrue(client.retrievalIndexNames("test_index_*").contains(client.formatIndexName(indexName)));
 
         JsonObject index = getIndex(indexName);
         LOGGER.info(index.toString());
@@ -179,6 +180,7 @@ public class ITElasticSearchClient {
         client.createOrUpdateTemplate(indexName, settings, mapping);
 
         Assert.assertTrue(client.isExistsTemplate(indexName));
+        Assert.assertTrue(client.getTemplates("template_*").containsKey(client.formatIndexName(indexName)));
 
         XContentBuilder builder = XContentFactory.jsonBuilder().startObject().field("name", "pengys").endObject();
         client.forceInsert(indexName + "-2019", "testid", builder);
@@ -28,7 +28,6 @@ import java.net.InetSocketAddress;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -52,6 +51,7 @@ public class GRPCServer implements Server {
     private DynamicSslContext sslContext;
     private int threadPoolSize = Runtime.getRuntime().availableProcessors() * 4;
     private int threadPoolQueueSize = 10000;
+    private ThreadPoolExecutor executor;
 
     public GRPCServer(String host, int port) {
         this.host = host;
@@ -102,7 +102,7 @@ public class GRPCServer implements Server {
     public void initialize() {
         InetSocketAddress address = new InetSocketAddress(host, port);
         ArrayBlockingQueue blockingQueue = new ArrayBlockingQueue(threadPoolQueueSize);
-        ExecutorService executor = new ThreadPoolExecutor(
+        executor = new ThreadPoolExecutor(
             threadPoolSize, threadPoolSize, 60, TimeUnit.SECONDS, blockingQueue,
             new CustomThreadFactory("grpcServerPool"), new CustomRejectedExecutionHandler()
         );
@@ -117,6 +117,17 @@ public class GRPCServer implements Server {
         log.info("Server started, host {} listening on {}", host, port);
     }
 
+    /**
+     * @return the usage of the thread pool queue, from 0 to 1, which grows once the receivers are blocked by the
+     * downstream.
+     */
+    public double getThreadPoolQueueUsage() {
+        if (executor == null) {
+            return 0;
+        }
+        return (double) executor.getQueue().size() / threadPoolQueueSize;
+    }
+
     static class CustomRejectedExecutionHandler implements RejectedExecutionHandler {
 
         @Override
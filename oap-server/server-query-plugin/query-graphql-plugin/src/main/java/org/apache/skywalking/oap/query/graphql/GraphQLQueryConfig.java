@@ -30,4 +30,11 @@ import org.apache.skywalking.oap.server.library.module.ModuleConfig;
 @Setter
 public class GraphQLQueryConfig extends ModuleConfig {
     private String path;
+    /**
+     * The size of the thread pool resolving the metrics, metadata and topology fields of GraphQL requests concurrently.
+     * 0 means resolving them in the request thread one by one, as before this option.
+     *
+     * @since 8.6.0
+     */
+    private int queryThreadPoolSize = 8;
 }
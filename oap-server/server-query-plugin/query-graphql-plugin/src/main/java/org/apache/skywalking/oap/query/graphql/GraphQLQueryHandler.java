@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.apache.skywalking.oap.server.library.server.jetty.JettyJsonHandler;
@@ -59,6 +60,8 @@ public class GraphQLQueryHandler extends JettyJsonHandler {
 
     private final GraphQL graphQL;
 
+    private final Executor queryExecutor;
+
     @Override
     public String pathSpec() {
         return path;
@@ -89,6 +92,7 @@ public class GraphQLQueryHandler extends JettyJsonHandler {
             ExecutionInput executionInput = ExecutionInput.newExecutionInput()
                                                           .query(request)
                                                           .variables(variables)
+                                                          .context(new QueryContext(queryExecutor))
                                                           .build();
             ExecutionResult executionResult = graphQL.execute(executionInput);
             LOGGER.debug("Execution result is {}", executionResult);
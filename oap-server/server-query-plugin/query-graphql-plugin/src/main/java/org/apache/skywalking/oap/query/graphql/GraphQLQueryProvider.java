@@ -21,6 +21,10 @@ package org.apache.skywalking.oap.query.graphql;
 import com.coxautodev.graphql.tools.SchemaParser;
 import graphql.GraphQL;
 import graphql.schema.GraphQLSchema;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.skywalking.oap.query.graphql.resolver.AggregationQuery;
 import org.apache.skywalking.oap.query.graphql.resolver.AlarmQuery;
 import org.apache.skywalking.oap.query.graphql.resolver.BrowserLogQuery;
@@ -46,12 +50,15 @@ import org.apache.skywalking.oap.server.library.module.ModuleDefine;
 import org.apache.skywalking.oap.server.library.module.ModuleProvider;
 import org.apache.skywalking.oap.server.library.module.ModuleStartException;
 import org.apache.skywalking.oap.server.library.module.ServiceNotProvidedException;
+import org.apache.skywalking.oap.server.library.server.pool.CustomThreadFactory;
 
 /**
  * GraphQL query provider.
  */
 public class GraphQLQueryProvider extends ModuleProvider {
 
+    private static final int QUERY_QUEUE_SIZE = 1000;
+
     private final GraphQLQueryConfig config = new GraphQLQueryConfig();
 
     private GraphQL graphQL;
@@ -120,7 +127,28 @@ public class GraphQLQueryProvider extends ModuleProvider {
         JettyHandlerRegister service = getManager().find(CoreModule.NAME)
                                                    .provider()
                                                    .getService(JettyHandlerRegister.class);
-        service.addHandler(new GraphQLQueryHandler(config.getPath(), graphQL));
+        final Executor queryExecutor;
+        if (config.getQueryThreadPoolSize() > 0) {
+            // Execute in the request thread once the pool is full, which slows down the requests rather than failing.
+            final ThreadPoolExecutor queryPool = new ThreadPoolExecutor(
+                config.getQueryThreadPoolSize(), config.getQueryThreadPoolSize(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUERY_QUEUE_SIZE), new CustomThreadFactory("graphqlQueryPool"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+            // Finish the running queries before the OAP exits, the providers have no stop stage.
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                queryPool.shutdown();
+                try {
+                    queryPool.awaitTermination(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            queryExecutor = queryPool;
+        } else {
+            queryExecutor = Runnable::run;
+        }
+        service.addHandler(new GraphQLQueryHandler(config.getPath(), graphQL, queryExecutor));
     }
 
     @Override
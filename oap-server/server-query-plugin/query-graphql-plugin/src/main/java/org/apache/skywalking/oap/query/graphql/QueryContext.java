@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.query.graphql;
+
+import graphql.schema.DataFetchingEnvironment;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * QueryContext lives in one GraphQL request. The resolvers load their results through it, so the fields of one request
+ * are queried concurrently in the query thread pool, and the same query in one request is executed only once.
+ */
+public class QueryContext {
+    private final Executor executor;
+    private final Map<List<Object>, CompletableFuture<?>> loaded = new ConcurrentHashMap<>();
+
+    public QueryContext(final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param key    identifies the query in the request, such as the resolver method name and its arguments, which
+     *               must implement equals and hashCode.
+     * @param loader executes the query.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> load(final List<Object> key, final Callable<T> loader) {
+        return (CompletableFuture<T>) loaded.computeIfAbsent(
+            key, k -> CompletableFuture.supplyAsync(() -> call(loader), executor));
+    }
+
+    /**
+     * Load the result through the {@link QueryContext} of the request, or execute the query directly if the request has
+     * no context.
+     */
+    public static <T> CompletableFuture<T> load(final DataFetchingEnvironment env,
+                                                final List<Object> key,
+                                                final Callable<T> loader) {
+        final Object context = env == null ? null : env.getContext();
+        if (context instanceof QueryContext) {
+            return ((QueryContext) context).load(key, loader);
+        }
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(loader.call());
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static <T> T call(final Callable<T> loader) {
+        try {
+            return loader.call();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+}
@@ -19,11 +19,15 @@
 package org.apache.skywalking.oap.query.graphql.resolver;
 
 import com.coxautodev.graphql.tools.GraphQLQueryResolver;
+import graphql.schema.DataFetchingEnvironment;
 import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.skywalking.oap.query.graphql.QueryContext;
 import org.apache.skywalking.oap.query.graphql.type.TimeInfo;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.query.MetadataQueryService;
@@ -36,6 +40,10 @@ import org.apache.skywalking.oap.server.core.query.type.Service;
 import org.apache.skywalking.oap.server.core.query.type.ServiceInstance;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 
+/**
+ * The metadata queries reading the storage are loaded through the {@link QueryContext} of the request, so they are
+ * queried concurrently with the other fields of the request, and the same query is executed only once.
+ */
 public class MetadataQuery implements GraphQLQueryResolver {
 
     private final ModuleManager moduleManager;
@@ -62,42 +70,69 @@ public class MetadataQuery implements GraphQLQueryResolver {
         return new ClusterBrief();
     }
 
-    public List<Service> getAllServices(final Duration duration,
-                                        final String group) throws IOException, ParseException {
-        return getMetadataQueryService().getAllServices(group);
+    public CompletableFuture<List<Service>> getAllServices(final Duration duration,
+                                                           final String group,
+                                                           final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getAllServices", group), () -> getMetadataQueryService().getAllServices(group));
     }
 
-    public List<Service> getAllBrowserServices(final Duration duration) throws IOException, ParseException {
-        return getMetadataQueryService().getAllBrowserServices();
+    public CompletableFuture<List<Service>> getAllBrowserServices(final Duration duration,
+                                                                  final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getAllBrowserServices"), () -> getMetadataQueryService().getAllBrowserServices());
     }
 
-    public List<Service> searchServices(final Duration duration,
-                                        final String keyword) throws IOException, ParseException {
-        return getMetadataQueryService().searchServices(
-            duration.getStartTimestamp(), duration.getEndTimestamp(), keyword);
+    public CompletableFuture<List<Service>> searchServices(final Duration duration,
+                                                           final String keyword,
+                                                           final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("searchServices", duration, keyword),
+            () -> getMetadataQueryService().searchServices(
+                duration.getStartTimestamp(), duration.getEndTimestamp(), keyword)
+        );
     }
 
-    public Service searchService(final String serviceCode) throws IOException {
-        return getMetadataQueryService().searchService(serviceCode);
+    public CompletableFuture<Service> searchService(final String serviceCode,
+                                                    final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("searchService", serviceCode),
+            () -> getMetadataQueryService().searchService(serviceCode)
+        );
     }
 
-    public List<ServiceInstance> getServiceInstances(final Duration duration,
-                                                     final String serviceId) throws IOException, ParseException {
-        return getMetadataQueryService().getServiceInstances(
-            duration.getStartTimestamp(), duration.getEndTimestamp(), serviceId);
+    public CompletableFuture<List<ServiceInstance>> getServiceInstances(final Duration duration,
+                                                                        final String serviceId,
+                                                                        final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getServiceInstances", duration, serviceId),
+            () -> getMetadataQueryService().getServiceInstances(
+                duration.getStartTimestamp(), duration.getEndTimestamp(), serviceId)
+        );
     }
 
-    public List<Endpoint> searchEndpoint(final String keyword, final String serviceId,
-                                         final int limit) throws IOException {
-        return getMetadataQueryService().searchEndpoint(keyword, serviceId, limit);
+    public CompletableFuture<List<Endpoint>> searchEndpoint(final String keyword,
+                                                            final String serviceId,
+                                                            final int limit,
+                                                            final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("searchEndpoint", keyword, serviceId, limit),
+            () -> getMetadataQueryService().searchEndpoint(keyword, serviceId, limit)
+        );
     }
 
-    public EndpointInfo getEndpointInfo(final String endpointId) throws IOException {
-        return getMetadataQueryService().getEndpointInfo(endpointId);
+    public CompletableFuture<EndpointInfo> getEndpointInfo(final String endpointId,
+                                                           final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getEndpointInfo", endpointId),
+            () -> getMetadataQueryService().getEndpointInfo(endpointId)
+        );
     }
 
-    public List<Database> getAllDatabases(final Duration duration) throws IOException {
-        return getMetadataQueryService().getAllDatabases();
+    public CompletableFuture<List<Database>> getAllDatabases(final Duration duration,
+                                                             final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getAllDatabases"), () -> getMetadataQueryService().getAllDatabases());
     }
 
     public TimeInfo getTimeInfo() {
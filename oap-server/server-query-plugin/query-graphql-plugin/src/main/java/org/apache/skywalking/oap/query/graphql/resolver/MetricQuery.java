@@ -57,7 +57,7 @@ public class MetricQuery implements GraphQLQueryResolver {
             condition.setName(metrics.getName());
             condition.setEntity(new MockEntity(null));
 
-            kv.setValue(query.readMetricsValue(condition, duration));
+            kv.setValue(query.doReadMetricsValue(condition, duration));
             values.addKVInt(kv);
         } else {
             for (final String id : metrics.getIds()) {
@@ -68,7 +68,7 @@ public class MetricQuery implements GraphQLQueryResolver {
                 condition.setName(metrics.getName());
                 condition.setEntity(new MockEntity(id));
 
-                kv.setValue(query.readMetricsValue(condition, duration));
+                kv.setValue(query.doReadMetricsValue(condition, duration));
                 values.addKVInt(kv);
             }
         }
@@ -83,7 +83,7 @@ public class MetricQuery implements GraphQLQueryResolver {
         condition.setName(metrics.getName());
         condition.setEntity(new MockEntity(metrics.getId()));
 
-        final MetricsValues metricsValues = query.readMetricsValues(condition, duration);
+        final MetricsValues metricsValues = query.doReadMetricsValues(condition, duration);
         return metricsValues.getValues();
     }
 
@@ -98,7 +98,7 @@ public class MetricQuery implements GraphQLQueryResolver {
             labels.add(String.valueOf(i));
         }
 
-        final List<MetricsValues> metricsValues = query.readLabeledMetricsValues(condition, labels, duration);
+        final List<MetricsValues> metricsValues = query.doReadLabeledMetricsValues(condition, labels, duration);
         List<IntValues> response = new ArrayList<>(metricsValues.size());
         labels.forEach(l -> metricsValues.stream()
                                          .filter(m -> m.getLabel().equals(l))
@@ -117,7 +117,7 @@ public class MetricQuery implements GraphQLQueryResolver {
         List<String> labels = new ArrayList<>(linearIndex.size());
         linearIndex.forEach(i -> labels.add(String.valueOf(i)));
 
-        final List<MetricsValues> metricsValues = query.readLabeledMetricsValues(condition, labels, duration);
+        final List<MetricsValues> metricsValues = query.doReadLabeledMetricsValues(condition, labels, duration);
         List<IntValues> response = new ArrayList<>(metricsValues.size());
         labels.forEach(l -> metricsValues.stream()
                                          .filter(m -> m.getLabel().equals(l))
@@ -132,7 +132,7 @@ public class MetricQuery implements GraphQLQueryResolver {
         condition.setName(metrics.getName());
         condition.setEntity(new MockEntity(metrics.getId()));
 
-        final HeatMap heatMap = query.readHeatMap(condition, duration);
+        final HeatMap heatMap = query.doReadHeatMap(condition, duration);
 
         Thermodynamic thermodynamic = new Thermodynamic();
         final List<Bucket> buckets = heatMap.getBuckets();
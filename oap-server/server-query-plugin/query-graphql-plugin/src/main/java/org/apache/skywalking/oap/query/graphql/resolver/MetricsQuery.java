@@ -19,10 +19,14 @@
 package org.apache.skywalking.oap.query.graphql.resolver;
 
 import com.coxautodev.graphql.tools.GraphQLQueryResolver;
+import graphql.schema.DataFetchingEnvironment;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.skywalking.oap.query.graphql.QueryContext;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.analysis.metrics.DataTable;
 import org.apache.skywalking.oap.server.core.query.AggregationQueryService;
@@ -110,20 +114,43 @@ public class MetricsQuery implements GraphQLQueryResolver {
         return getMetricsMetadataQueryService().listMetrics(regex);
     }
 
+    /**
+     * See {@link #doReadMetricsValue(MetricsCondition, Duration)}, loaded through the {@link QueryContext}
+     * of the request.
+     */
+    public CompletableFuture<Long> readMetricsValue(MetricsCondition condition,
+                                                    Duration duration,
+                                                    DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("readMetricsValue", condition, duration), () -> doReadMetricsValue(condition, duration));
+    }
+
     /**
      * Read metrics single value in the duration of required metrics
      */
-    public long readMetricsValue(MetricsCondition condition, Duration duration) throws IOException {
+    long doReadMetricsValue(MetricsCondition condition, Duration duration) throws IOException {
         if (MetricsType.UNKNOWN.equals(typeOfMetrics(condition.getName())) || !condition.getEntity().isValid()) {
             return 0;
         }
         return getMetricsQueryService().readMetricsValue(condition, duration);
     }
 
+    /**
+     * See {@link #doReadMetricsValues(MetricsCondition, Duration)}, loaded through the {@link QueryContext}
+     * of the request.
+     */
+    public CompletableFuture<MetricsValues> readMetricsValues(MetricsCondition condition,
+                                                              Duration duration,
+                                                              DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("readMetricsValues", condition, duration), () -> doReadMetricsValues(condition, duration)
+        );
+    }
+
     /**
      * Read time-series values in the duration of required metrics
      */
-    public MetricsValues readMetricsValues(MetricsCondition condition, Duration duration) throws IOException {
+    MetricsValues doReadMetricsValues(MetricsCondition condition, Duration duration) throws IOException {
         if (MetricsType.UNKNOWN.equals(typeOfMetrics(condition.getName())) || !condition.getEntity().isValid()) {
             final List<PointOfTime> pointOfTimes = duration.assembleDurationPoints();
             MetricsValues values = new MetricsValues();
@@ -141,24 +168,49 @@ public class MetricsQuery implements GraphQLQueryResolver {
         return getMetricsQueryService().readMetricsValues(condition, duration);
     }
 
+    /**
+     * See {@link #doSortMetrics(TopNCondition, Duration)}, loaded through the {@link QueryContext}
+     * of the request.
+     */
+    public CompletableFuture<List<SelectedRecord>> sortMetrics(TopNCondition condition,
+                                                               Duration duration,
+                                                               DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("sortMetrics", condition, duration), () -> doSortMetrics(condition, duration));
+    }
+
     /**
      * Read entity list of required metrics and parent entity type.
      */
-    public List<SelectedRecord> sortMetrics(TopNCondition condition, Duration duration) throws IOException {
+    List<SelectedRecord> doSortMetrics(TopNCondition condition, Duration duration) throws IOException {
         if (MetricsType.UNKNOWN.equals(typeOfMetrics(condition.getName()))) {
             return Collections.emptyList();
         }
         return getQueryService().sortMetrics(condition, duration);
     }
 
+    /**
+     * See {@link #doReadLabeledMetricsValues(MetricsCondition, List, Duration)}, loaded through the {@link
+     * QueryContext} of the request.
+     */
+    public CompletableFuture<List<MetricsValues>> readLabeledMetricsValues(MetricsCondition condition,
+                                                                           List<String> labels,
+                                                                           Duration duration,
+                                                                           DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("readLabeledMetricsValues", condition, labels, duration),
+            () -> doReadLabeledMetricsValues(condition, labels, duration)
+        );
+    }
+
     /**
      * Read value in the given time duration, usually as a linear.
      *
      * @param labels the labels you need to query.
      */
-    public List<MetricsValues> readLabeledMetricsValues(MetricsCondition condition,
-                                                        List<String> labels,
-                                                        Duration duration) throws IOException {
+    List<MetricsValues> doReadLabeledMetricsValues(MetricsCondition condition,
+                                                   List<String> labels,
+                                                   Duration duration) throws IOException {
         if (MetricsType.UNKNOWN.equals(typeOfMetrics(condition.getName())) || !condition.getEntity().isValid()) {
             final List<PointOfTime> pointOfTimes = duration.assembleDurationPoints();
 
@@ -182,6 +234,17 @@ public class MetricsQuery implements GraphQLQueryResolver {
         return getMetricsQueryService().readLabeledMetricsValues(condition, labels, duration);
     }
 
+    /**
+     * See {@link #doReadHeatMap(MetricsCondition, Duration)}, loaded through the {@link QueryContext}
+     * of the request.
+     */
+    public CompletableFuture<HeatMap> readHeatMap(MetricsCondition condition,
+                                                  Duration duration,
+                                                  DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("readHeatMap", condition, duration), () -> doReadHeatMap(condition, duration));
+    }
+
     /**
      * Heatmap is bucket based value statistic result.
      *
@@ -194,7 +257,7 @@ public class MetricsQuery implements GraphQLQueryResolver {
      *      key = step * maxNumOfSteps, represents [step * maxNumOfSteps, MAX)
      * </pre>
      */
-    public HeatMap readHeatMap(MetricsCondition condition, Duration duration) throws IOException {
+    HeatMap doReadHeatMap(MetricsCondition condition, Duration duration) throws IOException {
         if (MetricsType.UNKNOWN.equals(typeOfMetrics(condition.getName())) || !condition.getEntity().isValid()) {
             DataTable emptyData = new DataTable();
             emptyData.put("0", 0L);
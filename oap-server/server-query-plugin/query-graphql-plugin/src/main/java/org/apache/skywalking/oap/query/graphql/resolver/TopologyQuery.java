@@ -19,9 +19,12 @@
 package org.apache.skywalking.oap.query.graphql.resolver;
 
 import com.coxautodev.graphql.tools.GraphQLQueryResolver;
-import java.io.IOException;
+import graphql.schema.DataFetchingEnvironment;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.skywalking.oap.query.graphql.QueryContext;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.query.TopologyQueryService;
 import org.apache.skywalking.oap.server.core.query.input.Duration;
@@ -30,6 +33,10 @@ import org.apache.skywalking.oap.server.core.query.type.ServiceInstanceTopology;
 import org.apache.skywalking.oap.server.core.query.type.Topology;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 
+/**
+ * The topology queries are loaded through the {@link QueryContext} of the request, so the topologies of one request
+ * are queried concurrently with its other fields, and the same topology is queried only once.
+ */
 public class TopologyQuery implements GraphQLQueryResolver {
 
     private final ModuleManager moduleManager;
@@ -46,42 +53,66 @@ public class TopologyQuery implements GraphQLQueryResolver {
         return queryService;
     }
 
-    public Topology getGlobalTopology(final Duration duration) throws IOException {
-        return getQueryService().getGlobalTopology(duration.getStartTimeBucket(), duration.getEndTimeBucket());
+    public CompletableFuture<Topology> getGlobalTopology(final Duration duration,
+                                                         final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getGlobalTopology", duration),
+            () -> getQueryService().getGlobalTopology(duration.getStartTimeBucket(), duration.getEndTimeBucket())
+        );
     }
 
-    public Topology getServiceTopology(final String serviceId, final Duration duration) throws IOException {
+    public CompletableFuture<Topology> getServiceTopology(final String serviceId,
+                                                          final Duration duration,
+                                                          final DataFetchingEnvironment env) {
         List<String> selectedServiceList = new ArrayList<>(1);
         selectedServiceList.add(serviceId);
-        return this.getServicesTopology(selectedServiceList, duration);
+        return this.getServicesTopology(selectedServiceList, duration, env);
     }
 
-    public Topology getServicesTopology(final List<String> serviceIds, final Duration duration) throws IOException {
-        return getQueryService().getServiceTopology(
-            duration.getStartTimeBucket(), duration.getEndTimeBucket(), serviceIds);
+    public CompletableFuture<Topology> getServicesTopology(final List<String> serviceIds,
+                                                           final Duration duration,
+                                                           final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getServicesTopology", serviceIds, duration),
+            () -> getQueryService().getServiceTopology(
+                duration.getStartTimeBucket(), duration.getEndTimeBucket(), serviceIds)
+        );
     }
 
-    public ServiceInstanceTopology getServiceInstanceTopology(final String clientServiceId,
-                                                              final String serverServiceId,
-                                                              final Duration duration) throws IOException {
-        return getQueryService().getServiceInstanceTopology(
-            clientServiceId, serverServiceId,
-            duration.getStartTimeBucket(), duration.getEndTimeBucket()
+    public CompletableFuture<ServiceInstanceTopology> getServiceInstanceTopology(final String clientServiceId,
+                                                                                 final String serverServiceId,
+                                                                                 final Duration duration,
+                                                                                 final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getServiceInstanceTopology", clientServiceId, serverServiceId, duration),
+            () -> getQueryService().getServiceInstanceTopology(
+                clientServiceId, serverServiceId,
+                duration.getStartTimeBucket(), duration.getEndTimeBucket()
+            )
         );
     }
 
     /**
-     * Replaced by {@link #getEndpointDependencies(String, Duration)}
+     * Replaced by {@link #getEndpointDependencies(String, Duration, DataFetchingEnvironment)}
      */
     @Deprecated
-    public Topology getEndpointTopology(final String endpointId, final Duration duration) throws IOException {
-        return getQueryService().getEndpointTopology(
-            duration.getStartTimeBucket(), duration.getEndTimeBucket(), endpointId);
+    public CompletableFuture<Topology> getEndpointTopology(final String endpointId,
+                                                           final Duration duration,
+                                                           final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getEndpointTopology", endpointId, duration),
+            () -> getQueryService().getEndpointTopology(
+                duration.getStartTimeBucket(), duration.getEndTimeBucket(), endpointId)
+        );
     }
 
-    public EndpointTopology getEndpointDependencies(final String endpointId,
-                                                    final Duration duration) throws IOException {
-        return getQueryService().getEndpointDependencies(
-            duration.getStartTimeBucket(), duration.getEndTimeBucket(), endpointId);
+    public CompletableFuture<EndpointTopology> getEndpointDependencies(final String endpointId,
+                                                                       final Duration duration,
+                                                                       final DataFetchingEnvironment env) {
+        return QueryContext.load(
+            env, Arrays.asList("getEndpointDependencies", endpointId, duration),
+            () -> getQueryService().getEndpointDependencies(
+                duration.getStartTimeBucket(), duration.getEndTimeBucket(), endpointId)
+        );
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.query.graphql;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.skywalking.oap.server.core.query.enumeration.Order;
+import org.apache.skywalking.oap.server.core.query.enumeration.Scope;
+import org.apache.skywalking.oap.server.core.query.enumeration.Step;
+import org.apache.skywalking.oap.server.core.query.input.Duration;
+import org.apache.skywalking.oap.server.core.query.input.TopNCondition;
+import org.junit.Assert;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+public class QueryContextTest {
+
+    @Test
+    public void testSameQueryIsLoadedOnce() throws Exception {
+        final QueryContext context = new QueryContext(Runnable::run);
+        final AtomicInteger loaded = new AtomicInteger();
+
+        final CompletableFuture<Integer> first = context.load(
+            Arrays.asList("sortMetrics", topN(), duration()), loaded::incrementAndGet);
+        final CompletableFuture<Integer> second = context.load(
+            Arrays.asList("sortMetrics", topN(), duration()), loaded::incrementAndGet);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, (int) second.get());
+        Assert.assertEquals(1, loaded.get());
+    }
+
+    @Test
+    public void testDifferentQueriesAreLoadedSeparately() throws Exception {
+        final QueryContext context = new QueryContext(Runnable::run);
+        final AtomicInteger loaded = new AtomicInteger();
+
+        final TopNCondition other = topN();
+        other.setTopN(20);
+        context.load(Arrays.asList("sortMetrics", topN(), duration()), loaded::incrementAndGet);
+        context.load(Arrays.asList("sortMetrics", other, duration()), loaded::incrementAndGet);
+
+        Assert.assertEquals(2, loaded.get());
+    }
+
+    private static TopNCondition topN() {
+        final TopNCondition condition = new TopNCondition();
+        condition.setName("service_resp_time");
+        condition.setNormal(true);
+        condition.setScope(Scope.Service);
+        condition.setTopN(10);
+        condition.setOrder(Order.DES);
+        return condition;
+    }
+
+    private static Duration duration() {
+        final Duration duration = new Duration();
+        Whitebox.setInternalState(duration, "start", "2021-01-01 1000");
+        Whitebox.setInternalState(duration, "end", "2021-01-01 1100");
+        Whitebox.setInternalState(duration, "step", Step.MINUTE);
+        return duration;
+    }
+}
@@ -26,6 +26,7 @@ import io.grpc.stub.StreamObserver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
 import org.apache.skywalking.aop.server.receiver.mesh.TelemetryDataDispatcher;
 import org.apache.skywalking.apm.network.servicemesh.v3.ServiceMeshMetric;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
@@ -43,13 +44,20 @@ import org.slf4j.LoggerFactory;
 public class AccessLogServiceGRPCHandler extends AccessLogServiceGrpc.AccessLogServiceImplBase {
     private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogServiceGRPCHandler.class);
     private final List<ALSHTTPAnalysis> envoyHTTPAnalysisList;
+    private final Executor analysisExecutor;
 
     private final CounterMetrics counter;
     private final HistogramMetrics histogram;
     private final CounterMetrics sourceDispatcherCounter;
 
+    /**
+     * @param analysisExecutor runs the analysis of the log entries of every received message, which could be the
+     *                         gRPC thread itself.
+     */
     public AccessLogServiceGRPCHandler(ModuleManager manager,
-                                       EnvoyMetricReceiverConfig config) throws ModuleStartException {
+                                       EnvoyMetricReceiverConfig config,
+                                       Executor analysisExecutor) throws ModuleStartException {
+        this.analysisExecutor = analysisExecutor;
         ServiceLoader<ALSHTTPAnalysis> alshttpAnalyses = ServiceLoader.load(ALSHTTPAnalysis.class);
         envoyHTTPAnalysisList = new ArrayList<>();
         for (String httpAnalysisName : config.getAlsHTTPAnalysis()) {
@@ -78,6 +86,32 @@ public class AccessLogServiceGRPCHandler extends AccessLogServiceGrpc.AccessLogS
         );
     }
 
+    /**
+     * Analyze all the log entries of one message, and dispatch the results in one batch.
+     */
+    private void analyze(final StreamAccessLogsMessage.Identifier identifier,
+                         final Role role,
+                         final StreamAccessLogsMessage.HTTPAccessLogEntries logs) {
+        HistogramMetrics.Timer timer = histogram.createTimer();
+        try {
+            List<ServiceMeshMetric.Builder> sourceResult = new ArrayList<>(logs.getLogEntryCount() * 2);
+            for (final HTTPAccessLogEntry log : logs.getLogEntryList()) {
+                List<ServiceMeshMetric.Builder> result = new ArrayList<>();
+                for (ALSHTTPAnalysis analysis : envoyHTTPAnalysisList) {
+                    result = analysis.analysis(result, identifier, log, role);
+                }
+                sourceResult.addAll(result);
+            }
+
+            sourceDispatcherCounter.inc(sourceResult.size());
+            TelemetryDataDispatcher.process(sourceResult);
+        } catch (Exception e) {
+            LOGGER.error("Failed to analyze the access logs from envoy", e);
+        } finally {
+            timer.finish();
+        }
+    }
+
     @Override
     public StreamObserver<StreamAccessLogsMessage> streamAccessLogs(
         StreamObserver<StreamAccessLogsResponse> responseObserver) {
@@ -90,45 +124,30 @@ public class AccessLogServiceGRPCHandler extends AccessLogServiceGrpc.AccessLogS
             public void onNext(StreamAccessLogsMessage message) {
                 counter.inc();
 
-                HistogramMetrics.Timer timer = histogram.createTimer();
-                try {
-                    if (isFirst) {
-                        identifier = message.getIdentifier();
-                        isFirst = false;
-                        role = Role.NONE;
-                        for (ALSHTTPAnalysis analysis : envoyHTTPAnalysisList) {
-                            role = analysis.identify(identifier, role);
-                        }
+                if (isFirst) {
+                    identifier = message.getIdentifier();
+                    isFirst = false;
+                    role = Role.NONE;
+                    for (ALSHTTPAnalysis analysis : envoyHTTPAnalysisList) {
+                        role = analysis.identify(identifier, role);
                     }
+                }
 
-                    StreamAccessLogsMessage.LogEntriesCase logCase = message.getLogEntriesCase();
+                StreamAccessLogsMessage.LogEntriesCase logCase = message.getLogEntriesCase();
 
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug(
-                            "Messaged is identified from Envoy[{}], role[{}] in [{}]. Received msg {}", identifier
-                                .getNode()
-                                .getId(), role, logCase, message);
-                    }
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(
+                        "Messaged is identified from Envoy[{}], role[{}] in [{}]. Received msg {}", identifier
+                            .getNode()
+                            .getId(), role, logCase, message);
+                }
 
-                    switch (logCase) {
-                        case HTTP_LOGS:
-                            StreamAccessLogsMessage.HTTPAccessLogEntries logs = message.getHttpLogs();
-
-                            List<ServiceMeshMetric.Builder> sourceResult = new ArrayList<>();
-                            for (final HTTPAccessLogEntry log : logs.getLogEntryList()) {
-                                List<ServiceMeshMetric.Builder> result = new ArrayList<>();
-                                for (ALSHTTPAnalysis analysis : envoyHTTPAnalysisList) {
-                                    result = analysis.analysis(result, identifier, log, role);
-                                }
-                                sourceResult.addAll(result);
-                            }
-
-                            sourceDispatcherCounter.inc(sourceResult.size());
-                            sourceResult.forEach(TelemetryDataDispatcher::process);
-                            break;
-                    }
-                } finally {
-                    timer.finish();
+                switch (logCase) {
+                    case HTTP_LOGS:
+                        final StreamAccessLogsMessage.Identifier streamIdentifier = identifier;
+                        final Role streamRole = role;
+                        analysisExecutor.execute(() -> analyze(streamIdentifier, streamRole, message.getHttpLogs()));
+                        break;
                 }
             }
 
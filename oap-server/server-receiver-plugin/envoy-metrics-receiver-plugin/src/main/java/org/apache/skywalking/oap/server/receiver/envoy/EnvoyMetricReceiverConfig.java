@@ -35,6 +35,22 @@ public class EnvoyMetricReceiverConfig extends ModuleConfig {
     private String alsHTTPAnalysis;
     @Getter
     private String k8sServiceNameRule;
+    /**
+     * Pool size of the ALS analysis executor. 0 means analyzing the logs in the gRPC threads receiving them.
+     */
+    @Getter
+    private int alsAnalysisThreadPoolSize = 0;
+    /**
+     * The queue size of the ALS analysis executor. The gRPC threads analyze the logs by themselves once the queue is
+     * full.
+     */
+    @Getter
+    private int alsAnalysisThreadPoolQueueSize = 10000;
+    /**
+     * The max number of the decoded metadata-exchange payloads cached by the `mx-mesh` analyzer.
+     */
+    @Getter
+    private long metaExchangeCacheSize = 10_000L;
 
     private final ServiceMetaInfoFactory serviceMetaInfoFactory = new ServiceMetaInfoFactoryImpl();
 
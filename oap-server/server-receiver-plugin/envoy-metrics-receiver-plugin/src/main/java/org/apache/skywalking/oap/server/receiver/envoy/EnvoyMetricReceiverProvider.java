@@ -18,6 +18,10 @@
 
 package org.apache.skywalking.oap.server.receiver.envoy;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.skywalking.aop.server.receiver.mesh.MeshReceiverModule;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.server.GRPCHandlerRegister;
@@ -26,6 +30,7 @@ import org.apache.skywalking.oap.server.library.module.ModuleDefine;
 import org.apache.skywalking.oap.server.library.module.ModuleProvider;
 import org.apache.skywalking.oap.server.library.module.ModuleStartException;
 import org.apache.skywalking.oap.server.library.module.ServiceNotProvidedException;
+import org.apache.skywalking.oap.server.library.server.pool.CustomThreadFactory;
 import org.apache.skywalking.oap.server.receiver.envoy.als.mx.FieldsHelper;
 import org.apache.skywalking.oap.server.receiver.sharing.server.SharingServerModule;
 import org.apache.skywalking.oap.server.telemetry.TelemetryModule;
@@ -73,7 +78,29 @@ public class EnvoyMetricReceiverProvider extends ModuleProvider {
             service.addHandler(handler);
             service.addHandler(new MetricServiceGRPCHandlerV3(handler));
         }
-        final AccessLogServiceGRPCHandler handler = new AccessLogServiceGRPCHandler(getManager(), config);
+        final Executor analysisExecutor;
+        if (config.getAlsAnalysisThreadPoolSize() > 0) {
+            // Analyze in the gRPC thread once the queue is full, which slows down the receiving rather than dropping.
+            final ThreadPoolExecutor analysisPool = new ThreadPoolExecutor(
+                config.getAlsAnalysisThreadPoolSize(), config.getAlsAnalysisThreadPoolSize(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getAlsAnalysisThreadPoolQueueSize()),
+                new CustomThreadFactory("envoyALSAnalysisPool"), new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+            // Finish the queued access logs before the OAP exits, the providers have no stop stage.
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                analysisPool.shutdown();
+                try {
+                    analysisPool.awaitTermination(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            analysisExecutor = analysisPool;
+        } else {
+            analysisExecutor = Runnable::run;
+        }
+        final AccessLogServiceGRPCHandler handler = new AccessLogServiceGRPCHandler(
+            getManager(), config, analysisExecutor);
         service.addHandler(handler);
         service.addHandler(new AccessLogServiceGRPCHandlerV3(handler));
     }
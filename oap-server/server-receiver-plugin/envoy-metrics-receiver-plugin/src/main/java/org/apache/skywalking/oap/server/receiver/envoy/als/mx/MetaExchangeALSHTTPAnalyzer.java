@@ -18,7 +18,10 @@
 
 package org.apache.skywalking.oap.server.receiver.envoy.als.mx;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.TextFormat;
 import io.envoyproxy.envoy.data.accesslog.v3.AccessLogCommon;
 import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
@@ -52,6 +55,17 @@ public class MetaExchangeALSHTTPAnalyzer extends AbstractALSAnalyzer {
 
     protected EnvoyMetricReceiverConfig config;
 
+    /**
+     * The node of an ALS stream, resolved once per stream. The weak keys are compared by identity, so the entry is
+     * released together with the stream.
+     */
+    protected Cache<StreamAccessLogsMessage.Identifier, ServiceMetaInfo> nodeCache;
+
+    /**
+     * LRU of the decoded metadata-exchange payloads, which are repeated in the logs between the same peers.
+     */
+    protected Cache<ByteString, ServiceMetaInfo> peerCache;
+
     @Override
     public String name() {
         return "mx-mesh";
@@ -60,6 +74,8 @@ public class MetaExchangeALSHTTPAnalyzer extends AbstractALSAnalyzer {
     @Override
     public void init(ModuleManager manager, EnvoyMetricReceiverConfig config) throws ModuleStartException {
         this.config = config;
+        this.nodeCache = CacheBuilder.newBuilder().weakKeys().build();
+        this.peerCache = CacheBuilder.newBuilder().maximumSize(config.getMetaExchangeCacheSize()).build();
         try {
             FieldsHelper.SINGLETON.init(fieldMappingFile, config.serviceMetaInfoFactory().clazz());
         } catch (final Exception e) {
@@ -87,7 +103,7 @@ public class MetaExchangeALSHTTPAnalyzer extends AbstractALSAnalyzer {
         }
         final ServiceMetaInfo currSvc;
         try {
-            currSvc = adaptToServiceMetaInfo(identifier);
+            currSvc = nodeCache.get(identifier, () -> adaptToServiceMetaInfo(identifier));
         } catch (Exception e) {
             log.error("Failed to inflate the ServiceMetaInfo from identifier.node.metadata. ", e);
             return Collections.emptyList();
@@ -100,7 +116,7 @@ public class MetaExchangeALSHTTPAnalyzer extends AbstractALSAnalyzer {
             }
             final ServiceMetaInfo svc;
             try {
-                svc = adaptToServiceMetaInfo(value);
+                svc = peerCache.get(value.getValue(), () -> adaptToServiceMetaInfo(value));
             } catch (Exception e) {
                 log.error("Fail to parse metadata {} to FlatNode", Base64.getEncoder().encode(value.toByteArray()));
                 return;
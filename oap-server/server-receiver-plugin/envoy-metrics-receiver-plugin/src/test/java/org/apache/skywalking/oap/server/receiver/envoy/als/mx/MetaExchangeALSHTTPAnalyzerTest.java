@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.receiver.envoy.als.mx;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import io.envoyproxy.envoy.data.accesslog.v3.AccessLogCommon;
+import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
+import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.skywalking.apm.network.servicemesh.v3.ServiceMeshMetric;
+import org.apache.skywalking.oap.server.receiver.envoy.als.Role;
+import org.apache.skywalking.oap.server.receiver.envoy.als.ServiceMetaInfo;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetaExchangeALSHTTPAnalyzerTest {
+    private CountingAnalyzer analyzer;
+
+    @Before
+    public void setUp() {
+        analyzer = new CountingAnalyzer();
+        analyzer.nodeCache = CacheBuilder.newBuilder().weakKeys().build();
+        analyzer.peerCache = CacheBuilder.newBuilder().maximumSize(10).build();
+    }
+
+    @Test
+    public void testNodeAndPeerCacheHits() {
+        final StreamAccessLogsMessage.Identifier identifier = identifier();
+
+        for (int i = 0; i < 3; i++) {
+            final List<ServiceMeshMetric.Builder> result = analyzer.analysis(
+                new ArrayList<>(), identifier, entry("reviews"), Role.SIDECAR);
+            Assert.assertEquals(1, result.size());
+            Assert.assertEquals("productpage", result.get(0).getSourceServiceName());
+            Assert.assertEquals("reviews", result.get(0).getDestServiceName());
+        }
+        final List<ServiceMeshMetric.Builder> result = analyzer.analysis(
+            new ArrayList<>(), identifier, entry("ratings"), Role.SIDECAR);
+        Assert.assertEquals("ratings", result.get(0).getDestServiceName());
+
+        // The node is resolved once per stream, and every peer payload once.
+        Assert.assertEquals(1, analyzer.nodeAdaptions);
+        Assert.assertEquals(2, analyzer.peerAdaptions);
+
+        // Another stream of the same node is resolved again, as the streams are cached by identity.
+        analyzer.analysis(new ArrayList<>(), identifier(), entry("reviews"), Role.SIDECAR);
+        Assert.assertEquals(2, analyzer.nodeAdaptions);
+        Assert.assertEquals(2, analyzer.peerAdaptions);
+    }
+
+    private static StreamAccessLogsMessage.Identifier identifier() {
+        return StreamAccessLogsMessage.Identifier.newBuilder().setLogName("productpage").build();
+    }
+
+    private static HTTPAccessLogEntry entry(String peer) {
+        return HTTPAccessLogEntry.newBuilder()
+                                 .setCommonProperties(
+                                     AccessLogCommon.newBuilder()
+                                                    .putFilterStateObjects(
+                                                        MetaExchangeALSHTTPAnalyzer.UPSTREAM_KEY,
+                                                        Any.newBuilder()
+                                                           .setValue(ByteString.copyFromUtf8(peer))
+                                                           .build()
+                                                    ))
+                                 .build();
+    }
+
+    private static class CountingAnalyzer extends MetaExchangeALSHTTPAnalyzer {
+        private int nodeAdaptions;
+        private int peerAdaptions;
+
+        @Override
+        protected ServiceMetaInfo adaptToServiceMetaInfo(final Any value) {
+            peerAdaptions++;
+            final String service = value.getValue().toStringUtf8();
+            return new ServiceMetaInfo(service, service + "-instance");
+        }
+
+        @Override
+        protected ServiceMetaInfo adaptToServiceMetaInfo(final StreamAccessLogsMessage.Identifier identifier) {
+            nodeAdaptions++;
+            return new ServiceMetaInfo(identifier.getLogName(), identifier.getLogName() + "-instance");
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.oap.server.receiver.otel;
 
+import org.apache.skywalking.oap.meter.analyzer.dsl.counter.CounterWindow;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.analysis.meter.MeterSystem;
 import org.apache.skywalking.oap.server.core.server.GRPCHandlerRegister;
@@ -27,6 +28,8 @@ import org.apache.skywalking.oap.server.library.module.ModuleProvider;
 import org.apache.skywalking.oap.server.library.module.ModuleStartException;
 import org.apache.skywalking.oap.server.library.module.ServiceNotProvidedException;
 import org.apache.skywalking.oap.server.receiver.sharing.server.SharingServerModule;
+import org.apache.skywalking.oap.server.telemetry.TelemetryModule;
+import org.apache.skywalking.oap.server.telemetry.api.MetricsCreator;
 
 public class OtelMetricReceiverProvider extends ModuleProvider {
     public static final String NAME = "default";
@@ -61,6 +64,10 @@ public class OtelMetricReceiverProvider extends ModuleProvider {
             .provider()
             .getService(GRPCHandlerRegister.class);
         final MeterSystem service = getManager().find(CoreModule.NAME).provider().getService(MeterSystem.class);
+        MetricsCreator metricsCreator = getManager().find(TelemetryModule.NAME)
+            .provider()
+            .getService(MetricsCreator.class);
+        CounterWindow.INSTANCE.enableTelemetry(metricsCreator);
         Handler.all().stream()
             .filter(h -> config.getEnabledHandlers().contains(h.type()))
             .forEach(h -> h.active(config.getEnabledRulesFrom(h.type()), service, grpcHandlerRegister));
@@ -72,6 +79,9 @@ public class OtelMetricReceiverProvider extends ModuleProvider {
 
     @Override
     public String[] requiredModules() {
-        return new String[] {SharingServerModule.NAME};
+        return new String[] {
+            SharingServerModule.NAME,
+            TelemetryModule.NAME
+        };
     }
 }
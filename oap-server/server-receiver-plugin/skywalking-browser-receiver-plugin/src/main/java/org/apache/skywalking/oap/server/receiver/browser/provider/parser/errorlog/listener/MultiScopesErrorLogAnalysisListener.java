@@ -17,6 +17,7 @@
 
 package org.apache.skywalking.oap.server.receiver.browser.provider.parser.errorlog.listener;
 
+import java.util.Arrays;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
 import org.apache.skywalking.oap.server.core.browser.source.BrowserAppTrafficCategory;
@@ -45,9 +46,11 @@ public class MultiScopesErrorLogAnalysisListener implements ErrorLogAnalysisList
      */
     @Override
     public void build() {
-        sourceReceiver.receive(sourceBuilder.toBrowserAppTraffic());
-        sourceReceiver.receive(sourceBuilder.toBrowserAppSingleVersionTraffic());
-        sourceReceiver.receive(sourceBuilder.toBrowserAppPageTraffic());
+        sourceReceiver.receive(Arrays.asList(
+            sourceBuilder.toBrowserAppTraffic(),
+            sourceBuilder.toBrowserAppSingleVersionTraffic(),
+            sourceBuilder.toBrowserAppPageTraffic()
+        ));
     }
 
     @Override
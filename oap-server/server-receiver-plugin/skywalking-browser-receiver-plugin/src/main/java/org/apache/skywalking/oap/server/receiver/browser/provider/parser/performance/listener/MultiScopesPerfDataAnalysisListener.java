@@ -17,6 +17,7 @@
 
 package org.apache.skywalking.oap.server.receiver.browser.provider.parser.performance.listener;
 
+import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
@@ -47,13 +48,14 @@ public class MultiScopesPerfDataAnalysisListener implements PerfDataAnalysisList
      */
     @Override
     public void build() {
-        // traffic
-        sourceReceiver.receive(sourceBuilder.toBrowserAppTraffic());
-        sourceReceiver.receive(sourceBuilder.toBrowserAppSingleVersionTraffic());
-        sourceReceiver.receive(sourceBuilder.toBrowserAppPageTraffic());
-
-        // performance (currently only page level performance data is analyzed)
-        sourceReceiver.receive(sourceBuilder.toBrowserAppPagePerf());
+        sourceReceiver.receive(Arrays.asList(
+            // traffic
+            sourceBuilder.toBrowserAppTraffic(),
+            sourceBuilder.toBrowserAppSingleVersionTraffic(),
+            sourceBuilder.toBrowserAppPageTraffic(),
+            // performance (currently only page level performance data is analyzed)
+            sourceBuilder.toBrowserAppPagePerf()
+        ));
     }
 
     /**
@@ -17,6 +17,10 @@
 
 package org.apache.skywalking.oap.server.recevier.log.provider;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.skywalking.oap.log.analyzer.module.LogAnalyzerModule;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.server.GRPCHandlerRegister;
@@ -25,6 +29,7 @@ import org.apache.skywalking.oap.server.library.module.ModuleDefine;
 import org.apache.skywalking.oap.server.library.module.ModuleProvider;
 import org.apache.skywalking.oap.server.library.module.ModuleStartException;
 import org.apache.skywalking.oap.server.library.module.ServiceNotProvidedException;
+import org.apache.skywalking.oap.server.library.server.pool.CustomThreadFactory;
 import org.apache.skywalking.oap.server.receiver.sharing.server.SharingServerModule;
 import org.apache.skywalking.oap.server.recevier.log.module.LogModule;
 import org.apache.skywalking.oap.server.recevier.log.provider.handler.LogReportServiceHandler;
@@ -32,6 +37,8 @@ import org.apache.skywalking.oap.server.telemetry.TelemetryModule;
 
 public class LogModuleProvider extends ModuleProvider {
 
+    private final LogModuleConfig config = new LogModuleConfig();
+
     @Override
     public String name() {
         return "default";
@@ -44,7 +51,7 @@ public class LogModuleProvider extends ModuleProvider {
 
     @Override
     public ModuleConfig createConfigBeanIfAbsent() {
-        return null;
+        return config;
     }
 
     @Override
@@ -58,7 +65,29 @@ public class LogModuleProvider extends ModuleProvider {
                                                               .provider()
                                                               .getService(GRPCHandlerRegister.class);
 
-        grpcHandlerRegister.addHandler(new LogReportServiceHandler(getManager()));
+        final Executor analysisExecutor;
+        if (config.getAnalysisThreadPoolSize() > 0) {
+            // Analyze in the gRPC thread once the queue is full, which slows down the receiving rather than dropping.
+            final ThreadPoolExecutor analysisPool = new ThreadPoolExecutor(
+                config.getAnalysisThreadPoolSize(), config.getAnalysisThreadPoolSize(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getAnalysisThreadPoolQueueSize()), new CustomThreadFactory("logAnalysisPool"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+            // Finish the queued logs before the OAP exits, the providers have no stop stage.
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                analysisPool.shutdown();
+                try {
+                    analysisPool.awaitTermination(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            analysisExecutor = analysisPool;
+        } else {
+            analysisExecutor = Runnable::run;
+        }
+
+        grpcHandlerRegister.addHandler(new LogReportServiceHandler(getManager(), analysisExecutor));
     }
 
     @Override
@@ -18,6 +18,7 @@
 package org.apache.skywalking.oap.server.recevier.log.provider.handler;
 
 import io.grpc.stub.StreamObserver;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.network.common.v3.Commands;
 import org.apache.skywalking.apm.network.logging.v3.LogData;
@@ -25,6 +26,9 @@ import org.apache.skywalking.apm.network.logging.v3.LogReportServiceGrpc;
 import org.apache.skywalking.apm.util.StringUtil;
 import org.apache.skywalking.oap.log.analyzer.module.LogAnalyzerModule;
 import org.apache.skywalking.oap.log.analyzer.provider.log.ILogAnalyzerService;
+import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.server.AdmissionControlService;
+import org.apache.skywalking.oap.server.core.server.DataPriority;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 import org.apache.skywalking.oap.server.library.server.grpc.GRPCHandler;
 import org.apache.skywalking.oap.server.telemetry.TelemetryModule;
@@ -39,19 +43,30 @@ import org.apache.skywalking.oap.server.telemetry.api.MetricsTag;
 @Slf4j
 public class LogReportServiceHandler extends LogReportServiceGrpc.LogReportServiceImplBase implements GRPCHandler {
 
+    /**
+     * The max number of the logs of one stream waiting for the analysis, the stream is paused once it's reached.
+     */
+    private static final int MAX_PENDING_LOGS_PER_STREAM = 1000;
+
     private final ModuleManager moduleManager;
     private final HistogramMetrics histogram;
     private final CounterMetrics errorCounter;
     private final ILogAnalyzerService logAnalyzerService;
+    private final AdmissionControlService admissionControlService;
+    private final Executor analysisExecutor;
 
-    public LogReportServiceHandler(final ModuleManager moduleManager) {
+    public LogReportServiceHandler(final ModuleManager moduleManager, final Executor analysisExecutor) {
         this.moduleManager = moduleManager;
+        this.analysisExecutor = analysisExecutor;
         MetricsCreator metricsCreator = moduleManager.find(TelemetryModule.NAME)
                                                      .provider()
                                                      .getService(MetricsCreator.class);
         this.logAnalyzerService = moduleManager.find(LogAnalyzerModule.NAME)
                                                .provider()
                                                .getService(ILogAnalyzerService.class);
+        this.admissionControlService = moduleManager.find(CoreModule.NAME)
+                                                    .provider()
+                                                    .getService(AdmissionControlService.class);
 
         histogram = metricsCreator.createHistogramMetric(
             "log_in_latency", "The process latency of log",
@@ -69,14 +84,17 @@ public class LogReportServiceHandler extends LogReportServiceGrpc.LogReportServi
             private String serviceName;
 
             /**
-             * If this is not the first element of the streaming,
-             * use the previous not-null name as the service name.
+             * The logs of one stream are analyzed in order, while the streams are analyzed concurrently.
+             */
+            private final Executor streamExecutor = new OrderedExecutor(analysisExecutor, MAX_PENDING_LOGS_PER_STREAM);
+
+            /**
+             * Keep the first not-null name of the streaming, even if the element is shed,
+             * as the following elements may not carry the service name.
              */
-            private void setServiceName(LogData.Builder builder) {
-                if (StringUtil.isEmpty(serviceName) && StringUtil.isNotEmpty(builder.getService())) {
-                    serviceName = builder.getService();
-                } else if (StringUtil.isNotEmpty(serviceName)) {
-                    builder.setService(serviceName);
+            private void recordServiceName(LogData logData) {
+                if (StringUtil.isEmpty(serviceName) && StringUtil.isNotEmpty(logData.getService())) {
+                    serviceName = logData.getService();
                 }
             }
 
@@ -85,17 +103,28 @@ public class LogReportServiceHandler extends LogReportServiceGrpc.LogReportServi
                 if (log.isDebugEnabled()) {
                     log.debug("received log in streaming");
                 }
-                HistogramMetrics.Timer timer = histogram.createTimer();
-                try {
-                    LogData.Builder builder = logData.toBuilder();
-                    setServiceName(builder);
-                    logAnalyzerService.doAnalysis(builder);
-                } catch (Exception e) {
-                    errorCounter.inc();
-                    log.error(e.getMessage(), e);
-                } finally {
-                    timer.finish();
+                recordServiceName(logData);
+                if (!admissionControlService.admit(DataPriority.LOW)) {
+                    return;
                 }
+                final String streamingServiceName = serviceName;
+                streamExecutor.execute(() -> {
+                    HistogramMetrics.Timer timer = histogram.createTimer();
+                    try {
+                        LogData.Builder builder = logData.toBuilder();
+                        // If this is not the first element of the streaming,
+                        // use the previous not-null name as the service name.
+                        if (StringUtil.isNotEmpty(streamingServiceName)) {
+                            builder.setService(streamingServiceName);
+                        }
+                        logAnalyzerService.doAnalysis(builder);
+                    } catch (Exception e) {
+                        errorCounter.inc();
+                        log.error(e.getMessage(), e);
+                    } finally {
+                        timer.finish();
+                    }
+                });
             }
 
             @Override
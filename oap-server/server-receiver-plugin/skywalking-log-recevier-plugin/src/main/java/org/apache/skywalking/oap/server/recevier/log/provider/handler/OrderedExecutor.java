@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.recevier.log.provider.handler;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OrderedExecutor runs its tasks one by one in the submitted order through the shared executor. The tasks of different
+ * OrderedExecutors run concurrently, while the tasks of one OrderedExecutor, such as the logs of one stream, keep their
+ * order. The submitter waits once {@code maxPending} tasks are pending, as the gRPC thread does when analyzing the logs
+ * by itself.
+ */
+@Slf4j
+class OrderedExecutor implements Executor {
+    private final Executor executor;
+    private final Semaphore pending;
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private boolean running;
+
+    OrderedExecutor(final Executor executor, final int maxPending) {
+        this.executor = executor;
+        this.pending = new Semaphore(maxPending);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        pending.acquireUninterruptibly();
+        synchronized (this) {
+            tasks.offer(task);
+            if (running) {
+                return;
+            }
+            running = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    private void drain() {
+        while (true) {
+            final Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    running = false;
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.error(t.getMessage(), t);
+            } finally {
+                pending.release();
+            }
+        }
+    }
+}
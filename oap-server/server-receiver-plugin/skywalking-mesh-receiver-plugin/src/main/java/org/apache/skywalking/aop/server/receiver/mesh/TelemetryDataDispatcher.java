@@ -18,6 +18,8 @@
 
 package org.apache.skywalking.aop.server.receiver.mesh;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.network.servicemesh.v3.Protocol;
 import org.apache.skywalking.apm.network.servicemesh.v3.ServiceMeshMetric;
@@ -35,6 +37,7 @@ import org.apache.skywalking.oap.server.core.source.Service;
 import org.apache.skywalking.oap.server.core.source.ServiceInstance;
 import org.apache.skywalking.oap.server.core.source.ServiceInstanceRelation;
 import org.apache.skywalking.oap.server.core.source.ServiceRelation;
+import org.apache.skywalking.oap.server.core.source.Source;
 import org.apache.skywalking.oap.server.core.source.SourceReceiver;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 import org.apache.skywalking.oap.server.telemetry.TelemetryModule;
@@ -77,52 +80,78 @@ public class TelemetryDataDispatcher {
 
     public static void process(ServiceMeshMetric.Builder data) {
         try (HistogramMetrics.Timer ignored = MESH_ANALYSIS_METRICS.createTimer()) {
-            if (data.getSourceServiceName() != null) {
-                data.setSourceServiceName(NAME_LENGTH_CONTROL.formatServiceName(data.getSourceServiceName()));
-            }
-            if (data.getSourceServiceInstance() != null) {
-                data.setSourceServiceInstance(NAME_LENGTH_CONTROL.formatInstanceName(data.getSourceServiceInstance()));
-            }
-            if (data.getDestServiceName() != null) {
-                data.setDestServiceName(NAME_LENGTH_CONTROL.formatServiceName(data.getDestServiceName()));
-            }
-            if (data.getDestServiceInstance() != null) {
-                data.setDestServiceInstance(NAME_LENGTH_CONTROL.formatInstanceName(data.getDestServiceInstance()));
-            }
-            if (data.getEndpoint() != null) {
-                data.setEndpoint(NAME_LENGTH_CONTROL.formatEndpointName(data.getDestServiceName(), data.getEndpoint()));
-            }
-            if (data.getInternalErrorCode() == null) {
-                // Add this since 8.2.0, set the default value.
-                data.setInternalErrorCode(Const.EMPTY_STRING);
-            }
+            List<Source> sources = new ArrayList<>(6);
+            doDispatch(normalize(data), sources);
+            SOURCE_RECEIVER.receive(sources);
+        } catch (Exception e) {
+            MESH_ERROR_METRICS.inc();
+            log.error(e.getMessage(), e);
+        }
+    }
 
-            doDispatch(data);
+    /**
+     * Process the telemetry data in a batch, the sources transferred from all of them are received together.
+     */
+    public static void process(List<ServiceMeshMetric.Builder> dataList) {
+        List<Source> sources = new ArrayList<>(dataList.size() * 6);
+        for (final ServiceMeshMetric.Builder data : dataList) {
+            try (HistogramMetrics.Timer ignored = MESH_ANALYSIS_METRICS.createTimer()) {
+                doDispatch(normalize(data), sources);
+            } catch (Exception e) {
+                MESH_ERROR_METRICS.inc();
+                log.error(e.getMessage(), e);
+            }
+        }
+        try {
+            SOURCE_RECEIVER.receive(sources);
         } catch (Exception e) {
             MESH_ERROR_METRICS.inc();
             log.error(e.getMessage(), e);
         }
     }
 
-    static void doDispatch(ServiceMeshMetric.Builder metrics) {
+    private static ServiceMeshMetric.Builder normalize(ServiceMeshMetric.Builder data) {
+        if (data.getSourceServiceName() != null) {
+            data.setSourceServiceName(NAME_LENGTH_CONTROL.formatServiceName(data.getSourceServiceName()));
+        }
+        if (data.getSourceServiceInstance() != null) {
+            data.setSourceServiceInstance(NAME_LENGTH_CONTROL.formatInstanceName(data.getSourceServiceInstance()));
+        }
+        if (data.getDestServiceName() != null) {
+            data.setDestServiceName(NAME_LENGTH_CONTROL.formatServiceName(data.getDestServiceName()));
+        }
+        if (data.getDestServiceInstance() != null) {
+            data.setDestServiceInstance(NAME_LENGTH_CONTROL.formatInstanceName(data.getDestServiceInstance()));
+        }
+        if (data.getEndpoint() != null) {
+            data.setEndpoint(NAME_LENGTH_CONTROL.formatEndpointName(data.getDestServiceName(), data.getEndpoint()));
+        }
+        if (data.getInternalErrorCode() == null) {
+            // Add this since 8.2.0, set the default value.
+            data.setInternalErrorCode(Const.EMPTY_STRING);
+        }
+        return data;
+    }
+
+    static void doDispatch(ServiceMeshMetric.Builder metrics, List<Source> sources) {
         long minuteTimeBucket = TimeBucket.getMinuteTimeBucket(metrics.getStartTime());
 
         if (org.apache.skywalking.apm.network.common.v3.DetectPoint.server.equals(metrics.getDetectPoint())) {
-            toAll(metrics, minuteTimeBucket);
-            toService(metrics, minuteTimeBucket);
-            toServiceInstance(metrics, minuteTimeBucket);
-            toEndpoint(metrics, minuteTimeBucket);
+            sources.add(toAll(metrics, minuteTimeBucket));
+            sources.add(toService(metrics, minuteTimeBucket));
+            sources.add(toServiceInstance(metrics, minuteTimeBucket));
+            sources.add(toEndpoint(metrics, minuteTimeBucket));
         }
 
         String sourceService = metrics.getSourceServiceName();
         // Don't generate relation, if no source.
         if (StringUtil.isNotEmpty(sourceService)) {
-            toServiceRelation(metrics, minuteTimeBucket);
-            toServiceInstanceRelation(metrics, minuteTimeBucket);
+            sources.add(toServiceRelation(metrics, minuteTimeBucket));
+            sources.add(toServiceInstanceRelation(metrics, minuteTimeBucket));
         }
     }
 
-    private static void toAll(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
+    private static All toAll(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
         All all = new All();
         all.setTimeBucket(minuteTimeBucket);
         all.setName(metrics.getDestServiceName());
@@ -133,10 +162,10 @@ public class TelemetryDataDispatcher {
         all.setResponseCode(metrics.getResponseCode());
         all.setType(protocol2Type(metrics.getProtocol()));
 
-        SOURCE_RECEIVER.receive(all);
+        return all;
     }
 
-    private static void toService(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
+    private static Service toService(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
         Service service = new Service();
         service.setTimeBucket(minuteTimeBucket);
         service.setName(metrics.getDestServiceName());
@@ -149,10 +178,10 @@ public class TelemetryDataDispatcher {
         service.setType(protocol2Type(metrics.getProtocol()));
         service.getSideCar().setInternalErrorCode(metrics.getInternalErrorCode());
 
-        SOURCE_RECEIVER.receive(service);
+        return service;
     }
 
-    private static void toServiceRelation(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
+    private static ServiceRelation toServiceRelation(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
         ServiceRelation serviceRelation = new ServiceRelation();
         serviceRelation.setTimeBucket(minuteTimeBucket);
         serviceRelation.setSourceServiceName(metrics.getSourceServiceName());
@@ -171,10 +200,10 @@ public class TelemetryDataDispatcher {
         serviceRelation.setTlsMode(metrics.getTlsMode());
         serviceRelation.getSideCar().setInternalErrorCode(metrics.getInternalErrorCode());
 
-        SOURCE_RECEIVER.receive(serviceRelation);
+        return serviceRelation;
     }
 
-    private static void toServiceInstance(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
+    private static ServiceInstance toServiceInstance(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
         ServiceInstance serviceInstance = new ServiceInstance();
         serviceInstance.setTimeBucket(minuteTimeBucket);
         serviceInstance.setName(metrics.getDestServiceInstance());
@@ -187,10 +216,10 @@ public class TelemetryDataDispatcher {
         serviceInstance.setType(protocol2Type(metrics.getProtocol()));
         serviceInstance.getSideCar().setInternalErrorCode(metrics.getInternalErrorCode());
 
-        SOURCE_RECEIVER.receive(serviceInstance);
+        return serviceInstance;
     }
 
-    private static void toServiceInstanceRelation(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
+    private static ServiceInstanceRelation toServiceInstanceRelation(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
         ServiceInstanceRelation serviceRelation = new ServiceInstanceRelation();
         serviceRelation.setTimeBucket(minuteTimeBucket);
         serviceRelation.setSourceServiceInstanceName(metrics.getSourceServiceInstance());
@@ -209,10 +238,10 @@ public class TelemetryDataDispatcher {
         serviceRelation.setTlsMode(metrics.getTlsMode());
         serviceRelation.getSideCar().setInternalErrorCode(metrics.getInternalErrorCode());
 
-        SOURCE_RECEIVER.receive(serviceRelation);
+        return serviceRelation;
     }
 
-    private static void toEndpoint(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
+    private static Endpoint toEndpoint(ServiceMeshMetric.Builder metrics, long minuteTimeBucket) {
         Endpoint endpoint = new Endpoint();
         endpoint.setTimeBucket(minuteTimeBucket);
         endpoint.setName(metrics.getEndpoint());
@@ -225,7 +254,7 @@ public class TelemetryDataDispatcher {
         endpoint.setType(protocol2Type(metrics.getProtocol()));
         endpoint.getSideCar().setInternalErrorCode(metrics.getInternalErrorCode());
 
-        SOURCE_RECEIVER.receive(endpoint);
+        return endpoint;
     }
 
     private static RequestType protocol2Type(Protocol protocol) {
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.receiver.mesh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.skywalking.aop.server.receiver.mesh.TelemetryDataDispatcher;
+import org.apache.skywalking.apm.network.common.v3.DetectPoint;
+import org.apache.skywalking.apm.network.servicemesh.v3.Protocol;
+import org.apache.skywalking.apm.network.servicemesh.v3.ServiceMeshMetric;
+import org.apache.skywalking.oap.server.core.config.NamingControl;
+import org.apache.skywalking.oap.server.core.config.group.EndpointNameGrouping;
+import org.apache.skywalking.oap.server.core.source.Source;
+import org.apache.skywalking.oap.server.core.source.SourceReceiver;
+import org.apache.skywalking.oap.server.telemetry.api.CounterMetrics;
+import org.apache.skywalking.oap.server.telemetry.api.HistogramMetrics;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class TelemetryDataDispatcherTest {
+    private final List<List<Source>> received = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        final SourceReceiver sourceReceiver = mock(SourceReceiver.class);
+        doAnswer(invocation -> {
+            final List<Source> sources = invocation.getArgument(0);
+            received.add(new ArrayList<>(sources));
+            return null;
+        }).when(sourceReceiver).receive(anyList());
+
+        Whitebox.setInternalState(TelemetryDataDispatcher.class, "SOURCE_RECEIVER", sourceReceiver);
+        Whitebox.setInternalState(
+            TelemetryDataDispatcher.class, "NAME_LENGTH_CONTROL",
+            new NamingControl(70, 70, 150, new EndpointNameGrouping())
+        );
+        Whitebox.setInternalState(
+            TelemetryDataDispatcher.class, "MESH_ANALYSIS_METRICS", mock(HistogramMetrics.class));
+        Whitebox.setInternalState(TelemetryDataDispatcher.class, "MESH_ERROR_METRICS", mock(CounterMetrics.class));
+    }
+
+    @Test
+    public void testBatchDispatchSameAsPerEntry() {
+        for (final ServiceMeshMetric.Builder data : metrics()) {
+            TelemetryDataDispatcher.process(data);
+        }
+        Assert.assertEquals(3, received.size());
+        final List<String> perEntry = received.stream()
+                                              .flatMap(List::stream)
+                                              .map(TelemetryDataDispatcherTest::describe)
+                                              .collect(Collectors.toList());
+
+        received.clear();
+        TelemetryDataDispatcher.process(metrics());
+        Assert.assertEquals(1, received.size());
+        final List<String> batch = received.get(0).stream()
+                                           .map(TelemetryDataDispatcherTest::describe)
+                                           .collect(Collectors.toList());
+
+        Assert.assertFalse(batch.isEmpty());
+        Assert.assertEquals(perEntry, batch);
+    }
+
+    private static String describe(Source source) {
+        return source.getClass().getSimpleName() + ":" + source.getEntityId() + ":" + source.getTimeBucket();
+    }
+
+    /**
+     * New builders every time, as the dispatcher normalizes the names in place.
+     */
+    private static List<ServiceMeshMetric.Builder> metrics() {
+        final long startTime = 1618000000000L;
+        return Arrays.asList(
+            metric("productpage", "reviews", DetectPoint.client, startTime),
+            metric("productpage", "reviews", DetectPoint.server, startTime),
+            metric("reviews", "ratings", DetectPoint.server, startTime + 60_000)
+        );
+    }
+
+    private static ServiceMeshMetric.Builder metric(String source, String dest, DetectPoint detectPoint, long time) {
+        return ServiceMeshMetric.newBuilder()
+                                .setSourceServiceName(source)
+                                .setSourceServiceInstance(source + "-instance")
+                                .setDestServiceName(dest)
+                                .setDestServiceInstance(dest + "-instance")
+                                .setEndpoint("GET:/" + dest)
+                                .setStartTime(time)
+                                .setEndTime(time + 10)
+                                .setLatency(10)
+                                .setResponseCode(200)
+                                .setStatus(true)
+                                .setProtocol(Protocol.HTTP)
+                                .setDetectPoint(detectPoint);
+    }
+}
@@ -26,12 +26,14 @@ import org.apache.skywalking.apm.network.language.profile.v3.ProfileTaskCommandQ
 import org.apache.skywalking.apm.network.language.profile.v3.ProfileTaskFinishReport;
 import org.apache.skywalking.apm.network.language.profile.v3.ProfileTaskGrpc;
 import org.apache.skywalking.apm.network.language.profile.v3.ThreadSnapshot;
+import org.apache.skywalking.apm.network.profile.ThreadStackDecoder;
 import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.analysis.IDManager;
 import org.apache.skywalking.oap.server.core.analysis.TimeBucket;
 import org.apache.skywalking.oap.server.core.analysis.worker.RecordStreamProcessor;
 import org.apache.skywalking.oap.server.core.cache.ProfileTaskCache;
 import org.apache.skywalking.oap.server.core.command.CommandService;
+import org.apache.skywalking.oap.server.core.profile.ProfileCodeSignatureDictionary;
 import org.apache.skywalking.oap.server.core.profile.ProfileTaskLogRecord;
 import org.apache.skywalking.oap.server.core.profile.ProfileThreadSnapshotRecord;
 import org.apache.skywalking.oap.server.core.query.type.ProfileTask;
@@ -49,10 +51,12 @@ public class ProfileTaskServiceHandler extends ProfileTaskGrpc.ProfileTaskImplBa
 
     private ProfileTaskCache profileTaskCache;
     private final CommandService commandService;
+    private final ProfileCodeSignatureDictionary codeSignatureDictionary;
 
     public ProfileTaskServiceHandler(ModuleManager moduleManager) {
         this.profileTaskCache = moduleManager.find(CoreModule.NAME).provider().getService(ProfileTaskCache.class);
         this.commandService = moduleManager.find(CoreModule.NAME).provider().getService(CommandService.class);
+        this.codeSignatureDictionary = new ProfileCodeSignatureDictionary(moduleManager);
     }
 
     @Override
@@ -90,6 +94,8 @@ public class ProfileTaskServiceHandler extends ProfileTaskGrpc.ProfileTaskImplBa
 
     @Override
     public StreamObserver<ThreadSnapshot> collectSnapshot(StreamObserver<Commands> responseObserver) {
+        // the code signatures are encoded by the dictionary of this stream, see ThreadStackEncoder
+        final ThreadStackDecoder decoder = new ThreadStackDecoder();
         return new StreamObserver<ThreadSnapshot>() {
             @Override
             public void onNext(ThreadSnapshot snapshot) {
@@ -97,13 +103,22 @@ public class ProfileTaskServiceHandler extends ProfileTaskGrpc.ProfileTaskImplBa
                     LOGGER.debug("receive profile segment snapshot");
                 }
 
+                final List<String> codeSignatures;
+                try {
+                    codeSignatures = decoder.decode(snapshot.getStack());
+                } catch (IllegalArgumentException e) {
+                    LOGGER.error("Decode the stack of snapshot {} of segment {} failure.",
+                                 snapshot.getSequence(), snapshot.getTraceSegmentId(), e);
+                    return;
+                }
+
                 // build database data
                 final ProfileThreadSnapshotRecord record = new ProfileThreadSnapshotRecord();
                 record.setTaskId(snapshot.getTaskId());
                 record.setSegmentId(snapshot.getTraceSegmentId());
                 record.setDumpTime(snapshot.getTime());
                 record.setSequence(snapshot.getSequence());
-                record.setStackBinary(snapshot.getStack().toByteArray());
+                record.setStackBinary(codeSignatureDictionary.encode(snapshot.getTaskId(), codeSignatures));
                 record.setTimeBucket(TimeBucket.getRecordTimeBucket(snapshot.getTime()));
 
                 // async storage
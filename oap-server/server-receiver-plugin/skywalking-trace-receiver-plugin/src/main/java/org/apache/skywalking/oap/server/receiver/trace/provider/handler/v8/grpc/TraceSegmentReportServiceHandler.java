@@ -26,6 +26,9 @@ import org.apache.skywalking.apm.network.language.agent.v3.SegmentObject;
 import org.apache.skywalking.apm.network.language.agent.v3.TraceSegmentReportServiceGrpc;
 import org.apache.skywalking.oap.server.analyzer.module.AnalyzerModule;
 import org.apache.skywalking.oap.server.analyzer.provider.trace.parser.ISegmentParserService;
+import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.command.CommandService;
+import org.apache.skywalking.oap.server.core.server.AdmissionControlService;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
 import org.apache.skywalking.oap.server.library.server.grpc.GRPCHandler;
 import org.apache.skywalking.oap.server.telemetry.TelemetryModule;
@@ -41,12 +44,18 @@ public class TraceSegmentReportServiceHandler extends TraceSegmentReportServiceG
     private CounterMetrics errorCounter;
 
     private ISegmentParserService segmentParserService;
+    private AdmissionControlService admissionControlService;
+    private CommandService commandService;
 
     public TraceSegmentReportServiceHandler(ModuleManager moduleManager) {
         this.moduleManager = moduleManager;
         this.segmentParserService = moduleManager.find(AnalyzerModule.NAME)
                                                  .provider()
                                                  .getService(ISegmentParserService.class);
+        this.admissionControlService = moduleManager.find(CoreModule.NAME)
+                                                    .provider()
+                                                    .getService(AdmissionControlService.class);
+        this.commandService = moduleManager.find(CoreModule.NAME).provider().getService(CommandService.class);
 
         MetricsCreator metricsCreator = moduleManager.find(TelemetryModule.NAME)
                                                      .provider()
@@ -68,7 +77,6 @@ public class TraceSegmentReportServiceHandler extends TraceSegmentReportServiceG
                 if (log.isDebugEnabled()) {
                     log.debug("received segment in streaming");
                 }
-
                 HistogramMetrics.Timer timer = histogram.createTimer();
                 try {
                     segmentParserService.send(segment);
@@ -88,7 +96,7 @@ public class TraceSegmentReportServiceHandler extends TraceSegmentReportServiceG
 
             @Override
             public void onCompleted() {
-                responseObserver.onNext(Commands.newBuilder().build());
+                responseObserver.onNext(commands());
                 responseObserver.onCompleted();
             }
         };
@@ -112,7 +120,19 @@ public class TraceSegmentReportServiceHandler extends TraceSegmentReportServiceG
             }
         });
 
-        responseObserver.onNext(Commands.newBuilder().build());
+        responseObserver.onNext(commands());
         responseObserver.onCompleted();
     }
+
+    /**
+     * @return the commands including the backoff command if the OAP server is overloaded.
+     */
+    private Commands commands() {
+        final Commands.Builder commands = Commands.newBuilder();
+        if (admissionControlService.isOverloaded()) {
+            commands.addCommands(
+                commandService.newReporterBackoffCommand(admissionControlService.getBackoffDuration()).serialize());
+        }
+        return commands.build();
+    }
 }
@@ -51,6 +51,13 @@ public class StorageModuleElasticsearchConfig extends ModuleConfig {
      */
     private int superDatasetIndexReplicasNumber = 0;
     private int superDatasetIndexShardsFactor = 5;
+    /**
+     * The latest index of the super size dataset record is rolled over to a new generation, when its primary shards
+     * hold more documents than this, or more megabytes than {@link #superDatasetIndexRolloverMaxSizeInMB}. 0 means
+     * no limit. The rollover is disabled if both of them are 0.
+     */
+    private long superDatasetIndexRolloverMaxDocs = 0;
+    private long superDatasetIndexRolloverMaxSizeInMB = 0;
     private int indexRefreshInterval = 2;
     private int bulkActions = 2000;
     private int flushInterval = 10;
@@ -89,4 +96,11 @@ public class StorageModuleElasticsearchConfig extends ModuleConfig {
      */
     private String oapLogAnalyzer = "{\"analyzer\":{\"oap_log_analyzer\":{\"type\":\"standard\"}}}";
     private String advanced;
+    /**
+     * The service, instance and endpoint relation metrics, which are small compared with the other metrics, are stored
+     * in one shared index with the metric_table column, rather than one index per model.
+     *
+     * @since 8.6.0
+     */
+    private boolean relationMetricsSharedIndex = false;
 }
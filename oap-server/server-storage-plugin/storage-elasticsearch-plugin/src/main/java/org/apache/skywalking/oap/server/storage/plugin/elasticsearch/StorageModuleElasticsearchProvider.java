@@ -62,8 +62,10 @@ import org.apache.skywalking.oap.server.library.module.ServiceNotProvidedExcepti
 import org.apache.skywalking.oap.server.library.util.MultipleFilesChangeMonitor;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.BatchProcessEsDAO;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.HistoryDeleteEsDAO;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.IndexController;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.StorageEsDAO;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.StorageEsInstaller;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.SuperDatasetIndexRoller;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.TimeSeriesUtils;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.cache.NetworkAddressAliasEsDAO;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.query.AggregationQueryEsDAO;
@@ -93,6 +95,7 @@ public class StorageModuleElasticsearchProvider extends ModuleProvider {
 
     protected final StorageModuleElasticsearchConfig config;
     protected ElasticSearchClient elasticSearchClient;
+    protected BatchProcessEsDAO batchProcessEsDAO;
 
     public StorageModuleElasticsearchProvider() {
         super();
@@ -130,6 +133,8 @@ public class StorageModuleElasticsearchProvider extends ModuleProvider {
         if (config.getSuperDatasetDayStep() > 0) {
             TimeSeriesUtils.setSUPER_DATASET_DAY_STEP(config.getSuperDatasetDayStep());
         }
+        TimeSeriesUtils.setSUPER_DATASET_ROLLOVER(SuperDatasetIndexRoller.isEnabled(config));
+        IndexController.INSTANCE.setRelationMetricsSharedIndex(config.isRelationMetricsSharedIndex());
 
         if (!StringUtil.isEmpty(config.getSecretsManagementFile())) {
             MultipleFilesChangeMonitor monitor = new MultipleFilesChangeMonitor(
@@ -165,11 +170,9 @@ public class StorageModuleElasticsearchProvider extends ModuleProvider {
             .getTrustStorePass(), config.getUser(), config.getPassword(),
             indexNameConverters(config.getNameSpace())
         );
-        this.registerServiceImplementation(
-            IBatchDAO.class,
-            new BatchProcessEsDAO(elasticSearchClient, config.getBulkActions(),  config
-                .getFlushInterval(), config.getConcurrentRequests())
-        );
+        batchProcessEsDAO = new BatchProcessEsDAO(elasticSearchClient, config.getBulkActions(),  config
+            .getFlushInterval(), config.getConcurrentRequests());
+        this.registerServiceImplementation(IBatchDAO.class, batchProcessEsDAO);
         this.registerServiceImplementation(StorageDAO.class, new StorageEsDAO(elasticSearchClient));
         this.registerServiceImplementation(
             IHistoryDeleteDAO.class, new HistoryDeleteEsDAO(elasticSearchClient));
@@ -210,11 +213,18 @@ public class StorageModuleElasticsearchProvider extends ModuleProvider {
         HealthCheckMetrics healthChecker = metricCreator.createHealthCheckerGauge(
             "storage_elasticsearch", MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE);
         elasticSearchClient.registerChecker(healthChecker);
+        batchProcessEsDAO.setBulkLatency(metricCreator.createHistogramMetric(
+            "storage_elasticsearch_bulk_latency", "Latency of the bulk requests of the persistence timer",
+            MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE
+        ));
         try {
             elasticSearchClient.connect();
             StorageEsInstaller installer = new StorageEsInstaller(elasticSearchClient, getManager(), config);
 
             getManager().find(CoreModule.NAME).provider().getService(ModelCreator.class).addModelListener(installer);
+            if (SuperDatasetIndexRoller.isEnabled(config)) {
+                new SuperDatasetIndexRoller(elasticSearchClient, getManager(), config).start();
+            }
         } catch (StorageException | IOException | KeyStoreException | NoSuchAlgorithmException | KeyManagementException | CertificateException e) {
             throw new ModuleStartException(e.getMessage(), e);
         }
@@ -19,11 +19,13 @@
 package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.apache.skywalking.oap.server.core.storage.IBatchDAO;
 import org.apache.skywalking.oap.server.library.client.elasticsearch.ElasticSearchClient;
 import org.apache.skywalking.oap.server.library.client.request.InsertRequest;
 import org.apache.skywalking.oap.server.library.client.request.PrepareRequest;
 import org.apache.skywalking.oap.server.library.util.CollectionUtils;
+import org.apache.skywalking.oap.server.telemetry.api.HistogramMetrics;
 import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.index.IndexRequest;
@@ -39,6 +41,7 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
     private final int bulkActions;
     private final int flushInterval;
     private final int concurrentRequests;
+    private HistogramMetrics bulkLatency;
 
     public BatchProcessEsDAO(ElasticSearchClient client,
                              int bulkActions,
@@ -62,15 +65,44 @@ public class BatchProcessEsDAO extends EsDAO implements IBatchDAO {
     @Override
     public void synchronous(List<PrepareRequest> prepareRequests) {
         if (CollectionUtils.isNotEmpty(prepareRequests)) {
-            BulkRequest request = new BulkRequest();
-            for (PrepareRequest prepareRequest : prepareRequests) {
-                if (prepareRequest instanceof InsertRequest) {
-                    request.add((IndexRequest) prepareRequest);
-                } else {
-                    request.add((UpdateRequest) prepareRequest);
-                }
+            getClient().synchronousBulk(buildBulkRequest(prepareRequests));
+        }
+    }
+
+    /**
+     * Send the bulk request without holding the calling thread until the response arrives.
+     */
+    @Override
+    public CompletableFuture<Void> flush(List<PrepareRequest> prepareRequests) {
+        if (CollectionUtils.isEmpty(prepareRequests)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final BulkRequest request = buildBulkRequest(prepareRequests);
+        if (bulkLatency == null) {
+            return getClient().asyncBulk(request);
+        }
+        final HistogramMetrics.Timer timer = bulkLatency.createTimer();
+        final CompletableFuture<Void> future = getClient().asyncBulk(request);
+        future.whenComplete((v, t) -> timer.finish());
+        return future;
+    }
+
+    /**
+     * Observe the latency of every bulk request sent by {@link #flush(List)}.
+     */
+    public void setBulkLatency(HistogramMetrics bulkLatency) {
+        this.bulkLatency = bulkLatency;
+    }
+
+    private BulkRequest buildBulkRequest(List<PrepareRequest> prepareRequests) {
+        BulkRequest request = new BulkRequest();
+        for (PrepareRequest prepareRequest : prepareRequests) {
+            if (prepareRequest instanceof InsertRequest) {
+                request.add((IndexRequest) prepareRequest);
+            } else {
+                request.add((UpdateRequest) prepareRequest);
             }
-            getClient().synchronousBulk(request);
         }
+        return request;
     }
 }
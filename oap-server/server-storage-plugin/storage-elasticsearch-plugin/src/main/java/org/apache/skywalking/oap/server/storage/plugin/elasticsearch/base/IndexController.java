@@ -21,21 +21,41 @@ package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.util.StringUtil;
 import org.apache.skywalking.oap.server.core.Const;
+import org.apache.skywalking.oap.server.core.source.DefaultScopeDefine;
 import org.apache.skywalking.oap.server.core.storage.model.Model;
 
 /**
  * The metrics data, that generated by OAL or MAL, would be partitioned to storage by the functions of the OAL or MAL.
- * And, the other record data would be insulated storage by themselves definitions.
+ * The topology relation metrics, which have no function, could share one index too, see {@link
+ * #relationMetricsSharedIndex}. And, the other record data would be insulated storage by themselves definitions.
  */
 @Slf4j
 public enum IndexController {
     INSTANCE;
 
+    /**
+     * The physical index of the relation metrics, when {@link #relationMetricsSharedIndex} is true.
+     */
+    public static final String RELATION_METRICS_TABLE_NAME = "metrics-relation";
+
+    /**
+     * The service, instance and endpoint relation metrics are stored in one shared index, rather than one index per
+     * model, if true.
+     */
+    @Setter
+    private boolean relationMetricsSharedIndex = false;
+
     public String getTableName(Model model) {
-        return isMetricModel(model) ? model.getAggregationFunctionName() : model.getName();
+        if (!isMetricModel(model)) {
+            return model.getName();
+        }
+        return StringUtil.isNotBlank(model.getAggregationFunctionName())
+            ? model.getAggregationFunctionName()
+            : RELATION_METRICS_TABLE_NAME;
     }
 
     /**
@@ -60,7 +80,17 @@ public enum IndexController {
      * Check the mode of the Model definition.
      */
     public boolean isMetricModel(Model model) {
-        return StringUtil.isNotBlank(model.getAggregationFunctionName());
+        return StringUtil.isNotBlank(model.getAggregationFunctionName()) || isSharedRelationModel(model);
+    }
+
+    private boolean isSharedRelationModel(Model model) {
+        if (!relationMetricsSharedIndex || model.isRecord() || !model.isTimeSeries()) {
+            return false;
+        }
+        final int scopeId = model.getScopeId();
+        return DefaultScopeDefine.inServiceRelationCatalog(scopeId)
+            || DefaultScopeDefine.inServiceInstanceRelationCatalog(scopeId)
+            || DefaultScopeDefine.inEndpointRelationCatalog(scopeId);
     }
 
     /**
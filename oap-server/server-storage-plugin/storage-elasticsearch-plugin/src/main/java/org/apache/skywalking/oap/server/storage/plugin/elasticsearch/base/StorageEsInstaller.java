@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.util.StringUtil;
 import org.apache.skywalking.oap.server.core.storage.StorageException;
@@ -46,6 +47,15 @@ public class StorageEsInstaller extends ModelInstaller {
      */
     private final IndexStructures structures;
 
+    /**
+     * The templates and the indices existing in the storage of the namespace. They are fetched in one request each at
+     * the first existence check, rather than requesting the storage several times for every model, and are kept
+     * updated by the creations of this installer. A model missing in the snapshot is checked in the storage again, as
+     * it may have been created by another OAP node later.
+     */
+    private Map<String, Object> existingTemplates;
+    private Set<String> existingIndices;
+
     public StorageEsInstaller(Client client,
                               ModuleManager moduleManager,
                               StorageModuleElasticsearchConfig config) throws StorageException {
@@ -65,23 +75,68 @@ public class StorageEsInstaller extends ModelInstaller {
         String tableName = IndexController.INSTANCE.getTableName(model);
         IndexController.LogicIndicesRegister.registerRelation(model.getName(), tableName);
         try {
-            if (!model.isTimeSeries()) {
-                return esClient.isExistsIndex(tableName);
+            loadExistingStructures(esClient);
+            if (isExistsInSnapshot(esClient, model, tableName)) {
+                return true;
             }
-            boolean exist = esClient.isExistsTemplate(tableName)
-                && esClient.isExistsIndex(TimeSeriesUtils.latestWriteIndexName(model));
-            if (exist && IndexController.INSTANCE.isMetricModel(model)) {
-                structures.putStructure(
-                    tableName, (Map<String, Object>) esClient.getTemplate(tableName).get("mappings")
-                );
-                exist = structures.containsStructure(tableName, createMapping(model));
-            }
-            return exist;
+            reloadExistingStructures(esClient, model, tableName);
+            return isExistsInSnapshot(esClient, model, tableName);
         } catch (IOException e) {
             throw new StorageException(e.getMessage());
         }
     }
 
+    private boolean isExistsInSnapshot(ElasticSearchClient esClient, Model model, String tableName) {
+        if (!model.isTimeSeries()) {
+            return existingIndices.contains(esClient.formatIndexName(tableName));
+        }
+        Map<String, Object> template = (Map<String, Object>) existingTemplates.get(
+            esClient.formatIndexName(tableName));
+        boolean exist = template != null
+            && existingIndices.contains(esClient.formatIndexName(TimeSeriesUtils.latestWriteIndexName(model)));
+        if (exist && IndexController.INSTANCE.isMetricModel(model)) {
+            structures.putStructure(tableName, (Map<String, Object>) template.get("mappings"));
+            exist = structures.containsStructure(tableName, createMapping(model));
+        }
+        return exist;
+    }
+
+    /**
+     * Query the storage for the template and the index of the model only, such as in the no-init mode, where the
+     * existence is checked repeatedly until another OAP node creates them.
+     */
+    private void reloadExistingStructures(ElasticSearchClient esClient,
+                                          Model model,
+                                          String tableName) throws IOException {
+        if (model.isTimeSeries()) {
+            Map<String, Object> template = esClient.getTemplate(tableName);
+            if (!template.isEmpty()) {
+                existingTemplates.put(esClient.formatIndexName(tableName), template);
+            }
+            String indexName = TimeSeriesUtils.latestWriteIndexName(model);
+            if (esClient.isExistsIndex(indexName)) {
+                existingIndices.add(esClient.formatIndexName(indexName));
+            }
+        } else if (esClient.isExistsIndex(tableName)) {
+            existingIndices.add(esClient.formatIndexName(tableName));
+        }
+    }
+
+    private void loadExistingStructures(ElasticSearchClient esClient) throws IOException {
+        if (existingTemplates != null) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        // The pattern is prefixed by the namespace, if any.
+        Set<String> indices = esClient.retrievalIndexNames("*");
+        existingTemplates = esClient.getTemplates("*");
+        existingIndices = indices;
+        log.info(
+            "load {} index templates and {} indices from the storage in {}ms", existingTemplates.size(),
+            existingIndices.size(), System.currentTimeMillis() - startTime
+        );
+    }
+
     @Override
     protected void createTable(Model model) throws StorageException {
         if (model.isTimeSeries()) {
@@ -102,6 +157,7 @@ public class StorageEsInstaller extends ModelInstaller {
                     throw new StorageException("create " + tableName + " time series index failure, ");
                 }
             }
+            existingIndices.add(esClient.formatIndexName(tableName));
         } catch (IOException e) {
             throw new StorageException("cannot create the normal index", e);
         }
@@ -147,6 +203,10 @@ public class StorageEsInstaller extends ModelInstaller {
                         throw new StorageException("create " + indexName + " time series index failure");
                     }
                 }
+                Map<String, Object> template = new HashMap<>();
+                template.put("mappings", structures.getMapping(tableName));
+                existingTemplates.put(esClient.formatIndexName(tableName), template);
+                existingIndices.add(esClient.formatIndexName(indexName));
             }
         } catch (IOException e) {
             throw new StorageException("cannot create " + tableName + " index template", e);
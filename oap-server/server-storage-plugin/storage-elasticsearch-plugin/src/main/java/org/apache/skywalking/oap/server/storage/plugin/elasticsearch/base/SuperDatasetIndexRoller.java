@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.storage.model.IModelManager;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.client.elasticsearch.ElasticSearchClient;
+import org.apache.skywalking.oap.server.library.client.elasticsearch.IndexStats;
+import org.apache.skywalking.oap.server.library.module.ModuleManager;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.StorageModuleElasticsearchConfig;
+import org.elasticsearch.ElasticsearchStatusException;
+
+/**
+ * SuperDatasetIndexRoller rolls the latest index of the super dataset records, such as segments and logs, over to a
+ * new generation once the current generation holds more documents or bytes than the thresholds. The generations keep
+ * the time part of the index name, so the TTL deletion and the time range routing of the queries work on them as
+ * usual.
+ *
+ * Every OAP node checks the indices in the storage, and follows the latest generation, no matter which node created it.
+ * When several nodes create the same generation at the same time, the ones losing the race follow it as well.
+ */
+@Slf4j
+public class SuperDatasetIndexRoller {
+    private final ElasticSearchClient client;
+    private final ModuleManager moduleManager;
+    private final long maxDocs;
+    private final long maxSizeInBytes;
+    private IModelManager modelManager;
+
+    public SuperDatasetIndexRoller(ElasticSearchClient client,
+                                   ModuleManager moduleManager,
+                                   StorageModuleElasticsearchConfig config) {
+        this.client = client;
+        this.moduleManager = moduleManager;
+        this.maxDocs = config.getSuperDatasetIndexRolloverMaxDocs();
+        this.maxSizeInBytes = config.getSuperDatasetIndexRolloverMaxSizeInMB() * 1024 * 1024;
+    }
+
+    public static boolean isEnabled(StorageModuleElasticsearchConfig config) {
+        return config.getSuperDatasetIndexRolloverMaxDocs() > 0 || config.getSuperDatasetIndexRolloverMaxSizeInMB() > 0;
+    }
+
+    public void start() {
+        Executors.newSingleThreadScheduledExecutor()
+                 .scheduleWithFixedDelay(
+                     new RunnableWithExceptionProtection(this::rollover, t -> log
+                         .error("Super dataset index rollover failure.", t)), 1, 1, TimeUnit.MINUTES);
+    }
+
+    void rollover() {
+        if (modelManager == null) {
+            modelManager = moduleManager.find(CoreModule.NAME).provider().getService(IModelManager.class);
+        }
+        List<String> latestIndices = new ArrayList<>();
+        for (Model model : modelManager.allModels()) {
+            if (!model.isRecord() || !model.isSuperDataset()) {
+                continue;
+            }
+            String indexName = TimeSeriesUtils.latestWriteIndexName(model);
+            latestIndices.add(indexName);
+            try {
+                rollover(indexName);
+            } catch (Exception e) {
+                log.error("Failed to roll over the index {}.", indexName, e);
+            }
+        }
+        TimeSeriesUtils.retainRolloverGenerations(latestIndices);
+    }
+
+    void rollover(String indexName) throws IOException {
+        int generation = -1;
+        for (String existingIndex : client.retrievalIndexNames(indexName + "*")) {
+            generation = Math.max(generation, TimeSeriesUtils.isolateGenerationFromIndexName(existingIndex));
+        }
+        if (generation < 0) {
+            // The index of the new day has not been created yet.
+            return;
+        }
+
+        String currentIndex = TimeSeriesUtils.rolloverIndexName(indexName, generation);
+        IndexStats stats = client.getIndexStats(currentIndex);
+        if ((maxDocs > 0 && stats.getDocsCount() >= maxDocs)
+            || (maxSizeInBytes > 0 && stats.getStoreSizeInBytes() >= maxSizeInBytes)) {
+            String nextIndex = TimeSeriesUtils.rolloverIndexName(indexName, generation + 1);
+            if (!client.isExistsIndex(nextIndex)) {
+                try {
+                    boolean isAcknowledged = client.createIndex(nextIndex);
+                    log.info(
+                        "roll {} index over to {}, docs: {}, size: {} bytes, isAcknowledged: {}", currentIndex,
+                        nextIndex, stats.getDocsCount(), stats.getStoreSizeInBytes(), isAcknowledged
+                    );
+                } catch (ElasticsearchStatusException e) {
+                    if (!isResourceAlreadyExists(e)) {
+                        throw e;
+                    }
+                    log.info("{} index has been created by another OAP node.", nextIndex);
+                }
+            }
+            generation++;
+        }
+        TimeSeriesUtils.rollover(indexName, generation);
+    }
+
+    private static boolean isResourceAlreadyExists(ElasticsearchStatusException e) {
+        return e.getDetailedMessage().contains("resource_already_exists_exception");
+    }
+}
@@ -18,7 +18,10 @@
 package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Setter;
 import org.apache.skywalking.oap.server.core.Const;
 import org.apache.skywalking.oap.server.core.UnexpectedException;
@@ -44,6 +47,16 @@ public class TimeSeriesUtils {
     private static int DAY_STEP = 1;
     @Setter
     private static int SUPER_DATASET_DAY_STEP = 1;
+    /**
+     * The super dataset indices could be rolled over into generations, such as segment-20200809, segment-20200809_1,
+     * segment-20200809_2, by {@link SuperDatasetIndexRoller}. All generations keep the time part of the index name.
+     */
+    @Setter
+    private static boolean SUPER_DATASET_ROLLOVER = false;
+    /**
+     * The latest generations of the rolled over super dataset indices, the key is the name of the generation 0.
+     */
+    private static final Map<String, Integer> ROLLOVER_GENERATIONS = new ConcurrentHashMap<>();
 
     /**
      * @return formatted latest index name, based on current timestamp.
@@ -79,9 +92,12 @@ public class TimeSeriesUtils {
         if (timeRanges.isEmpty()) {
             return new String[] {indexName};
         } else {
+            // The wildcard includes all generations of the rolled over indices.
+            final String suffix = SUPER_DATASET_ROLLOVER ? "*" : "";
             return timeRanges.stream()
                              .map(item -> indexName + Const.LINE + compressDateTime(item, SUPER_DATASET_DAY_STEP))
                              .distinct()
+                             .map(item -> item + suffix)
                              .toArray(String[]::new);
         }
     }
@@ -92,7 +108,11 @@ public class TimeSeriesUtils {
     static String writeIndexName(Model model, long timeBucket) {
         String tableName = IndexController.INSTANCE.getTableName(model);
         if (model.isRecord() && model.isSuperDataset()) {
-            return tableName + Const.LINE + compressTimeBucket(timeBucket / 1000000, SUPER_DATASET_DAY_STEP);
+            String indexName = tableName + Const.LINE + compressTimeBucket(timeBucket / 1000000, SUPER_DATASET_DAY_STEP);
+            if (SUPER_DATASET_ROLLOVER) {
+                return rolloverIndexName(indexName, ROLLOVER_GENERATIONS.getOrDefault(indexName, 0));
+            }
+            return indexName;
         } else if (model.isRecord()) {
             return tableName + Const.LINE + compressTimeBucket(timeBucket / 1000000, DAY_STEP);
         } else {
@@ -117,7 +137,49 @@ public class TimeSeriesUtils {
      * @return the index represented time, which is included in the index name.
      */
     static long isolateTimeFromIndexName(String indexName) {
-        return Long.valueOf(indexName.substring(indexName.lastIndexOf(Const.LINE) + 1));
+        String timeSeries = indexName.substring(indexName.lastIndexOf(Const.LINE) + 1);
+        int generationIndex = timeSeries.indexOf(Const.ID_CONNECTOR);
+        if (generationIndex > 0) {
+            timeSeries = timeSeries.substring(0, generationIndex);
+        }
+        return Long.valueOf(timeSeries);
+    }
+
+    /**
+     * @return the rollover generation, which is included in the index name, 0 if the index is not rolled over.
+     */
+    static int isolateGenerationFromIndexName(String indexName) {
+        String timeSeries = indexName.substring(indexName.lastIndexOf(Const.LINE) + 1);
+        int generationIndex = timeSeries.indexOf(Const.ID_CONNECTOR);
+        if (generationIndex < 0) {
+            return 0;
+        }
+        return Integer.parseInt(timeSeries.substring(generationIndex + 1));
+    }
+
+    /**
+     * @return the index name of the given rollover generation, the generation 0 is the time series index itself.
+     */
+    static String rolloverIndexName(String indexName, int generation) {
+        if (generation == 0) {
+            return indexName;
+        }
+        return indexName + Const.ID_CONNECTOR + generation;
+    }
+
+    /**
+     * Write the following records of the time series index into the given generation.
+     */
+    static void rollover(String indexName, int generation) {
+        ROLLOVER_GENERATIONS.put(indexName, generation);
+    }
+
+    /**
+     * Forget the generations of the indices out of the given ones. The late records of the earlier time series go
+     * into their generation 0.
+     */
+    static void retainRolloverGenerations(Collection<String> indexNames) {
+        ROLLOVER_GENERATIONS.keySet().retainAll(indexNames);
     }
 
     /**
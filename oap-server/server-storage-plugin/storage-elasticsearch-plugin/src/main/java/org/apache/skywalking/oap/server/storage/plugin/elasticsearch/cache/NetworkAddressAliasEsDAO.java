@@ -40,13 +40,14 @@ public class NetworkAddressAliasEsDAO extends EsDAO implements INetworkAddressAl
     }
 
     @Override
-    public List<NetworkAddressAlias> loadLastUpdate(long timeBucketInMinute) {
+    public List<NetworkAddressAlias> loadLastUpdate(long startTimeBucket, long endTimeBucket) {
         List<NetworkAddressAlias> networkAddressAliases = new ArrayList<>();
 
         try {
             SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
             searchSourceBuilder.query(QueryBuilders.rangeQuery(NetworkAddressAlias.LAST_UPDATE_TIME_BUCKET)
-                                                   .gte(timeBucketInMinute));
+                                                   .gte(startTimeBucket)
+                                                   .lt(endTimeBucket));
             searchSourceBuilder.size(resultWindowMaxSize);
 
             SearchResponse response = getClient().search(NetworkAddressAlias.INDEX_NAME, searchSourceBuilder);
@@ -234,6 +234,7 @@ public class MetricsQueryEsDAO extends EsDAO implements IMetricsQueryDAO {
                 IndexController.LogicIndicesRegister.METRIC_TABLE_NAME,
                 condition.getName()
             ));
+            sourceBuilder.query(boolQuery);
         } else if (entityId == null) {
             sourceBuilder.query(rangeQueryBuilder);
         } else if (IndexController.LogicIndicesRegister.isMetricTable(condition.getName())) {
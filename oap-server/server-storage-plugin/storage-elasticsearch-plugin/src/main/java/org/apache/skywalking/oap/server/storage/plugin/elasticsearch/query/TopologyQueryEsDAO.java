@@ -193,8 +193,7 @@ public class TopologyQueryEsDAO extends EsDAO implements ITopologyQueryDAO {
                                        .field(ServiceRelationServerSideMetrics.COMPONENT_ID))
                 .size(1000));
 
-        SearchResponse response = getClient().search(
-            IndexController.LogicIndicesRegister.getPhysicalTableName(indexName), sourceBuilder);
+        SearchResponse response = search(indexName, sourceBuilder);
 
         List<Call.CallDetail> calls = new ArrayList<>();
         Terms entityTerms = response.getAggregations().get(Metrics.ENTITY_ID);
@@ -220,8 +219,7 @@ public class TopologyQueryEsDAO extends EsDAO implements ITopologyQueryDAO {
                                        .field(ServiceInstanceRelationServerSideMetrics.COMPONENT_ID))
                 .size(1000));
 
-        SearchResponse response = getClient().search(
-            IndexController.LogicIndicesRegister.getPhysicalTableName(indexName), sourceBuilder);
+        SearchResponse response = search(indexName, sourceBuilder);
 
         List<Call.CallDetail> calls = new ArrayList<>();
         Terms entityTerms = response.getAggregations().get(Metrics.ENTITY_ID);
@@ -242,8 +240,7 @@ public class TopologyQueryEsDAO extends EsDAO implements ITopologyQueryDAO {
                                                DetectPoint detectPoint) throws IOException {
         sourceBuilder.aggregation(AggregationBuilders.terms(Metrics.ENTITY_ID).field(Metrics.ENTITY_ID).size(1000));
 
-        SearchResponse response = getClient().search(
-            IndexController.LogicIndicesRegister.getPhysicalTableName(indexName), sourceBuilder);
+        SearchResponse response = search(indexName, sourceBuilder);
 
         List<Call.CallDetail> calls = new ArrayList<>();
         Terms entityTerms = response.getAggregations().get(Metrics.ENTITY_ID);
@@ -257,6 +254,23 @@ public class TopologyQueryEsDAO extends EsDAO implements ITopologyQueryDAO {
         return calls;
     }
 
+    /**
+     * Search the physical index of the relation metrics, and only the given logic index in it if it is shared.
+     */
+    private SearchResponse search(String indexName, SearchSourceBuilder sourceBuilder) throws IOException {
+        if (IndexController.LogicIndicesRegister.isMetricTable(indexName)) {
+            BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+            boolQuery.must().add(sourceBuilder.query());
+            boolQuery.must().add(QueryBuilders.termQuery(
+                IndexController.LogicIndicesRegister.METRIC_TABLE_NAME,
+                indexName
+            ));
+            sourceBuilder.query(boolQuery);
+        }
+        return getClient().search(
+            IndexController.LogicIndicesRegister.getPhysicalTableName(indexName), sourceBuilder);
+    }
+
     private void setQueryCondition(SearchSourceBuilder sourceBuilder, long startTB, long endTB,
                                    List<String> serviceIds) {
         BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
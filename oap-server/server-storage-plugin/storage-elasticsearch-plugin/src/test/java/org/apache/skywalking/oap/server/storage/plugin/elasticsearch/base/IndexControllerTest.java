@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.source.DefaultScopeDefine;
+import org.apache.skywalking.oap.server.core.source.EndpointRelation;
+import org.apache.skywalking.oap.server.core.source.Service;
+import org.apache.skywalking.oap.server.core.source.ServiceInstanceRelation;
+import org.apache.skywalking.oap.server.core.source.ServiceRelation;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class IndexControllerTest {
+    private final Model serviceRelation = metrics(
+        "service_relation_server_side", DefaultScopeDefine.SERVICE_RELATION, null);
+    private final Model instanceRelation = metrics(
+        "service_instance_relation_server_side", DefaultScopeDefine.SERVICE_INSTANCE_RELATION, null);
+    private final Model endpointRelation = metrics(
+        "endpoint_relation_server_side", DefaultScopeDefine.ENDPOINT_RELATION, null);
+    private final Model functioned = metrics("service_relation_client_cpm", DefaultScopeDefine.SERVICE_RELATION, "cpm");
+    private final Model service = metrics("service_traffic", DefaultScopeDefine.SERVICE, null);
+
+    @BeforeClass
+    public static void setUpScopes() {
+        DefaultScopeDefine.reset();
+        DefaultScopeDefine.Listener listener = new DefaultScopeDefine.Listener();
+        listener.notify(Service.class);
+        listener.notify(ServiceRelation.class);
+        listener.notify(ServiceInstanceRelation.class);
+        listener.notify(EndpointRelation.class);
+    }
+
+    @AfterClass
+    public static void tearDownScopes() {
+        DefaultScopeDefine.reset();
+    }
+
+    @After
+    public void tearDown() {
+        IndexController.INSTANCE.setRelationMetricsSharedIndex(false);
+    }
+
+    @Test
+    public void testRelationMetricsSharedIndexOff() {
+        for (Model model : new Model[] {serviceRelation, instanceRelation, endpointRelation, service}) {
+            Assert.assertFalse(IndexController.INSTANCE.isMetricModel(model));
+            Assert.assertEquals(model.getName(), IndexController.INSTANCE.getTableName(model));
+            Assert.assertEquals("id", IndexController.INSTANCE.generateDocId(model, "id"));
+            Assert.assertTrue(IndexController.INSTANCE.appendMetricTableColumn(model, new HashMap<>()).isEmpty());
+        }
+        assertFunctioned();
+    }
+
+    @Test
+    public void testRelationMetricsSharedIndexOn() {
+        IndexController.INSTANCE.setRelationMetricsSharedIndex(true);
+        for (Model model : new Model[] {serviceRelation, instanceRelation, endpointRelation}) {
+            Assert.assertTrue(IndexController.INSTANCE.isMetricModel(model));
+            Assert.assertEquals(
+                IndexController.RELATION_METRICS_TABLE_NAME, IndexController.INSTANCE.getTableName(model));
+            Assert.assertEquals(model.getName() + "_id", IndexController.INSTANCE.generateDocId(model, "id"));
+            Map<String, Object> columns = IndexController.INSTANCE.appendMetricTableColumn(model, new HashMap<>());
+            Assert.assertEquals(model.getName(), columns.get(IndexController.LogicIndicesRegister.METRIC_TABLE_NAME));
+        }
+
+        Assert.assertFalse(IndexController.INSTANCE.isMetricModel(service));
+        Assert.assertEquals(service.getName(), IndexController.INSTANCE.getTableName(service));
+        assertFunctioned();
+    }
+
+    private void assertFunctioned() {
+        Assert.assertTrue(IndexController.INSTANCE.isMetricModel(functioned));
+        Assert.assertEquals("cpm", IndexController.INSTANCE.getTableName(functioned));
+        Assert.assertEquals(functioned.getName() + "_id", IndexController.INSTANCE.generateDocId(functioned, "id"));
+    }
+
+    private static Model metrics(String name, int scopeId, String aggregationFunctionName) {
+        return new Model(
+            name, new ArrayList<>(), new ArrayList<>(), scopeId, DownSampling.Minute, false, false,
+            aggregationFunctionName
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.client.elasticsearch.ElasticSearchClient;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.StorageModuleElasticsearchConfig;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StorageEsInstallerTest {
+    private ElasticSearchClient client;
+    private StorageEsInstaller installer;
+
+    @Before
+    public void setUp() throws Exception {
+        TimeSeriesUtils.setSUPER_DATASET_DAY_STEP(1);
+        TimeSeriesUtils.setDAY_STEP(1);
+        TimeSeriesUtils.setSUPER_DATASET_ROLLOVER(false);
+        TimeSeriesUtils.retainRolloverGenerations(Collections.emptyList());
+
+        client = mock(ElasticSearchClient.class);
+        when(client.formatIndexName(anyString())).thenAnswer(invocation -> "ns_" + invocation.getArgument(0));
+        when(client.retrievalIndexNames("*")).thenReturn(new HashSet<>(Collections.singletonList("ns_existing")));
+        when(client.getTemplates("*")).thenReturn(new HashMap<>());
+        installer = new StorageEsInstaller(client, null, new StorageModuleElasticsearchConfig());
+    }
+
+    @Test
+    public void testExistingInSnapshot() throws Exception {
+        Assert.assertTrue(installer.isExists(model("existing", DownSampling.None)));
+        Assert.assertTrue(installer.isExists(model("existing", DownSampling.None)));
+
+        verify(client, times(1)).retrievalIndexNames("*");
+        verify(client, times(1)).getTemplates("*");
+        verify(client, never()).isExistsIndex(anyString());
+    }
+
+    @Test
+    public void testRequeryOnMiss() throws Exception {
+        final Model model = model("created_later", DownSampling.None);
+        when(client.isExistsIndex("created_later")).thenReturn(false);
+        // The no-init mode checks until the index is created by another OAP node.
+        Assert.assertFalse(installer.isExists(model));
+        Assert.assertFalse(installer.isExists(model));
+
+        when(client.isExistsIndex("created_later")).thenReturn(true);
+        Assert.assertTrue(installer.isExists(model));
+        Assert.assertTrue(installer.isExists(model));
+
+        // The snapshot is loaded once, only the missing model is queried again.
+        verify(client, times(1)).retrievalIndexNames("*");
+        verify(client, times(3)).isExistsIndex("created_later");
+    }
+
+    @Test
+    public void testRequeryTimeSeriesOnMiss() throws Exception {
+        final Model model = model("record_created_later", DownSampling.Second);
+        final String indexName = TimeSeriesUtils.latestWriteIndexName(model);
+        when(client.getTemplate("record_created_later")).thenReturn(new HashMap<>());
+        Assert.assertFalse(installer.isExists(model));
+
+        final Map<String, Object> template = new HashMap<>();
+        template.put("mappings", new HashMap<>());
+        when(client.getTemplate("record_created_later")).thenReturn(template);
+        when(client.isExistsIndex(indexName)).thenReturn(true);
+        Assert.assertTrue(installer.isExists(model));
+        Assert.assertTrue(installer.isExists(model));
+
+        verify(client, times(2)).getTemplate("record_created_later");
+    }
+
+    private static Model model(String name, DownSampling downSampling) {
+        return new Model(
+            name, new ArrayList<>(), new ArrayList<>(), 0, downSampling, DownSampling.Second.equals(downSampling), false,
+            null
+        );
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import org.apache.skywalking.oap.server.core.CoreModule;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.storage.model.IModelManager;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.client.elasticsearch.ElasticSearchClient;
+import org.apache.skywalking.oap.server.library.client.elasticsearch.IndexStats;
+import org.apache.skywalking.oap.server.library.module.ModuleManager;
+import org.apache.skywalking.oap.server.library.module.ModuleProviderHolder;
+import org.apache.skywalking.oap.server.library.module.ModuleServiceHolder;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.StorageModuleElasticsearchConfig;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.rest.RestStatus;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SuperDatasetIndexRollerTest {
+    private static final String INDEX = "segment-20210401";
+    private static final long TIME_BUCKET = 20210401120000L;
+
+    private final Model segment = superDataset("segment");
+    private ElasticSearchClient client;
+    private ModuleManager moduleManager;
+    private SuperDatasetIndexRoller roller;
+
+    @Before
+    public void setUp() throws Exception {
+        TimeSeriesUtils.setSUPER_DATASET_DAY_STEP(1);
+        TimeSeriesUtils.setSUPER_DATASET_ROLLOVER(true);
+        TimeSeriesUtils.retainRolloverGenerations(Collections.emptyList());
+
+        client = mock(ElasticSearchClient.class);
+        moduleManager = mock(ModuleManager.class);
+        StorageModuleElasticsearchConfig config = new StorageModuleElasticsearchConfig();
+        config.setSuperDatasetIndexRolloverMaxDocs(100);
+        roller = new SuperDatasetIndexRoller(client, moduleManager, config);
+    }
+
+    @After
+    public void tearDown() {
+        TimeSeriesUtils.setSUPER_DATASET_ROLLOVER(false);
+        TimeSeriesUtils.retainRolloverGenerations(Collections.emptyList());
+    }
+
+    @Test
+    public void testRollover() throws IOException {
+        when(client.retrievalIndexNames(INDEX + "*")).thenReturn(new HashSet<>(Collections.singletonList(INDEX)));
+        when(client.getIndexStats(INDEX)).thenReturn(new IndexStats(100, 0));
+        when(client.createIndex(INDEX + "_1")).thenReturn(true);
+
+        roller.rollover(INDEX);
+
+        verify(client).createIndex(INDEX + "_1");
+        Assert.assertEquals(INDEX + "_1", TimeSeriesUtils.writeIndexName(segment, TIME_BUCKET));
+    }
+
+    @Test
+    public void testNotRollover() throws IOException {
+        when(client.retrievalIndexNames(INDEX + "*")).thenReturn(
+            new HashSet<>(Arrays.asList(INDEX, INDEX + "_1")));
+        when(client.getIndexStats(INDEX + "_1")).thenReturn(new IndexStats(99, 0));
+
+        roller.rollover(INDEX);
+
+        verify(client, never()).createIndex(anyString());
+        Assert.assertEquals(INDEX + "_1", TimeSeriesUtils.writeIndexName(segment, TIME_BUCKET));
+    }
+
+    @Test
+    public void testCreatedByAnotherNode() throws IOException {
+        when(client.retrievalIndexNames(INDEX + "*")).thenReturn(new HashSet<>(Collections.singletonList(INDEX)));
+        when(client.getIndexStats(INDEX)).thenReturn(new IndexStats(100, 0));
+        when(client.createIndex(INDEX + "_1")).thenThrow(new ElasticsearchStatusException(
+            "Elasticsearch exception [type=resource_already_exists_exception, reason=index [" + INDEX
+                + "_1] already exists]", RestStatus.BAD_REQUEST));
+
+        roller.rollover(INDEX);
+
+        Assert.assertEquals(INDEX + "_1", TimeSeriesUtils.writeIndexName(segment, TIME_BUCKET));
+    }
+
+    @Test
+    public void testCreationFailure() throws IOException {
+        when(client.retrievalIndexNames(INDEX + "*")).thenReturn(new HashSet<>(Collections.singletonList(INDEX)));
+        when(client.getIndexStats(INDEX)).thenReturn(new IndexStats(100, 0));
+        when(client.createIndex(INDEX + "_1")).thenThrow(new ElasticsearchStatusException(
+            "Elasticsearch exception [type=cluster_block_exception]", RestStatus.FORBIDDEN));
+
+        try {
+            roller.rollover(INDEX);
+            Assert.fail("The creation failure should be thrown.");
+        } catch (ElasticsearchStatusException ignored) {
+        }
+        Assert.assertEquals(INDEX, TimeSeriesUtils.writeIndexName(segment, TIME_BUCKET));
+    }
+
+    @Test
+    public void testFailureOfOneModel() throws IOException {
+        Model log = superDataset("log");
+        IModelManager modelManager = mock(IModelManager.class);
+        when(modelManager.allModels()).thenReturn(Arrays.asList(segment, log));
+        ModuleProviderHolder providerHolder = mock(ModuleProviderHolder.class);
+        ModuleServiceHolder serviceHolder = mock(ModuleServiceHolder.class);
+        when(moduleManager.find(CoreModule.NAME)).thenReturn(providerHolder);
+        when(providerHolder.provider()).thenReturn(serviceHolder);
+        when(serviceHolder.getService(IModelManager.class)).thenReturn(modelManager);
+
+        String logIndex = TimeSeriesUtils.latestWriteIndexName(log);
+        when(client.retrievalIndexNames(TimeSeriesUtils.latestWriteIndexName(segment) + "*")).thenThrow(
+            new ElasticsearchStatusException("Elasticsearch exception", RestStatus.INTERNAL_SERVER_ERROR));
+        when(client.retrievalIndexNames(logIndex + "*")).thenReturn(
+            new HashSet<>(Collections.singletonList(logIndex)));
+        when(client.getIndexStats(logIndex)).thenReturn(new IndexStats(100, 0));
+
+        roller.rollover();
+
+        verify(client).createIndex(logIndex + "_1");
+    }
+
+    private static Model superDataset(String name) {
+        return new Model(name, new ArrayList<>(), new ArrayList<>(), 0, DownSampling.Second, true, true, null);
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base;
 
+import java.util.Collections;
 import org.apache.skywalking.oap.server.core.analysis.DownSampling;
 import org.apache.skywalking.oap.server.core.storage.model.Model;
 import org.junit.Assert;
@@ -26,6 +27,9 @@ import org.junit.Test;
 import org.testcontainers.shaded.com.google.common.collect.Lists;
 
 import static org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.TimeSeriesUtils.compressTimeBucket;
+import static org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.TimeSeriesUtils.isolateGenerationFromIndexName;
+import static org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.TimeSeriesUtils.isolateTimeFromIndexName;
+import static org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.TimeSeriesUtils.superDatasetIndexNames;
 import static org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.TimeSeriesUtils.writeIndexName;
 
 public class TimeSeriesUtilsTest {
@@ -47,6 +51,8 @@ public class TimeSeriesUtilsTest {
         );
         TimeSeriesUtils.setSUPER_DATASET_DAY_STEP(1);
         TimeSeriesUtils.setDAY_STEP(3);
+        TimeSeriesUtils.setSUPER_DATASET_ROLLOVER(false);
+        TimeSeriesUtils.retainRolloverGenerations(Collections.emptyList());
     }
 
     @Test
@@ -92,4 +98,45 @@ public class TimeSeriesUtilsTest {
         );
     }
 
+    @Test
+    public void testIndexRollover() {
+        long secondTimeBucket = 2020_0809_1010_59L;
+        TimeSeriesUtils.setSUPER_DATASET_ROLLOVER(true);
+
+        Assert.assertEquals(
+            "superDatasetModel-20200809",
+            writeIndexName(superDatasetModel, secondTimeBucket)
+        );
+        TimeSeriesUtils.rollover("superDatasetModel-20200809", 2);
+        Assert.assertEquals(
+            "superDatasetModel-20200809_2",
+            writeIndexName(superDatasetModel, secondTimeBucket)
+        );
+        Assert.assertEquals(
+            "normalRecordModel-20200807",
+            writeIndexName(normalRecordModel, secondTimeBucket)
+        );
+
+        TimeSeriesUtils.retainRolloverGenerations(Collections.singletonList("superDatasetModel-20200810"));
+        Assert.assertEquals(
+            "superDatasetModel-20200809",
+            writeIndexName(superDatasetModel, secondTimeBucket)
+        );
+
+        Assert.assertArrayEquals(
+            new String[] {
+                "superDatasetModel-20200809*",
+                "superDatasetModel-20200810*"
+            },
+            superDatasetIndexNames("superDatasetModel", 2020_0809_1010_59L, 2020_0810_0101_01L)
+        );
+    }
+
+    @Test
+    public void testIsolateFromRolledOverIndexName() {
+        Assert.assertEquals(20200809L, isolateTimeFromIndexName("sw_superDatasetModel-20200809"));
+        Assert.assertEquals(20200809L, isolateTimeFromIndexName("sw_superDatasetModel-20200809_12"));
+        Assert.assertEquals(0, isolateGenerationFromIndexName("sw_superDatasetModel-20200809"));
+        Assert.assertEquals(12, isolateGenerationFromIndexName("sw_superDatasetModel-20200809_12"));
+    }
 }
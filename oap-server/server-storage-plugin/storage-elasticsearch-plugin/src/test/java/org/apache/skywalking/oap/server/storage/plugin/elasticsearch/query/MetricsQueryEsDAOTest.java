@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.storage.plugin.elasticsearch.query;
+
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.query.enumeration.Scope;
+import org.apache.skywalking.oap.server.core.query.enumeration.Step;
+import org.apache.skywalking.oap.server.core.query.input.Duration;
+import org.apache.skywalking.oap.server.core.query.input.Entity;
+import org.apache.skywalking.oap.server.core.query.input.MetricsCondition;
+import org.apache.skywalking.oap.server.library.client.elasticsearch.ElasticSearchClient;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.IndexController;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.query.RangeQueryBuilder;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import static org.mockito.Mockito.mock;
+
+public class MetricsQueryEsDAOTest {
+    private final MetricsQueryEsDAO dao = new MetricsQueryEsDAO(mock(ElasticSearchClient.class));
+
+    @Test
+    public void testBuildQueryOfSharedIndexWithoutEntityId() {
+        IndexController.LogicIndicesRegister.registerRelation("mock_shared_cpm", "cpm");
+        SearchSourceBuilder sourceBuilder = SearchSourceBuilder.searchSource();
+        dao.buildQuery(sourceBuilder, condition("mock_shared_cpm"), duration());
+
+        Assert.assertTrue(sourceBuilder.query() instanceof BoolQueryBuilder);
+        BoolQueryBuilder boolQuery = (BoolQueryBuilder) sourceBuilder.query();
+        Assert.assertEquals(2, boolQuery.must().size());
+        assertTimeRange(boolQuery.must().get(0));
+        Assert.assertEquals(
+            QueryBuilders.termQuery(IndexController.LogicIndicesRegister.METRIC_TABLE_NAME, "mock_shared_cpm"),
+            boolQuery.must().get(1)
+        );
+    }
+
+    @Test
+    public void testBuildQueryOfStandaloneIndexWithoutEntityId() {
+        IndexController.LogicIndicesRegister.registerRelation("mock_standalone", "mock_standalone");
+        SearchSourceBuilder sourceBuilder = SearchSourceBuilder.searchSource();
+        dao.buildQuery(sourceBuilder, condition("mock_standalone"), duration());
+
+        assertTimeRange(sourceBuilder.query());
+    }
+
+    private static void assertTimeRange(QueryBuilder query) {
+        Assert.assertTrue(query instanceof RangeQueryBuilder);
+        RangeQueryBuilder rangeQuery = (RangeQueryBuilder) query;
+        Assert.assertEquals(Metrics.TIME_BUCKET, rangeQuery.fieldName());
+        Assert.assertEquals(202104011200L, rangeQuery.from());
+        Assert.assertEquals(202104011210L, rangeQuery.to());
+    }
+
+    private static MetricsCondition condition(String name) {
+        Entity entity = new Entity();
+        entity.setScope(Scope.All);
+        MetricsCondition condition = new MetricsCondition();
+        condition.setName(name);
+        condition.setEntity(entity);
+        return condition;
+    }
+
+    private static Duration duration() {
+        Duration duration = new Duration();
+        Whitebox.setInternalState(duration, "start", "2021-04-01 1200");
+        Whitebox.setInternalState(duration, "end", "2021-04-01 1210");
+        Whitebox.setInternalState(duration, "step", Step.MINUTE);
+        return duration;
+    }
+}
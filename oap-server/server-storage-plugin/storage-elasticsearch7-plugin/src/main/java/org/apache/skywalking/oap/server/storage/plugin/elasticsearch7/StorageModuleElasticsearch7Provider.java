@@ -58,6 +58,8 @@ import org.apache.skywalking.oap.server.library.module.ServiceNotProvidedExcepti
 import org.apache.skywalking.oap.server.library.util.MultipleFilesChangeMonitor;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.BatchProcessEsDAO;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.HistoryDeleteEsDAO;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.IndexController;
+import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.SuperDatasetIndexRoller;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.base.TimeSeriesUtils;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.cache.NetworkAddressAliasEsDAO;
 import org.apache.skywalking.oap.server.storage.plugin.elasticsearch.query.ProfileTaskLogEsDAO;
@@ -92,6 +94,7 @@ public class StorageModuleElasticsearch7Provider extends ModuleProvider {
 
     protected final StorageModuleElasticsearch7Config config;
     protected ElasticSearch7Client elasticSearch7Client;
+    protected BatchProcessEsDAO batchProcessEsDAO;
 
     public StorageModuleElasticsearch7Provider() {
         super();
@@ -129,6 +132,8 @@ public class StorageModuleElasticsearch7Provider extends ModuleProvider {
         if (config.getSuperDatasetDayStep() > 0) {
             TimeSeriesUtils.setSUPER_DATASET_DAY_STEP(config.getSuperDatasetDayStep());
         }
+        TimeSeriesUtils.setSUPER_DATASET_ROLLOVER(SuperDatasetIndexRoller.isEnabled(config));
+        IndexController.INSTANCE.setRelationMetricsSharedIndex(config.isRelationMetricsSharedIndex());
         if (!StringUtil.isEmpty(config.getSecretsManagementFile())) {
             MultipleFilesChangeMonitor monitor = new MultipleFilesChangeMonitor(
                 10, readableContents -> {
@@ -163,12 +168,10 @@ public class StorageModuleElasticsearch7Provider extends ModuleProvider {
             .getTrustStorePass(), config.getUser(), config.getPassword(),
             indexNameConverters(config.getNameSpace())
         );
-        this.registerServiceImplementation(
-            IBatchDAO.class,
-            new BatchProcessEsDAO(
-                elasticSearch7Client, config.getBulkActions(), config.getFlushInterval(), config.getConcurrentRequests()
-            )
+        batchProcessEsDAO = new BatchProcessEsDAO(
+            elasticSearch7Client, config.getBulkActions(), config.getFlushInterval(), config.getConcurrentRequests()
         );
+        this.registerServiceImplementation(IBatchDAO.class, batchProcessEsDAO);
         this.registerServiceImplementation(StorageDAO.class, new StorageEs7DAO(elasticSearch7Client));
         this.registerServiceImplementation(
             IHistoryDeleteDAO.class, new HistoryDeleteEsDAO(elasticSearch7Client));
@@ -219,11 +222,18 @@ public class StorageModuleElasticsearch7Provider extends ModuleProvider {
         HealthCheckMetrics healthChecker = metricCreator.createHealthCheckerGauge(
             "storage_elasticsearch", MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE);
         elasticSearch7Client.registerChecker(healthChecker);
+        batchProcessEsDAO.setBulkLatency(metricCreator.createHistogramMetric(
+            "storage_elasticsearch_bulk_latency", "Latency of the bulk requests of the persistence timer",
+            MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE
+        ));
         try {
             elasticSearch7Client.connect();
 
             StorageEs7Installer installer = new StorageEs7Installer(elasticSearch7Client, getManager(), config);
             getManager().find(CoreModule.NAME).provider().getService(ModelCreator.class).addModelListener(installer);
+            if (SuperDatasetIndexRoller.isEnabled(config)) {
+                new SuperDatasetIndexRoller(elasticSearch7Client, getManager(), config).start();
+            }
         } catch (StorageException | IOException | KeyStoreException | NoSuchAlgorithmException | KeyManagementException | CertificateException e) {
             throw new ModuleStartException(e.getMessage(), e);
         }
@@ -42,6 +42,7 @@ import org.apache.skywalking.oap.server.library.client.elasticsearch.ElasticSear
 import org.apache.skywalking.oap.server.library.client.elasticsearch.IndexNameConverter;
 import org.apache.skywalking.oap.server.library.client.request.InsertRequest;
 import org.apache.skywalking.oap.server.library.client.request.UpdateRequest;
+import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.admin.indices.alias.Alias;
 import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
@@ -247,6 +248,13 @@ public class ElasticSearch7Client extends ElasticSearchClient {
         }
     }
 
+    @Override
+    protected Response performGet(String endpoint, Map<String, String> params) throws IOException {
+        Request request = new Request(HttpGet.METHOD_NAME, endpoint);
+        params.forEach(request::addParameter);
+        return client.getLowLevelClient().performRequest(request);
+    }
+
     @Override
     public boolean isExistsIndex(String indexName) throws IOException {
         indexName = formatIndexName(indexName);
@@ -408,6 +416,11 @@ public class ElasticSearch7Client extends ElasticSearchClient {
         }
     }
 
+    @Override
+    protected void doBulkAsync(BulkRequest request, ActionListener<BulkResponse> listener) {
+        client.bulkAsync(request, RequestOptions.DEFAULT, listener);
+    }
+
     @Override
     public BulkProcessor createBulkProcessor(int bulkActions, int flushInterval, int concurrentRequests) {
         BulkProcessor.Listener listener = createBulkListener();
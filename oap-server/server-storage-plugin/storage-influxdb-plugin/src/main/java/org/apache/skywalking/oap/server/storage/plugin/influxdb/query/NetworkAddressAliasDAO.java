@@ -35,6 +35,7 @@ import org.influxdb.querybuilder.SelectQueryImpl;
 import org.influxdb.querybuilder.WhereQueryImpl;
 
 import static org.influxdb.querybuilder.BuiltQuery.QueryBuilder.gte;
+import static org.influxdb.querybuilder.BuiltQuery.QueryBuilder.lt;
 import static org.influxdb.querybuilder.BuiltQuery.QueryBuilder.select;
 
 @Slf4j
@@ -47,14 +48,18 @@ public class NetworkAddressAliasDAO implements INetworkAddressAliasDAO {
     }
 
     @Override
-    public List<NetworkAddressAlias> loadLastUpdate(final long timeBucket) {
+    public List<NetworkAddressAlias> loadLastUpdate(final long startTimeBucket, final long endTimeBucket) {
         List<NetworkAddressAlias> networkAddressAliases = new ArrayList<>();
 
         WhereQueryImpl<SelectQueryImpl> query = select().raw(InfluxConstants.ALL_FIELDS)
                                                         .from(client.getDatabase(), NetworkAddressAlias.INDEX_NAME)
                                                         .where(gte(
                                                             NetworkAddressAlias.LAST_UPDATE_TIME_BUCKET,
-                                                            timeBucket
+                                                            startTimeBucket
+                                                        ))
+                                                        .and(lt(
+                                                            NetworkAddressAlias.LAST_UPDATE_TIME_BUCKET,
+                                                            endTimeBucket
                                                         ));
         try {
             QueryResult.Series series = client.queryForSingleSeries(query);
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.storage.plugin.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.skywalking.apm.util.RunnableWithExceptionProtection;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.client.jdbc.JDBCClientException;
+import org.apache.skywalking.oap.server.library.client.jdbc.hikaricp.JDBCHikariCPClient;
+import org.joda.time.DateTime;
+
+/**
+ * DayPartitionManager maintains the day partitions of the record tables, which are partitioned by the range of the time
+ * bucket column. The partitions of the next days are created ahead, and the expired partitions are dropped as a whole,
+ * rather than deleting the expired rows.
+ *
+ * The metrics tables are not partitioned, as the minute, hour and day metrics share one table, and their time buckets
+ * of the same day are not in one range.
+ *
+ * Every partitioned table has a fallback partition, covering the time buckets out of the day partitions, so the data
+ * is never rejected even if the partitions have not been created in time.
+ *
+ * The partitions of the next days are created when the table is installed, and then every hour by every OAP node, no
+ * matter whether the TTL data keeper is activated or selects this node.
+ */
+@Slf4j
+public abstract class DayPartitionManager {
+    /**
+     * The number of the days, whose partitions are created ahead.
+     */
+    private static final int DAYS_AHEAD = 2;
+    private static final String DAY_FORMAT = "yyyyMMdd";
+    private static final Pattern DAY_PARTITION = Pattern.compile("p(\\d{8})$");
+
+    /**
+     * The partitioned tables installed by this OAP node, by the table name.
+     */
+    private final Map<String, Model> partitionedTables = new ConcurrentHashMap<>();
+
+    /**
+     * @return true if the table of the model should be partitioned by day, which is the table of the records.
+     */
+    public boolean isPartitioned(Model model) {
+        return model.isTimeSeries() && model.isRecord();
+    }
+
+    /**
+     * @return the partition clause appended to the create table statement.
+     */
+    public abstract String getPartitionClause(Model model);
+
+    /**
+     * Create the partitions of the next days every hour, for the partitioned tables installed by this OAP node.
+     */
+    public void start(JDBCHikariCPClient client) {
+        Executors.newSingleThreadScheduledExecutor()
+                 .scheduleWithFixedDelay(
+                     new RunnableWithExceptionProtection(() -> createDayPartitions(client), t -> log
+                         .error("Create the day partitions failure.", t)), 1, 1, TimeUnit.HOURS);
+    }
+
+    /**
+     * Create the fallback partition for the newly created table, the day partitions are created by {@link
+     * #ensurePartitions} once the table is installed.
+     */
+    public void createPartitions(JDBCHikariCPClient client,
+                                 Connection connection,
+                                 Model model) throws JDBCClientException {
+        createFallbackPartition(client, connection, model);
+    }
+
+    /**
+     * Create the partitions of the next days for the installed table, no matter whether it has been created just now,
+     * by a previous boot or by another OAP node.
+     */
+    public void ensurePartitions(JDBCHikariCPClient client,
+                                 Connection connection,
+                                 Model model) throws JDBCClientException {
+        final List<String> partitions = listPartitions(client, connection, model);
+        if (partitions.isEmpty()) {
+            // Created before the partitioning is activated.
+            return;
+        }
+        partitionedTables.put(model.getName(), model);
+        createDayPartitions(client, connection, model, partitions);
+    }
+
+    /**
+     * Drop the partitions of the days before the TTL, delete the expired rows in the fallback partition, and create
+     * the partitions of the next days.
+     *
+     * @return false if the table is not partitioned, such as it has been created before the partitioning is activated.
+     */
+    public boolean maintain(JDBCHikariCPClient client,
+                            Connection connection,
+                            Model model,
+                            int ttl) throws JDBCClientException {
+        final List<String> partitions = listPartitions(client, connection, model);
+        if (partitions.isEmpty()) {
+            return false;
+        }
+
+        final DateTime deadlineDay = new DateTime().plusDays(-ttl).withTimeAtStartOfDay();
+        final List<String> expiredPartitions = expiredPartitions(
+            partitions, Long.parseLong(deadlineDay.toString(DAY_FORMAT)));
+        if (!expiredPartitions.isEmpty()) {
+            log.info("Dropping the expired partitions {} of {}.", expiredPartitions, model.getName());
+            dropPartitions(client, connection, model, expiredPartitions);
+            partitions.removeAll(expiredPartitions);
+        }
+        /*
+         * The fallback partition keeps the rows written before the day partitions had been created, which are never
+         * dropped along with the day partitions.
+         */
+        deleteExpiredFallbackRows(client, connection, model, timeBucketOf(deadlineDay));
+
+        createDayPartitions(client, connection, model, partitions);
+        return true;
+    }
+
+    private void createDayPartitions(JDBCHikariCPClient client) {
+        for (final Model model : partitionedTables.values()) {
+            try (Connection connection = client.getConnection()) {
+                createDayPartitions(client, connection, model, listPartitions(client, connection, model));
+            } catch (JDBCClientException | SQLException e) {
+                log.error("Create the day partitions of {} failure.", model.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Create the partitions of today and the next days, after the last existing day partition, as the partitions of
+     * some databases must be in ascending order. A day failing to be created, such as being created by another OAP node
+     * concurrently, doesn't stop creating the following days, its data goes to the next partition.
+     */
+    private void createDayPartitions(JDBCHikariCPClient client,
+                                     Connection connection,
+                                     Model model,
+                                     List<String> partitions) {
+        long lastDay = 0;
+        for (final String partition : partitions) {
+            lastDay = Math.max(lastDay, dayOf(partition));
+        }
+
+        final DateTime today = new DateTime().withTimeAtStartOfDay();
+        for (int i = 0; i <= DAYS_AHEAD; i++) {
+            final DateTime day = today.plusDays(i);
+            final long dayValue = Long.parseLong(day.toString(DAY_FORMAT));
+            if (dayValue <= lastDay) {
+                continue;
+            }
+            try {
+                addPartition(
+                    client, connection, model, "p" + dayValue,
+                    timeBucketOf(day), timeBucketOf(day.plusDays(1))
+                );
+            } catch (JDBCClientException e) {
+                log.warn("Create the partition p{} of {} failure.", dayValue, model.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * @param deadline the first day kept by the TTL, in the format of `yyyyMMdd`.
+     * @return the day partitions of the days before the deadline.
+     */
+    static List<String> expiredPartitions(List<String> partitions, long deadline) {
+        final List<String> expiredPartitions = new ArrayList<>();
+        for (final String partition : partitions) {
+            final long day = dayOf(partition);
+            if (day > 0 && day < deadline) {
+                expiredPartitions.add(partition);
+            }
+        }
+        return expiredPartitions;
+    }
+
+    /**
+     * @return the first time bucket of the given day, in the unit of the records, `yyyyMMddHHmmss`.
+     */
+    static long timeBucketOf(DateTime day) {
+        return Long.parseLong(day.toString(DAY_FORMAT)) * 1000000;
+    }
+
+    /**
+     * @return the day of the day partition, or 0 for the other partitions.
+     */
+    static long dayOf(String partition) {
+        final Matcher matcher = DAY_PARTITION.matcher(partition);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    /**
+     * Create the partition for the time buckets out of the day partitions.
+     */
+    protected abstract void createFallbackPartition(JDBCHikariCPClient client,
+                                                    Connection connection,
+                                                    Model model) throws JDBCClientException;
+
+    /**
+     * @return the names of all partitions, or empty if the table is not partitioned.
+     */
+    protected abstract List<String> listPartitions(JDBCHikariCPClient client,
+                                                   Connection connection,
+                                                   Model model) throws JDBCClientException;
+
+    /**
+     * Add the partition of the time buckets in [from, to).
+     *
+     * @param dayPartition the name of the day partition, in the format of `pyyyyMMdd`.
+     */
+    protected abstract void addPartition(JDBCHikariCPClient client,
+                                         Connection connection,
+                                         Model model,
+                                         String dayPartition,
+                                         long from,
+                                         long to) throws JDBCClientException;
+
+    protected abstract void dropPartitions(JDBCHikariCPClient client,
+                                           Connection connection,
+                                           Model model,
+                                           List<String> partitions) throws JDBCClientException;
+
+    /**
+     * Delete the rows of the time buckets before the deadline in the fallback partition.
+     */
+    protected abstract void deleteExpiredFallbackRows(JDBCHikariCPClient client,
+                                                      Connection connection,
+                                                      Model model,
+                                                      long deadline) throws JDBCClientException;
+}
@@ -25,15 +25,25 @@ import org.apache.skywalking.oap.server.core.storage.IHistoryDeleteDAO;
 import org.apache.skywalking.oap.server.core.storage.model.Model;
 import org.apache.skywalking.oap.server.library.client.jdbc.JDBCClientException;
 import org.apache.skywalking.oap.server.library.client.jdbc.hikaricp.JDBCHikariCPClient;
+import org.apache.skywalking.oap.server.storage.plugin.jdbc.DayPartitionManager;
 import org.apache.skywalking.oap.server.storage.plugin.jdbc.SQLBuilder;
 import org.joda.time.DateTime;
 
 public class H2HistoryDeleteDAO implements IHistoryDeleteDAO {
 
     private final JDBCHikariCPClient client;
+    /**
+     * Nullable, only exists when the tables are partitioned by day.
+     */
+    private final DayPartitionManager partitionManager;
 
     public H2HistoryDeleteDAO(JDBCHikariCPClient client) {
+        this(client, null);
+    }
+
+    public H2HistoryDeleteDAO(JDBCHikariCPClient client, DayPartitionManager partitionManager) {
         this.client = client;
+        this.partitionManager = partitionManager;
     }
 
     @Override
@@ -42,6 +52,14 @@ public class H2HistoryDeleteDAO implements IHistoryDeleteDAO {
             .append(timeBucketColumnName).append("<= ? ");
 
         try (Connection connection = client.getConnection()) {
+            /*
+             * Drop the expired partitions as a whole, unless the table has been created without partitions.
+             */
+            if (partitionManager != null && partitionManager.isPartitioned(model)
+                && partitionManager.maintain(client, connection, model, ttl)) {
+                return;
+            }
+
             long deadline;
             if (model.isRecord()) {
                 deadline = Long.parseLong(new DateTime().plusDays(-ttl).toString("yyyyMMddHHmmss"));
@@ -39,16 +39,18 @@ public class H2NetworkAddressAliasDAO extends H2SQLExecutor implements INetworkA
     }
 
     @Override
-    public List<NetworkAddressAlias> loadLastUpdate(long lastUpdateTime) {
+    public List<NetworkAddressAlias> loadLastUpdate(long startTimeBucket, long endTimeBucket) {
         List<NetworkAddressAlias> networkAddressAliases = new ArrayList<>();
 
         try {
             StringBuilder sql = new StringBuilder("select * from ");
             sql.append(NetworkAddressAlias.INDEX_NAME);
-            sql.append(" where ").append(NetworkAddressAlias.LAST_UPDATE_TIME_BUCKET).append(">?");
+            sql.append(" where ").append(NetworkAddressAlias.LAST_UPDATE_TIME_BUCKET).append(">=?");
+            sql.append(" and ").append(NetworkAddressAlias.LAST_UPDATE_TIME_BUCKET).append("<?");
 
             try (Connection connection = h2Client.getConnection()) {
-                try (ResultSet resultSet = h2Client.executeQuery(connection, sql.toString(), lastUpdateTime)) {
+                try (ResultSet resultSet = h2Client.executeQuery(
+                    connection, sql.toString(), startTimeBucket, endTimeBucket)) {
                     NetworkAddressAlias networkAddressAlias;
                     do {
                         networkAddressAlias = (NetworkAddressAlias) toStorageData(
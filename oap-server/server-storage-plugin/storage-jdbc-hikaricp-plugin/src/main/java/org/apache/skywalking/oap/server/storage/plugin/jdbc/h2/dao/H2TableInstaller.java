@@ -26,6 +26,7 @@ import java.sql.SQLException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.oap.server.core.analysis.NodeType;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
 import org.apache.skywalking.oap.server.core.storage.StorageException;
 import org.apache.skywalking.oap.server.core.storage.model.Model;
 import org.apache.skywalking.oap.server.core.storage.model.ModelColumn;
@@ -72,13 +73,22 @@ public class H2TableInstaller extends ModelInstaller {
             /**
              * 512 is also the ElasticSearch ID size.
              */
-            tableCreateSQL.appendLine("id VARCHAR(512) PRIMARY KEY, ");
+            final boolean partitioned = isPartitioned(model);
+            tableCreateSQL.appendLine("id VARCHAR(512)" + (partitioned ? "" : " PRIMARY KEY") + ", ");
             for (int i = 0; i < model.getColumns().size(); i++) {
                 ModelColumn column = model.getColumns().get(i);
                 tableCreateSQL.appendLine(
                     getColumn(column) + (i != model.getColumns().size() - 1 ? "," : ""));
             }
-            tableCreateSQL.appendLine(")");
+            if (partitioned) {
+                /*
+                 * The partition column must be a part of the primary key.
+                 */
+                tableCreateSQL.appendLine(", PRIMARY KEY (" + ID_COLUMN + ", " + Metrics.TIME_BUCKET + ")");
+                tableCreateSQL.appendLine(")" + getPartitionClause(model));
+            } else {
+                tableCreateSQL.appendLine(")");
+            }
 
             if (log.isDebugEnabled()) {
                 log.debug("creating table: " + tableCreateSQL.toStringInNewLine());
@@ -87,6 +97,10 @@ public class H2TableInstaller extends ModelInstaller {
             jdbcHikariCPClient.execute(connection, tableCreateSQL.toString());
 
             createTableIndexes(jdbcHikariCPClient, connection, model);
+
+            if (partitioned) {
+                createPartitions(jdbcHikariCPClient, connection, model);
+            }
         } catch (JDBCClientException | SQLException e) {
             throw new StorageException(e.getMessage(), e);
         }
@@ -136,6 +150,25 @@ public class H2TableInstaller extends ModelInstaller {
                                       Model model) throws JDBCClientException {
     }
 
+    /**
+     * @return true if the table of the model is partitioned by the time bucket.
+     */
+    protected boolean isPartitioned(Model model) {
+        return false;
+    }
+
+    /**
+     * @return the partition clause appended to the create table statement of the partitioned table.
+     */
+    protected String getPartitionClause(Model model) {
+        return "";
+    }
+
+    protected void createPartitions(JDBCHikariCPClient client,
+                                    Connection connection,
+                                    Model model) throws JDBCClientException {
+    }
+
     protected void createIndex(JDBCHikariCPClient client, Connection connection, Model model,
                                SQLBuilder indexSQL) throws JDBCClientException {
         if (log.isDebugEnabled()) {
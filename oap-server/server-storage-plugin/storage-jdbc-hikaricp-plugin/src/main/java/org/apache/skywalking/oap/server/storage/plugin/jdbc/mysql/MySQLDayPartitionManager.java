@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.storage.plugin.jdbc.mysql;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.client.jdbc.JDBCClientException;
+import org.apache.skywalking.oap.server.library.client.jdbc.hikaricp.JDBCHikariCPClient;
+import org.apache.skywalking.oap.server.storage.plugin.jdbc.DayPartitionManager;
+
+/**
+ * The MySQL native range partitioning. The fallback partition `p_future` covers the time buckets after the last day
+ * partition, and it is reorganized into the new day partitions, which is cheap while it is empty.
+ */
+public class MySQLDayPartitionManager extends DayPartitionManager {
+    private static final String FALLBACK_PARTITION = "p_future";
+
+    @Override
+    public String getPartitionClause(final Model model) {
+        return " PARTITION BY RANGE (" + Metrics.TIME_BUCKET + ") (PARTITION " + FALLBACK_PARTITION
+            + " VALUES LESS THAN MAXVALUE)";
+    }
+
+    @Override
+    protected void createFallbackPartition(final JDBCHikariCPClient client,
+                                           final Connection connection,
+                                           final Model model) {
+        // The fallback partition has been created along with the table.
+    }
+
+    @Override
+    protected List<String> listPartitions(final JDBCHikariCPClient client,
+                                          final Connection connection,
+                                          final Model model) throws JDBCClientException {
+        final List<String> partitions = new ArrayList<>();
+        try (ResultSet resultSet = client.executeQuery(
+            connection,
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() "
+                + "AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+            model.getName()
+        )) {
+            while (resultSet.next()) {
+                partitions.add(resultSet.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new JDBCClientException(e.getMessage(), e);
+        }
+        return partitions;
+    }
+
+    @Override
+    protected void addPartition(final JDBCHikariCPClient client,
+                                final Connection connection,
+                                final Model model,
+                                final String dayPartition,
+                                final long from,
+                                final long to) throws JDBCClientException {
+        client.execute(
+            connection,
+            "ALTER TABLE " + model.getName() + " REORGANIZE PARTITION " + FALLBACK_PARTITION + " INTO ("
+                + "PARTITION " + dayPartition + " VALUES LESS THAN (" + to + "), "
+                + "PARTITION " + FALLBACK_PARTITION + " VALUES LESS THAN MAXVALUE)"
+        );
+    }
+
+    @Override
+    protected void dropPartitions(final JDBCHikariCPClient client,
+                                  final Connection connection,
+                                  final Model model,
+                                  final List<String> partitions) throws JDBCClientException {
+        client.execute(
+            connection, "ALTER TABLE " + model.getName() + " DROP PARTITION " + String.join(",", partitions));
+    }
+
+    @Override
+    protected void deleteExpiredFallbackRows(final JDBCHikariCPClient client,
+                                             final Connection connection,
+                                             final Model model,
+                                             final long deadline) throws JDBCClientException {
+        client.executeUpdate(
+            connection,
+            "DELETE FROM " + model.getName() + " PARTITION (" + FALLBACK_PARTITION + ") WHERE " + Metrics.TIME_BUCKET
+                + " < ?",
+            deadline
+        );
+    }
+}
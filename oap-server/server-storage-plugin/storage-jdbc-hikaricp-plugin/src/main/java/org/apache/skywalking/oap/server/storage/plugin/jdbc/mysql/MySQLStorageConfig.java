@@ -39,5 +39,12 @@ public class MySQLStorageConfig extends ModuleConfig {
      * @since 8.2.0
      */
     private int numOfSearchableValuesPerTag = 2;
+    /**
+     * Partition the newly created tables of the records by day, and drop the expired partitions as a whole rather than
+     * deleting the expired rows. The existing tables and the metrics tables are not changed.
+     *
+     * @since 8.6.0
+     */
+    private boolean partitionByDay = false;
     private Properties properties;
 }
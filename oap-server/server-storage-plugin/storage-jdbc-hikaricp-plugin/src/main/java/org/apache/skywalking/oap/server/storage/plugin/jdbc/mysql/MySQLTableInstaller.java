@@ -32,6 +32,7 @@ import org.apache.skywalking.oap.server.library.client.Client;
 import org.apache.skywalking.oap.server.library.client.jdbc.JDBCClientException;
 import org.apache.skywalking.oap.server.library.client.jdbc.hikaricp.JDBCHikariCPClient;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
+import org.apache.skywalking.oap.server.storage.plugin.jdbc.DayPartitionManager;
 import org.apache.skywalking.oap.server.storage.plugin.jdbc.SQLBuilder;
 import org.apache.skywalking.oap.server.storage.plugin.jdbc.TableMetaInfo;
 import org.apache.skywalking.oap.server.storage.plugin.jdbc.h2.dao.H2TableInstaller;
@@ -41,11 +42,25 @@ import org.apache.skywalking.oap.server.storage.plugin.jdbc.h2.dao.H2TableInstal
  */
 @Slf4j
 public class MySQLTableInstaller extends H2TableInstaller {
+    /**
+     * Nullable, only exists when the tables are partitioned by day.
+     */
+    private final DayPartitionManager partitionManager;
+
     public MySQLTableInstaller(Client client,
                                ModuleManager moduleManager,
                                int maxSizeOfArrayColumn,
                                int numOfSearchableValuesPerTag) {
+        this(client, moduleManager, maxSizeOfArrayColumn, numOfSearchableValuesPerTag, null);
+    }
+
+    public MySQLTableInstaller(Client client,
+                               ModuleManager moduleManager,
+                               int maxSizeOfArrayColumn,
+                               int numOfSearchableValuesPerTag,
+                               DayPartitionManager partitionManager) {
         super(client, moduleManager, maxSizeOfArrayColumn, numOfSearchableValuesPerTag);
+        this.partitionManager = partitionManager;
         /*
          * Override column because the default column names in core have syntax conflict with MySQL.
          */
@@ -53,6 +68,20 @@ public class MySQLTableInstaller extends H2TableInstaller {
         this.overrideColumnName("match", "match_num");
     }
 
+    @Override
+    public void whenCreating(final Model model) throws StorageException {
+        super.whenCreating(model);
+        if (!isPartitioned(model)) {
+            return;
+        }
+        JDBCHikariCPClient jdbcClient = (JDBCHikariCPClient) client;
+        try (Connection connection = jdbcClient.getConnection()) {
+            partitionManager.ensurePartitions(jdbcClient, connection, model);
+        } catch (JDBCClientException | SQLException e) {
+            throw new StorageException(e.getMessage(), e);
+        }
+    }
+
     @Override
     protected boolean isExists(Model model) throws StorageException {
         TableMetaInfo.addModel(model);
@@ -122,6 +151,23 @@ public class MySQLTableInstaller extends H2TableInstaller {
         }
     }
 
+    @Override
+    protected boolean isPartitioned(final Model model) {
+        return partitionManager != null && partitionManager.isPartitioned(model);
+    }
+
+    @Override
+    protected String getPartitionClause(final Model model) {
+        return partitionManager.getPartitionClause(model);
+    }
+
+    @Override
+    protected void createPartitions(final JDBCHikariCPClient client,
+                                    final Connection connection,
+                                    final Model model) throws JDBCClientException {
+        partitionManager.createPartitions(client, connection, model);
+    }
+
     @Override
     protected String getColumn(final ModelColumn column) {
         final String storageName = column.getColumnName().getStorageName();
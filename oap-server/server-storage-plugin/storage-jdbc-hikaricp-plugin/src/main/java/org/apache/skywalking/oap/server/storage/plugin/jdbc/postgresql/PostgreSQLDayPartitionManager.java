@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.skywalking.oap.server.storage.plugin.jdbc.postgresql;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.skywalking.oap.server.core.analysis.metrics.Metrics;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.client.jdbc.JDBCClientException;
+import org.apache.skywalking.oap.server.library.client.jdbc.hikaricp.JDBCHikariCPClient;
+import org.apache.skywalking.oap.server.storage.plugin.jdbc.DayPartitionManager;
+
+/**
+ * The PostgreSQL declarative partitioning, which requires PostgreSQL 11 or later for the primary key and the default
+ * partition. Every day partition is a table named `{table}_pyyyyMMdd`, and the default partition is the fallback. The
+ * table name is shortened to a prefix and its hash, when the partition name would exceed the identifier length.
+ */
+public class PostgreSQLDayPartitionManager extends DayPartitionManager {
+    /**
+     * The max length of the PostgreSQL identifiers is 63, keep the space for the `_pyyyyMMdd` suffix.
+     */
+    static final int MAX_TABLE_PREFIX_LENGTH = 53;
+
+    @Override
+    public String getPartitionClause(final Model model) {
+        return " PARTITION BY RANGE (" + Metrics.TIME_BUCKET + ")";
+    }
+
+    @Override
+    protected void createFallbackPartition(final JDBCHikariCPClient client,
+                                           final Connection connection,
+                                           final Model model) throws JDBCClientException {
+        client.execute(
+            connection,
+            "CREATE TABLE IF NOT EXISTS " + partitionTable(model, "default") + " PARTITION OF " + model.getName()
+                + " DEFAULT"
+        );
+    }
+
+    @Override
+    protected List<String> listPartitions(final JDBCHikariCPClient client,
+                                          final Connection connection,
+                                          final Model model) throws JDBCClientException {
+        final List<String> partitions = new ArrayList<>();
+        try (ResultSet resultSet = client.executeQuery(
+            connection,
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON i.inhrelid = c.oid "
+                + "JOIN pg_class p ON i.inhparent = p.oid WHERE p.relname = ?",
+            model.getName()
+        )) {
+            while (resultSet.next()) {
+                partitions.add(resultSet.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new JDBCClientException(e.getMessage(), e);
+        }
+        return partitions;
+    }
+
+    @Override
+    protected void addPartition(final JDBCHikariCPClient client,
+                                final Connection connection,
+                                final Model model,
+                                final String dayPartition,
+                                final long from,
+                                final long to) throws JDBCClientException {
+        client.execute(
+            connection,
+            "CREATE TABLE IF NOT EXISTS " + partitionTable(model, dayPartition) + " PARTITION OF " + model.getName()
+                + " FOR VALUES FROM (" + from + ") TO (" + to + ")"
+        );
+    }
+
+    @Override
+    protected void dropPartitions(final JDBCHikariCPClient client,
+                                  final Connection connection,
+                                  final Model model,
+                                  final List<String> partitions) throws JDBCClientException {
+        client.execute(connection, "DROP TABLE IF EXISTS " + String.join(",", partitions));
+    }
+
+    @Override
+    protected void deleteExpiredFallbackRows(final JDBCHikariCPClient client,
+                                             final Connection connection,
+                                             final Model model,
+                                             final long deadline) throws JDBCClientException {
+        client.executeUpdate(
+            connection,
+            "DELETE FROM " + partitionTable(model, "default") + " WHERE " + Metrics.TIME_BUCKET + " < ?",
+            deadline
+        );
+    }
+
+    private static String partitionTable(Model model, String partition) {
+        return partitionTablePrefix(model.getName()) + "_" + partition;
+    }
+
+    /**
+     * @return the table name, or its prefix along with the hash of the whole name if it is too long, so the tables
+     * sharing the same prefix still get the different partition names.
+     */
+    static String partitionTablePrefix(String table) {
+        if (table.length() <= MAX_TABLE_PREFIX_LENGTH) {
+            return table;
+        }
+        final String hash = String.format("%08x", table.hashCode());
+        return table.substring(0, MAX_TABLE_PREFIX_LENGTH - hash.length() - 1) + "_" + hash;
+    }
+}
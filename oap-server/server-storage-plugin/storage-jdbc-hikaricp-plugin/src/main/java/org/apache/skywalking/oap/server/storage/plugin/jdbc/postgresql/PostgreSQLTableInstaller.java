@@ -24,6 +24,7 @@ import org.apache.skywalking.oap.server.core.storage.model.ModelColumn;
 import org.apache.skywalking.oap.server.core.storage.type.StorageDataComplexObject;
 import org.apache.skywalking.oap.server.library.client.Client;
 import org.apache.skywalking.oap.server.library.module.ModuleManager;
+import org.apache.skywalking.oap.server.storage.plugin.jdbc.DayPartitionManager;
 import org.apache.skywalking.oap.server.storage.plugin.jdbc.mysql.MySQLTableInstaller;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -33,7 +34,12 @@ public class PostgreSQLTableInstaller extends MySQLTableInstaller {
 
     public PostgreSQLTableInstaller(Client client, ModuleManager moduleManager, int maxSizeOfArrayColumn,
                                     int numOfSearchableValuesPerTag) {
-        super(client, moduleManager, maxSizeOfArrayColumn, numOfSearchableValuesPerTag);
+        this(client, moduleManager, maxSizeOfArrayColumn, numOfSearchableValuesPerTag, null);
+    }
+
+    public PostgreSQLTableInstaller(Client client, ModuleManager moduleManager, int maxSizeOfArrayColumn,
+                                    int numOfSearchableValuesPerTag, DayPartitionManager partitionManager) {
+        super(client, moduleManager, maxSizeOfArrayColumn, numOfSearchableValuesPerTag, partitionManager);
     }
 
     @Override
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.storage.plugin.jdbc;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
+import org.apache.skywalking.oap.server.core.storage.model.Model;
+import org.apache.skywalking.oap.server.library.client.jdbc.JDBCClientException;
+import org.apache.skywalking.oap.server.library.client.jdbc.hikaricp.JDBCHikariCPClient;
+import org.joda.time.DateTime;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DayPartitionManagerTest {
+    private static final String DAY_FORMAT = "yyyyMMdd";
+
+    @Test
+    public void testDayOf() {
+        Assert.assertEquals(20210401L, DayPartitionManager.dayOf("p20210401"));
+        Assert.assertEquals(20210401L, DayPartitionManager.dayOf("segment_p20210401"));
+        Assert.assertEquals(0L, DayPartitionManager.dayOf("p_future"));
+        Assert.assertEquals(0L, DayPartitionManager.dayOf("segment_default"));
+    }
+
+    @Test
+    public void testTimeBucketOf() {
+        final DateTime day = new DateTime(2021, 4, 1, 0, 0);
+        Assert.assertEquals(20210401000000L, DayPartitionManager.timeBucketOf(day));
+    }
+
+    @Test
+    public void testOnlyRecordsPartitioned() {
+        final DayPartitionManager partitionManager = new RecordingPartitionManager(new ArrayList<>(), null);
+        Assert.assertTrue(partitionManager.isPartitioned(model(DownSampling.Second, true)));
+        // The minute, hour and day metrics share one table.
+        Assert.assertFalse(partitionManager.isPartitioned(model(DownSampling.Minute, false)));
+        Assert.assertFalse(partitionManager.isPartitioned(model(DownSampling.Day, false)));
+    }
+
+    @Test
+    public void testExpiredPartitions() {
+        final List<String> partitions = Arrays.asList("p20210330", "p20210331", "p20210401", "p20210402", "p_future");
+        Assert.assertEquals(
+            Arrays.asList("p20210330", "p20210331"), DayPartitionManager.expiredPartitions(partitions, 20210401L));
+        Assert.assertEquals(
+            Collections.emptyList(), DayPartitionManager.expiredPartitions(partitions, 20210330L));
+    }
+
+    @Test
+    public void testMaintain() throws JDBCClientException {
+        final DateTime today = new DateTime().withTimeAtStartOfDay();
+        final String expired = "p" + today.plusDays(-5).toString(DAY_FORMAT);
+        final String kept = "p" + today.plusDays(-1).toString(DAY_FORMAT);
+        final RecordingPartitionManager partitionManager = new RecordingPartitionManager(
+            new ArrayList<>(Arrays.asList(expired, kept, "p_future")), "p" + today.toString(DAY_FORMAT));
+        final Model model = model(DownSampling.Second, true);
+
+        Assert.assertTrue(partitionManager.maintain(null, null, model, 3));
+
+        Assert.assertEquals(Arrays.asList(
+            "drop " + Collections.singletonList(expired),
+            "delete < " + today.plusDays(-3).toString(DAY_FORMAT) + "000000",
+            // The failure of today doesn't stop creating the following days.
+            "add p" + today.plusDays(1).toString(DAY_FORMAT),
+            "add p" + today.plusDays(2).toString(DAY_FORMAT)
+        ), partitionManager.operations);
+    }
+
+    @Test
+    public void testMaintainNotPartitionedTable() throws JDBCClientException {
+        final RecordingPartitionManager partitionManager = new RecordingPartitionManager(new ArrayList<>(), null);
+        Assert.assertFalse(partitionManager.maintain(null, null, model(DownSampling.Second, true), 3));
+        Assert.assertTrue(partitionManager.operations.isEmpty());
+    }
+
+    private static Model model(DownSampling downSampling, boolean record) {
+        return new Model("test_model", new ArrayList<>(), new ArrayList<>(), 0, downSampling, record, false, null);
+    }
+
+    private static class RecordingPartitionManager extends DayPartitionManager {
+        private final List<String> partitions;
+        private final String failedPartition;
+        private final List<String> operations = new ArrayList<>();
+
+        private RecordingPartitionManager(final List<String> partitions, final String failedPartition) {
+            this.partitions = partitions;
+            this.failedPartition = failedPartition;
+        }
+
+        @Override
+        public String getPartitionClause(final Model model) {
+            return "";
+        }
+
+        @Override
+        protected void createFallbackPartition(final JDBCHikariCPClient client,
+                                               final Connection connection,
+                                               final Model model) {
+        }
+
+        @Override
+        protected List<String> listPartitions(final JDBCHikariCPClient client,
+                                              final Connection connection,
+                                              final Model model) {
+            return new ArrayList<>(partitions);
+        }
+
+        @Override
+        protected void addPartition(final JDBCHikariCPClient client,
+                                    final Connection connection,
+                                    final Model model,
+                                    final String dayPartition,
+                                    final long from,
+                                    final long to) throws JDBCClientException {
+            if (dayPartition.equals(failedPartition)) {
+                throw new JDBCClientException("partition " + dayPartition + " already exists");
+            }
+            operations.add("add " + dayPartition);
+        }
+
+        @Override
+        protected void dropPartitions(final JDBCHikariCPClient client,
+                                      final Connection connection,
+                                      final Model model,
+                                      final List<String> partitions) {
+            operations.add("drop " + partitions);
+        }
+
+        @Override
+        protected void deleteExpiredFallbackRows(final JDBCHikariCPClient client,
+                                                 final Connection connection,
+                                                 final Model model,
+                                                 final long deadline) {
+            operations.add("delete < " + deadline);
+        }
+    }
+}
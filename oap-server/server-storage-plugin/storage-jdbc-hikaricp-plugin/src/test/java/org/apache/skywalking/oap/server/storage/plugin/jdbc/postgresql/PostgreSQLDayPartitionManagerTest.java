@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.storage.plugin.jdbc.postgresql;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PostgreSQLDayPartitionManagerTest {
+
+    @Test
+    public void testPartitionTablePrefix() {
+        Assert.assertEquals("segment", PostgreSQLDayPartitionManager.partitionTablePrefix("segment"));
+
+        final StringBuilder longName = new StringBuilder();
+        while (longName.length() < PostgreSQLDayPartitionManager.MAX_TABLE_PREFIX_LENGTH) {
+            longName.append("long_record_name_");
+        }
+        final String first = PostgreSQLDayPartitionManager.partitionTablePrefix(longName + "a");
+        final String second = PostgreSQLDayPartitionManager.partitionTablePrefix(longName + "b");
+        Assert.assertEquals(PostgreSQLDayPartitionManager.MAX_TABLE_PREFIX_LENGTH, first.length());
+        Assert.assertEquals(PostgreSQLDayPartitionManager.MAX_TABLE_PREFIX_LENGTH, second.length());
+        // The tables sharing a long prefix don't share the partition names.
+        Assert.assertNotEquals(first, second);
+        Assert.assertEquals(first, PostgreSQLDayPartitionManager.partitionTablePrefix(longName + "a"));
+    }
+}
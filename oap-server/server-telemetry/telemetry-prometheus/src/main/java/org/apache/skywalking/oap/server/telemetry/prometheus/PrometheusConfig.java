@@ -33,4 +33,14 @@ public class PrometheusConfig extends ModuleConfig {
     private boolean sslEnabled = false;
     private String sslKeyPath;
     private String sslCertChainPath;
+    /**
+     * The sample rate of the histogram timers, 10000 means 100% sampled. Not sampled timers are not observed, so the
+     * count and sum of the histograms shrink in the same proportion.
+     */
+    private int histogramSampleRate = 10000;
+    /**
+     * The histograms always fully sampled, separated by `,`. The `_count` of these histograms are used as the counts
+     * of the traces, mesh telemetry and persistence in the self observability rules.
+     */
+    private String histogramSampleExcludedNames = "trace_in_latency,mesh_analysis_latency,persistence_timer_bulk_execute_latency,persistence_timer_bulk_prepare_latency";
 }
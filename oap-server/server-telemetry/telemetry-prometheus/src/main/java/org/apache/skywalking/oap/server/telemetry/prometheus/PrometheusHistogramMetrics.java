@@ -19,20 +19,46 @@
 package org.apache.skywalking.oap.server.telemetry.prometheus;
 
 import io.prometheus.client.Histogram;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.skywalking.oap.server.telemetry.api.HistogramMetrics;
 import org.apache.skywalking.oap.server.telemetry.api.MetricsTag;
 
 /**
  * HistogramMetrics metrics in Prometheus implementor.
+ *
+ * Timers could be sampled through {@link #sampleRate}, the not sampled ones share one timer instance, which does not
+ * read the clock at finish and observes nothing.
  */
 public class PrometheusHistogramMetrics extends HistogramMetrics {
+    /**
+     * 10000 means 100% timers are observed.
+     */
+    public static final int FULL_SAMPLE_RATE = 10000;
+
     private InnerMetricObject inner;
     private final double[] buckets;
+    private final int sampleRate;
+    private final Timer ignoredTimer;
 
     public PrometheusHistogramMetrics(String name, String tips, MetricsTag.Keys labels, MetricsTag.Values values,
         double... buckets) {
+        this(name, tips, labels, values, FULL_SAMPLE_RATE, buckets);
+    }
+
+    public PrometheusHistogramMetrics(String name, String tips, MetricsTag.Keys labels, MetricsTag.Values values,
+        int sampleRate, double... buckets) {
         inner = new InnerMetricObject(name, tips, labels, values);
         this.buckets = buckets;
+        this.sampleRate = sampleRate;
+        this.ignoredTimer = new IgnoredTimer();
+    }
+
+    @Override
+    public Timer createTimer() {
+        if (sampleRate >= FULL_SAMPLE_RATE || ThreadLocalRandom.current().nextInt(FULL_SAMPLE_RATE) < sampleRate) {
+            return super.createTimer();
+        }
+        return ignoredTimer;
     }
 
     @Override
@@ -43,6 +69,16 @@ public class PrometheusHistogramMetrics extends HistogramMetrics {
         }
     }
 
+    private class IgnoredTimer extends Timer {
+        private IgnoredTimer() {
+            super(PrometheusHistogramMetrics.this);
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
     class InnerMetricObject extends BaseMetrics<Histogram, Histogram.Child> {
         public InnerMetricObject(String name, String tips, MetricsTag.Keys labels, MetricsTag.Values values) {
             super(name, tips, labels, values);
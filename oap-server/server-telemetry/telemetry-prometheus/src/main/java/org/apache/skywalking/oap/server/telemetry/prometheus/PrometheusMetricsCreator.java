@@ -18,6 +18,8 @@
 
 package org.apache.skywalking.oap.server.telemetry.prometheus;
 
+import java.util.Collections;
+import java.util.Set;
 import org.apache.skywalking.oap.server.telemetry.api.CounterMetrics;
 import org.apache.skywalking.oap.server.telemetry.api.GaugeMetrics;
 import org.apache.skywalking.oap.server.telemetry.api.HistogramMetrics;
@@ -28,6 +30,21 @@ import org.apache.skywalking.oap.server.telemetry.api.MetricsTag;
  * Create metrics instance for Prometheus exporter.
  */
 public class PrometheusMetricsCreator implements MetricsCreator {
+    private final int histogramSampleRate;
+    /**
+     * The names of the histograms always fully sampled, as their counts are used by the self observability rules.
+     */
+    private final Set<String> histogramSampleExcludedNames;
+
+    public PrometheusMetricsCreator() {
+        this(PrometheusHistogramMetrics.FULL_SAMPLE_RATE, Collections.emptySet());
+    }
+
+    public PrometheusMetricsCreator(int histogramSampleRate, Set<String> histogramSampleExcludedNames) {
+        this.histogramSampleRate = histogramSampleRate;
+        this.histogramSampleExcludedNames = histogramSampleExcludedNames;
+    }
+
     @Override
     public CounterMetrics createCounter(String name, String tips, MetricsTag.Keys tagKeys,
         MetricsTag.Values tagValues) {
@@ -42,6 +59,8 @@ public class PrometheusMetricsCreator implements MetricsCreator {
     @Override
     public HistogramMetrics createHistogramMetric(String name, String tips, MetricsTag.Keys tagKeys,
         MetricsTag.Values tagValues, double... buckets) {
-        return new PrometheusHistogramMetrics(name, tips, tagKeys, tagValues, buckets);
+        final int sampleRate = histogramSampleExcludedNames.contains(name)
+            ? PrometheusHistogramMetrics.FULL_SAMPLE_RATE : histogramSampleRate;
+        return new PrometheusHistogramMetrics(name, tips, tagKeys, tagValues, sampleRate, buckets);
     }
 }
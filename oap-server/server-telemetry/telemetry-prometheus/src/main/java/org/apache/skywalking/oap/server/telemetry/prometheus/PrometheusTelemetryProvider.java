@@ -19,6 +19,9 @@
 package org.apache.skywalking.oap.server.telemetry.prometheus;
 
 import io.prometheus.client.hotspot.DefaultExports;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.skywalking.oap.server.library.module.ModuleConfig;
 import org.apache.skywalking.oap.server.library.module.ModuleDefine;
 import org.apache.skywalking.oap.server.library.module.ModuleProvider;
@@ -56,7 +59,12 @@ public class PrometheusTelemetryProvider extends ModuleProvider {
 
     @Override
     public void prepare() throws ServiceNotProvidedException, ModuleStartException {
-        this.registerServiceImplementation(MetricsCreator.class, new PrometheusMetricsCreator());
+        final Set<String> histogramSampleExcludedNames = Arrays.stream(config.getHistogramSampleExcludedNames().split(","))
+                                                               .map(String::trim)
+                                                               .filter(name -> !name.isEmpty())
+                                                               .collect(Collectors.toSet());
+        this.registerServiceImplementation(MetricsCreator.class, new PrometheusMetricsCreator(
+            config.getHistogramSampleRate(), histogramSampleExcludedNames));
         this.registerServiceImplementation(MetricsCollector.class, new PrometheusMetricsCollector());
         try {
             new HttpServer(config).start();
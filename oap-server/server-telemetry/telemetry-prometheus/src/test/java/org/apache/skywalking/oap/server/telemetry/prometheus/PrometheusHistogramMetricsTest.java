@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.skywalking.oap.server.telemetry.prometheus;
+
+import io.prometheus.client.CollectorRegistry;
+import java.util.Collections;
+import org.apache.skywalking.oap.server.telemetry.api.HistogramMetrics;
+import org.apache.skywalking.oap.server.telemetry.api.MetricsTag;
+import org.apache.skywalking.oap.server.telemetry.api.TelemetryRelatedContext;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PrometheusHistogramMetricsTest {
+    private static final String INSTANCE_ID = "mock-instance";
+
+    @BeforeClass
+    public static void setUp() {
+        TelemetryRelatedContext.INSTANCE.setId(INSTANCE_ID);
+    }
+
+    @Test
+    public void testNotSampledTimers() {
+        HistogramMetrics histogram = new PrometheusMetricsCreator(0, Collections.emptySet()).createHistogramMetric(
+            "mock_not_sampled_latency", "", MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE);
+        HistogramMetrics.Timer timer = histogram.createTimer();
+        Assert.assertSame(timer, histogram.createTimer());
+        timer.finish();
+        histogram.observe(1);
+
+        Assert.assertEquals(1, count("mock_not_sampled_latency"), 0);
+    }
+
+    @Test
+    public void testFullSampledTimers() {
+        HistogramMetrics histogram = new PrometheusMetricsCreator().createHistogramMetric(
+            "mock_full_sampled_latency", "", MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE);
+        HistogramMetrics.Timer timer = histogram.createTimer();
+        Assert.assertNotSame(timer, histogram.createTimer());
+        timer.finish();
+        histogram.createTimer().finish();
+
+        Assert.assertEquals(2, count("mock_full_sampled_latency"), 0);
+    }
+
+    @Test
+    public void testExcludedHistogram() {
+        HistogramMetrics histogram = new PrometheusMetricsCreator(
+            0, Collections.singleton("mock_excluded_latency")).createHistogramMetric(
+            "mock_excluded_latency", "", MetricsTag.EMPTY_KEY, MetricsTag.EMPTY_VALUE);
+        for (int i = 0; i < 3; i++) {
+            histogram.createTimer().finish();
+        }
+
+        Assert.assertEquals(3, count("mock_excluded_latency"), 0);
+    }
+
+    private static double count(String name) {
+        return CollectorRegistry.defaultRegistry.getSampleValue(
+            name + "_count", new String[] {"sw_backend_instance"}, new String[] {INSTANCE_ID});
+    }
+}
@@ -21,7 +21,9 @@ package org.apache.skywalking.oap.server.tool.profile.exporter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.skywalking.apm.network.language.profile.v3.ThreadSnapshot;
 import org.apache.skywalking.apm.network.language.profile.v3.ThreadStack;
+import org.apache.skywalking.oap.server.core.profile.ProfileCodeSignatureDictionary;
 import org.apache.skywalking.oap.server.core.profile.ProfileThreadSnapshotRecord;
+import org.apache.skywalking.oap.server.core.profile.analyze.ProfileStack;
 import org.apache.skywalking.oap.server.core.query.type.ProfileAnalyzeTimeRange;
 import org.apache.skywalking.oap.server.core.storage.StorageModule;
 import org.apache.skywalking.oap.server.core.storage.profile.IProfileThreadSnapshotQueryDAO;
@@ -35,6 +37,7 @@ import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 public class ProfileSnapshotDumper {
@@ -47,6 +50,7 @@ public class ProfileSnapshotDumper {
      */
     public static File dump(ProfiledBasicInfo basicInfo, ModuleManager manager) throws IOException {
         IProfileThreadSnapshotQueryDAO snapshotQueryDAO = manager.find(StorageModule.NAME).provider().getService(IProfileThreadSnapshotQueryDAO.class);
+        ProfileCodeSignatureDictionary codeSignatureDictionary = new ProfileCodeSignatureDictionary(manager);
         List<ProfiledBasicInfo.SequenceRange> sequenceRanges = basicInfo.buildSequenceRanges();
         int rangeCount = sequenceRanges.size();
 
@@ -57,10 +61,12 @@ public class ProfileSnapshotDumper {
         try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(snapshotFile))) {
             for (int i = 0; i < rangeCount; i++) {
                 List<ProfileThreadSnapshotRecord> records = querySnapshot(segmentId, snapshotQueryDAO, sequenceRanges.get(i));
+                Map<Long, String> codeSignatureIds = codeSignatureDictionary.query(records);
                 for (ProfileThreadSnapshotRecord record : records) {
-                    // transform to proto data and save it
+                    // transform to proto data with the plain code signatures and save it
                     ThreadSnapshot.newBuilder()
-                            .setStack(ThreadStack.parseFrom(record.getStackBinary()))
+                            .setStack(ThreadStack.newBuilder()
+                                    .addAllCodeSignatures(ProfileStack.codeSignaturesOf(record, codeSignatureIds)))
                             .setSequence(record.getSequence())
                             .setTime(record.getDumpTime())
                             .build()
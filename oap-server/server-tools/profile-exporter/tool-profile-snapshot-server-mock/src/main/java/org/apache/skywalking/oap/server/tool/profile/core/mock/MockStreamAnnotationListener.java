@@ -19,13 +19,18 @@
 package org.apache.skywalking.oap.server.tool.profile.core.mock;
 
 import java.lang.annotation.Annotation;
+import org.apache.skywalking.oap.server.core.CoreModule;
 import org.apache.skywalking.oap.server.core.UnexpectedException;
+import org.apache.skywalking.oap.server.core.analysis.DownSampling;
 import org.apache.skywalking.oap.server.core.analysis.Stream;
 import org.apache.skywalking.oap.server.core.analysis.StreamAnnotationListener;
 import org.apache.skywalking.oap.server.core.analysis.worker.NoneStreamProcessor;
 import org.apache.skywalking.oap.server.core.analysis.worker.RecordStreamProcessor;
 import org.apache.skywalking.oap.server.core.annotation.AnnotationListener;
+import org.apache.skywalking.oap.server.core.profile.ProfileTaskCodeSignature;
 import org.apache.skywalking.oap.server.core.storage.StorageException;
+import org.apache.skywalking.oap.server.core.storage.annotation.Storage;
+import org.apache.skywalking.oap.server.core.storage.model.ModelCreator;
 import org.apache.skywalking.oap.server.library.module.ModuleDefineHolder;
 
 /**
@@ -53,6 +58,10 @@ public class MockStreamAnnotationListener implements AnnotationListener {
                 RecordStreamProcessor.getInstance().create(moduleDefineHolder, stream, aClass);
             } else if (stream.processor().equals(NoneStreamProcessor.class)) {
                 NoneStreamProcessor.getInstance().create(moduleDefineHolder, stream, aClass);
+            } else if (aClass.equals(ProfileTaskCodeSignature.class)) {
+                // only read the code signature dictionary of the snapshots, no metrics worker is required
+                moduleDefineHolder.find(CoreModule.NAME).provider().getService(ModelCreator.class)
+                                  .add(aClass, stream.scopeId(), new Storage(stream.name(), DownSampling.Minute), false);
             }
         } else {
             throw new UnexpectedException(